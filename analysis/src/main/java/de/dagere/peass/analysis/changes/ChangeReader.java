@@ -10,7 +10,6 @@ import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import de.dagere.kopeme.datastorage.JSONDataLoader;
 import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.kopeme.kopemedata.TestMethod;
 import de.dagere.kopeme.kopemedata.VMResult;
@@ -24,6 +23,7 @@ import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.dependency.persistence.SelectedTests;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.folders.ResultsFolders;
+import de.dagere.peass.measurement.dataloading.BinaryResultFile;
 import de.dagere.peass.measurement.dataloading.KoPeMeDataHelper;
 import de.dagere.peass.measurement.statistics.ConfidenceIntervalInterpretion;
 import de.dagere.peass.measurement.statistics.Relation;
@@ -150,13 +150,12 @@ public class ChangeReader {
                readCleanFolder(measurementFolder, slurmCleanFolder);
             } else if (fileName.equals("clean")) {
                readCleanFolder(measurementFolder, file);
-            } else if ((fileName.endsWith(".json") || fileName.endsWith(".xml")) 
-                  && !fileName.equals("changes.json") && !fileName.equals("statistics.json")) {
+            } else if (isResultFile(file) && !fileName.equals("changes.json") && !fileName.equals("statistics.json")) {
                readFile(measurementFolder, file);
             }
          }
       } else {
-         if (measurementFolder.getName().endsWith(".json") || measurementFolder.getName().endsWith(".xml")) {
+         if (isResultFile(measurementFolder)) {
             readFile(measurementFolder, measurementFolder);
          }
       }
@@ -166,13 +165,17 @@ public class ChangeReader {
       LOG.info("Handling: {}", cleanParentFolder);
       for (File cleanedFolder : cleanParentFolder.listFiles()) {
          for (File childFile : cleanedFolder.listFiles()) {
-            if (childFile.getName().endsWith(".json") || childFile.getName().endsWith(".xml")) {
+            if (isResultFile(childFile)) {
                readFile(measurementFolder, childFile);
             }
          }
       }
    }
 
+   private static boolean isResultFile(final File file) {
+      return file.getName().endsWith(".json") || file.getName().endsWith(".xml") || BinaryResultFile.isBinaryResultFile(file);
+   }
+
    private void writeResults(final File measurementFolder) {
       if (resultsFolders != null) {
          final String measurementFolderName = measurementFolder.getName();
@@ -192,7 +195,7 @@ public class ChangeReader {
    }
 
    private void readFile(final File measurementFolder, final File file) {
-      final Kopemedata data = new JSONDataLoader(file).getFullData();
+      final Kopemedata data = BinaryResultFile.loadData(file);
       for (final TestMethod testcaseMethod : data.getMethods()) {
          LOG.info(file.getAbsolutePath());
          readTestcase(measurementFolder.getName(), data, testcaseMethod);
@@ -1,7 +1,7 @@
 package de.dagere.peass.analysis.properties;
 
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -12,6 +12,7 @@ import java.util.Set;
 import com.github.javaparser.ast.CompilationUnit;
 
 import de.dagere.peass.config.ExecutionConfig;
+import de.dagere.peass.dependency.ChangeManager;
 import de.dagere.peass.dependency.ClazzFileFinder;
 import de.dagere.peass.dependency.analysis.data.ChangedEntity;
 import de.dagere.peass.dependency.changesreading.ClazzChangeData;
@@ -24,17 +25,21 @@ import difflib.Patch;
 
 public class PropertyChangeGuesser {
 
-   public Set<String> getGuesses(final PeassFolders folders, final Entry<ChangedEntity, ClazzChangeData> changedEntity) throws FileNotFoundException {
+   /**
+    * Guesses the type of the change; the old source is read by the change manager, since it may be read from the git objects instead of the old sources folder.
+    */
+   public Set<String> getGuesses(final PeassFolders folders, final ChangeManager changeManager, final Entry<ChangedEntity, ClazzChangeData> changedEntity)
+         throws IOException {
       final Set<String> guessedTypes = new HashSet<>();
       
       //TODO Here, a real config should be passed; since this is rarely used, we go with the default folders
       ClazzFileFinder finder = new ClazzFileFinder(new ExecutionConfig());
       final File file = finder.getSourceFile(folders.getProjectFolder(), changedEntity.getKey());
-      final File fileOld = finder.getSourceFile(folders.getOldSources(), changedEntity.getKey());
+      final String clazzSourceOld = changeManager.getOldClazzSource(changedEntity.getKey());
 
-      if (file != null && fileOld != null && file.exists() && fileOld.exists()) {
+      if (file != null && file.exists() && clazzSourceOld != null) {
          final CompilationUnit clazzUnit = JavaParserProvider.parse(file);
-         final CompilationUnit clazzUnitOld = JavaParserProvider.parse(fileOld);
+         final CompilationUnit clazzUnitOld = JavaParserProvider.parse(clazzSourceOld);
 
          for (Map.Entry<String, Set<String>> changedClazz : changedEntity.getValue().getChangedMethods().entrySet()) {
             // If only method change..
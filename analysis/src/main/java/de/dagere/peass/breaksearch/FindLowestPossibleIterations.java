@@ -55,7 +55,7 @@ public class FindLowestPossibleIterations implements Callable<Void> {
             System.exit(1);
          }
 
-         final LinkedBlockingQueue<TestData> measurements = new LinkedBlockingQueue<>();
+         final LinkedBlockingQueue<TestData> measurements = DataReader.createQueue();
          DataReader.startReadVersionDataMap(fullDataFolder, measurements, comparator);
 
          TestData measurementEntry = measurements.take();
@@ -35,7 +35,7 @@ public class IsThereTimeReductionIterations extends DataAnalyser {
       for (File folder : data) {
          for (final File slaveFolder : folder.listFiles()) {
             final File fullDataFolder = new File(slaveFolder, "measurementsFull/measurements/");
-            final LinkedBlockingQueue<TestData> measurements = new LinkedBlockingQueue<>();
+            final LinkedBlockingQueue<TestData> measurements = DataReader.createQueue();
             DataReader.startReadVersionDataMap(fullDataFolder, measurements, CommitByNameComparator.INSTANCE);
 
             TestData measurementEntry = measurements.take();
@@ -12,10 +12,10 @@ import org.apache.commons.math3.stat.inference.TestUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import de.dagere.kopeme.datastorage.JSONDataLoader;
 import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.kopeme.kopemedata.VMResult;
 import de.dagere.kopeme.kopemedata.VMResultChunk;
+import de.dagere.peass.measurement.dataloading.BinaryResultFile;
 
 
 
@@ -50,9 +50,9 @@ public class IsThereTimeReductionVM {
 
    private static void checkFolder(final File contentFolder)  {
       for (final File xmlFile : contentFolder.listFiles()) {
-         if (xmlFile.getName().endsWith(".json")) {
+         if (xmlFile.getName().endsWith(".json") || BinaryResultFile.isBinaryResultFile(xmlFile)) {
 
-            Kopemedata kopemedata = JSONDataLoader.loadData(xmlFile);
+            Kopemedata kopemedata = BinaryResultFile.loadData(xmlFile);
             for (VMResultChunk chunk : kopemedata.getChunks()) {
                final Map<String, List<VMResult>> data = new HashMap<>();
                String version = chunk.getResults().get(1).getCommit();
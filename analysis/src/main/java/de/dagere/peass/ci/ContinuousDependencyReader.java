@@ -28,6 +28,7 @@ import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.dependency.persistence.CommitStaticSelection;
 import de.dagere.peass.dependency.persistence.ExecutionData;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
+import de.dagere.peass.dependency.persistence.StaticTestSelectionStore;
 import de.dagere.peass.dependency.reader.DependencyReader;
 import de.dagere.peass.dependency.reader.CommitKeeper;
 import de.dagere.peass.dependency.traces.coverage.CoverageSelectionInfo;
@@ -146,7 +147,11 @@ public class ContinuousDependencyReader {
             dependencies = fullyLoadDependencies(url, iterator, noChanges);
          } else {
             LOG.debug("Partially loading dependencies");
-            dependencies = Constants.OBJECTMAPPER.readValue(resultsFolders.getStaticTestSelectionFile(), StaticTestSelection.class);
+            if (dependencyConfig.isIncrementalSelectionStore()) {
+               dependencies = StaticTestSelectionStore.loadWithStoredCommits(resultsFolders.getStaticTestSelectionFile(), resultsFolders.getStaticTestSelectionStoreFolder());
+            } else {
+               dependencies = Constants.OBJECTMAPPER.readValue(resultsFolders.getStaticTestSelectionFile(), StaticTestSelection.class);
+            }
             CommitComparatorInstance comparator = new CommitComparatorInstance(dependencies);
 
             if (iterator != null) {
@@ -227,6 +232,7 @@ public class ContinuousDependencyReader {
       } else {
          if (!reader.readInitialCommit()) {
             LOG.error("Analyzing first commit did not yield results");
+            reader.stopBuildDaemons();
          } else {
             reader.readDependencies();
          }
@@ -117,10 +117,14 @@ public class ContinuousExecutor {
    }
 
    private void getGitRepo(final File projectFolder, final MeasurementConfig measurementConfig, final File projectFolderLocal) throws InterruptedException, IOException {
-      if (projectFolderLocal.exists()) {
-         FileUtils.deleteDirectory(projectFolderLocal);
+      boolean mirrorUpdated = measurementConfig.getExecutionConfig().isIncrementalMirror() && projectFolderLocal.exists()
+            && ContinuousFolderUtil.updateMirror(projectFolder, localFolder);
+      if (!mirrorUpdated) {
+         if (projectFolderLocal.exists()) {
+            FileUtils.deleteDirectory(projectFolderLocal);
+         }
+         ContinuousFolderUtil.copyProject(projectFolder, localFolder);
       }
-      ContinuousFolderUtil.copyProject(projectFolder, localFolder);
       if (!projectFolderLocal.exists()) {
          throw new RuntimeException("Was not able to clone project to " + projectFolderLocal.getAbsolutePath() + " (folder not existing)");
       }
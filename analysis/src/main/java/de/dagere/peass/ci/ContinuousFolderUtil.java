@@ -2,6 +2,11 @@ package de.dagere.peass.ci;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
@@ -59,7 +64,7 @@ public enum ContinuousFolderUtil {
 
    }
 
-   public static void copyProject(final File projectFolder, final File localFolder) throws IOException {
+   public static void copyProject(final File projectFolder, final File localFolder) throws IOException, InterruptedException {
       localFolder.mkdirs();
       File originalVcsFolder = VersionControlSystem.findVCSFolder(projectFolder);
       File copiedProjectFolder = new File(localFolder, originalVcsFolder.getName());
@@ -67,9 +72,120 @@ public enum ContinuousFolderUtil {
       if (originalVcsFolder != null && originalVcsFolder.exists()) {
          LOG.info("Copying {} to {}", originalVcsFolder.getAbsolutePath(), copiedProjectFolder.getAbsolutePath());
          FileUtils.copyDirectory(originalVcsFolder, copiedProjectFolder);
+         writeUntrackedFiles(localFolder, originalVcsFolder, getFiles(runGit(originalVcsFolder, "ls-files", "--others")));
       }
    }
 
+   /**
+    * Updates an existing copy of the project, created by {@link #copyProject(File, File)}, to the state of the original repository instead of copying it again:
+    * All refs are fetched from the original repository, the checked out branch or commit of the original repository is checked out and untracked or modified files of
+    * the original working tree (e.g. local configuration or build outputs) are copied if their size or modification date differ, like a fresh copy would contain
+    * them. Tracked files that are deleted in the original working tree and untracked files that were copied before, but are removed from the original working tree
+    * now, are deleted in the copy. Build outputs of previous runs in the copy are kept.
+    * 
+    * @return true if the copy was updated and is at the same commit as the original repository; false if the project needs to be copied again
+    */
+   public static boolean updateMirror(final File projectFolder, final File localFolder) throws IOException, InterruptedException {
+      File originalVcsFolder = VersionControlSystem.findVCSFolder(projectFolder);
+      if (originalVcsFolder == null) {
+         return false;
+      }
+      File copiedProjectFolder = new File(localFolder, originalVcsFolder.getName());
+      if (!new File(copiedProjectFolder, ".git").exists()) {
+         return false;
+      }
+
+      String originalHead = runGit(originalVcsFolder, "rev-parse", "HEAD");
+      String originalBranch = runGit(originalVcsFolder, "symbolic-ref", "--short", "-q", "HEAD");
+      if (originalHead == null
+            || runGit(copiedProjectFolder, "fetch", "--update-head-ok", "--update-shallow", "--prune", "--force", originalVcsFolder.getAbsolutePath(), "+refs/*:refs/*") == null
+            || runGit(copiedProjectFolder, "checkout", "-f", originalBranch != null && !originalBranch.isEmpty() ? originalBranch : originalHead) == null) {
+         LOG.info("Updating copy {} was not possible", copiedProjectFolder.getAbsolutePath());
+         return false;
+      }
+      GitUtils.clean(copiedProjectFolder);
+      if (!originalHead.equals(runGit(copiedProjectFolder, "rev-parse", "HEAD"))) {
+         LOG.info("Copy {} is not at commit {} after update", copiedProjectFolder.getAbsolutePath(), originalHead);
+         return false;
+      }
+
+      Set<String> untrackedFiles = getFiles(runGit(originalVcsFolder, "ls-files", "--others"));
+      Set<String> deletedFiles = getFiles(runGit(originalVcsFolder, "ls-files", "--deleted"));
+      for (String previousUntrackedFile : readUntrackedFiles(localFolder, originalVcsFolder)) {
+         if (!untrackedFiles.contains(previousUntrackedFile)) {
+            deletedFiles.add(previousUntrackedFile);
+         }
+      }
+      int deleted = 0;
+      for (String deletedFile : deletedFiles) {
+         File destination = new File(copiedProjectFolder, deletedFile);
+         if (destination.isFile()) {
+            Files.delete(destination.toPath());
+            deleted++;
+         }
+      }
+
+      Set<String> changedFiles = getFiles(runGit(originalVcsFolder, "ls-files", "--modified"));
+      changedFiles.addAll(untrackedFiles);
+      int copied = 0;
+      for (String changedFile : changedFiles) {
+         File source = new File(originalVcsFolder, changedFile);
+         File destination = new File(copiedProjectFolder, changedFile);
+         if (source.isFile() && (!destination.exists() || destination.length() != source.length() || destination.lastModified() != source.lastModified())) {
+            FileUtils.copyFile(source, destination);
+            copied++;
+         }
+      }
+      writeUntrackedFiles(localFolder, originalVcsFolder, untrackedFiles);
+      LOG.info("Updated copy {} to {}, copied {} untracked or modified files, deleted {} files", copiedProjectFolder.getAbsolutePath(), originalHead, copied, deleted);
+      return true;
+   }
+
+   private static Set<String> getFiles(final String gitOutput) {
+      Set<String> files = new LinkedHashSet<>();
+      if (gitOutput != null && !gitOutput.isEmpty()) {
+         files.addAll(Arrays.asList(gitOutput.split("\n")));
+      }
+      return files;
+   }
+
+   /**
+    * The untracked files of the original working tree that have been copied are stored next to the copy, so their removal can be detected by the next update
+    */
+   private static File getUntrackedFilesList(final File localFolder, final File originalVcsFolder) {
+      return new File(localFolder, originalVcsFolder.getName() + "_untrackedFiles.txt");
+   }
+
+   private static Set<String> readUntrackedFiles(final File localFolder, final File originalVcsFolder) throws IOException {
+      File untrackedFilesList = getUntrackedFilesList(localFolder, originalVcsFolder);
+      if (!untrackedFilesList.exists()) {
+         return new LinkedHashSet<>();
+      }
+      return new LinkedHashSet<>(FileUtils.readLines(untrackedFilesList, StandardCharsets.UTF_8));
+   }
+
+   private static void writeUntrackedFiles(final File localFolder, final File originalVcsFolder, final Set<String> untrackedFiles) throws IOException {
+      FileUtils.writeLines(getUntrackedFilesList(localFolder, originalVcsFolder), StandardCharsets.UTF_8.name(), untrackedFiles);
+   }
+
+   /**
+    * Runs git and returns the trimmed output, or null if git failed
+    */
+   private static String runGit(final File folder, final String... arguments) throws IOException, InterruptedException {
+      String[] command = new String[arguments.length + 1];
+      command[0] = "git";
+      System.arraycopy(arguments, 0, command, 1, arguments.length);
+      ProcessBuilder builder = new ProcessBuilder(command);
+      builder.directory(folder);
+      Process process = builder.start();
+      String output = StreamGobbler.getFullProcess(process, false);
+      if (process.waitFor() != 0) {
+         LOG.debug("{} failed: {}", String.join(" ", command), output);
+         return null;
+      }
+      return output.trim();
+   }
+
    private static void assureProcessFinished(Process process) throws InterruptedException {
       Thread.sleep(10);
       while (process.isAlive()) {
@@ -2,7 +2,15 @@ package de.dagere.peass.ci;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
@@ -11,11 +19,14 @@ import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import de.dagere.peass.ci.logHandling.LogRedirector;
 import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.config.SlotIsolation;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.measurement.dependencyprocessors.AdaptiveTester;
+import de.dagere.peass.measurement.dependencyprocessors.MeasurementGate;
+import de.dagere.peass.measurement.dependencyprocessors.ProjectClonePool;
 
 
 public class ContinuousMeasurementExecutor {
@@ -56,10 +67,14 @@ public class ContinuousMeasurementExecutor {
    private void doMeasurement(final Set<TestMethodCall> tests, final File fullResultsVersion) throws IOException, InterruptedException, XmlPullParserException {
       cleanTemporaryFolders();
       
-      for (final TestMethodCall test : tests) {
-         MeasurementConfig copied = createCopiedConfiguration();
-         final AdaptiveTester tester = new AdaptiveTester(folders, copied, env, comparator);
-         tester.evaluate(test);
+      if (measurementConfig.getTestSlots() > 1 && tests.size() > 1) {
+         measureInTestSlots(tests);
+      } else {
+         for (final TestMethodCall test : tests) {
+            MeasurementConfig copied = createCopiedConfiguration();
+            final AdaptiveTester tester = new AdaptiveTester(folders, copied, env, comparator);
+            tester.evaluate(test);
+         }
       }
 
       final File fullResultsFolder = folders.getFullMeasurementFolder();
@@ -67,6 +82,53 @@ public class ContinuousMeasurementExecutor {
       FileUtils.moveDirectory(fullResultsFolder, fullResultsVersion);
    }
 
+   /**
+    * Measures the tests in a pipeline of test slots: Every slot takes the next pending test as soon as its previous test is finished and prepares its VMs (checkout,
+    * transformation and build file preparation) while other slots measure. Without CPU isolation, only one slot measures at a time, so the measurements do not
+    * influence each other; with isolated slots, the slots also measure at the same time. The clones of every slot are kept for all its tests.
+    */
+   private void measureInTestSlots(final Set<TestMethodCall> tests) {
+      final int testSlots = Math.min(measurementConfig.getTestSlots(), tests.size());
+      final int measuringSlots;
+      if (measurementConfig.getSlotIsolation() == SlotIsolation.NONE) {
+         LOG.warn("{} test slots are used without slot isolation, so the slots can not measure at the same time without influencing each other; only the preparation "
+               + "of the VMs overlaps with the measurement. Use --slotIsolation TASKSET or CGROUP to measure the slots in parallel.", testSlots);
+         measuringSlots = 1;
+      } else {
+         measuringSlots = testSlots;
+      }
+      LOG.info("Measuring {} tests in {} test slots with isolation {}, {} slots measure at the same time", tests.size(), testSlots, measurementConfig.getSlotIsolation(),
+            measuringSlots);
+      final Queue<TestMethodCall> pendingTests = new ConcurrentLinkedQueue<>(tests);
+      final ProjectClonePool clonePool = new ProjectClonePool(folders, measurementConfig.getExecutionConfig().getGitCryptKey());
+      final MeasurementGate measurementGate = new MeasurementGate(measuringSlots);
+
+      final ExecutorService service = Executors.newFixedThreadPool(testSlots, runnable -> new Thread(runnable, "testslot"));
+      final List<Future<?>> futures = new LinkedList<>();
+      for (int slot = 0; slot < testSlots; slot++) {
+         final int testSlot = slot;
+         futures.add(service.submit(() -> {
+            TestMethodCall test;
+            while ((test = pendingTests.poll()) != null) {
+               MeasurementConfig copied = createCopiedConfiguration();
+               final AdaptiveTester tester = new AdaptiveTester(folders, copied, env, comparator);
+               tester.setTestSlot(clonePool, testSlot, measurementGate);
+               tester.evaluate(test);
+            }
+            return null;
+         }));
+      }
+      service.shutdown();
+
+      for (Future<?> future : futures) {
+         try {
+            future.get();
+         } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+         }
+      }
+   }
+
    private void cleanTemporaryFolders() throws IOException {
       final File fullResultsFolder = folders.getFullMeasurementFolder();
       FileUtils.deleteDirectory(fullResultsFolder);
@@ -5,7 +5,6 @@ import java.io.FileFilter;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.apache.commons.io.filefilter.OrFileFilter;
 import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
@@ -13,7 +12,6 @@ import org.apache.commons.math3.stat.descriptive.StatisticalSummaryValues;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import de.dagere.kopeme.datastorage.JSONDataLoader;
 import de.dagere.kopeme.kopemedata.DatacollectorResult;
 import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.kopeme.kopemedata.MeasuredValue;
@@ -21,6 +19,7 @@ import de.dagere.kopeme.kopemedata.VMResult;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.dataloading.BinaryResultFile;
 import de.dagere.peass.measurement.rca.serialization.MeasuredValues;
 import de.dagere.peass.measurement.statistics.data.TestcaseStatistic;
 
@@ -55,8 +54,7 @@ public class KoPeMeTreeConverter {
          node.setVmValues(new MeasuredValues());
          node.setVmValuesPredecessor(new MeasuredValues());
          for (File measuredVersionFolder : commitFolder.listFiles()) {
-            for (File kopemeFile : measuredVersionFolder.listFiles((FileFilter) new OrFileFilter(new WildcardFileFilter(testcase.getMethod() + "*.json"),
-                  new WildcardFileFilter(testcase.getMethod() + "*.xml")))) {
+            for (File kopemeFile : measuredVersionFolder.listFiles(getResultFileFilter(testcase))) {
                readFile(commit, testcase, measuredVersionFolder.getName(), kopemeFile);
             }
          }
@@ -71,8 +69,7 @@ public class KoPeMeTreeConverter {
       File archiveResultFolder = folders.getArchiveResultFolder(commit, testcase);
       for (File commitFolder : archiveResultFolder.listFiles()) {
          File levelFolder = new File(commitFolder, "0"); // For the beginning, just analyze topmost KoPeMe-measurement
-         for (File kopemeFile : levelFolder.listFiles((FileFilter) new OrFileFilter(new WildcardFileFilter(testcase.getMethod() + "*.json"),
-               new WildcardFileFilter(testcase.getMethod() + "*.xml")))) {
+         for (File kopemeFile : levelFolder.listFiles(getResultFileFilter(testcase))) {
             readFile(commit, testcase, commitFolder.getName(), kopemeFile);
          }
       }
@@ -84,13 +81,18 @@ public class KoPeMeTreeConverter {
       node.setValuesPredecessor(statisticsOld.getValues());
    }
 
+   private static FileFilter getResultFileFilter(final TestMethodCall testcase) {
+      return new WildcardFileFilter(new String[] { testcase.getMethod() + "*.json", testcase.getMethod() + "*.xml",
+            testcase.getMethod() + "*" + BinaryResultFile.EXTENSION });
+   }
+
    private void readFile(final String version, final TestMethodCall testcase, final String currentVersion, final File kopemeFile) {
       String stringIndex = kopemeFile.getName().substring(testcase.getMethodWithParams().length() + 1, kopemeFile.getName().lastIndexOf('_'));
       if (!stringIndex.matches("[0-9]+")) {
          LOG.error("Could not read file: {}", kopemeFile);
       } else {
          int index = Integer.parseInt(stringIndex);
-         Kopemedata data = JSONDataLoader.loadData(kopemeFile);
+         Kopemedata data = BinaryResultFile.loadData(kopemeFile);
          final DatacollectorResult datacollector = data.getFirstMethodResult().getDatacollectorResults().get(0);
          if (datacollector.getChunks().size() > 0) {
             for (VMResult result : datacollector.getChunks().get(0).getResults()) {
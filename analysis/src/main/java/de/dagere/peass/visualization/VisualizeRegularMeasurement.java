@@ -12,13 +12,13 @@ import org.apache.logging.log4j.Logger;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
-import de.dagere.kopeme.datastorage.JSONDataLoader;
 import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.kopeme.kopemedata.TestMethod;
 import de.dagere.kopeme.kopemedata.VMResultChunk;
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.dataloading.BinaryResultFile;
 import de.dagere.peass.measurement.dataloading.KoPeMeDataHelper;
 import de.dagere.peass.measurement.rca.CauseSearcherConfig;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
@@ -37,9 +37,9 @@ public class VisualizeRegularMeasurement {
 
    public void analyzeFile(final File peassFolder) throws  JsonProcessingException, FileNotFoundException, IOException {
       PeassFolders folders = new PeassFolders(peassFolder);
-      for (File kopemeFile : folders.getFullMeasurementFolder().listFiles((FilenameFilter) new WildcardFileFilter("*xml"))) {
+      for (File kopemeFile : folders.getFullMeasurementFolder().listFiles((FilenameFilter) new WildcardFileFilter(new String[] { "*xml", "*.json", "*" + BinaryResultFile.EXTENSION }))) {
          LOG.debug("Visualizing: {}", kopemeFile);
-         Kopemedata data = JSONDataLoader.loadData(kopemeFile);
+         Kopemedata data = BinaryResultFile.loadData(kopemeFile);
          for (TestMethod test : data.getMethods()) {
             for (VMResultChunk chunk : test.getDatacollectorResults().get(0).getChunks()) {
                List<String> commits = KoPeMeDataHelper.getCommitList(chunk);
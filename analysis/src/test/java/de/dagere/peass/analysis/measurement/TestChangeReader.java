@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +19,7 @@ import de.dagere.peass.config.StatisticsConfig;
 import de.dagere.peass.dependency.persistence.ExecutionData;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
 import de.dagere.peass.folders.ResultsFolders;
+import de.dagere.peass.measurement.dataloading.BinaryResultFile;
 import de.dagere.peass.utils.Constants;
 
 public class TestChangeReader {
@@ -68,6 +70,28 @@ public class TestChangeReader {
       Assert.assertEquals(statistics.getStatistics().get("4ed6e923cb2033272fcb993978d69e325990a5aa").size(), 8);
    }
 
+   @Test
+   public void testBinaryResultFiles() throws StreamReadException, DatabindException, IOException {
+      File staticTestSelectionFile = new File(ORDER_PROBLEM_FOLDER, "staticTestSelection_commons-fileupload3.json");
+      File originalMeasurementsFolder = new File(ORDER_PROBLEM_FOLDER, "measurement_4ed6e923cb2033272fcb993978d69e325990a5aa_fdf011a5f9a15826771b19cdd6795b247b0bc3e4");
+      StaticTestSelection staticTestSelection = Constants.OBJECTMAPPER.readValue(staticTestSelectionFile, StaticTestSelection.class);
+
+      File measurementsFolder = new File("target/binaryResults", originalMeasurementsFolder.getName());
+      FileUtils.deleteDirectory(measurementsFolder.getParentFile());
+      FileUtils.copyDirectory(originalMeasurementsFolder, measurementsFolder);
+      Assert.assertTrue(BinaryResultFile.convertToBinary(measurementsFolder) > 0);
+
+      ResultsFolders resultsFolders = new ResultsFolders(new File("target/tempBinary"), "temp");
+      ChangeReader reader = new ChangeReader(resultsFolders, staticTestSelection, new StatisticsConfig());
+      reader.readFolder(measurementsFolder);
+
+      ProjectChanges changes = Constants.OBJECTMAPPER.readValue(resultsFolders.getChangeFile(), ProjectChanges.class);
+      Assert.assertEquals(changes.getCommitChanges().get("4ed6e923cb2033272fcb993978d69e325990a5aa").getTestcaseChanges().get("org.apache.commons.fileupload.ServletFileUploadTest").size(), 4);
+
+      ProjectStatistics statistics = Constants.OBJECTMAPPER.readValue(resultsFolders.getStatisticsFile(), ProjectStatistics.class);
+      Assert.assertEquals(statistics.getStatistics().get("4ed6e923cb2033272fcb993978d69e325990a5aa").size(), 8);
+   }
+
    public static List<Change> checkParameterizedResult(ProjectChanges changes) {
       List<Change> methodChanges = changes.getCommitChanges().get("a12a0b7f4c162794fca0e7e3fcc6ea3b3a2cbc2b").getTestcaseChanges().get("de.dagere.peass.ExampleTest");
       Assert.assertEquals(1, methodChanges.size());
@@ -0,0 +1,76 @@
+package de.dagere.peass.ci;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.vcs.GitUtils;
+import de.dagere.peass.vcs.ProjectBuilderHelper;
+
+public class TestContinuousMirror {
+
+   private static final File TEST_FOLDER = new File("target/continuous-mirror-test");
+   private static final File ORIGINAL = new File(TEST_FOLDER, "project");
+   private static final File LOCAL = new File(TEST_FOLDER, "project_fullPeass");
+   private static final File MIRROR = new File(LOCAL, "project");
+
+   @BeforeEach
+   public void init() throws IOException, InterruptedException {
+      FileUtils.deleteDirectory(TEST_FOLDER);
+      ORIGINAL.mkdirs();
+      ProjectBuilderHelper.init(ORIGINAL);
+      FileUtils.writeStringToFile(new File(ORIGINAL, ".gitignore"), "target/\n", StandardCharsets.UTF_8);
+      FileUtils.writeStringToFile(new File(ORIGINAL, "A.java"), "class A {}", StandardCharsets.UTF_8);
+      ProjectBuilderHelper.commit(ORIGINAL, "Version 0");
+
+      ContinuousFolderUtil.copyProject(ORIGINAL, LOCAL);
+   }
+
+   @Test
+   public void testMirrorIsUpdated() throws IOException, InterruptedException {
+      FileUtils.writeStringToFile(new File(MIRROR, "target/classes/A.class"), "old build", StandardCharsets.UTF_8);
+
+      FileUtils.writeStringToFile(new File(ORIGINAL, "A.java"), "class A { int x; }", StandardCharsets.UTF_8);
+      ProjectBuilderHelper.commit(ORIGINAL, "Version 1");
+      FileUtils.writeStringToFile(new File(ORIGINAL, "target/local.properties"), "key=value", StandardCharsets.UTF_8);
+
+      Assert.assertTrue(ContinuousFolderUtil.updateMirror(ORIGINAL, LOCAL));
+
+      Assert.assertEquals(GitUtils.getName("HEAD", ORIGINAL), GitUtils.getName("HEAD", MIRROR));
+      Assert.assertEquals("class A { int x; }", FileUtils.readFileToString(new File(MIRROR, "A.java"), StandardCharsets.UTF_8));
+      Assert.assertEquals("key=value", FileUtils.readFileToString(new File(MIRROR, "target/local.properties"), StandardCharsets.UTF_8));
+      Assert.assertTrue(new File(MIRROR, "target/classes/A.class").exists());
+   }
+
+   @Test
+   public void testDeletionsAreMirrored() throws IOException, InterruptedException {
+      FileUtils.writeStringToFile(new File(ORIGINAL, "B.java"), "class B {}", StandardCharsets.UTF_8);
+      FileUtils.writeStringToFile(new File(ORIGINAL, "target/local.properties"), "key=value", StandardCharsets.UTF_8);
+      ProjectBuilderHelper.commit(ORIGINAL, "Version 1");
+      Assert.assertTrue(ContinuousFolderUtil.updateMirror(ORIGINAL, LOCAL));
+      Assert.assertTrue(new File(MIRROR, "target/local.properties").exists());
+
+      FileUtils.writeStringToFile(new File(MIRROR, "target/classes/A.class"), "old build", StandardCharsets.UTF_8);
+      new File(ORIGINAL, "B.java").delete();
+      new File(ORIGINAL, "target/local.properties").delete();
+
+      Assert.assertTrue(ContinuousFolderUtil.updateMirror(ORIGINAL, LOCAL));
+
+      Assert.assertFalse(new File(MIRROR, "B.java").exists());
+      Assert.assertFalse(new File(MIRROR, "target/local.properties").exists());
+      Assert.assertTrue(new File(MIRROR, "A.java").exists());
+      Assert.assertTrue(new File(MIRROR, "target/classes/A.class").exists());
+   }
+
+   @Test
+   public void testMissingMirrorIsNotUpdated() throws IOException, InterruptedException {
+      FileUtils.deleteDirectory(MIRROR);
+
+      Assert.assertFalse(ContinuousFolderUtil.updateMirror(ORIGINAL, LOCAL));
+   }
+}
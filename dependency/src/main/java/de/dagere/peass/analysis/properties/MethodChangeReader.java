@@ -27,12 +27,19 @@ public class MethodChangeReader {
    public MethodChangeReader(final File methodSourceFolder, final File sourceFolder, final File oldSourceFolder, final ChangedEntity clazz, 
          final String commit, final ExecutionConfig config)
          throws FileNotFoundException {
+      this(methodSourceFolder, FileComparisonUtil.getMethodSource(sourceFolder, clazz, clazz.getMethod(), config),
+            FileComparisonUtil.getMethodSource(oldSourceFolder, clazz, clazz.getMethod(), config), clazz, commit);
+   }
+
+   /**
+    * Creates the reader from the already read sources of the method, e.g. if the old source has been read from git directly
+    */
+   public MethodChangeReader(final File methodSourceFolder, final String method, final String methodOld, final ChangedEntity clazz, final String commit) {
       this.manager = new ChangedMethodManager(methodSourceFolder);
       this.clazz = clazz;
       this.commit = commit;
-      
-      method = FileComparisonUtil.getMethodSource(sourceFolder, clazz, clazz.getMethod(), config);
-      methodOld = FileComparisonUtil.getMethodSource(oldSourceFolder, clazz, clazz.getMethod(), config);
+      this.method = method;
+      this.methodOld = methodOld;
    }
 
    public void readMethodChangeData() throws IOException {
@@ -28,6 +28,7 @@ import de.dagere.peass.dependency.analysis.data.ChangedEntity;
 import de.dagere.peass.dependency.analysis.data.CommitDiff;
 import de.dagere.peass.dependency.analysis.data.EntityUtil;
 import de.dagere.peass.dependency.changesreading.ClazzChangeData;
+import de.dagere.peass.dependency.changesreading.FileComparisonUtil;
 import de.dagere.peass.dependency.persistence.ExecutionData;
 import de.dagere.peass.dependency.traces.OneTraceGenerator;
 import de.dagere.peass.dependency.traces.TraceFileManager;
@@ -72,6 +73,7 @@ public class PropertyReadHelper {
    private final PeassFolders folders;
    private final TestTransformer testTransformer;
    private final TestExecutor testExecutor;
+   private final ChangeManager changeManager;
 
    /**
     * Just for local debugging purposes - no public use intended
@@ -113,6 +115,9 @@ public class PropertyReadHelper {
       folders = new PeassFolders(projectFolder);
       testTransformer = RTSTestTransformerBuilder.createTestTransformer(folders, config, new KiekerConfig(true));
       testExecutor = ExecutorCreator.createExecutor(folders, testTransformer, new EnvironmentVariables());
+      List<String> commits = Arrays.asList(new String[] { commit, commitOld });
+      final CommitIteratorGit iterator = new CommitIteratorGit(projectFolder, commits, commitOld);
+      changeManager = new ChangeManager(folders, iterator, config, testExecutor);
    }
 
    public ChangeProperty read() throws IOException {
@@ -171,12 +176,10 @@ public class PropertyReadHelper {
       if (expandedFile.exists()) {
          LOG.info("Reading method sources from expanded tracefile {}", expandedFile);
          final List<String> traceCurrent = Sequitur.getExpandedTrace(expandedFile);
-         final PeassFolders folders = new PeassFolders(projectFolder);
-
          // Only to read old sources
-         getChanges(folders);
+         getChanges();
 
-         readMethodSources(new ChangeProperty(), folders, new HashSet<>(traceCurrent));
+         readMethodSources(new ChangeProperty(), new HashSet<>(traceCurrent));
       }
    }
 
@@ -200,8 +203,7 @@ public class PropertyReadHelper {
    }
 
    private void analyzeTraceFiles(final ChangeProperty property, final File traceFileCurrent, final File traceFileOld) throws IOException, FileNotFoundException {
-      final PeassFolders folders = new PeassFolders(projectFolder);
-      final Map<ChangedEntity, ClazzChangeData> changes = getChanges(folders);
+      final Map<ChangedEntity, ClazzChangeData> changes = getChanges();
 
       final List<String> traceCurrent = Sequitur.getExpandedTrace(TraceFileUtil.getText(traceFileCurrent));
       final List<String> traceOld = Sequitur.getExpandedTrace(TraceFileUtil.getText(traceFileOld));
@@ -209,7 +211,7 @@ public class PropertyReadHelper {
 
       final Set<String> merged = getMergedCalls(traceCurrent, traceOld);
 
-      readMethodSources(property, folders, merged);
+      readMethodSources(property, merged);
 
       identifyAffectedClasses(property, merged);
 
@@ -218,19 +220,18 @@ public class PropertyReadHelper {
       getTestSourceAffection(property, merged, folders, changes);
    }
 
-   private Map<ChangedEntity, ClazzChangeData> getChanges(final PeassFolders folders) {
-      List<String> commits = Arrays.asList(new String[] { commit, commitOld });
-      final CommitIteratorGit iterator = new CommitIteratorGit(projectFolder, commits, commitOld);
-      final ChangeManager changeManager = new ChangeManager(folders, iterator, config, testExecutor);
+   private Map<ChangedEntity, ClazzChangeData> getChanges() {
       final Map<ChangedEntity, ClazzChangeData> changes = changeManager.getChanges(commitOld, commit);
       return changes;
    }
 
-   private void readMethodSources(final ChangeProperty property, final PeassFolders folders, final Set<String> merged) throws FileNotFoundException, IOException {
+   private void readMethodSources(final ChangeProperty property, final Set<String> merged) throws FileNotFoundException, IOException {
       for (final String calledInOneMethod : merged) {
          LOG.debug("Loading: " + calledInOneMethod);
          final ChangedEntity entity = EntityUtil.determineEntity(calledInOneMethod);
-         final MethodChangeReader reader = new MethodChangeReader(methodSourceFolder, folders.getProjectFolder(), folders.getOldSources(), entity, commit, config);
+         final String method = FileComparisonUtil.getMethodSource(folders.getProjectFolder(), entity, entity.getMethod(), config);
+         final String methodOld = changeManager.getOldMethodSource(entity);
+         final MethodChangeReader reader = new MethodChangeReader(methodSourceFolder, method, methodOld, entity, commit);
          reader.readMethodChangeData();
          getKeywordChanges(property, reader, entity);
       }
@@ -310,7 +311,7 @@ public class PropertyReadHelper {
 
       // Prinzipiell: Man müsste schauen, wo der Quelltext liegt, nicht, wie er heißt..
       for (final Entry<ChangedEntity, ClazzChangeData> changedEntity : changes.entrySet()) {
-         // final Set<String> guessedTypes = new PropertyChangeGuesser().getGuesses(folders, changedEntity);
+         // final Set<String> guessedTypes = new PropertyChangeGuesser().getGuesses(folders, changeManager, changedEntity);
          // property.getGuessedTypes().addAll(guessedTypes);
 
          final ChangedEntity outerClazz = changedEntity.getKey();
@@ -63,6 +63,11 @@ public class ExecutionConfig implements Serializable {
    private boolean showStart = false;
    private boolean redirectToNull = true;
    private boolean createDetailDebugFiles = true;
+   private boolean readChangesFromGitObjects = false;
+   private int traceBatchSize = 1;
+   private boolean useBuildDaemon = false;
+   private boolean incrementalBuild = false;
+   private boolean incrementalMirror = false;
 
    private String testTransformer = DEFAULT_TEST_TRANSFORMER;
    private String testExecutor = DEFAULT_TEST_EXECUTOR;
@@ -124,6 +129,11 @@ public class ExecutionConfig implements Serializable {
       this.onlyMeasureWorkload = other.onlyMeasureWorkload;
       this.showStart = other.showStart;
       this.redirectToNull = other.redirectToNull;
+      this.readChangesFromGitObjects = other.readChangesFromGitObjects;
+      this.traceBatchSize = other.traceBatchSize;
+      this.useBuildDaemon = other.useBuildDaemon;
+      this.incrementalBuild = other.incrementalBuild;
+      this.incrementalMirror = other.incrementalMirror;
 
       this.clazzFolders = other.clazzFolders;
       this.testClazzFolders = other.testClazzFolders;
@@ -412,6 +422,62 @@ public class ExecutionConfig implements Serializable {
       return createDetailDebugFiles;
    }
 
+   /**
+    * If true, the sources of the changed files are read from the git object database for change detection, instead of copying the sources of the old commit to the old
+    * sources folder.
+    */
+   public boolean isReadChangesFromGitObjects() {
+      return readChangesFromGitObjects;
+   }
+
+   public void setReadChangesFromGitObjects(final boolean readChangesFromGitObjects) {
+      this.readChangesFromGitObjects = readChangesFromGitObjects;
+   }
+
+   /**
+    * Count of test methods whose traces are created in one forked JVM; 1 (default) starts a JVM for every test method.
+    */
+   public int getTraceBatchSize() {
+      return traceBatchSize;
+   }
+
+   public void setTraceBatchSize(final int traceBatchSize) {
+      this.traceBatchSize = traceBatchSize;
+   }
+
+   /**
+    * Whether the clean, compile and trace builds of the test selection use a resident build daemon (mvnd or the Gradle daemon); measurements never use it.
+    */
+   public boolean isUseBuildDaemon() {
+      return useBuildDaemon;
+   }
+
+   public void setUseBuildDaemon(final boolean useBuildDaemon) {
+      this.useBuildDaemon = useBuildDaemon;
+   }
+
+   /**
+    * Whether the builds of the test selection reuse the build outputs of modules which did not change since the previous commit; measurements always clean.
+    */
+   public boolean isIncrementalBuild() {
+      return incrementalBuild;
+   }
+
+   public void setIncrementalBuild(final boolean incrementalBuild) {
+      this.incrementalBuild = incrementalBuild;
+   }
+
+   /**
+    * Whether the continuous execution updates its existing copy of the project (by fetching from the original repository) instead of copying the whole project again.
+    */
+   public boolean isIncrementalMirror() {
+      return incrementalMirror;
+   }
+
+   public void setIncrementalMirror(final boolean incrementalMirror) {
+      this.incrementalMirror = incrementalMirror;
+   }
+
    @JsonInclude(JsonInclude.Include.NON_NULL)
    public String getProperties() {
       return properties;
@@ -39,6 +39,10 @@ public class MeasurementConfig implements Serializable {
    private String javaVersion = System.getProperty("java.version");
 
    private MeasurementStrategy measurementStrategy = MeasurementStrategy.PARALLEL;
+   private int parallelSlots = 1;
+   private int testSlots = 1;
+   private boolean organizeResultsAsync = false;
+   private SlotIsolation slotIsolation = SlotIsolation.NONE;
 
    private StatisticsConfig statisticsConfig = new StatisticsConfig();
    private final ExecutionConfig executionConfig;
@@ -82,6 +86,10 @@ public class MeasurementConfig implements Serializable {
       setMaxLogSizeInMb(mixin.getMaxLogSizeInMb());
       setUseGC(mixin.isUseGC());
       setMeasurementStrategy(mixin.getMeasurementStrategy());
+      setParallelSlots(mixin.getParallelSlots());
+      setTestSlots(mixin.getTestSlots());
+      setOrganizeResultsAsync(mixin.isOrganizeResultsAsync());
+      setSlotIsolation(mixin.getSlotIsolation());
       this.directlyMeasureKieker = mixin.isDirectlyMeasureKieker();
 
       saveAll = !mixin.isSaveNothing();
@@ -126,6 +134,10 @@ public class MeasurementConfig implements Serializable {
       this.useGC = other.useGC;
       this.javaVersion = other.javaVersion;
       this.measurementStrategy = other.measurementStrategy;
+      this.parallelSlots = other.parallelSlots;
+      this.testSlots = other.testSlots;
+      this.organizeResultsAsync = other.organizeResultsAsync;
+      this.slotIsolation = other.slotIsolation;
       this.saveAll = other.saveAll;
       this.waitTimeBetweenVMs = other.waitTimeBetweenVMs;
       this.directlyMeasureKieker = other.directlyMeasureKieker;
@@ -257,6 +269,56 @@ public class MeasurementConfig implements Serializable {
       this.measurementStrategy = measurementStrategy;
    }
 
+   /**
+    * Count of VM pairs that are executed at the same time if the {@link MeasurementStrategy#PARALLEL} is used
+    */
+   public int getParallelSlots() {
+      return parallelSlots;
+   }
+
+   public void setParallelSlots(final int parallelSlots) {
+      if (parallelSlots < 1) {
+         throw new RuntimeException("At least one parallel slot is required, but was " + parallelSlots);
+      }
+      this.parallelSlots = parallelSlots;
+   }
+
+   /**
+    * Count of tests that are processed at the same time, every test in its own slot with its own project clones; while the VMs of one test are running, the next test can
+    * already be prepared in another slot. The slots are isolated like the parallel slots, as defined by the {@link SlotIsolation}; with {@link SlotIsolation#NONE}, only
+    * one slot measures at a time.
+    */
+   public int getTestSlots() {
+      return testSlots;
+   }
+
+   public void setTestSlots(final int testSlots) {
+      if (testSlots < 1) {
+         throw new RuntimeException("At least one test slot is required, but was " + testSlots);
+      }
+      this.testSlots = testSlots;
+   }
+
+   /**
+    * Whether the result files of a VM are organized in a background thread while the next VM of the comparison is already running; all results are organized before the
+    * cooldown between the comparisons.
+    */
+   public boolean isOrganizeResultsAsync() {
+      return organizeResultsAsync;
+   }
+
+   public void setOrganizeResultsAsync(final boolean organizeResultsAsync) {
+      this.organizeResultsAsync = organizeResultsAsync;
+   }
+
+   public SlotIsolation getSlotIsolation() {
+      return slotIsolation;
+   }
+
+   public void setSlotIsolation(final SlotIsolation slotIsolation) {
+      this.slotIsolation = slotIsolation;
+   }
+
    public boolean isCallSyncBetweenVMs() {
       return callSyncBetweenVMs;
    }
@@ -0,0 +1,9 @@
+package de.dagere.peass.config;
+
+/**
+ * Defines how parallel measurement slots are isolated from each other: NONE does not restrict the processes, TASKSET pins every process to the CPUs of its slot and CGROUP
+ * starts every process in a systemd scope whose cgroup only allows the CPUs of its slot.
+ */
+public enum SlotIsolation {
+   NONE, TASKSET, CGROUP;
+}
@@ -13,6 +13,9 @@ public class TestSelectionConfig implements Serializable {
    private final boolean generateTwiceExecutability;
    private final boolean skipProcessSuccessRuns;
    private final boolean writeAsZip;
+   private int commitChunkSize = 0;
+   private boolean incrementalSelectionStore = false;
+   private int traceThreads = 1;
 
    public TestSelectionConfig(final int threads, final boolean doNotUpdateDependencies) {
       this.threads = threads;
@@ -93,4 +96,38 @@ public class TestSelectionConfig implements Serializable {
    public boolean isWriteAsZip() {
       return writeAsZip;
    }
+   
+   /**
+    * Size of the commit chunks which are distributed dynamically to the worker threads; if 0, the commits are split into one fixed slice per thread.
+    */
+   public int getCommitChunkSize() {
+      return commitChunkSize;
+   }
+   
+   public void setCommitChunkSize(final int commitChunkSize) {
+      this.commitChunkSize = commitChunkSize;
+   }
+   
+   /**
+    * If true, the static selection is written incrementally (one appended entry per commit) to a store folder during reading, and the JSON file is only written at the end.
+    */
+   public boolean isIncrementalSelectionStore() {
+      return incrementalSelectionStore;
+   }
+   
+   public void setIncrementalSelectionStore(final boolean incrementalSelectionStore) {
+      this.incrementalSelectionStore = incrementalSelectionStore;
+   }
+   
+   /**
+    * Count of project copies in which the tests of one commit are traced at the same time, and count of threads which generate the trace views; 1 (default) runs
+    * everything serially in the project folder.
+    */
+   public int getTraceThreads() {
+      return traceThreads;
+   }
+   
+   public void setTraceThreads(final int traceThreads) {
+      this.traceThreads = traceThreads;
+   }
 }
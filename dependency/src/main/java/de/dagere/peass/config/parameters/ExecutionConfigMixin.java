@@ -61,6 +61,26 @@ public class ExecutionConfigMixin {
    @Option(names = { "-gitCryptKey", "--gitCryptKey" }, description = "If repository uses git-crypt, you should provide location of git-crypt-keyfile)")
    protected String gitCryptKey = System.getenv("GIT_CRYPT_KEY");
 
+   @Option(names = { "-readChangesFromGitObjects",
+         "--readChangesFromGitObjects" }, description = "Read the old and new sources of changed files directly from git (git cat-file) for change detection, instead of copying all sources of the old commit")
+   protected boolean readChangesFromGitObjects = false;
+
+   @Option(names = { "-traceBatchSize",
+         "--traceBatchSize" }, description = "Count of test methods whose traces are created in one forked JVM (currently only supported for Maven; default 1, i.e. one JVM per test method)")
+   protected int traceBatchSize = 1;
+
+   @Option(names = { "-useBuildDaemon",
+         "--useBuildDaemon" }, description = "Use a resident build daemon (mvnd, which needs to be installed, or the Gradle daemon) for the builds of the test selection; measurements are always started without daemon")
+   protected boolean useBuildDaemon = false;
+
+   @Option(names = { "-incrementalBuild",
+         "--incrementalBuild" }, description = "Reuse the build outputs of modules whose files and dependencies did not change since the previous commit in the test selection, instead of cleaning the whole project (requires a git repository)")
+   protected boolean incrementalBuild = false;
+
+   @Option(names = { "-incrementalMirror",
+         "--incrementalMirror" }, description = "Update the existing local copy of the project by fetching from the original repository instead of copying the whole project for every continuous execution")
+   protected boolean incrementalMirror = false;
+
    @Option(names = { "-useTieredCompilation", "--useTieredCompilation" }, description = "Activate -XX:-TieredCompilation for all measured processes")
    protected boolean useTieredCompilation = false;
 
@@ -272,6 +292,46 @@ public class ExecutionConfigMixin {
       this.gitCryptKey = gitCryptKey;
    }
 
+   public boolean isReadChangesFromGitObjects() {
+      return readChangesFromGitObjects;
+   }
+
+   public void setReadChangesFromGitObjects(final boolean readChangesFromGitObjects) {
+      this.readChangesFromGitObjects = readChangesFromGitObjects;
+   }
+
+   public int getTraceBatchSize() {
+      return traceBatchSize;
+   }
+
+   public void setTraceBatchSize(final int traceBatchSize) {
+      this.traceBatchSize = traceBatchSize;
+   }
+
+   public boolean isUseBuildDaemon() {
+      return useBuildDaemon;
+   }
+
+   public void setUseBuildDaemon(final boolean useBuildDaemon) {
+      this.useBuildDaemon = useBuildDaemon;
+   }
+
+   public boolean isIncrementalBuild() {
+      return incrementalBuild;
+   }
+
+   public void setIncrementalBuild(final boolean incrementalBuild) {
+      this.incrementalBuild = incrementalBuild;
+   }
+
+   public boolean isIncrementalMirror() {
+      return incrementalMirror;
+   }
+
+   public void setIncrementalMirror(final boolean incrementalMirror) {
+      this.incrementalMirror = incrementalMirror;
+   }
+
    public boolean isUseTieredCompilation() {
       return useTieredCompilation;
    }
@@ -477,6 +537,11 @@ public class ExecutionConfigMixin {
       }
       config.setGitCryptKey(getGitCryptKey());
       config.setUseTieredCompilation(useTieredCompilation);
+      config.setReadChangesFromGitObjects(readChangesFromGitObjects);
+      config.setTraceBatchSize(traceBatchSize);
+      config.setUseBuildDaemon(useBuildDaemon);
+      config.setIncrementalBuild(incrementalBuild);
+      config.setIncrementalMirror(incrementalMirror);
       config.setRemoveSnapshots(removeSnapshots);
       config.setUseAlternativeBuildfile(useAlternativeBuildfile);
       config.setRemoveSnapshots(removeSnapshots);
@@ -1,6 +1,7 @@
 package de.dagere.peass.config.parameters;
 
 import de.dagere.peass.config.MeasurementStrategy;
+import de.dagere.peass.config.SlotIsolation;
 import net.kieker.sourceinstrumentation.AllowedKiekerRecord;
 import picocli.CommandLine.Option;
 
@@ -52,6 +53,21 @@ public class MeasurementConfigurationMixin {
    @Option(names = { "-measurementStrategy", "--measurementStrategy" }, description = "Measurement strategy (Default: PARALLEL) ")
    protected MeasurementStrategy measurementStrategy = MeasurementStrategy.PARALLEL;
 
+   @Option(names = { "-parallelSlots", "--parallelSlots" }, description = "Count of VM pairs that are executed at the same time with measurementStrategy PARALLEL (Default: 1)")
+   protected int parallelSlots = 1;
+
+   @Option(names = { "-testSlots", "--testSlots" }, description = "Count of tests that are processed at the same time in the continuous measurement; while one test is "
+         + "measured, the next test is prepared in another slot. Without slotIsolation, only one slot measures at a time (Default: 1)")
+   protected int testSlots = 1;
+
+   @Option(names = { "-organizeResultsAsync", "--organizeResultsAsync" }, description = "Organizes the result files of a VM in the background while the next VM is "
+         + "running; Kieker results are compressed after all VMs of the test (Default: false)")
+   protected boolean organizeResultsAsync = false;
+
+   @Option(names = { "-slotIsolation", "--slotIsolation" }, description = "Isolation of the parallel slots: NONE, TASKSET (pinning to distinct CPUs) or CGROUP "
+         + "(distinct CPUs via a systemd-run scope) (Default: NONE)")
+   protected SlotIsolation slotIsolation = SlotIsolation.NONE;
+
    @Option(names = { "-directlyMeasureKieker",
          "--directlyMeasureKieker" }, description = "Activates measurement via Kieker instead KoPeMe (only useful it repetitions = 1 and a test runner contains huge warmup)")
    protected boolean directlyMeasureKieker = false;
@@ -148,6 +164,38 @@ public class MeasurementConfigurationMixin {
       return measurementStrategy;
    }
 
+   public int getParallelSlots() {
+      return parallelSlots;
+   }
+
+   public void setParallelSlots(final int parallelSlots) {
+      this.parallelSlots = parallelSlots;
+   }
+
+   public int getTestSlots() {
+      return testSlots;
+   }
+
+   public void setTestSlots(final int testSlots) {
+      this.testSlots = testSlots;
+   }
+
+   public boolean isOrganizeResultsAsync() {
+      return organizeResultsAsync;
+   }
+
+   public void setOrganizeResultsAsync(final boolean organizeResultsAsync) {
+      this.organizeResultsAsync = organizeResultsAsync;
+   }
+
+   public SlotIsolation getSlotIsolation() {
+      return slotIsolation;
+   }
+
+   public void setSlotIsolation(final SlotIsolation slotIsolation) {
+      this.slotIsolation = slotIsolation;
+   }
+
    public void setDirectlyMeasureKieker(boolean directlyMeasureKieker) {
       this.directlyMeasureKieker = directlyMeasureKieker;
    }
@@ -15,6 +15,18 @@ public class TestSelectionConfigMixin {
    @Option(names = { "-threads", "--threads" }, description = "Number of parallel threads for analysis, default 2")
    private int threads = 2;
 
+   @Option(names = { "-commitChunkSize", "--commitChunkSize" }, description = "If set, commits are split into chunks of this size, which are dynamically taken by the threads "
+         + "(instead of one fixed slice per thread). Every chunk needs an initial trace run, so very small chunks create overhead. Default 0 (fixed slices)")
+   private int commitChunkSize = 0;
+
+   @Option(names = { "-incrementalSelectionStore", "--incrementalSelectionStore" }, description = "If set, the static test selection is appended commit by commit to a store folder "
+         + "during reading instead of rewriting the whole JSON file after every commit; the JSON file is written once at the end. Default false")
+   private boolean incrementalSelectionStore = false;
+
+   @Option(names = { "-traceThreads", "--traceThreads" }, description = "Number of temporary project copies (git clones) in which the tests of one commit are traced in parallel; "
+         + "also the number of threads generating the trace views. Every copy needs the disk space of the project. Default 1 (serial tracing in the project folder)")
+   private int traceThreads = 1;
+
    @Option(names = {"-doNotUpdateDependencies", "--doNotUpdateDependencies"}, description = "Disable updating of dependencies. This will make results for more than one version unusable, but increase dependency creation speed.")
    public boolean doNotUpdateDependencies = false;
    
@@ -68,6 +80,11 @@ public class TestSelectionConfigMixin {
       boolean generateTraces = !doNotGenerateTraces;
       boolean generateCoverageSelection = !doNotGenerateCoverageSelection;
       boolean generateTwiceExecutability = !doNotGenerateTwiceExecutability;
-      return new TestSelectionConfig(threads, doNotUpdateDependencies, generateTraces, generateCoverageSelection, generateTwiceExecutability, skipProcessSuccessRuns, !dontWriteAsZip);
+      TestSelectionConfig testSelectionConfig = new TestSelectionConfig(threads, doNotUpdateDependencies, generateTraces, generateCoverageSelection, generateTwiceExecutability,
+            skipProcessSuccessRuns, !dontWriteAsZip);
+      testSelectionConfig.setCommitChunkSize(commitChunkSize);
+      testSelectionConfig.setIncrementalSelectionStore(incrementalSelectionStore);
+      testSelectionConfig.setTraceThreads(traceThreads);
+      return testSelectionConfig;
    }
 }
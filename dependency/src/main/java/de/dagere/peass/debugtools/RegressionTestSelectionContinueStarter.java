@@ -32,6 +32,7 @@ import de.dagere.peass.config.parameters.KiekerConfigMixin;
 import de.dagere.peass.config.parameters.TestSelectionConfigMixin;
 import de.dagere.peass.dependency.persistence.CommitStaticSelection;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
+import de.dagere.peass.dependency.persistence.StaticTestSelectionStore;
 import de.dagere.peass.dependency.reader.CommitKeeper;
 import de.dagere.peass.dependency.reader.DependencyReader;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
@@ -90,7 +91,13 @@ public class RegressionTestSelectionContinueStarter implements Callable<Void> {
 
       final File dependencyFileIn = getDependencyInFile();
 
-      final StaticTestSelection dependencies = Constants.OBJECTMAPPER.readValue(dependencyFileIn, StaticTestSelection.class);
+      ResultsFolders resultsFolders = new ResultsFolders(config.getResultBaseFolder(), config.getProjectFolder().getName() + "_out");
+      final StaticTestSelection dependencies;
+      if (config.getDependencyConfig().isIncrementalSelectionStore()) {
+         dependencies = StaticTestSelectionStore.loadWithStoredCommits(dependencyFileIn, resultsFolders.getStaticTestSelectionStoreFolder());
+      } else {
+         dependencies = Constants.OBJECTMAPPER.readValue(dependencyFileIn, StaticTestSelection.class);
+      }
       CommitComparatorInstance comparator = new CommitComparatorInstance(GitUtils.getCommits(projectFolder, false));
       
       VersionComparator.setVersions(GitUtils.getCommits(projectFolder, false));
@@ -102,7 +109,6 @@ public class RegressionTestSelectionContinueStarter implements Callable<Void> {
       LOG.debug("Lese {}", projectFolder.getAbsolutePath());
       final VersionControlSystem vcs = VersionControlSystem.getVersionControlSystem(projectFolder);
 
-      ResultsFolders resultsFolders = new ResultsFolders(config.getResultBaseFolder(), config.getProjectFolder().getName() + "_out");
       final DependencyReader reader = createReader(config, resultsFolders, dependencies, previousCommit, timeout, vcs);
       reader.readCompletedCommits(dependencies, comparator);
       reader.readDependencies();
@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -22,9 +24,11 @@ import de.dagere.peass.dependency.analysis.data.ChangedEntity;
 import de.dagere.peass.dependency.analysis.data.CommitDiff;
 import de.dagere.peass.dependency.changesreading.ClazzChangeData;
 import de.dagere.peass.dependency.changesreading.FileComparisonUtil;
+import de.dagere.peass.dependency.changesreading.JavaParserProvider;
 import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.vcs.CommitIterator;
+import de.dagere.peass.vcs.GitObjectReader;
 import de.dagere.peass.vcs.GitUtils;
 import difflib.DiffUtils;
 import difflib.Patch;
@@ -43,6 +47,7 @@ public class ChangeManager {
    private final CommitIterator iterator;
    private final ExecutionConfig config;
    private final TestExecutor testExecutor;
+   private String oldCommit = "HEAD^";
 
    public ChangeManager(final PeassFolders folders, final CommitIterator iterator, final ExecutionConfig config, TestExecutor testExecutor) {
       this.folders = folders;
@@ -58,14 +63,18 @@ public class ChangeManager {
     * @throws IOException
     * @throws FileNotFoundException
     */
-   private List<ChangedEntity> getChangedClasses(final String lastVersion) throws FileNotFoundException, IOException {
+   private CommitDiff getChangedClasses(final String lastVersion) throws FileNotFoundException, IOException {
       List<File> moduleFiles = testExecutor.getModules().getModules(); 
       final CommitDiff diff = iterator.getChangedClasses(folders.getProjectFolder(), moduleFiles, lastVersion, config);
       LOG.info("Changed classes: " + diff.getChangedClasses().size());
-      return diff.getChangedClasses();
+      return diff;
    }
 
    public void saveOldClasses() {
+      if (config.isReadChangesFromGitObjects()) {
+         LOG.debug("Reading changes from git objects, old classes do not need to be saved");
+         return;
+      }
       try {
          LOG.debug("Saving old classes");
          if (folders.getOldSources().exists()) {
@@ -112,8 +121,10 @@ public class ChangeManager {
    }
 
    public Map<ChangedEntity, ClazzChangeData> getChanges(final String version1, final String version2) {
-      GitUtils.goToCommit(version1, folders.getProjectFolder());
-      saveOldClasses();
+      if (!config.isReadChangesFromGitObjects()) {
+         GitUtils.goToCommit(version1, folders.getProjectFolder());
+         saveOldClasses();
+      }
       GitUtils.goToCommit(version2, folders.getProjectFolder());
       return getChanges(version1);
    }
@@ -123,16 +134,64 @@ public class ChangeManager {
     * 
     * @param clazz
     * @return
-    * @throws FileNotFoundException
+    * @throws IOException
     */
-   public Patch<String> getKeywordChanges(final ChangedEntity clazz) throws FileNotFoundException {
+   public Patch<String> getKeywordChanges(final ChangedEntity clazz) throws IOException {
       final String method = FileComparisonUtil.getMethodSource(folders.getProjectFolder(), clazz, clazz.getMethod(), config);
-      final String methodOld = FileComparisonUtil.getMethodSource(folders.getOldSources(), clazz, clazz.getMethod(), config);
+      final String methodOld = getOldMethodSource(clazz);
 
       final Patch<String> patch = DiffUtils.diff(Arrays.asList(method.split("\n")), Arrays.asList(methodOld.split("\n")));
       return patch;
    }
 
+   /**
+    * Returns the source of the method of the given entity in the old commit of the last getChanges() call; if the changes are read from git objects, the source is read
+    * from the git objects, otherwise from the old sources folder.
+    * 
+    * @return source of the method or an empty string, if the method or its class does not exist in the old commit
+    */
+   public String getOldMethodSource(final ChangedEntity entity) throws IOException {
+      final String oldSource = getOldClazzSource(entity);
+      if (oldSource != null) {
+         return FileComparisonUtil.getMethodSource(entity, entity.getMethod(), JavaParserProvider.parse(oldSource));
+      } else {
+         return "";
+      }
+   }
+
+   /**
+    * Returns the source of the class of the given entity in the old commit of the last getChanges() call.
+    * 
+    * @return source of the class or null, if the class does not exist in the old commit
+    */
+   public String getOldClazzSource(final ChangedEntity entity) throws IOException {
+      if (config.isReadChangesFromGitObjects()) {
+         try (GitObjectReader reader = new GitObjectReader(folders.getProjectFolder())) {
+            return readClazzSource(reader, oldCommit, entity);
+         }
+      } else {
+         final File oldFile = new ClazzFileFinder(config).getSourceFile(folders.getOldSources(), entity);
+         if (oldFile != null && oldFile.exists()) {
+            return new String(Files.readAllBytes(oldFile.toPath()), StandardCharsets.UTF_8);
+         } else {
+            return null;
+         }
+      }
+   }
+
+   private String readClazzSource(final GitObjectReader reader, final String commit, final ChangedEntity entity) throws IOException {
+      final ChangedEntity sourceContainingClazz = entity.getSourceContainingClazz();
+      final String modulePrefix = sourceContainingClazz.getModule().length() > 0 ? sourceContainingClazz.getModule() + "/" : "";
+      final String clazzFileName = sourceContainingClazz.getJavaClazzName().replace('.', '/') + CommitDiff.JAVA_ENDING;
+      for (String clazzFolder : config.getAllClazzFolders()) {
+         final String source = reader.readFile(commit, modulePrefix + clazzFolder + "/" + clazzFileName);
+         if (source != null) {
+            return source;
+         }
+      }
+      return null;
+   }
+
    /**
     * Returns all changed classes with the corresponding changed methods. If the set of a class is empty, the whole class was changed and all tests using any method of the class
     * need to be re-evaluated.
@@ -141,12 +200,22 @@ public class ChangeManager {
     */
    public Map<ChangedEntity, ClazzChangeData> getChanges(final String lastRunningVersion) {
       final Map<ChangedEntity, ClazzChangeData> changedClassesMethods = new TreeMap<>();
+      oldCommit = lastRunningVersion != null ? lastRunningVersion : "HEAD^";
       try {
-         final List<ChangedEntity> changedClasses = getChangedClasses(lastRunningVersion);
+         final CommitDiff diff = getChangedClasses(lastRunningVersion);
+         final List<ChangedEntity> changedClasses = diff.getChangedClasses();
          LOG.debug("Before Cleaning: {}", changedClasses);
-         if (folders.getOldSources().exists()) {
+         if (config.isReadChangesFromGitObjects()) {
+            try (GitObjectReader reader = new GitObjectReader(folders.getProjectFolder())) {
+               final ClazzSources sources = new GitObjectSources(diff, reader, oldCommit);
+               for (final Iterator<ChangedEntity> clazzIterator = changedClasses.iterator(); clazzIterator.hasNext();) {
+                  compareClazz(changedClassesMethods, clazzIterator, sources);
+               }
+            }
+         } else if (folders.getOldSources().exists()) {
+            final ClazzSources sources = new OldSourcesFolder();
             for (final Iterator<ChangedEntity> clazzIterator = changedClasses.iterator(); clazzIterator.hasNext();) {
-               compareClazz(changedClassesMethods, clazzIterator);
+               compareClazz(changedClassesMethods, clazzIterator, sources);
             }
          } else {
             LOG.info("There is no folder for old files");
@@ -160,27 +229,33 @@ public class ChangeManager {
       return changedClassesMethods;
    }
 
-   private void compareClazz(final Map<ChangedEntity, ClazzChangeData> changedClassesMethods, final Iterator<ChangedEntity> clazzIterator) {
+   private void compareClazz(final Map<ChangedEntity, ClazzChangeData> changedClassesMethods, final Iterator<ChangedEntity> clazzIterator, final ClazzSources sources) {
       final ChangedEntity clazz = clazzIterator.next();
       final ClazzChangeData changeData = new ClazzChangeData(clazz);
       try {
-         ClazzFileFinder finder = new ClazzFileFinder(config);
-         final File newFile = finder.getSourceFile(folders.getProjectFolder(), clazz);
-         final File oldFile = finder.getSourceFile(folders.getOldSources(), clazz);
-         LOG.info("Comparing {}", newFile, oldFile);
-         if (newFile != null && newFile.exists() && oldFile != null) {
-            compareFiles(changedClassesMethods, clazzIterator, clazz, changeData, newFile, oldFile);
+         if (sources.readChangedMethods(clazz, changeData)) {
+            boolean isImportChange = false;
+            for (ChangedEntity entity : changeData.getImportChanges()) {
+               if (sources.existsInCurrentCommit(entity)) {
+                  isImportChange = true;
+                  changeData.setChange(true);
+                  changeData.setOnlyMethodChange(false);
+                  changeData.addClazzChange(clazz);
+               }
+            }
+
+            if (!changeData.isChange() && !isImportChange) {
+               clazzIterator.remove();
+               LOG.debug("Files identical: {}", clazz);
+            } else {
+               changedClassesMethods.put(clazz, changeData);
+            }
          } else {
             LOG.info("Class did not exist before: {}", clazz);
             changeData.addClazzChange(clazz);
             changedClassesMethods.put(clazz, changeData);
          }
-      } catch (final ParseException | NoSuchElementException pe) {
-         LOG.info("Class is unparsable for java parser, so to be sure it is added to the changed classes: {}", clazz);
-         changeData.addClazzChange(clazz);
-         changedClassesMethods.put(clazz, changeData);
-         pe.printStackTrace();
-      } catch (final IOException e) {
+      } catch (final ParseException | NoSuchElementException | IOException e) {
          LOG.info("Class is unparsable for java parser, so to be sure it is added to the changed classes: {}", clazz);
          changeData.addClazzChange(clazz);
          changedClassesMethods.put(clazz, changeData);
@@ -188,27 +263,77 @@ public class ChangeManager {
       }
    }
 
-   private void compareFiles(final Map<ChangedEntity, ClazzChangeData> changedClassesMethods, final Iterator<ChangedEntity> clazzIterator, final ChangedEntity clazz,
-         final ClazzChangeData changeData, final File newFile, final File oldFile) throws ParseException, IOException {
-      FileComparisonUtil.getChangedMethods(newFile, oldFile, changeData);
-      boolean isImportChange = false;
-      ClazzFileFinder finder = new ClazzFileFinder(config);
-      for (ChangedEntity entity : changeData.getImportChanges()) {
-         final File entityFile = finder.getSourceFile(folders.getProjectFolder(), entity);
-         if (entityFile != null && entityFile.exists()) {
-            isImportChange = true;
-            changeData.setChange(true);
-            changeData.setOnlyMethodChange(false);
-            changeData.addClazzChange(clazz);
+   /**
+    * Source of the old and the new version of the changed classes.
+    */
+   private interface ClazzSources {
+      /**
+       * Reads the changed methods of the class into the change data.
+       * 
+       * @return false, if one of the versions of the class does not exist, so no methods could be compared
+       */
+      boolean readChangedMethods(ChangedEntity clazz, ClazzChangeData changeData) throws ParseException, IOException;
+
+      boolean existsInCurrentCommit(ChangedEntity entity) throws IOException;
+   }
+
+   /**
+    * Reads the new sources from the project folder and the old sources from the old sources folder.
+    */
+   private class OldSourcesFolder implements ClazzSources {
+      private final ClazzFileFinder finder = new ClazzFileFinder(config);
+
+      @Override
+      public boolean readChangedMethods(final ChangedEntity clazz, final ClazzChangeData changeData) throws ParseException, IOException {
+         final File newFile = finder.getSourceFile(folders.getProjectFolder(), clazz);
+         final File oldFile = finder.getSourceFile(folders.getOldSources(), clazz);
+         LOG.info("Comparing {}", newFile, oldFile);
+         if (newFile != null && newFile.exists() && oldFile != null) {
+            FileComparisonUtil.getChangedMethods(newFile, oldFile, changeData);
+            return true;
+         } else {
+            return false;
          }
       }
-      
-      if (!changeData.isChange() && !isImportChange) {
-         clazzIterator.remove();
-         LOG.debug("Files identical: {}", clazz);
-      } else {
-         changedClassesMethods.put(clazz, changeData);
+
+      @Override
+      public boolean existsInCurrentCommit(final ChangedEntity entity) {
+         final File entityFile = finder.getSourceFile(folders.getProjectFolder(), entity);
+         return entityFile != null && entityFile.exists();
       }
    }
 
+   /**
+    * Reads the old and the new sources from the git objects, so the old sources do not need to be copied.
+    */
+   private class GitObjectSources implements ClazzSources {
+      private final CommitDiff diff;
+      private final GitObjectReader reader;
+      private final String oldCommit;
+
+      public GitObjectSources(final CommitDiff diff, final GitObjectReader reader, final String oldCommit) {
+         this.diff = diff;
+         this.reader = reader;
+         this.oldCommit = oldCommit;
+      }
+
+      @Override
+      public boolean readChangedMethods(final ChangedEntity clazz, final ClazzChangeData changeData) throws ParseException, IOException {
+         final String fileName = diff.getChangedFileName(clazz);
+         final String newSource = fileName != null ? reader.readFile("HEAD", fileName) : null;
+         final String oldSource = fileName != null ? reader.readFile(oldCommit, fileName) : null;
+         LOG.info("Comparing {}", fileName);
+         if (newSource != null && oldSource != null) {
+            FileComparisonUtil.getChangedMethods(newSource, oldSource, changeData);
+            return true;
+         } else {
+            return false;
+         }
+      }
+
+      @Override
+      public boolean existsInCurrentCommit(final ChangedEntity entity) throws IOException {
+         return readClazzSource(reader, "HEAD", entity) != null;
+      }
+   }
 }
@@ -352,7 +352,7 @@ public class DependencyManager extends KiekerResultManager {
       for (final Entry<TestClazzCall, Set<String>> className : testsToUpdate.entrySet()) {
          for (final String method : className.getValue()) {
             final TestMethodCall entity = new TestMethodCall(className.getKey().getClazz(), method, className.getKey().getModule());
-            dependencies.getDependencyMap().remove(entity);
+            dependencies.removeTest(entity);
          }
       }
 
@@ -18,6 +18,8 @@ package de.dagere.peass.dependency;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
@@ -76,16 +78,29 @@ public class KiekerResultManager {
    }
 
    public void runTraceTests(final TestSet testsToUpdate, final String commit) {
+      runTraceTests(testsToUpdate, commit, folders.getDependencyLogFolder());
+   }
+
+   public void runTraceTests(final TestSet testsToUpdate, final String commit, final File logFolder) {
       truncateKiekerResults();
       // TODO Verschieben
 
       LOG.debug("Executing dependency update test, results folder: {}", folders.getTempMeasurementFolder());
       ModuleClassMapping mapping = new ModuleClassMapping(executor);
       final RunnableTestInformation tests = testTransformer.buildTestMethodSet(testsToUpdate, mapping);
-      executeKoPeMeKiekerRun(tests.getTestsToUpdate(), commit, folders.getDependencyLogFolder());
+      executeKoPeMeKiekerRun(tests.getTestsToUpdate(), commit, logFolder);
       ignoredTests = tests.getIgnoredTests();
    }
 
+   void addIgnoredTests(final TestSet additionalIgnoredTests) {
+      if (ignoredTests == null) {
+         ignoredTests = new TestSet();
+      }
+      if (additionalIgnoredTests != null) {
+         ignoredTests.addTestSet(additionalIgnoredTests);
+      }
+   }
+
    private void truncateKiekerResults() {
       LOG.debug("Truncating: {}", folders.getTempMeasurementFolder().getAbsolutePath());
       try {
@@ -122,12 +137,36 @@ public class KiekerResultManager {
       }
 
       executor.prepareKoPeMeExecution(new File(commitLogFolder, "clean.txt"));
-      for (final TestMethodCall testcase : testsToUpdate.getTestMethods()) {
-         executor.executeTest(testcase, commitLogFolder, testTransformer.getConfig().getTimeoutInSeconds());
+      final long timeout = testTransformer.getConfig().getTimeoutInSeconds();
+      final int batchSize = testTransformer.getConfig().getExecutionConfig().getTraceBatchSize();
+      if (batchSize > 1) {
+         executeBatches(testsToUpdate, commitLogFolder, timeout, batchSize);
+      } else {
+         for (final TestMethodCall testcase : testsToUpdate.getTestMethods()) {
+            executor.executeTest(testcase, commitLogFolder, timeout);
+         }
       }
       LOG.debug("KoPeMe-Kieker-Run finished");
    }
 
+   /**
+    * Executes the tests in batches of batchSize test methods. Since KoPeMe switches the Kieker output folder for every test method, the traces are still written to
+    * one folder per test method.
+    */
+   private void executeBatches(final TestSet testsToUpdate, final File commitLogFolder, final long timeout, final int batchSize) {
+      List<TestMethodCall> batch = new ArrayList<>(batchSize);
+      for (final TestMethodCall testcase : testsToUpdate.getTestMethods()) {
+         batch.add(testcase);
+         if (batch.size() == batchSize) {
+            executor.executeTests(batch, commitLogFolder, timeout);
+            batch = new ArrayList<>(batchSize);
+         }
+      }
+      if (!batch.isEmpty()) {
+         executor.executeTests(batch, commitLogFolder, timeout);
+      }
+   }
+
    protected void cleanFolderAboveSize(final File folderToClean, final long sizeInMb) {
       for (final File file : folderToClean.listFiles()) {
          if (file.isDirectory()) {
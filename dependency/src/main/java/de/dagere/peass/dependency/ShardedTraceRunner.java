@@ -0,0 +1,183 @@
+package de.dagere.peass.dependency;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.dependency.analysis.data.TestSet;
+import de.dagere.peass.dependency.analysis.testData.TestClazzCall;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.vcs.GitUtils;
+
+/**
+ * Runs the trace tests of one commit in the project folder and in temporary copies of the project at the same time. The test classes are distributed round robin
+ * over the shards; every copy is created once and checked out to the current commit before each run. Afterwards, the Kieker results of the copies are moved to
+ * the results folder of the project, so reading the dependencies and traces works like after a serial run.
+ */
+public class ShardedTraceRunner {
+
+   private static final Logger LOG = LogManager.getLogger(ShardedTraceRunner.class);
+
+   private final DependencyManager dependencyManager;
+   private final PeassFolders folders;
+   private final int shards;
+   private final KiekerResultManager[] shardManagers;
+
+   public ShardedTraceRunner(final DependencyManager dependencyManager, final PeassFolders folders, final int shards) {
+      this.dependencyManager = dependencyManager;
+      this.folders = folders;
+      this.shards = shards;
+      shardManagers = new KiekerResultManager[shards];
+   }
+
+   public void runTraceTests(final TestSet testsToRun, final String commit) {
+      final List<TestSet> shardTests = split(testsToRun, shards);
+      if (shardTests.size() < 2) {
+         dependencyManager.runTraceTests(testsToRun, commit);
+         return;
+      }
+
+      LOG.info("Tracing {} test classes in {} project folders", testsToRun.classCount(), shardTests.size());
+      final ExecutorService service = Executors.newFixedThreadPool(shardTests.size() - 1, runnable -> new Thread(runnable, "traceshard"));
+      final List<Future<KiekerResultManager>> futures = new LinkedList<>();
+      for (int shard = 1; shard < shardTests.size(); shard++) {
+         final int shardIndex = shard;
+         final TestSet tests = shardTests.get(shard);
+         final File logFolder = getShardLogFolder(shard);
+         futures.add(service.submit(() -> {
+            final KiekerResultManager shardManager = getShardManager(shardIndex, commit);
+            shardManager.getExecutor().setJDKVersion(dependencyManager.getExecutor().getJDKVersion());
+            shardManager.getExecutor().loadClasses();
+            shardManager.runTraceTests(tests, commit, logFolder);
+            return shardManager;
+         }));
+      }
+      service.shutdown();
+
+      try {
+         dependencyManager.runTraceTests(shardTests.get(0), commit);
+
+         for (Future<KiekerResultManager> future : futures) {
+            final KiekerResultManager shardManager = future.get();
+            moveResults(shardManager.folders.getTempMeasurementFolder(), folders.getTempMeasurementFolder());
+            dependencyManager.addIgnoredTests(shardManager.getIgnoredTests());
+         }
+      } catch (InterruptedException | ExecutionException | IOException e) {
+         throw new RuntimeException(e);
+      } finally {
+         stopShards(service, futures);
+      }
+   }
+
+   /**
+    * Cancels the shards that are still running, e.g. because the main shard or another shard failed, and waits until their test processes are killed, so the project
+    * copies are not used by two runs at the same time.
+    */
+   private void stopShards(final ExecutorService service, final List<Future<KiekerResultManager>> futures) {
+      for (Future<KiekerResultManager> future : futures) {
+         future.cancel(true);
+      }
+      service.shutdownNow();
+      try {
+         if (!service.awaitTermination(1, TimeUnit.MINUTES)) {
+            LOG.error("Trace shards did not stop after cancellation");
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   public void stopBuildDaemons() {
+      for (KiekerResultManager shardManager : shardManagers) {
+         if (shardManager != null) {
+            shardManager.getExecutor().stopBuildDaemon();
+         }
+      }
+   }
+
+   static List<TestSet> split(final TestSet testsToRun, final int shards) {
+      final List<TestSet> shardTests = new ArrayList<>();
+      int clazzIndex = 0;
+      for (Map.Entry<TestClazzCall, Set<String>> clazz : testsToRun.entrySet()) {
+         final int shard = clazzIndex % shards;
+         if (shardTests.size() <= shard) {
+            shardTests.add(new TestSet());
+         }
+         shardTests.get(shard).addTest(clazz.getKey(), null);
+         for (String method : clazz.getValue()) {
+            shardTests.get(shard).addTest(clazz.getKey(), method);
+         }
+         clazzIndex++;
+      }
+      return shardTests;
+   }
+
+   /**
+    * Returns the manager of the given shard with its project copy checked out to the commit; the copy is only cloned on first usage. Every shard is only accessed
+    * by one task at a time.
+    */
+   private KiekerResultManager getShardManager(final int shard, final String commit) {
+      KiekerResultManager shardManager = shardManagers[shard];
+      if (shardManager == null) {
+         LOG.debug("Creating project copy for trace shard {}", shard);
+         final MeasurementConfig config = dependencyManager.getTestTransformer().getConfig();
+         final PeassFolders shardFolders = folders.getTempFolder("traceShard_" + shard, config.getExecutionConfig().getGitCryptKey());
+         GitUtils.goToCommit(commit, shardFolders.getProjectFolder());
+         shardManager = new KiekerResultManager(shardFolders, config.getExecutionConfig(), config.getKiekerConfig(), dependencyManager.getExecutor().getEnv());
+         if (config.getExecutionConfig().isUseBuildDaemon()) {
+            shardManager.getExecutor().enableBuildDaemon();
+         }
+         if (config.getExecutionConfig().isIncrementalBuild()) {
+            shardManager.getExecutor().enableIncrementalBuild();
+         }
+         shardManagers[shard] = shardManager;
+      } else {
+         GitUtils.goToCommit(commit, shardManager.folders.getProjectFolder());
+      }
+      return shardManager;
+   }
+
+   private File getShardLogFolder(final int shard) {
+      final File logFolder = new File(folders.getDependencyLogFolder(), "traceShard_" + shard);
+      if (!logFolder.exists()) {
+         logFolder.mkdirs();
+      }
+      return logFolder;
+   }
+
+   /**
+    * Moves the results of a shard to the results folder; since the shards trace distinct test classes, only the parent folders (e.g. the project folder) are merged.
+    */
+   private void moveResults(final File source, final File destination) throws IOException {
+      if (!source.exists()) {
+         return;
+      }
+      if (!destination.exists()) {
+         if (source.isDirectory()) {
+            FileUtils.moveDirectory(source, destination);
+         } else {
+            FileUtils.moveFile(source, destination);
+         }
+      } else if (source.isDirectory()) {
+         for (File child : source.listFiles()) {
+            moveResults(child, new File(destination, child.getName()));
+         }
+      } else {
+         LOG.warn("Result file {} exists in several shards, keeping the first one", destination);
+      }
+   }
+}
@@ -1,5 +1,6 @@
 package de.dagere.peass.dependency.analysis.data;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -47,4 +48,15 @@ public class ChangeTestMapping {
       LOG.trace("Adding {} to {}", currentTestcase, changedFullname);
       changedClasses.add(currentTestcase);
    }
+
+   @JsonIgnore
+   public void addChangeEntries(final ChangedEntity changedFullname, final Collection<TestMethodCall> testcases) {
+      Set<TestMethodCall> changedClasses = changes.get(changedFullname);
+      if (changedClasses == null) {
+         changedClasses = new HashSet<>();
+         changes.put(changedFullname, changedClasses);
+      }
+      LOG.trace("Adding {} to {}", testcases, changedFullname);
+      changedClasses.addAll(testcases);
+   }
 }
@@ -17,8 +17,10 @@
 package de.dagere.peass.dependency.analysis.data;
 
 import java.io.File;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -39,6 +41,7 @@ public class CommitDiff {
 
    private boolean pomChanged;
    private final List<ChangedEntity> changedClasses;
+   private final Map<ChangedEntity, String> changedFileNames = new HashMap<>();
    private final List<File> modules;
    private final File projectFolder;
 
@@ -67,6 +70,13 @@ public class CommitDiff {
       return changedClasses;
    }
 
+   /**
+    * Returns the name of the changed file of the class, relative to the project folder (as returned by git diff)
+    */
+   public String getChangedFileName(final ChangedEntity clazz) {
+      return changedFileNames.get(clazz);
+   }
+
    public void addChange(final String currentFileName, final ExecutionConfig config) {
       if (currentFileName.endsWith("pom.xml")) {
          setPomChanged(true);
@@ -107,6 +117,7 @@ public class CommitDiff {
             final ChangedEntity changedEntity = new ChangedEntity(classPath, modulePath);
             if (!changedEntity.getJavaClazzName().contains(File.separator)) {
                changedClasses.add(changedEntity);
+               changedFileNames.put(changedEntity, currentFileName);
             } else {
                LOG.error("Sourcefoldernot found: {} Ignoring {}", modulePath, currentFileName);
             }
@@ -120,6 +131,7 @@ public class CommitDiff {
          final ChangedEntity changedEntity = new ChangedEntity(classPath, "");
          if (!changedEntity.getJavaClazzName().contains(File.separator)) {
             changedClasses.add(changedEntity);
+            changedFileNames.put(changedEntity, currentFileName);
          } else {
             LOG.error("Sourcefoldernot found: {}", currentFileName);
          }
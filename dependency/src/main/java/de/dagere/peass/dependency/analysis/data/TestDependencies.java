@@ -43,20 +43,38 @@ public class TestDependencies {
     */
    private final Map<TestMethodCall, CalledMethods> dependencyMap = new HashMap<>();
 
+   /**
+    * Reverse index from the full qualified name of a called class to the tests calling this class; this is maintained by all modifying methods, so selection only needs
+    * to look at the tests that call a changed class. Entries may be outdated (e.g. after direct modifications of the dependency map), therefore every candidate is checked
+    * against the dependencyMap again.
+    */
+   private final Map<String, Set<TestMethodCall>> calledClassIndex = new HashMap<>();
+   private boolean indexOutdated = false;
+
    public TestDependencies() {
 
    }
 
+   /**
+    * Returns the dependency map; modifications need to be done using {@link #setDependencies(TestMethodCall, Map)}, {@link #addDependencies(TestMethodCall, Map)} and
+    * {@link #removeTest(TestCase)}, since otherwise the index of called classes is not updated.
+    */
    public Map<TestMethodCall, CalledMethods> getDependencyMap() {
       return dependencyMap;
    }
 
    /**
-    * Gets the dependencies for a test, i.e. the used classes. If the test is not known yet, an empty Set is returned.
+    * Gets the dependencies for a test, i.e. the used classes. If the test is not known yet, an empty Set is returned. Since the returned map might be modified by the caller,
+    * the index of called classes is rebuilt before the next selection.
     * 
     * @param test
     */
    public Map<ChangedEntity, Set<String>> getOrAddDependenciesForTest(final TestMethodCall test) {
+      indexOutdated = true;
+      return getOrAddCalledMethods(test);
+   }
+
+   private Map<ChangedEntity, Set<String>> getOrAddCalledMethods(final TestMethodCall test) {
       CalledMethods tests = dependencyMap.get(test);
       if (tests == null) {
          tests = new CalledMethods();
@@ -69,13 +87,17 @@ public class TestDependencies {
             method += "(" + test.getParams() + ")";
          }
          calledMethods.add(method);
+         addToIndex(onlyClass, test);
       }
       return tests.getCalledMethods();
    }
    
    public void setDependencies(final TestMethodCall testClassName, final Map<ChangedEntity, Set<String>> allCalledClasses) {
-      final Map<ChangedEntity, Set<String>> testDependencies = getOrAddDependenciesForTest(testClassName);
+      final Map<ChangedEntity, Set<String>> testDependencies = getOrAddCalledMethods(testClassName);
       testDependencies.putAll(allCalledClasses);
+      for (ChangedEntity calledClass : allCalledClasses.keySet()) {
+         addToIndex(calledClass, testClassName);
+      }
    }
    
    /**
@@ -86,7 +108,7 @@ public class TestDependencies {
     * @param calledClasses Map from name of the called class to the methods of the class that are called
     */
    public void addDependencies(final TestMethodCall testMethod, final Map<ChangedEntity, Set<String>> calledClasses) {
-      final Map<ChangedEntity, Set<String>> testDependencies = getOrAddDependenciesForTest(testMethod);
+      final Map<ChangedEntity, Set<String>> testDependencies = getOrAddCalledMethods(testMethod);
       for (final Map.Entry<ChangedEntity, Set<String>> calledEntity : calledClasses.entrySet()) {
          LOG.debug("Adding call: " + calledEntity.getKey());
          LOG.debug(testDependencies.keySet());
@@ -96,11 +118,45 @@ public class TestDependencies {
          } else {
             testDependencies.put(calledEntity.getKey(), calledEntity.getValue());
          }
+         addToIndex(calledEntity.getKey(), testMethod);
       }
    }
 
    public void removeTest(final TestCase entity) {
-      dependencyMap.remove(entity);
+      final CalledMethods removed = dependencyMap.remove(entity);
+      if (removed != null) {
+         for (ChangedEntity calledClass : removed.getCalledClasses()) {
+            final Set<TestMethodCall> callingTests = calledClassIndex.get(calledClass.getJavaClazzName());
+            if (callingTests != null) {
+               callingTests.remove(entity);
+               if (callingTests.isEmpty()) {
+                  calledClassIndex.remove(calledClass.getJavaClazzName());
+               }
+            }
+         }
+      }
+   }
+
+   private void addToIndex(final ChangedEntity calledClass, final TestMethodCall test) {
+      Set<TestMethodCall> callingTests = calledClassIndex.get(calledClass.getJavaClazzName());
+      if (callingTests == null) {
+         callingTests = new HashSet<>();
+         calledClassIndex.put(calledClass.getJavaClazzName(), callingTests);
+      }
+      callingTests.add(test);
+   }
+
+   private void rebuildIndexIfOutdated() {
+      if (indexOutdated) {
+         LOG.debug("Rebuilding called class index for {} tests", dependencyMap.size());
+         calledClassIndex.clear();
+         for (final Entry<TestMethodCall, CalledMethods> dependencyEntry : dependencyMap.entrySet()) {
+            for (ChangedEntity calledClass : dependencyEntry.getValue().getCalledClasses()) {
+               addToIndex(calledClass, dependencyEntry.getKey());
+            }
+         }
+         indexOutdated = false;
+      }
    }
 
    public int size() {
@@ -128,25 +184,19 @@ public class TestDependencies {
 
    /**
     * Returns a list of all tests that changed based on given changed classes and the dependencies of the current version. So the result mapping is changedclass to a set of tests,
-    * that could have been changed by this changed class.
+    * that could have been changed by this changed class. Only the tests that are contained in the index of the changed class are checked, so the effort depends on the count of
+    * changes and not on the count of tests.
     * 
     * @param staticTestSelection
     * @param changes
     * @return Map from changed class to the influenced tests
     */
    public ChangeTestMapping getChangeTestMap(final Map<ChangedEntity, ClazzChangeData> changes) {
+      rebuildIndexIfOutdated();
       final ChangeTestMapping changeTestMap = new ChangeTestMapping();
-      for (final Entry<TestMethodCall, CalledMethods> dependencyEntry : dependencyMap.entrySet()) {
-         final TestMethodCall currentTestcase = dependencyEntry.getKey();
-         final CalledMethods currentTestDependencies = dependencyEntry.getValue();
-         for (ClazzChangeData changedEntry : changes.values()) {
-            for (ChangedEntity change : changedEntry.getChanges()) {
-               final ChangedEntity changedClass = change.onlyClazz();
-               final Set<ChangedEntity> calledClasses = currentTestDependencies.getCalledClasses();
-               if (calledClasses.contains(changedClass)) {
-                  addCall(changeTestMap, currentTestcase, currentTestDependencies, changedEntry, change, changedClass);
-               }
-            }
+      for (ClazzChangeData changedEntry : changes.values()) {
+         for (ChangedEntity change : changedEntry.getChanges()) {
+            addCalls(changeTestMap, changedEntry, change);
          }
       }
       for (final Map.Entry<ChangedEntity, Set<TestMethodCall>> element : changeTestMap.getChanges().entrySet()) {
@@ -156,19 +206,35 @@ public class TestDependencies {
       return changeTestMap;
    }
 
-   private void addCall(final ChangeTestMapping changeTestMap, final TestMethodCall currentTestcase, final CalledMethods currentTestDependencies,
-         final ClazzChangeData changedEntry, final ChangedEntity change, final ChangedEntity changedClass) {
-      boolean clazzLevelChange = !changedEntry.isOnlyMethodChange();
-      if (clazzLevelChange) {
-         changeTestMap.addChangeEntry(change, currentTestcase);
-         changeTestMap.addChangeEntry(change.onlyClazz(), currentTestcase);
-      } else { 
-         String method = change.getMethod() + change.getParameterString();
-         final Map<ChangedEntity, Set<String>> calledMethods = currentTestDependencies.getCalledMethods();
-         final Set<String> calledMethodsInChangeClass = calledMethods.get(changedClass);
-         if (calledMethodsInChangeClass.contains(method)) {
+   private void addCalls(final ChangeTestMapping changeTestMap, final ClazzChangeData changedEntry, final ChangedEntity change) {
+      final ChangedEntity changedClass = change.onlyClazz();
+      final Set<TestMethodCall> candidates = calledClassIndex.get(changedClass.getJavaClazzName());
+      if (candidates == null) {
+         return;
+      }
+      final boolean clazzLevelChange = !changedEntry.isOnlyMethodChange();
+      final String method = change.getMethod() + change.getParameterString();
+      final Set<TestMethodCall> callingTests = new HashSet<>();
+      for (TestMethodCall currentTestcase : candidates) {
+         final CalledMethods currentTestDependencies = dependencyMap.get(currentTestcase);
+         if (currentTestDependencies != null && currentTestDependencies.getCalledClasses().contains(changedClass)) {
+            if (clazzLevelChange) {
+               callingTests.add(currentTestcase);
+            } else {
+               final Set<String> calledMethodsInChangeClass = currentTestDependencies.getCalledMethods().get(changedClass);
+               if (calledMethodsInChangeClass.contains(method)) {
+                  callingTests.add(currentTestcase);
+               }
+            }
+         }
+      }
+      if (!callingTests.isEmpty()) {
+         if (clazzLevelChange) {
+            changeTestMap.addChangeEntries(change, callingTests);
+            changeTestMap.addChangeEntries(changedClass, callingTests);
+         } else {
             final ChangedEntity classWithMethod = new ChangedEntity(changedClass.getClazz(), changedClass.getModule(), method);
-            changeTestMap.addChangeEntry(classWithMethod, currentTestcase);
+            changeTestMap.addChangeEntries(classWithMethod, callingTests);
          }
       }
    }
@@ -200,36 +200,58 @@ public final class FileComparisonUtil {
       try {
          final CompilationUnit newCu = JavaParserProvider.parse(newFile);
          final CompilationUnit oldCu = JavaParserProvider.parse(oldFile);
-         
-         new CommentRemover(newCu);
-         new CommentRemover(oldCu);
-
-         final List<Node> changes = comparePairwise(newCu, oldCu);
-         Set<ImportDeclaration> unequalImports = new ImportComparator(newCu.getImports(), oldCu.getImports()).getNotInBoth();
-         changes.addAll(unequalImports);
-
-         if (changes.size() == 0) {
-            changedata.setChange(false);
-            return;
-         }
-
-         boolean onlyLineCommentChanges = checkOnlyLineCommentChange(changes);
-         if (onlyLineCommentChanges) {
-            return;
-         }
+         getChangedMethods(newCu, oldCu, changedata);
+      } catch (final Exception e) {
+         e.printStackTrace();
+         LOG.info("Found full-class change");
+         changedata.setOnlyMethodChange(false);
+         throw new ParseException("Parsing was not successfull");
+      }
+   }
 
-         for (final Node node : changes) {
-            // Use old CU for change adding - if new CU contains more clazzes, these will be regarded as changes anyway
-            ChangeAdder.addChange(changedata, node, oldCu);
-         }
+   /**
+    * Returns the information whether the source has changed, based on the sources, e.g. if they are read from git directly
+    * 
+    * @param newSource Source of the new file
+    * @param oldSource Source of the old file
+    * @param changedata Changedata, i.e. if a change happened and if it was class- or method-wide
+    * @throws ParseException If Class can't be parsed
+    */
+   public static void getChangedMethods(final String newSource, final String oldSource, final ClazzChangeData changedata) throws ParseException {
+      try {
+         final CompilationUnit newCu = JavaParserProvider.parse(newSource);
+         final CompilationUnit oldCu = JavaParserProvider.parse(oldSource);
+         getChangedMethods(newCu, oldCu, changedata);
       } catch (final Exception e) {
          e.printStackTrace();
          LOG.info("Found full-class change");
          changedata.setOnlyMethodChange(false);
          throw new ParseException("Parsing was not successfull");
       }
+   }
+
+   private static void getChangedMethods(final CompilationUnit newCu, final CompilationUnit oldCu, final ClazzChangeData changedata) {
+      new CommentRemover(newCu);
+      new CommentRemover(oldCu);
+
+      final List<Node> changes = comparePairwise(newCu, oldCu);
+      Set<ImportDeclaration> unequalImports = new ImportComparator(newCu.getImports(), oldCu.getImports()).getNotInBoth();
+      changes.addAll(unequalImports);
 
-      return;
+      if (changes.size() == 0) {
+         changedata.setChange(false);
+         return;
+      }
+
+      boolean onlyLineCommentChanges = checkOnlyLineCommentChange(changes);
+      if (onlyLineCommentChanges) {
+         return;
+      }
+
+      for (final Node node : changes) {
+         // Use old CU for change adding - if new CU contains more clazzes, these will be regarded as changes anyway
+         ChangeAdder.addChange(changedata, node, oldCu);
+      }
    }
    
    private static boolean checkOnlyLineCommentChange(final List<Node> changes) {
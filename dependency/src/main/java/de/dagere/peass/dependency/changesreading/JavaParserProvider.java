@@ -2,6 +2,9 @@ package de.dagere.peass.dependency.changesreading;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -12,7 +15,9 @@ import com.github.javaparser.Problem;
 import com.github.javaparser.ast.CompilationUnit;
 
 /**
- * Provides ThreadLocal JavaParser-instances, so parsing can be done in parallel
+ * Provides ThreadLocal JavaParser-instances, so parsing can be done in parallel. Parsed units are cached by the hash of their source (see {@link ParsedUnitCache}), so
+ * every returned unit may be changed by the caller.
+ * 
  * @author reichelt
  *
  */
@@ -24,9 +29,48 @@ public class JavaParserProvider {
       };
    };
 
-   public synchronized static CompilationUnit parse(final File file) throws FileNotFoundException {
+   private final static ParsedUnitCache cache = new ParsedUnitCache(ParsedUnitCache.DEFAULT_MAXIMUM_SIZE);
+
+   public static CompilationUnit parse(final File file) throws FileNotFoundException {
+      final String source;
+      try {
+         source = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+         final FileNotFoundException notFound = new FileNotFoundException("Could not read " + file.getAbsolutePath());
+         notFound.initCause(e);
+         throw notFound;
+      }
+      return parse(source);
+   }
+
+   /**
+    * Parses source code that is not contained in a file, e.g. because it was read from git directly
+    */
+   public static CompilationUnit parse(final String source) {
+      final String hash = ParsedUnitCache.getHash(source);
+      final CompilationUnit cached = cache.get(hash);
+      if (cached != null) {
+         return cached;
+      }
+      final CompilationUnit unit = parseUncached(source);
+      cache.put(hash, unit, source.length());
+      return unit;
+   }
+
+   private synchronized static CompilationUnit parseUncached(final String source) {
       final JavaParser parser = javaParser.get();
-      final Optional<CompilationUnit> result = parser.parse(file).getResult();
+      final Optional<CompilationUnit> result = parser.parse(source).getResult();
+      return getUnit(result);
+   }
+
+   /**
+    * Returns the cache of parsed units, e.g. for changing its size (0 disables caching)
+    */
+   public static ParsedUnitCache getCache() {
+      return cache;
+   }
+
+   private static CompilationUnit getUnit(final Optional<CompilationUnit> result) {
       if (!result.isPresent()) {
          List<Problem> problems = new LinkedList<>();
          problems.add(new Problem("Could not parse class", null, null));
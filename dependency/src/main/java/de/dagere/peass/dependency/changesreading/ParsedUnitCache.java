@@ -0,0 +1,157 @@
+package de.dagere.peass.dependency.changesreading;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.javaparser.ast.CompilationUnit;
+
+/**
+ * Caches parsed {@link CompilationUnit}s by the hash of their source, so files that are unchanged between commits or that are read by multiple components (change
+ * detection, clazz finding, test transformation) are only parsed once. The least recently used units are removed if the cache is full, i.e. if it contains more than the
+ * maximum count of units or if the estimated memory of the units exceeds the maximum estimated size. The memory of a unit is estimated from the length of its source, since
+ * the count of AST nodes grows roughly linear with the source length.
+ *
+ * Since most users change the units (e.g. by removing comments or by transforming tests), only copies of the cached units are handed out.
+ */
+public class ParsedUnitCache {
+
+   public static final int DEFAULT_MAXIMUM_SIZE = 2000;
+
+   /**
+    * Rough estimation of the heap usage of a parsed unit per character of its source (AST nodes, tokens, ranges and the clone of the cache)
+    */
+   static final int ESTIMATED_BYTES_PER_SOURCE_CHAR = 64;
+
+   /**
+    * By default, the cached units should not take more than one eighth of the heap
+    */
+   public static final long DEFAULT_MAXIMUM_ESTIMATED_BYTES = Runtime.getRuntime().maxMemory() / 8;
+
+   private static class CachedUnit {
+      private final CompilationUnit unit;
+      private final long estimatedBytes;
+
+      CachedUnit(final CompilationUnit unit, final long estimatedBytes) {
+         this.unit = unit;
+         this.estimatedBytes = estimatedBytes;
+      }
+   }
+
+   private final Map<String, CachedUnit> units = new LinkedHashMap<>(16, 0.75f, true);
+   private int maximumSize;
+   private long maximumEstimatedBytes;
+   private long estimatedBytes = 0;
+   private long hits = 0;
+   private long misses = 0;
+
+   public ParsedUnitCache(final int maximumSize) {
+      this(maximumSize, DEFAULT_MAXIMUM_ESTIMATED_BYTES);
+   }
+
+   public ParsedUnitCache(final int maximumSize, final long maximumEstimatedBytes) {
+      this.maximumSize = maximumSize;
+      this.maximumEstimatedBytes = maximumEstimatedBytes;
+   }
+
+   /**
+    * Returns a copy of the cached unit of the given source
+    *
+    * @param hash hash of the source, see {@link #getHash(String)}
+    * @return copy of the unit or null, if the source has not been parsed before
+    */
+   public synchronized CompilationUnit get(final String hash) {
+      final CachedUnit cached = units.get(hash);
+      if (cached != null) {
+         hits++;
+         return cached.unit.clone();
+      } else {
+         misses++;
+         return null;
+      }
+   }
+
+   /**
+    * Adds a copy of the unit to the cache, so later changes of the unit by the caller do not change the cached unit
+    *
+    * @param sourceLength length of the parsed source, which is used to estimate the memory of the unit
+    */
+   public synchronized void put(final String hash, final CompilationUnit unit, final int sourceLength) {
+      final long unitBytes = (long) sourceLength * ESTIMATED_BYTES_PER_SOURCE_CHAR;
+      if (maximumSize > 0 && unitBytes <= maximumEstimatedBytes) {
+         final CachedUnit previous = units.put(hash, new CachedUnit(unit.clone(), unitBytes));
+         if (previous != null) {
+            estimatedBytes -= previous.estimatedBytes;
+         }
+         estimatedBytes += unitBytes;
+         evict();
+      }
+   }
+
+   private void evict() {
+      final Iterator<CachedUnit> eldest = units.values().iterator();
+      while (eldest.hasNext() && (units.size() > maximumSize || estimatedBytes > maximumEstimatedBytes)) {
+         estimatedBytes -= eldest.next().estimatedBytes;
+         eldest.remove();
+      }
+   }
+
+   public synchronized void setMaximumSize(final int maximumSize) {
+      this.maximumSize = maximumSize;
+      evict();
+   }
+
+   public synchronized int getMaximumSize() {
+      return maximumSize;
+   }
+
+   public synchronized void setMaximumEstimatedBytes(final long maximumEstimatedBytes) {
+      this.maximumEstimatedBytes = maximumEstimatedBytes;
+      evict();
+   }
+
+   public synchronized long getMaximumEstimatedBytes() {
+      return maximumEstimatedBytes;
+   }
+
+   public synchronized long getEstimatedBytes() {
+      return estimatedBytes;
+   }
+
+   public synchronized int size() {
+      return units.size();
+   }
+
+   public synchronized long getHits() {
+      return hits;
+   }
+
+   public synchronized long getMisses() {
+      return misses;
+   }
+
+   public synchronized void clear() {
+      units.clear();
+      estimatedBytes = 0;
+      hits = 0;
+      misses = 0;
+   }
+
+   public static String getHash(final String source) {
+      try {
+         final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+         final byte[] hash = digest.digest(source.getBytes(StandardCharsets.UTF_8));
+         final StringBuilder result = new StringBuilder(hash.length * 2);
+         for (final byte current : hash) {
+            result.append(Character.forDigit((current >> 4) & 0xF, 16));
+            result.append(Character.forDigit(current & 0xF, 16));
+         }
+         return result.toString();
+      } catch (NoSuchAlgorithmException e) {
+         throw new RuntimeException(e);
+      }
+   }
+}
@@ -33,8 +33,32 @@ public final class OneReader implements Runnable {
       this.comparator = comparator;
    }
 
+   /**
+    * Reads the commits of this reader; failures are rethrown, so they are reported by the future of the reader.
+    */
    @Override
    public void run() {
+      try {
+         if (readFirstChunk()) {
+            readRemaining(reserveIterator, minimumCommit);
+         }
+      } catch (final RuntimeException e) {
+         LOG.error("Reading the commits failed", e);
+         throw e;
+      } catch (final Exception e) {
+         LOG.error("Reading the commits failed", e);
+         throw new RuntimeException(e);
+      }
+   }
+
+   /**
+    * Searches the first running commit of the iterator, reads its dependencies by a full trace run and reads the following commits of the iterator. The final static
+    * selection is only written by {@link #readRemaining}. If reading is not possible, the build daemons are stopped.
+    * 
+    * @return Whether the commits could be read, so reading may be continued with the following commits
+    */
+   public boolean readFirstChunk() throws IOException, ParseException {
+      boolean success = false;
       try {
          boolean init = firstRunningCommitFinder.searchFirstRunningCommit();
          if (init) {
@@ -42,26 +66,56 @@ public final class OneReader implements Runnable {
             if (!reader.readInitialCommit()) {
                LOG.error("Analyzing first commit was not possible");
             } else {
-               final boolean readingSuccess = reader.readDependencies();
-               if (readingSuccess) {
-                  readRemaining(reader);
-               }
+               success = reader.readCommits();
             }
          }
-      } catch (final Throwable e) {
-         e.printStackTrace();
+         return success;
+      } finally {
+         if (!success) {
+            reader.stopBuildDaemons();
+         }
       }
    }
 
-   private void readRemaining(final DependencyReader reader) throws FileNotFoundException, IOException, XmlPullParserException, InterruptedException, ParseException {
+   /**
+    * Continues reading with the commits of the following chunk, whose first commit is the last commit that has been read; therefore, the initial trace run is not repeated.
+    * The build daemons keep running, unless reading fails.
+    */
+   public void continueWith(final CommitIterator chunkIterator) throws IOException, InterruptedException, ParseException {
+      reader.setIterator(chunkIterator);
+      try {
+         while (chunkIterator.hasNextCommit()) {
+            chunkIterator.goToNextCommit();
+            reader.readCommit();
+         }
+      } catch (IOException | InterruptedException | ParseException | RuntimeException e) {
+         reader.flushStaticSelection();
+         reader.stopBuildDaemons();
+         throw e;
+      }
+   }
+
+   /**
+    * Reads the commits of the reserve iterator until the minimum commit is read, writes the final static selection and stops the build daemons.
+    */
+   public void readRemaining(final CommitIterator reserveIterator, final String minimumCommit)
+         throws FileNotFoundException, IOException, XmlPullParserException, InterruptedException, ParseException {
       String newest = reader.getDependencies().getNewestCommit();
       reader.setIterator(reserveIterator);
-      while (reserveIterator.hasNextCommit() && comparator.isBefore(newest, minimumCommit)) {
-         reserveIterator.goToNextCommit();
-         LOG.debug("Remaining: {} This: {}", reserveIterator.getCommitName(), this);
-         reader.readCommit();
-         newest = reader.getDependencies().getNewestCommit();
+      try {
+         while (reserveIterator.hasNextCommit() && comparator.isBefore(newest, minimumCommit)) {
+            reserveIterator.goToNextCommit();
+            LOG.debug("Remaining: {} This: {}", reserveIterator.getCommitName(), this);
+            reader.readCommit();
+            newest = reader.getDependencies().getNewestCommit();
+         }
+      } catch (IOException | InterruptedException | ParseException | RuntimeException e) {
+         reader.flushStaticSelection();
+         reader.stopBuildDaemons();
+         throw e;
       }
+      reader.writeFinalStaticSelection();
+      reader.stopBuildDaemons();
       serializeNotRunningCommits(reader);
    }
 
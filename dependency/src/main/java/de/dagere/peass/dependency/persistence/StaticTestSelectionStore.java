@@ -0,0 +1,306 @@
+package de.dagere.peass.dependency.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import de.dagere.peass.utils.Constants;
+
+/**
+ * Stores a {@link StaticTestSelection} incrementally in a folder, so writing one new commit does not require to rewrite the selection of all commits:
+ *
+ * - header.json contains the selection without commits (url, initial commit, ..)
+ *
+ * - commits.log contains one line per written commit (commit name, tab, JSON of the {@link CommitStaticSelection}); lines are only appended, a later line of a commit
+ * replaces the earlier ones
+ *
+ * - commits.index contains the position of every line in commits.log, so single commits can be read without parsing the whole log
+ *
+ * The classic JSON file can be imported and exported.
+ */
+public class StaticTestSelectionStore {
+
+   private static final Logger LOG = LogManager.getLogger(StaticTestSelectionStore.class);
+
+   private static final ObjectWriter LINE_WRITER = Constants.OBJECTMAPPER.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+   private final File folder;
+   private final File headerFile;
+   private final File logFile;
+   private final File indexFile;
+
+   /**
+    * Position of the JSON of the newest entry of every commit in commits.log; ordered by the first occurrence of the commit
+    */
+   private final Map<String, long[]> index = new LinkedHashMap<>();
+   private long logLength = 0;
+   private boolean headerAndroid;
+
+   public StaticTestSelectionStore(final File folder) throws IOException {
+      this.folder = folder;
+      this.headerFile = new File(folder, "header.json");
+      this.logFile = new File(folder, "commits.log");
+      this.indexFile = new File(folder, "commits.index");
+      folder.mkdirs();
+      readIndex();
+   }
+
+   public static StaticTestSelectionStore importJson(final File jsonFile, final File folder) throws IOException {
+      final StaticTestSelection selection = Constants.OBJECTMAPPER.readValue(jsonFile, StaticTestSelection.class);
+      final StaticTestSelectionStore store = new StaticTestSelectionStore(folder);
+      store.clear();
+      store.writeAll(selection);
+      return store;
+   }
+
+   /**
+    * Reads the selection from the JSON file and adds the commits of the store in the given folder, if it exists. Since the JSON file is only rewritten at the start and at the
+    * end of reading (or if reading failed), the store may contain newer commits if reading was interrupted.
+    */
+   public static StaticTestSelection loadWithStoredCommits(final File jsonFile, final File folder) throws IOException {
+      final StaticTestSelection selection = Constants.OBJECTMAPPER.readValue(jsonFile, StaticTestSelection.class);
+      if (new File(folder, "commits.log").exists()) {
+         final int added = new StaticTestSelectionStore(folder).addStoredCommits(selection);
+         LOG.info("Added {} commits from the store {}", added, folder);
+      }
+      return selection;
+   }
+
+   /**
+    * Puts the stored selection of every commit of the store into the given selection, replacing older data of the commits.
+    *
+    * @return Count of commits that were not contained in the given selection
+    */
+   public synchronized int addStoredCommits(final StaticTestSelection selection) throws IOException {
+      int added = 0;
+      for (String commit : index.keySet()) {
+         if (selection.getCommits().put(commit, readCommit(commit)) == null) {
+            added++;
+         }
+      }
+      return added;
+   }
+
+   public void exportJson(final File jsonFile) throws IOException {
+      Constants.OBJECTMAPPER.writeValue(jsonFile, load());
+   }
+
+   /**
+    * Writes the header and all commits of the selection that are not contained in the store yet; commits that are already contained are not written again,
+    * changes of them need to be written by {@link #appendCommit(String, CommitStaticSelection)}.
+    */
+   public void writeAll(final StaticTestSelection selection) throws IOException {
+      writeHeader(selection);
+      for (Map.Entry<String, CommitStaticSelection> commit : selection.getCommits().entrySet()) {
+         if (!index.containsKey(commit.getKey())) {
+            appendCommit(commit.getKey(), commit.getValue());
+         }
+      }
+   }
+
+   public void writeHeader(final StaticTestSelection selection) throws IOException {
+      final StaticTestSelection header = new StaticTestSelection();
+      header.setUrl(selection.getUrl());
+      header.setAndroid(selection.isAndroid());
+      header.setTestGoal(selection.getTestGoal());
+      header.setInitialcommit(selection.getInitialcommit());
+
+      final File tempFile = new File(folder, headerFile.getName() + ".tmp");
+      Constants.OBJECTMAPPER.writeValue(tempFile, header);
+      Files.move(tempFile.toPath(), headerFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      headerAndroid = selection.isAndroid();
+   }
+
+   /**
+    * Appends the selection of the commit; the header is only rewritten if header data (i.e. the android flag) changed.
+    */
+   public void appendCommit(final StaticTestSelection selection, final String commit) throws IOException {
+      if (selection.isAndroid() != headerAndroid || !headerFile.exists()) {
+         writeHeader(selection);
+      }
+      appendCommit(commit, selection.getCommits().get(commit));
+   }
+
+   public synchronized void appendCommit(final String commit, final CommitStaticSelection commitSelection) throws IOException {
+      final byte[] prefix = (commit + "\t").getBytes(StandardCharsets.UTF_8);
+      final byte[] json = LINE_WRITER.writeValueAsBytes(commitSelection);
+      try (OutputStream logStream = new FileOutputStream(logFile, true)) {
+         logStream.write(prefix);
+         logStream.write(json);
+         logStream.write('\n');
+      }
+      final long start = logLength + prefix.length;
+      addToIndex(commit, start, json.length);
+      try (OutputStream indexStream = new FileOutputStream(indexFile, true)) {
+         indexStream.write((commit + "\t" + start + "\t" + json.length + "\n").getBytes(StandardCharsets.UTF_8));
+      }
+      logLength = start + json.length + 1;
+   }
+
+   /**
+    * Reads the selection of one commit, without reading the selection of all other commits.
+    *
+    * @return selection of the commit or null, if the commit is not contained
+    */
+   public synchronized CommitStaticSelection readCommit(final String commit) throws IOException {
+      final long[] position = index.get(commit);
+      if (position == null) {
+         return null;
+      }
+      final byte[] json = new byte[(int) position[1]];
+      try (RandomAccessFile log = new RandomAccessFile(logFile, "r")) {
+         log.seek(position[0]);
+         log.readFully(json);
+      }
+      return Constants.OBJECTMAPPER.readValue(json, CommitStaticSelection.class);
+   }
+
+   public synchronized Set<String> getCommitNames() {
+      return new LinkedHashSet<>(index.keySet());
+   }
+
+   public StaticTestSelection readHeader() throws IOException {
+      if (headerFile.exists()) {
+         return Constants.OBJECTMAPPER.readValue(headerFile, StaticTestSelection.class);
+      } else {
+         return new StaticTestSelection();
+      }
+   }
+
+   /**
+    * Reads the full selection including all commits.
+    */
+   public synchronized StaticTestSelection load() throws IOException {
+      final StaticTestSelection selection = readHeader();
+      for (String commit : index.keySet()) {
+         selection.getCommits().put(commit, readCommit(commit));
+      }
+      return selection;
+   }
+
+   /**
+    * Rewrites the log, so it only contains the newest entry of every commit.
+    */
+   public synchronized void compact() throws IOException {
+      final Map<String, CommitStaticSelection> commits = new LinkedHashMap<>();
+      for (String commit : index.keySet()) {
+         commits.put(commit, readCommit(commit));
+      }
+      clearCommits();
+      for (Map.Entry<String, CommitStaticSelection> commit : commits.entrySet()) {
+         appendCommit(commit.getKey(), commit.getValue());
+      }
+   }
+
+   public synchronized void clear() throws IOException {
+      FileUtils.deleteQuietly(headerFile);
+      headerAndroid = false;
+      clearCommits();
+   }
+
+   private void clearCommits() throws IOException {
+      FileUtils.deleteQuietly(logFile);
+      FileUtils.deleteQuietly(indexFile);
+      index.clear();
+      logLength = 0;
+   }
+
+   private void addToIndex(final String commit, final long start, final long length) {
+      final long[] position = index.get(commit);
+      if (position != null) {
+         position[0] = start;
+         position[1] = length;
+      } else {
+         index.put(commit, new long[] { start, length });
+      }
+   }
+
+   private void readIndex() throws IOException {
+      if (indexFile.exists()) {
+         try (BufferedReader reader = new BufferedReader(new FileReader(indexFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+               final String[] parts = line.split("\t");
+               if (parts.length == 3) {
+                  final long start = Long.parseLong(parts[1]);
+                  final long length = Long.parseLong(parts[2]);
+                  addToIndex(parts[0], start, length);
+                  logLength = Math.max(logLength, start + length + 1);
+               }
+            }
+         }
+      }
+      final long realLength = logFile.exists() ? logFile.length() : 0;
+      if (realLength != logLength) {
+         LOG.info("Index of {} is not up to date, rebuilding it", folder);
+         rebuildIndex();
+      }
+      if (headerFile.exists()) {
+         headerAndroid = readHeader().isAndroid();
+      }
+   }
+
+   /**
+    * Rebuilds the index by scanning the log, which is required if the writing process was interrupted between writing the log and the index.
+    */
+   private void rebuildIndex() throws IOException {
+      index.clear();
+      logLength = 0;
+      if (logFile.exists()) {
+         try (InputStream log = new BufferedInputStream(new FileInputStream(logFile))) {
+            final StringBuilder commit = new StringBuilder();
+            long position = 0;
+            long jsonStart = -1;
+            int current;
+            while ((current = log.read()) != -1) {
+               if (jsonStart == -1) {
+                  if (current == '\t') {
+                     jsonStart = position + 1;
+                  } else {
+                     commit.append((char) current);
+                  }
+               } else if (current == '\n') {
+                  addToIndex(commit.toString(), jsonStart, position - jsonStart);
+                  logLength = position + 1;
+                  commit.setLength(0);
+                  jsonStart = -1;
+               }
+               position++;
+            }
+         }
+      }
+      if (logFile.exists() && logFile.length() != logLength) {
+         LOG.warn("Ignoring incomplete last line of {}", logFile);
+         try (RandomAccessFile log = new RandomAccessFile(logFile, "rw")) {
+            log.setLength(logLength);
+         }
+      }
+      FileUtils.deleteQuietly(indexFile);
+      try (OutputStream indexStream = new FileOutputStream(indexFile)) {
+         for (Map.Entry<String, long[]> entry : index.entrySet()) {
+            indexStream.write((entry.getKey() + "\t" + entry.getValue()[0] + "\t" + entry.getValue()[1] + "\n").getBytes(StandardCharsets.UTF_8));
+         }
+      }
+   }
+}
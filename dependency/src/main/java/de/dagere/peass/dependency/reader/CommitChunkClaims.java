@@ -0,0 +1,58 @@
+package de.dagere.peass.dependency.reader;
+
+/**
+ * Assigns the commit chunks to the reading threads. A thread continues with the chunk following its last chunk as long as it is not claimed, since the dependencies of the
+ * first commit of the following chunk are already known; only if it is claimed, the thread starts a new run of chunks in the middle of the largest unclaimed range.
+ */
+class CommitChunkClaims {
+
+   private final boolean[] claimed;
+
+   public CommitChunkClaims(final int chunkCount) {
+      claimed = new boolean[chunkCount];
+   }
+
+   /**
+    * Claims the chunk where a new run of chunks should start.
+    *
+    * @return Index of the claimed chunk, or -1 if all chunks are claimed
+    */
+   public synchronized int claimStart() {
+      int largestStart = -1;
+      int largestLength = 0;
+      int index = 0;
+      while (index < claimed.length) {
+         if (claimed[index]) {
+            index++;
+         } else {
+            int start = index;
+            while (index < claimed.length && !claimed[index]) {
+               index++;
+            }
+            if (index - start > largestLength) {
+               largestStart = start;
+               largestLength = index - start;
+            }
+         }
+      }
+      if (largestStart == -1) {
+         return -1;
+      }
+      int chunkIndex = largestStart == 0 ? 0 : largestStart + largestLength / 2;
+      claimed[chunkIndex] = true;
+      return chunkIndex;
+   }
+
+   /**
+    * Claims the given chunk if it exists and is not claimed yet.
+    *
+    * @return Whether the chunk was claimed
+    */
+   public synchronized boolean claim(final int chunkIndex) {
+      if (chunkIndex >= claimed.length || claimed[chunkIndex]) {
+         return false;
+      }
+      claimed[chunkIndex] = true;
+      return true;
+   }
+}
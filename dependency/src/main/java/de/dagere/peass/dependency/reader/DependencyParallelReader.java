@@ -2,14 +2,22 @@ package de.dagere.peass.dependency.reader;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import com.github.javaparser.ParseException;
 
 import de.dagere.peass.config.ExecutionConfig;
 import de.dagere.peass.config.KiekerConfig;
@@ -39,6 +47,7 @@ public class DependencyParallelReader {
    private final ExecutionConfig executionConfig;
    private final KiekerConfig kiekerConfig;
    private final EnvironmentVariables env;
+   private final List<Future<?>> futures = new LinkedList<>();
 
    public DependencyParallelReader(final File projectFolder, final File resultBaseFolder, final String project, final CommitComparatorInstance commits,
          final TestSelectionConfig dependencyConfig, final ExecutionConfig executionConfig, final KiekerConfig kiekerConfig, final EnvironmentVariables env) {
@@ -61,13 +70,32 @@ public class DependencyParallelReader {
       nonRunning = new CommitKeeper(new File(tempResultFolder, "nonRunning_" + project + ".json"));
       nonChanges = new CommitKeeper(new File(tempResultFolder, "nonChanges_" + project + ".json"));
 
-      sizePerThread = commits.getCommits().size() > 2 * dependencyConfig.getThreads() ? commits.getCommits().size() / dependencyConfig.getThreads() : 2;
-      outFolders = commits.getCommits().size() > 2 * dependencyConfig.getThreads() ? new ResultsFolders[dependencyConfig.getThreads()] : new ResultsFolders[1];
+      if (dependencyConfig.getCommitChunkSize() > 0) {
+         sizePerThread = dependencyConfig.getCommitChunkSize();
+         outFolders = new ResultsFolders[getChunkCount(commits.getCommits().size(), sizePerThread)];
+      } else {
+         sizePerThread = commits.getCommits().size() > 2 * dependencyConfig.getThreads() ? commits.getCommits().size() / dependencyConfig.getThreads() : 2;
+         outFolders = commits.getCommits().size() > 2 * dependencyConfig.getThreads() ? new ResultsFolders[dependencyConfig.getThreads()] : new ResultsFolders[1];
+      }
 
       LOG.debug("Threads: {} Size per Thread: {} OutFile: {}", dependencyConfig.getThreads(), sizePerThread, outFolders.length);
    }
 
+   /**
+    * Returns the count of chunks if every chunk contains chunkSize commits plus the first commit of the following chunk (which is needed as start commit of the following
+    * chunk).
+    */
+   static int getChunkCount(final int commitCount, final int chunkSize) {
+      if (commitCount < 2) {
+         return 1;
+      }
+      return (commitCount - 2) / chunkSize + 1;
+   }
+
    public ResultsFolders[] readDependencies() throws InterruptedException, IOException {
+      if (dependencyConfig.getCommitChunkSize() > 0) {
+         return readDependenciesInChunks();
+      }
       final ExecutorService service = Executors.newFixedThreadPool(outFolders.length, new ThreadFactory() {
 
          int threadcount = 0;
@@ -86,6 +114,64 @@ public class DependencyParallelReader {
       return outFolders;
    }
 
+   /**
+    * Reads the dependencies by letting every thread claim commit chunks until all chunks are processed. A thread continues with the following chunk as long as no other
+    * thread claimed it, so the initial trace run is only executed once per run of consecutive chunks; the dependencies of such a run are written to the
+    * {@link ResultsFolders} of its first chunk, so the results can be merged like the results of fixed slices.
+    */
+   private ResultsFolders[] readDependenciesInChunks() throws InterruptedException {
+      final CommitChunkClaims claims = new CommitChunkClaims(outFolders.length);
+
+      final int threadCount = Math.min(dependencyConfig.getThreads(), outFolders.length);
+      LOG.debug("Chunks: {} Chunk size: {} Threads: {}", outFolders.length, sizePerThread, threadCount);
+      final ExecutorService service = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+
+         int threadcount = 0;
+
+         @Override
+         public Thread newThread(final Runnable runnable) {
+            threadcount++;
+            return new Thread(runnable, "dependencypool-" + threadcount);
+         }
+      });
+
+      for (int threadIndex = 0; threadIndex < threadCount; threadIndex++) {
+         final String tempFolderName = "" + (threadIndex + 1);
+         futures.add(service.submit(() -> {
+            final PeassFolders foldersTemp = folders.getTempFolder(tempFolderName, executionConfig.getGitCryptKey());
+            int chunkIndex;
+            while ((chunkIndex = claims.claimStart()) != -1) {
+               readChunkRun(claims, chunkIndex, foldersTemp);
+            }
+            return null;
+         }));
+      }
+      service.shutdown();
+      waitForAll(service);
+
+      return Arrays.stream(outFolders).filter(Objects::nonNull).toArray(ResultsFolders[]::new);
+   }
+
+   /**
+    * Reads the given chunk and the following chunks with one reader, until the following chunk is claimed by another thread.
+    */
+   private void readChunkRun(final CommitChunkClaims claims, final int startChunk, final PeassFolders foldersTemp)
+         throws IOException, InterruptedException, ParseException, XmlPullParserException {
+      LOG.info("Thread {} starting with chunk {} of {}", Thread.currentThread().getName(), startChunk + 1, outFolders.length);
+      outFolders[startChunk] = new ResultsFolders(new File(tempResultFolder, "temp_" + project + "_" + (startChunk + 1)), project);
+      final OneReader reader = createPartReader(outFolders[startChunk], startChunk, foldersTemp);
+      if (reader == null || !reader.readFirstChunk()) {
+         return;
+      }
+      int chunkIndex = startChunk;
+      while (claims.claim(chunkIndex + 1)) {
+         chunkIndex++;
+         LOG.info("Thread {} continuing with chunk {} of {}", Thread.currentThread().getName(), chunkIndex + 1, outFolders.length);
+         reader.continueWith(new CommitIteratorGit(foldersTemp.getProjectFolder(), getPartCommits(chunkIndex), null));
+      }
+      reader.readRemaining(new CommitIteratorGit(foldersTemp.getProjectFolder(), getReserveCommits(chunkIndex), null), getMinimumCommit(chunkIndex));
+   }
+
    private void startAllProcesses(final ExecutorService service) throws IOException, InterruptedException {
       for (int outfileIndex = 0; outfileIndex < outFolders.length; outfileIndex++) {
          final int readableIndex = outfileIndex + 1;
@@ -104,33 +190,83 @@ public class DependencyParallelReader {
       } catch (final InterruptedException e) {
          e.printStackTrace();
       }
+      checkFailures();
+   }
+
+   /**
+    * Checks whether reading of a part threw an exception; since the results of that part are missing, reading fails.
+    */
+   private void checkFailures() {
+      int failedParts = 0;
+      Throwable firstFailure = null;
+      for (Future<?> future : futures) {
+         try {
+            future.get();
+         } catch (final ExecutionException e) {
+            LOG.error("Reading a part of the commits failed", e.getCause());
+            failedParts++;
+            if (firstFailure == null) {
+               firstFailure = e.getCause();
+            }
+         } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+         }
+      }
+      if (failedParts > 0) {
+         throw new RuntimeException("Reading of " + failedParts + " part(s) of the commits failed", firstFailure);
+      }
    }
 
    public void startPartProcess(final ResultsFolders currentOutFolders, final ExecutorService service, final int outfileIndex, final PeassFolders foldersTemp)
          throws InterruptedException {
-      final int min = outfileIndex * sizePerThread;
-      final int max = Math.min((outfileIndex + 1) * sizePerThread + 1, comparator.getCommits().size());
-      LOG.debug("Min: {} Max: {} Size: {}", min, max, comparator.getCommits().size());
-      final List<String> currentCommits = comparator.getCommits().subList(min, max);
-      final List<String> reserveCommits = comparator.getCommits().subList(max - 1, comparator.getCommits().size());
-      final String minimumCommit = comparator.getCommits().get(Math.min(max, comparator.getCommits().size() - 1));
+      final Runnable current = createPartReader(currentOutFolders, outfileIndex, foldersTemp);
+      if (current != null) {
+         futures.add(service.submit(current));
+         Thread.sleep(5);
+      }
+   }
+
+   private OneReader createPartReader(final ResultsFolders currentOutFolders, final int outfileIndex, final PeassFolders foldersTemp) {
+      LOG.debug("Min: {} Max: {} Size: {}", getPartStart(outfileIndex), getPartEnd(outfileIndex), comparator.getCommits().size());
+      final List<String> currentCommits = getPartCommits(outfileIndex);
 
       if (currentCommits.size() > 0) {
-         processCommits(currentOutFolders, service, foldersTemp, currentCommits, reserveCommits, minimumCommit);
+         return createReader(currentOutFolders, foldersTemp, currentCommits, getReserveCommits(outfileIndex), getMinimumCommit(outfileIndex));
+      } else {
+         return null;
       }
    }
 
-   void processCommits(final ResultsFolders currentOutFolders, final ExecutorService service, final PeassFolders foldersTemp, final List<String> currentCommits,
-         final List<String> reserveCommits, final String minimumCommit) throws InterruptedException {
+   private int getPartStart(final int outfileIndex) {
+      return outfileIndex * sizePerThread;
+   }
+
+   private int getPartEnd(final int outfileIndex) {
+      return Math.min((outfileIndex + 1) * sizePerThread + 1, comparator.getCommits().size());
+   }
+
+   private List<String> getPartCommits(final int outfileIndex) {
+      return comparator.getCommits().subList(getPartStart(outfileIndex), getPartEnd(outfileIndex));
+   }
+
+   private List<String> getReserveCommits(final int outfileIndex) {
+      return comparator.getCommits().subList(getPartEnd(outfileIndex) - 1, comparator.getCommits().size());
+   }
+
+   private String getMinimumCommit(final int outfileIndex) {
+      return comparator.getCommits().get(Math.min(getPartEnd(outfileIndex), comparator.getCommits().size() - 1));
+   }
+
+   private OneReader createReader(final ResultsFolders currentOutFolders, final PeassFolders foldersTemp, final List<String> currentCommits,
+         final List<String> reserveCommits, final String minimumCommit) {
       LOG.debug("Start: {} End: {}", currentCommits.get(0), currentCommits.get(currentCommits.size() - 1));
       LOG.debug(currentCommits);
       final CommitIterator iterator = new CommitIteratorGit(foldersTemp.getProjectFolder(), currentCommits, null);
       RunningCommitFinder finder = new RunningCommitFinder(foldersTemp, nonRunning, iterator, executionConfig, env);
       final DependencyReader reader = new DependencyReader(dependencyConfig, foldersTemp, currentOutFolders, url, iterator, nonChanges, executionConfig, kiekerConfig, env);
       final CommitIteratorGit reserveIterator = new CommitIteratorGit(foldersTemp.getProjectFolder(), reserveCommits, null);
-      final Runnable current = new OneReader(minimumCommit, reserveIterator, reader, finder, comparator);
-      service.submit(current);
-      Thread.sleep(5);
+      return new OneReader(minimumCommit, reserveIterator, reader, finder, comparator);
    }
 
 }
@@ -13,10 +13,12 @@ import de.dagere.peass.config.KiekerConfig;
 import de.dagere.peass.config.TestSelectionConfig;
 import de.dagere.peass.dependency.ChangeManager;
 import de.dagere.peass.dependency.DependencyManager;
+import de.dagere.peass.dependency.ShardedTraceRunner;
 import de.dagere.peass.dependency.analysis.data.TestSet;
 import de.dagere.peass.dependency.persistence.CommitStaticSelection;
 import de.dagere.peass.dependency.persistence.ExecutionData;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
+import de.dagere.peass.dependency.persistence.StaticTestSelectionStore;
 import de.dagere.peass.dependency.reader.twiceExecution.TwiceExecutableChecker;
 import de.dagere.peass.dependency.traces.TraceFileMapping;
 import de.dagere.peass.dependency.traces.coverage.CoverageSelectionExecutor;
@@ -68,6 +70,8 @@ public class DependencyReader {
 
    private final DependencySizeRecorder sizeRecorder = new DependencySizeRecorder();
    private final TraceFileMapping traceFileMapping = new TraceFileMapping();
+   private StaticTestSelectionStore selectionStore;
+   private ShardedTraceRunner shardedTraceRunner;
 
    public DependencyReader(final TestSelectionConfig dependencyConfig, final PeassFolders folders,
          final ResultsFolders resultsFolders, final String url, final CommitIterator iterator,
@@ -84,6 +88,12 @@ public class DependencyReader {
       setURLs(url);
 
       dependencyManager = new DependencyManager(folders, executionConfig, kiekerConfig, env);
+      if (executionConfig.isUseBuildDaemon()) {
+         dependencyManager.getExecutor().enableBuildDaemon();
+      }
+      if (executionConfig.isIncrementalBuild()) {
+         dependencyManager.getExecutor().enableIncrementalBuild();
+      }
       coverageExecutor = new CoverageSelectionExecutor(traceFileMapping, coverageBasedSelection, coverageSelectionInfo);
       twiceExecutableChecker = new TwiceExecutableChecker(getExecutor(), twiceExecutableSelected);
 
@@ -124,6 +134,12 @@ public class DependencyReader {
       setURLs(url);
 
       dependencyManager = new DependencyManager(folders, executionConfig, kiekerConfig, env);
+      if (executionConfig.isUseBuildDaemon()) {
+         dependencyManager.getExecutor().enableBuildDaemon();
+      }
+      if (executionConfig.isIncrementalBuild()) {
+         dependencyManager.getExecutor().enableIncrementalBuild();
+      }
 
       coverageExecutor = new CoverageSelectionExecutor(traceFileMapping, coverageBasedSelection, coverageSelectionInfo);
       twiceExecutableChecker = new TwiceExecutableChecker(getExecutor(), twiceExecutableSelected);
@@ -134,9 +150,25 @@ public class DependencyReader {
    }
 
    /**
-    * Reads the dependencies of the tests
+    * Reads the dependencies of the tests, writes the final static selection and stops the build daemons
     */
    public boolean readDependencies() {
+      try {
+         final boolean success = readCommits();
+         if (success) {
+            writeFinalStaticSelection();
+         }
+         return success;
+      } finally {
+         stopBuildDaemons();
+      }
+   }
+
+   /**
+    * Reads the dependencies of the tests without writing the final static selection, since further commits will be read afterwards. If reading fails, the static selection
+    * that has been read so far is written. The build daemons keep running for the following commits, so they need to be stopped by the caller.
+    */
+   public boolean readCommits() {
       try {
          LOG.debug("Analysing {} entries", iterator.getRemainingSize());
          sizeRecorder.setPrunedSize(dependencyManager.getDependencyMap().size());
@@ -152,14 +184,28 @@ public class DependencyReader {
          return true;
       } catch (IOException | InterruptedException | ParseException e) {
          e.printStackTrace();
+         flushStaticSelection();
          return false;
+      } catch (RuntimeException e) {
+         flushStaticSelection();
+         throw e;
+      }
+   }
+
+   /**
+    * Stops the build daemons of the project folder and its copies, if build daemons are used
+    */
+   public void stopBuildDaemons() {
+      dependencyManager.getExecutor().stopBuildDaemon();
+      if (shardedTraceRunner != null) {
+         shardedTraceRunner.stopBuildDaemons();
       }
    }
 
    public void readCommit() throws IOException, InterruptedException, ParseException {
       final int tests = analyseCommit(changeManager);
       GitCommitWriter.writeCurrentCommits(folders, iterator.getCommits(), resultsFolders);
-      DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
+      writeStaticSelection(iterator.getCommitName());
       if (testSelectionConfig.isGenerateTraces()) {
          Constants.OBJECTMAPPER.writeValue(resultsFolders.getTraceTestSelectionFile(), executionResult);
          if (testSelectionConfig.isGenerateCoverageSelection()) {
@@ -241,7 +287,7 @@ public class DependencyReader {
       final CommitStaticSelection newCommitInfo = staticChangeHandler.handleStaticAnalysisChanges(commit, input, dependencyManager.getModuleClassMapping());
 
       if (!testSelectionConfig.isDoNotUpdateDependencies()) {
-         TraceChangeHandler traceChangeHandler = new TraceChangeHandler(dependencyManager, folders, executionConfig, commit);
+         TraceChangeHandler traceChangeHandler = new TraceChangeHandler(dependencyManager, folders, executionConfig, commit, getShardedTraceRunner());
          traceChangeHandler.handleTraceAnalysisChanges(newCommitInfo);
 
          if (testSelectionConfig.isGenerateTraces()) {
@@ -305,7 +351,7 @@ public class DependencyReader {
       staticChangeHandler = new StaticChangeHandler(folders, executionConfig, dependencyManager);
       InitialCommitReader initialVersionReader = new InitialCommitReader(staticSelectionResult, dependencyManager, iterator);
       if (initialVersionReader.readInitialCommit()) {
-         DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
+         writeFullStaticSelection();
          lastRunningVersion = iterator.getCommitName();
 
          if (testSelectionConfig.isGenerateTraces()) {
@@ -337,10 +383,72 @@ public class DependencyReader {
 
       InitialCommitReader initialCommitReader = new InitialCommitReader(initialdependencies, dependencyManager, iterator);
       initialCommitReader.readCompletedCommits(comparator);
-      DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
+      writeFullStaticSelection();
       lastRunningVersion = iterator.getCommitName();
    }
 
+   /**
+    * Writes the selection of the current commit; with the incremental selection store, it is only appended to the store, otherwise the whole JSON file is rewritten.
+    */
+   private void writeStaticSelection(final String commit) throws IOException {
+      if (testSelectionConfig.isIncrementalSelectionStore()) {
+         getSelectionStore().appendCommit(staticSelectionResult, commit);
+      } else {
+         DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
+      }
+   }
+
+   private void writeFullStaticSelection() {
+      if (testSelectionConfig.isIncrementalSelectionStore()) {
+         try {
+            StaticTestSelectionStore store = getSelectionStore();
+            store.clear();
+            store.writeAll(staticSelectionResult);
+         } catch (IOException e) {
+            throw new RuntimeException(e);
+         }
+      }
+      DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
+   }
+
+   /**
+    * Writes the JSON file of the static selection after reading, if it was not rewritten after every commit since the incremental selection store is used.
+    */
+   public void writeFinalStaticSelection() {
+      if (testSelectionConfig.isIncrementalSelectionStore()) {
+         DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
+      }
+   }
+
+   /**
+    * Writes the static selection that has been read so far after reading failed: With the incremental selection store, all commits that are missing in the store (since
+    * reading failed before they were appended) are added to the store, and the JSON file is rewritten.
+    */
+   public void flushStaticSelection() {
+      try {
+         if (testSelectionConfig.isIncrementalSelectionStore()) {
+            getSelectionStore().writeAll(staticSelectionResult);
+         }
+         DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
+      } catch (IOException | RuntimeException e) {
+         LOG.error("Could not write the static selection after failed reading", e);
+      }
+   }
+
+   private StaticTestSelectionStore getSelectionStore() throws IOException {
+      if (selectionStore == null) {
+         selectionStore = new StaticTestSelectionStore(resultsFolders.getStaticTestSelectionStoreFolder());
+      }
+      return selectionStore;
+   }
+
+   private ShardedTraceRunner getShardedTraceRunner() {
+      if (shardedTraceRunner == null && testSelectionConfig.getTraceThreads() > 1) {
+         shardedTraceRunner = new ShardedTraceRunner(dependencyManager, folders, testSelectionConfig.getTraceThreads());
+      }
+      return shardedTraceRunner;
+   }
+
    public StaticTestSelection getDependencies() {
       return staticSelectionResult;
    }
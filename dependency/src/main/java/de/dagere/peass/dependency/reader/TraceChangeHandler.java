@@ -15,6 +15,7 @@ import de.dagere.peass.ci.NonIncludedByRule;
 import de.dagere.peass.ci.NonIncludedTestRemover;
 import de.dagere.peass.config.ExecutionConfig;
 import de.dagere.peass.dependency.DependencyManager;
+import de.dagere.peass.dependency.ShardedTraceRunner;
 import de.dagere.peass.dependency.analysis.ModuleClassMapping;
 import de.dagere.peass.dependency.analysis.data.ChangedEntity;
 import de.dagere.peass.dependency.analysis.data.TestExistenceChanges;
@@ -36,13 +37,23 @@ public class TraceChangeHandler {
    private final PeassFolders folders;
    private final ExecutionConfig executionConfig;
    private final String commit;
+   private final ShardedTraceRunner shardedRunner;
 
    public TraceChangeHandler(final DependencyManager dependencyManager, final PeassFolders folders, final ExecutionConfig executionConfig,
          final String commit) {
+      this(dependencyManager, folders, executionConfig, commit, null);
+   }
+
+   /**
+    * Creates a handler that runs the tests with the given sharded runner; if it is null, the tests are run serially in the project folder.
+    */
+   public TraceChangeHandler(final DependencyManager dependencyManager, final PeassFolders folders, final ExecutionConfig executionConfig,
+         final String commit, final ShardedTraceRunner shardedRunner) {
       this.dependencyManager = dependencyManager;
       this.folders = folders;
       this.executionConfig = executionConfig;
       this.commit = commit;
+      this.shardedRunner = shardedRunner;
    }
 
    public void handleTraceAnalysisChanges(final CommitStaticSelection newCommitInfo) throws IOException {
@@ -85,7 +96,11 @@ public class TraceChangeHandler {
    private void analyzeTests(final CommitStaticSelection newCommitInfo, final TestSet testsToRun, ModuleClassMapping mapping)
          throws IOException {
 
-      dependencyManager.runTraceTests(testsToRun, commit);
+      if (shardedRunner != null) {
+         shardedRunner.runTraceTests(testsToRun, commit);
+      } else {
+         dependencyManager.runTraceTests(testsToRun, commit);
+      }
 
       handleDependencyChanges(newCommitInfo, testsToRun, mapping);
 
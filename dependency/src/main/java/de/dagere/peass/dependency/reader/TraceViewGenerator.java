@@ -4,6 +4,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -59,9 +63,34 @@ public class TraceViewGenerator {
          LOG.debug("Test clazz {} did not contain tests and therefore is not analyzed further", clazzCall);
       }
       
+      if (testSelectionConfig.getTraceThreads() > 1) {
+         generateViewsParallel(resultsFolders, examinedTests, mapping, classpathFolders);
+      } else {
+         for (TestMethodCall testcase : examinedTests.getTestMethods()) {
+            final OneTraceGenerator oneViewGenerator = new OneTraceGenerator(resultsFolders, folders, testcase, traceFileMapping, commit, classpathFolders, mapping, kiekerConfig, testSelectionConfig);
+            oneViewGenerator.generateTrace(commit);
+         }
+      }
+   }
+
+   /**
+    * Generates the traces on a bounded pool; every trace is read, reduced and written independently, only the trace file mapping is shared.
+    */
+   private void generateViewsParallel(final ResultsFolders resultsFolders, final TestSet examinedTests, final ModuleClassMapping mapping, final List<File> classpathFolders) {
+      final ExecutorService service = Executors.newFixedThreadPool(testSelectionConfig.getTraceThreads(), runnable -> new Thread(runnable, "traceview"));
+      final List<Future<?>> futures = new LinkedList<>();
       for (TestMethodCall testcase : examinedTests.getTestMethods()) {
          final OneTraceGenerator oneViewGenerator = new OneTraceGenerator(resultsFolders, folders, testcase, traceFileMapping, commit, classpathFolders, mapping, kiekerConfig, testSelectionConfig);
-         oneViewGenerator.generateTrace(commit);
+         futures.add(service.submit(() -> oneViewGenerator.generateTrace(commit)));
+      }
+      service.shutdown();
+      try {
+         for (Future<?> future : futures) {
+            future.get();
+         }
+      } catch (InterruptedException | ExecutionException e) {
+         service.shutdownNow();
+         throw new RuntimeException(e);
       }
    }
 
@@ -12,7 +12,7 @@ import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 public class TraceFileMapping {
    private final Map<String, List<File>> mapping = new HashMap<>();
 
-   public void addTraceFile(final TestMethodCall test, final File traceFile) {
+   public synchronized void addTraceFile(final TestMethodCall test, final File traceFile) {
       List<File> testTraceFiles = mapping.get(test.toString());
       if (testTraceFiles == null) {
          testTraceFiles = new LinkedList<>();
@@ -24,11 +24,11 @@ public class TraceFileMapping {
       testTraceFiles.add(traceFile);
    }
    
-   public int size() {
+   public synchronized int size() {
       return mapping.size();
    }
    
-   public List<File> getTestcaseMap(final TestCase test){
+   public synchronized List<File> getTestcaseMap(final TestCase test){
       return mapping.get(test.toString());
    }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+package de.dagere.peass.dependency.traces.coverage;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.dependency.analysis.data.ChangedEntity;
+import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
+
+/**
+ * Index for the greedy coverage based selection: The call counts of all tests are scanned once and an inverted index from every change to the tests calling it (as
+ * bitset) is built. Afterwards, the test with the highest call sum on the not yet covered changes is selected repeatedly. Since the call sum of a test can only
+ * decrease when changes get covered, a lazy priority queue is used, which only recomputes the call sum of a test on top of the queue if it calls a change that was
+ * covered since its last computation.
+ *
+ * The selection is identical to selecting the first test with maximum call sum by iterating over all summaries in each step.
+ */
+class CoverageSelectionIndex {
+
+   private static final Logger LOG = LogManager.getLogger(CoverageSelectionIndex.class);
+
+   private static final int[] NO_CHANGES = new int[0];
+
+   /**
+    * Coverage of one change by one test
+    */
+   private static class Coverage {
+      private final int change;
+      private int calls = 0;
+      private boolean covering = false;
+      private final List<String> signatures = new LinkedList<>();
+
+      public Coverage(final int change) {
+         this.change = change;
+      }
+
+      public void addCalls(final String signature, final int signatureCalls, final boolean coveringCall) {
+         calls += signatureCalls;
+         covering |= coveringCall;
+         signatures.add(signature);
+      }
+   }
+
+   private final List<TraceCallSummary> summaries;
+   private final List<ChangedEntity> changes;
+   private final List<Map<Integer, Coverage>> testCoverages;
+   private final BitSet[] changeTests;
+   private final Map<TestMethodCall, List<Integer>> testcaseIndices = new HashMap<>();
+
+   public CoverageSelectionIndex(final List<TraceCallSummary> summaries, final Set<ChangedEntity> changes) {
+      this.summaries = new ArrayList<>(summaries);
+      this.changes = new ArrayList<>(changes);
+      testCoverages = new ArrayList<>(this.summaries.size());
+      changeTests = new BitSet[this.changes.size()];
+      for (int change = 0; change < changeTests.length; change++) {
+         changeTests[change] = new BitSet();
+      }
+      for (int test = 0; test < this.summaries.size(); test++) {
+         testCoverages.add(new LinkedHashMap<>());
+         testcaseIndices.computeIfAbsent(this.summaries.get(test).getTestcase(), testcase -> new LinkedList<>()).add(test);
+      }
+      buildIndex();
+   }
+
+   private void buildIndex() {
+      final Map<String, List<Integer>> methodChanges = new HashMap<>();
+      final Map<String, List<Integer>> clazzChanges = new HashMap<>();
+      final boolean[] methodChange = new boolean[changes.size()];
+      for (int changeIndex = 0; changeIndex < changes.size(); changeIndex++) {
+         final ChangedEntity change = changes.get(changeIndex);
+         if (change.getMethod() != null) {
+            methodChanges.computeIfAbsent(change.toString(), signature -> new LinkedList<>()).add(changeIndex);
+            methodChange[changeIndex] = true;
+         } else {
+            // The prefix needs to be used since otherwise inner classes are falsely selected (e.g. ChangedEntity de.Example would select de.Example$InnerClass#methodA)
+            clazzChanges.computeIfAbsent(change.toString() + ChangedEntity.METHOD_SEPARATOR, signature -> new LinkedList<>()).add(changeIndex);
+         }
+      }
+
+      // Most signatures are called by many tests, so the changes matching a signature are only determined once
+      final Map<String, int[]> signatureChanges = new HashMap<>();
+      for (int test = 0; test < summaries.size(); test++) {
+         for (Map.Entry<String, Integer> callCount : summaries.get(test).getCallCounts().entrySet()) {
+            final String signature = callCount.getKey();
+            final int[] matchingChanges = signatureChanges.computeIfAbsent(signature, calledSignature -> getMatchingChanges(methodChanges, clazzChanges, calledSignature));
+            for (int changeIndex : matchingChanges) {
+               final int calls = callCount.getValue();
+               addCalls(test, changeIndex, signature, calls, !methodChange[changeIndex] || calls > 0);
+            }
+         }
+      }
+      LOG.debug("Indexed {} changes of {} tests", changes.size(), summaries.size());
+   }
+
+   private int[] getMatchingChanges(final Map<String, List<Integer>> methodChanges, final Map<String, List<Integer>> clazzChanges, final String signature) {
+      final List<Integer> matchingChanges = new LinkedList<>();
+      final List<Integer> changedMethods = methodChanges.get(signature);
+      if (changedMethods != null) {
+         matchingChanges.addAll(changedMethods);
+      }
+      int separatorIndex = signature.indexOf(ChangedEntity.METHOD_SEPARATOR);
+      while (separatorIndex != -1 && !clazzChanges.isEmpty()) {
+         final List<Integer> changedClazzes = clazzChanges.get(signature.substring(0, separatorIndex + 1));
+         if (changedClazzes != null) {
+            matchingChanges.addAll(changedClazzes);
+         }
+         separatorIndex = signature.indexOf(ChangedEntity.METHOD_SEPARATOR, separatorIndex + 1);
+      }
+      return matchingChanges.isEmpty() ? NO_CHANGES : matchingChanges.stream().mapToInt(Integer::intValue).toArray();
+   }
+
+   private void addCalls(final int test, final int changeIndex, final String signature, final int calls, final boolean covering) {
+      testCoverages.get(test).computeIfAbsent(changeIndex, Coverage::new).addCalls(signature, calls, covering);
+      changeTests[changeIndex].set(test);
+   }
+
+   public CoverageSelectionCommit select() {
+      final CoverageSelectionCommit resultingInfo = new CoverageSelectionCommit();
+      final BitSet remainingChanges = new BitSet();
+      remainingChanges.set(0, changes.size());
+      final boolean[] removed = new boolean[summaries.size()];
+      final int[] changedInRound = new int[summaries.size()];
+      int remainingSummaries = summaries.size();
+
+      // Entries are score, test index and the round in which the score was computed; the first test with the highest score is on top
+      final PriorityQueue<int[]> queue = new PriorityQueue<>((first, second) -> first[0] != second[0] ? Integer.compare(second[0], first[0]) : Integer.compare(first[1], second[1]));
+      int round = 0;
+      for (int test = 0; test < summaries.size(); test++) {
+         final int score = getCallSum(test, remainingChanges);
+         if (score > 0) {
+            queue.add(new int[] { score, test, round });
+         }
+      }
+
+      boolean changed = true;
+      LOG.debug("Searching CBS");
+      while (remainingSummaries > 0 && !remainingChanges.isEmpty() && changed) {
+         changed = false;
+         final int[] selected = pollMaximumCalled(queue, removed, changedInRound, remainingChanges, round);
+         if (selected != null) {
+            final int selectedIndex = selected[1];
+            final TraceCallSummary summary = summaries.get(selectedIndex);
+            summary.setOverallScore(selected[0]);
+            setSelectedChanges(selectedIndex, remainingChanges);
+            summary.setSelected(true);
+            resultingInfo.getTestcases().put(summary.getTestcase(), summary);
+
+            for (int sameTestcase : testcaseIndices.get(summary.getTestcase())) {
+               if (!removed[sameTestcase]) {
+                  removed[sameTestcase] = true;
+                  remainingSummaries--;
+               }
+            }
+
+            LOG.debug("Selected: {} with score {}", summary.getTestcase(), summary.getOverallScore());
+            round++;
+            for (Coverage coverage : testCoverages.get(selectedIndex).values()) {
+               if (coverage.covering && remainingChanges.get(coverage.change)) {
+                  remainingChanges.clear(coverage.change);
+                  final BitSet affectedTests = changeTests[coverage.change];
+                  for (int test = affectedTests.nextSetBit(0); test >= 0; test = affectedTests.nextSetBit(test + 1)) {
+                     changedInRound[test] = round;
+                  }
+                  changed = true;
+               }
+            }
+         }
+      }
+      LOG.debug("Remaining changes: {}", remainingChanges.cardinality());
+
+      for (int test = 0; test < summaries.size(); test++) {
+         if (!removed[test]) {
+            final TraceCallSummary leftSummary = summaries.get(test);
+            leftSummary.setOverallScore(getCallSum(test, remainingChanges));
+            setSelectedChanges(test, remainingChanges);
+            LOG.trace("Adding unselected test: {} score: {}", leftSummary.getTestcase(), leftSummary.getOverallScore());
+            leftSummary.setSelected(false);
+            resultingInfo.getTestcases().put(leftSummary.getTestcase(), leftSummary);
+         }
+      }
+      return resultingInfo;
+   }
+
+   /**
+    * Returns the queue entry of the first test with the highest current call sum, or null if no test calls any remaining change. Entries that were computed before a
+    * change called by the test was covered are only upper bounds of the call sum; they are recomputed and requeued until the top entry is up to date.
+    */
+   private int[] pollMaximumCalled(final PriorityQueue<int[]> queue, final boolean[] removed, final int[] changedInRound, final BitSet remainingChanges,
+         final int round) {
+      while (!queue.isEmpty()) {
+         final int[] top = queue.poll();
+         if (removed[top[1]]) {
+            continue;
+         }
+         if (top[2] >= changedInRound[top[1]]) {
+            return top;
+         }
+         final int score = getCallSum(top[1], remainingChanges);
+         if (score > 0) {
+            queue.add(new int[] { score, top[1], round });
+         }
+      }
+      return null;
+   }
+
+   private int getCallSum(final int test, final BitSet remainingChanges) {
+      int callSum = 0;
+      for (Coverage coverage : testCoverages.get(test).values()) {
+         if (remainingChanges.get(coverage.change)) {
+            callSum += coverage.calls;
+         }
+      }
+      return callSum;
+   }
+
+   private void setSelectedChanges(final int test, final BitSet remainingChanges) {
+      final Set<String> selectedChanges = summaries.get(test).getSelectedChanges();
+      selectedChanges.clear();
+      for (Coverage coverage : testCoverages.get(test).values()) {
+         if (remainingChanges.get(coverage.change)) {
+            selectedChanges.addAll(coverage.signatures);
+         }
+      }
+   }
+}
@@ -3,6 +3,7 @@ package de.dagere.peass.execution.gradle;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Arrays;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
@@ -13,6 +14,7 @@ import de.dagere.peass.config.ExecutionConfig;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.execution.processutils.ProcessBuilderHelper;
 import de.dagere.peass.execution.processutils.ProcessSuccessTester;
+import de.dagere.peass.execution.utils.BuildDaemon;
 import de.dagere.peass.execution.utils.CommandConcatenator;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.execution.utils.KoPeMeExecutor;
@@ -35,6 +37,7 @@ public class GradleTestExecutor extends KoPeMeExecutor {
 
    @Override
    public void prepareKoPeMeExecution(final File logFile) {
+      prepareBuildDaemon();
       LOG.debug("Starting Test Transformation");
       prepareKiekerSource();
       transformTests();
@@ -95,6 +98,30 @@ public class GradleTestExecutor extends KoPeMeExecutor {
       return cleanGoal;
    }
 
+   /**
+    * Returns the clean goal, or no goal for incremental builds, since Gradle only reruns tasks whose inputs changed by content
+    */
+   private String[] getCleanGoals() {
+      if (incrementalBuild) {
+         return new String[0];
+      }
+      return new String[] { getCleanGoal() };
+   }
+
+   /**
+    * Returns the goals that need to run before the test goal; for incremental builds, the results of the test task are removed by its clean rule (e.g. cleanTest),
+    * since Gradle would otherwise consider the test task up to date and not run the tests again
+    */
+   private String[] getCleanGoals(final String testGoal) {
+      if (incrementalBuild) {
+         final int taskNameStart = testGoal.lastIndexOf(':') + 1;
+         final String taskName = testGoal.substring(taskNameStart);
+         final String cleanTestGoal = testGoal.substring(0, taskNameStart) + "clean" + Character.toUpperCase(taskName.charAt(0)) + taskName.substring(1);
+         return new String[] { cleanTestGoal };
+      }
+      return getCleanGoals();
+   }
+
    /**
     * Executes the Gradle process; since gradle is run inside the module folder, different parameters than for the maven execution are required
     */
@@ -102,10 +129,10 @@ public class GradleTestExecutor extends KoPeMeExecutor {
          throws IOException {
       final String testGoal = getTestGoal();
       String wrapper = new File(folders.getProjectFolder(), EnvironmentVariables.fetchGradleCall()).getAbsolutePath();
-      String[] originals = new String[] { wrapper,
-            "--init-script", new File(gradleHome, "init.gradle").getAbsolutePath(),
-            "--no-daemon",
-            getCleanGoal(), testGoal };
+      String[] originals = CommandConcatenator.concatenateCommandArrays(new String[] { wrapper,
+            "--init-script", new File(gradleHome, "init.gradle").getAbsolutePath() }, getDaemonArguments());
+      originals = CommandConcatenator.concatenateCommandArrays(originals, getCleanGoals(testGoal));
+      originals = CommandConcatenator.concatenateCommandArrays(originals, new String[] { testGoal });
       LOG.debug("Redirecting to null: {}", testTransformer.getConfig().getExecutionConfig().isRedirectToNull());
       if (!testTransformer.getConfig().getExecutionConfig().isRedirectToNull()) {
          originals = CommandConcatenator.concatenateCommandArrays(originals, new String[] { "--info" });
@@ -157,7 +184,9 @@ public class GradleTestExecutor extends KoPeMeExecutor {
          final Process process = buildGradleProcess(moduleFolder, methodLogFile, test, "--tests", testname);
          execute(testname, timeout, process);
 
-         GradleDaemonFileDeleter.deleteDaemonFile(methodLogFile);
+         if (!isBuildDaemonUsed()) {
+            GradleDaemonFileDeleter.deleteDaemonFile(methodLogFile);
+         }
       } catch (final IOException e) {
          e.printStackTrace();
       }
@@ -191,22 +220,43 @@ public class GradleTestExecutor extends KoPeMeExecutor {
          ProjectModules modules = getModules();
          replaceAllBuildfiles(modules);
 
+         prepareBuildDaemon();
+         final String[] gradleCall = CommandConcatenator.concatenateCommandArrays(new String[] { EnvironmentVariables.fetchGradleCall() }, getDaemonArguments());
          final String[] vars;
          if (!isAndroid) {
-            vars = new String[] { EnvironmentVariables.fetchGradleCall(), "--no-daemon", getCleanGoal(), "testClasses", "assemble" };
+            final String[] cleanCall = CommandConcatenator.concatenateCommandArrays(gradleCall, getCleanGoals());
+            vars = CommandConcatenator.concatenateCommandArrays(cleanCall, new String[] { "testClasses", "assemble" });
          } else {
-            vars = new String[] { EnvironmentVariables.fetchGradleCall(), "--no-daemon", "assemble" };
+            vars = CommandConcatenator.concatenateCommandArrays(gradleCall, new String[] { "assemble" });
          }
 
          ProcessSuccessTester processSuccessTester = new ProcessSuccessTester(folders, testTransformer.getConfig(), env);
          isRunning = processSuccessTester.testRunningSuccess(commit, vars);
          
-         File cleanLogFile = folders.getDependencyLogSuccessRunFile(commit);
-         GradleDaemonFileDeleter.deleteDaemonFile(cleanLogFile);
+         if (!isBuildDaemonUsed()) {
+            File cleanLogFile = folders.getDependencyLogSuccessRunFile(commit);
+            GradleDaemonFileDeleter.deleteDaemonFile(cleanLogFile);
+         }
       }
       return isRunning;
    }
 
+   /**
+    * Returns the arguments selecting the Gradle daemon: the resident daemon of this project folder if a build daemon is used, and no daemon otherwise
+    */
+   protected String[] getDaemonArguments() {
+      if (isBuildDaemonUsed()) {
+         final String[] daemonCall = buildDaemon.getCall();
+         return Arrays.copyOfRange(daemonCall, 1, daemonCall.length);
+      }
+      return new String[] { "--no-daemon" };
+   }
+
+   @Override
+   protected BuildDaemon createBuildDaemon() {
+      return BuildDaemon.createGradleDaemon(folders, env);
+   }
+
    private void replaceAllBuildfiles(final ProjectModules modules) {
       if (testTransformer.getConfig().getExecutionConfig().isUseAlternativeBuildfile()) {
          for (final File module : modules.getModules()) {
@@ -8,6 +8,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import de.dagere.peass.execution.utils.CommandConcatenator;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.folders.PeassFolders;
 
@@ -16,11 +17,18 @@ public class MavenCleaner {
    private static final Logger LOG = LogManager.getLogger(MavenCleaner.class);
 
    private final PeassFolders folders;
-   private final EnvironmentVariables env;
+   private final String[] mavenCall;
 
    public MavenCleaner(final PeassFolders folders, final EnvironmentVariables env) {
+      this(folders, new String[] { env.fetchMavenCall(folders.getProjectFolder()) });
+   }
+
+   /**
+    * @param mavenCall Maven executable and the arguments that need to precede the goals, e.g. for using a build daemon
+    */
+   public MavenCleaner(final PeassFolders folders, final String[] mavenCall) {
       this.folders = folders;
-      this.env = env;
+      this.mavenCall = mavenCall;
    }
 
    public void clean(final File logFile) {
@@ -33,8 +41,7 @@ public class MavenCleaner {
    }
 
    private ProcessBuilder buildProcess(final File logFile) {
-      String mvnCall = env.fetchMavenCall(folders.getProjectFolder());
-      final String[] originalsClean = new String[] { mvnCall, "--batch-mode", "clean" };
+      final String[] originalsClean = CommandConcatenator.concatenateCommandArrays(mavenCall, new String[] { "--batch-mode", "clean" });
       final ProcessBuilder pbClean = new ProcessBuilder(originalsClean);
       pbClean.directory(folders.getProjectFolder());
       if (logFile != null) {
@@ -0,0 +1,148 @@
+package de.dagere.peass.execution.maven;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import de.dagere.peass.execution.utils.BuildManifest;
+import de.dagere.peass.execution.utils.ProjectModules;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.vcs.GitUtils;
+
+/**
+ * Keeps the build outputs of the previous commit where possible: The content hashes of all files of the current commit are compared to the previous commit, and only
+ * the target folders of modules with changed files and of the modules depending on them are deleted. If the build configuration (a pom.xml or .mvn), the JDK or
+ * the set of modules changed, or if there is no previous commit, the whole project is cleaned.
+ *
+ * Changes of the working tree (e.g. transformed or shortened tests) are not considered here, since the compiler plugin recompiles modules with sources that are newer
+ * than their classes.
+ */
+public class MavenIncrementalCleaner {
+
+   private static final Logger LOG = LogManager.getLogger(MavenIncrementalCleaner.class);
+
+   private final PeassFolders folders;
+   private BuildManifest lastManifest;
+   private List<File> lastModules;
+
+   public MavenIncrementalCleaner(final PeassFolders folders) {
+      this.folders = folders;
+   }
+
+   /**
+    * Deletes the build outputs that can not be reused for the current commit; calling this again for the same commit does not delete anything.
+    */
+   public void clean(final MavenCleaner fullCleaner, final ProjectModules modules, final int jdkVersion, final File logFile) {
+      final Map<String, String> fileHashes = GitUtils.getFileHashes(folders.getProjectFolder());
+      final BuildManifest manifest = fileHashes != null ? new BuildManifest(fileHashes, jdkVersion) : null;
+      if (manifest == null || lastManifest == null || lastManifest.getJdkVersion() != jdkVersion || !modules.getModules().equals(lastModules)) {
+         LOG.debug("No reusable build outputs, cleaning all modules");
+         fullCleaner.clean(logFile);
+      } else {
+         final Set<String> changedFiles = manifest.getChangedFiles(lastManifest);
+         if (changedFiles.stream().anyMatch(MavenIncrementalCleaner::isBuildConfiguration)) {
+            LOG.info("Build configuration changed, cleaning all modules");
+            fullCleaner.clean(logFile);
+         } else if (!changedFiles.isEmpty()) {
+            cleanChangedModules(modules, changedFiles);
+         }
+      }
+      lastManifest = manifest;
+      lastModules = new LinkedList<>(modules.getModules());
+   }
+
+   private static boolean isBuildConfiguration(final String path) {
+      return path.endsWith("pom.xml") || path.startsWith(".mvn/") || path.contains("/.mvn/");
+   }
+
+   private void cleanChangedModules(final ProjectModules modules, final Set<String> changedFiles) {
+      final Set<File> changedModules = new HashSet<>();
+      for (String changedFile : changedFiles) {
+         final File module = getModule(modules, new File(folders.getProjectFolder(), changedFile));
+         if (module != null) {
+            changedModules.add(module);
+         }
+      }
+      final Set<File> affectedModules = addDependentModules(modules, changedModules);
+      LOG.info("{} files changed, cleaning {} of {} modules", changedFiles.size(), affectedModules.size(), modules.getModules().size());
+      for (File module : affectedModules) {
+         try {
+            FileUtils.deleteDirectory(new File(module, "target"));
+         } catch (IOException e) {
+            e.printStackTrace();
+         }
+      }
+   }
+
+   /**
+    * Returns the innermost module containing the file, or null if the file is outside of all modules
+    */
+   private File getModule(final ProjectModules modules, final File file) {
+      final String filePath = file.toPath().normalize().toString();
+      File containingModule = null;
+      int containingModuleLength = -1;
+      for (File module : modules.getModules()) {
+         final String modulePath = module.toPath().normalize().toString();
+         if (filePath.startsWith(modulePath + File.separator) && modulePath.length() > containingModuleLength) {
+            containingModule = module;
+            containingModuleLength = modulePath.length();
+         }
+      }
+      return containingModule;
+   }
+
+   /**
+    * Adds all modules that directly or transitively depend on one of the changed modules; if a pom can not be read, all modules are returned.
+    */
+   private Set<File> addDependentModules(final ProjectModules modules, final Set<File> changedModules) {
+      final Map<String, File> artifactModules = new HashMap<>();
+      final Map<File, List<String>> moduleDependencies = new HashMap<>();
+      for (File module : modules.getModules()) {
+         try (FileInputStream inputStream = new FileInputStream(new File(module, "pom.xml"))) {
+            final Model model = new MavenXpp3Reader().read(inputStream);
+            artifactModules.put(model.getArtifactId(), module);
+            final List<String> dependencies = new LinkedList<>();
+            for (Dependency dependency : model.getDependencies()) {
+               dependencies.add(dependency.getArtifactId());
+            }
+            moduleDependencies.put(module, dependencies);
+         } catch (IOException | XmlPullParserException e) {
+            LOG.info("Could not read pom of {}, cleaning all modules", module);
+            return new HashSet<>(modules.getModules());
+         }
+      }
+
+      final Set<File> affectedModules = new HashSet<>(changedModules);
+      boolean added = true;
+      while (added) {
+         added = false;
+         for (Map.Entry<File, List<String>> module : moduleDependencies.entrySet()) {
+            if (!affectedModules.contains(module.getKey())) {
+               for (String dependency : module.getValue()) {
+                  final File dependencyModule = artifactModules.get(dependency);
+                  if (dependencyModule != null && affectedModules.contains(dependencyModule)) {
+                     affectedModules.add(module.getKey());
+                     added = true;
+                     break;
+                  }
+               }
+            }
+         }
+      }
+      return affectedModules;
+   }
+}
@@ -23,12 +23,30 @@ public class MavenRunningTester {
    private final EnvironmentVariables env;
    private final MeasurementConfig measurementConfig;
    private final ProjectModules modules;
+   private final String[] mavenCall;
+   private boolean cleanBeforeBuild = true;
 
    public MavenRunningTester(final PeassFolders folders, final MeasurementConfig measurementConfig, final EnvironmentVariables env, final ProjectModules modules) {
+      this(folders, measurementConfig, env, modules, new String[] { env.fetchMavenCall(folders.getProjectFolder()) });
+   }
+
+   /**
+    * @param mavenCall Maven executable and the arguments that need to precede the goals, e.g. for using a build daemon
+    */
+   public MavenRunningTester(final PeassFolders folders, final MeasurementConfig measurementConfig, final EnvironmentVariables env, final ProjectModules modules,
+         final String[] mavenCall) {
       this.folders = folders;
       this.measurementConfig = measurementConfig;
       this.env = env;
       this.modules = modules;
+      this.mavenCall = mavenCall;
+   }
+
+   /**
+    * Whether the clean goal is executed before compiling; if not, the caller needs to clean the outputs that can not be reused.
+    */
+   public void setCleanBeforeBuild(final boolean cleanBeforeBuild) {
+      this.cleanBeforeBuild = cleanBeforeBuild;
    }
 
    public boolean isCommitRunning(final String commit) {
@@ -42,12 +60,11 @@ public class MavenRunningTester {
                new MavenUpdater(folders, modules, measurementConfig).updateJava();
                String goal = getGoal();
                MavenPomUtil.cleanType(potentialPom);
-               String mvnCall = env.fetchMavenCall(folders.getProjectFolder());
-               String[] basicParameters = new String[] { mvnCall,
-                     "--batch-mode",
-                     "clean", goal,
+               String[] goals = cleanBeforeBuild ? new String[] { "--batch-mode", "clean", goal } : new String[] { "--batch-mode", goal };
+               String[] basicParameters = CommandConcatenator.concatenateCommandArrays(mavenCall, goals);
+               basicParameters = CommandConcatenator.concatenateCommandArrays(basicParameters, new String[] {
                      "-DskipTests",
-                     "-Dmaven.test.skip.exec" };
+                     "-Dmaven.test.skip.exec" });
                String[] withMavendefaults = CommandConcatenator.concatenateCommandArrays(basicParameters, CommandConcatenator.mavenCheckDeactivation);
                if (measurementConfig.getExecutionConfig().getPl() != null) {
                   String[] projectListArray = new String[] { "-pl", measurementConfig.getExecutionConfig().getPl(), "-am" };
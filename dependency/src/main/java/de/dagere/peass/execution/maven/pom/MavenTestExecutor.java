@@ -20,24 +20,37 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import de.dagere.peass.config.ExecutionConfig;
+import de.dagere.peass.dependency.KiekerResultManager;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.execution.kieker.ArgLineBuilder;
 import de.dagere.peass.execution.maven.AllModulePomPreparer;
 import de.dagere.peass.execution.maven.MavenCleaner;
+import de.dagere.peass.execution.maven.MavenIncrementalCleaner;
 import de.dagere.peass.execution.maven.MavenRunningTester;
 import de.dagere.peass.execution.maven.MavenUpdater;
 import de.dagere.peass.execution.processutils.ProcessBuilderHelper;
+import de.dagere.peass.execution.utils.BuildDaemon;
 import de.dagere.peass.execution.utils.CommandConcatenator;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.execution.utils.KoPeMeExecutor;
 import de.dagere.peass.execution.utils.ProjectModules;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.testtransformation.JUnitTestShortener;
 import de.dagere.peass.testtransformation.JUnitTestTransformer;
 
 /**
@@ -58,6 +71,7 @@ public class MavenTestExecutor extends KoPeMeExecutor {
    public static final File KIEKER_ASPECTJ_JAR = new File(ArgLineBuilder.KIEKER_FOLDER_MAVEN.replace("${user.home}", System.getProperty("user.home")));
 
    protected Charset lastEncoding = StandardCharsets.UTF_8;
+   private MavenIncrementalCleaner incrementalCleaner;
 
    public MavenTestExecutor(final PeassFolders folders, final JUnitTestTransformer testTransformer, final EnvironmentVariables env) {
       super(folders, testTransformer, env);
@@ -65,12 +79,11 @@ public class MavenTestExecutor extends KoPeMeExecutor {
 
    protected Process buildMavenProcess(final File logFile, TestMethodCall test, final String... commandLineAddition) throws IOException, InterruptedException {
       final String testGoal = getTestGoal();
-      String mvnCall = env.fetchMavenCall(getProjectFolder());
-      final String[] originals = new String[] { mvnCall,
+      final String[] originals = CommandConcatenator.concatenateCommandArrays(getMavenCall(), new String[] {
             "--batch-mode",
             testGoal,
             "-fn",
-            ArgLineBuilder.TEMP_DIR + "=" + folders.getTempDir().getAbsolutePath() };
+            ArgLineBuilder.TEMP_DIR + "=" + folders.getTempDir().getAbsolutePath() });
       String[] withMavendefaults = CommandConcatenator.concatenateCommandArrays(originals, CommandConcatenator.mavenCheckDeactivation);
       final String[] vars = CommandConcatenator.concatenateCommandArrays(withMavendefaults, commandLineAddition);
 
@@ -82,13 +95,41 @@ public class MavenTestExecutor extends KoPeMeExecutor {
       return process;
    }
 
+   /**
+    * Cleans the project; in incremental mode, only the outputs that can not be reused for the current commit are deleted, since the compiler plugin recompiles
+    * changed sources (e.g. shortened tests) by itself.
+    */
    @Override
    protected void clean(final File logFile) {
-      new MavenCleaner(folders, env).clean(logFile);
+      final MavenCleaner cleaner = new MavenCleaner(folders, getMavenCall());
+      if (incrementalBuild) {
+         if (incrementalCleaner == null) {
+            incrementalCleaner = new MavenIncrementalCleaner(folders);
+         }
+         incrementalCleaner.clean(cleaner, getModules(), jdk_version, logFile);
+      } else {
+         cleaner.clean(logFile);
+      }
+   }
+
+   /**
+    * Returns the Maven executable with the arguments preceding the goals; this is the daemon client if a build daemon is used.
+    */
+   protected String[] getMavenCall() {
+      if (isBuildDaemonUsed()) {
+         return buildDaemon.getCall();
+      }
+      return new String[] { env.fetchMavenCall(getProjectFolder()) };
+   }
+
+   @Override
+   protected BuildDaemon createBuildDaemon() {
+      return BuildDaemon.createMavenDaemon(folders, env);
    }
 
    @Override
    public void prepareKoPeMeExecution(final File logFile) {
+      prepareBuildDaemon();
       updateJava();
 
       clean(logFile);
@@ -131,6 +172,23 @@ public class MavenTestExecutor extends KoPeMeExecutor {
       cleanAboveSize(logFolder, "txt");
    }
 
+   /**
+    * Executes the tests of each module in one JVM, by passing all test classes to -Dtest
+    */
+   @Override
+   public void executeTests(final List<TestMethodCall> tests, final File logFolder, final long timeout) {
+      final Map<String, List<TestMethodCall>> moduleTests = new LinkedHashMap<>();
+      for (TestMethodCall test : tests) {
+         moduleTests.computeIfAbsent(test.getModule(), module -> new LinkedList<>()).add(test);
+      }
+      for (List<TestMethodCall> testsOfModule : moduleTests.values()) {
+         final File moduleFolder = new File(folders.getProjectFolder(), testsOfModule.get(0).getModule());
+         runMethods(logFolder, testsOfModule, moduleFolder, timeout);
+      }
+
+      cleanAboveSize(logFolder, "txt");
+   }
+
    /**
     * Runs the given test and saves the results to the result folder.
     * 
@@ -147,6 +205,193 @@ public class MavenTestExecutor extends KoPeMeExecutor {
       }
    }
 
+   /**
+    * Runs the given test classes in one process; the process is killed if a test does not finish in the timeout, i.e. if no further test is started during the timeout.
+    * 
+    * @param startedTests Returns how many of the tests have been started yet
+    */
+   protected void runTests(final File module, final File logFile, final TestMethodCall firstTest, final String testnames, final long timeout,
+         final IntSupplier startedTests) {
+      try {
+         final Process process = buildMavenProcess(logFile, firstTest, "-Dtest=" + testnames);
+         executeWithTestTimeout(testnames, timeout, process, startedTests);
+      } catch (final InterruptedException | IOException e) {
+         e.printStackTrace();
+      }
+   }
+
+   /**
+    * Runs the given tests of one module in as few JVMs as possible: All test classes are shortened to their given methods and passed to one test run. If the
+    * shortening of a class would change a file that is already shortened for another class (e.g. a common superclass), the tests of this class are run in a further
+    * JVM. Tests with parameters and tests of classes that cannot be shortened together are executed separately.
+    * 
+    * @param timeout Timeout of each single test
+    */
+   protected void runMethods(final File logFolder, final List<TestMethodCall> tests, final File moduleFolder, final long timeout) {
+      List<TestMethodCall> remaining = new LinkedList<>();
+      final List<TestMethodCall> separate = new LinkedList<>();
+      for (TestMethodCall test : tests) {
+         if (test.getParams() != null) {
+            separate.add(test);
+         } else {
+            remaining.add(test);
+         }
+      }
+      while (!remaining.isEmpty()) {
+         remaining = runBatch(logFolder, remaining, moduleFolder, timeout, separate);
+      }
+      for (TestMethodCall test : separate) {
+         runMethod(logFolder, test, moduleFolder, timeout);
+      }
+   }
+
+   /**
+    * Runs all tests whose classes can be shortened without conflicts in one JVM and returns the tests that need to be run in a further JVM. Tests of classes that cannot be
+    * shortened for all their methods at once are added to separate, so they are run one by one after the shortened classes are restored.
+    */
+   private List<TestMethodCall> runBatch(final File logFolder, final List<TestMethodCall> tests, final File moduleFolder, final long timeout,
+         final List<TestMethodCall> separate) {
+      final Map<String, List<TestMethodCall>> clazzTests = new LinkedHashMap<>();
+      for (TestMethodCall test : tests) {
+         clazzTests.computeIfAbsent(test.getClazz(), clazz -> new LinkedList<>()).add(test);
+      }
+
+      final List<TestMethodCall> deferred = new LinkedList<>();
+      final List<JUnitTestShortener> shorteners = new LinkedList<>();
+      try {
+         final Set<File> shortenedFiles = new HashSet<>();
+         final List<String> runningClazzes = new LinkedList<>();
+         final List<TestMethodCall> runningTests = new LinkedList<>();
+         for (Map.Entry<String, List<TestMethodCall>> clazz : clazzTests.entrySet()) {
+            final Set<String> methods = new LinkedHashSet<>();
+            for (TestMethodCall test : clazz.getValue()) {
+               methods.add(test.getMethod());
+            }
+            final JUnitTestShortener shortener = createShortener(clazz.getValue().get(0), moduleFolder, methods);
+            if (shortener == null) {
+               separate.addAll(clazz.getValue());
+            } else if (Collections.disjoint(shortenedFiles, shortener.getShortenedFiles())) {
+               shorteners.add(0, shortener);
+               shortenedFiles.addAll(shortener.getShortenedFiles());
+               runningClazzes.add(clazz.getKey());
+               runningTests.addAll(clazz.getValue());
+               if (testTransformer.getConfig().isDirectlyMeasureKieker()) {
+                  instrumentTestMethods(shortener.getCalleeClazzFile(), clazz.getKey(), methods);
+               }
+            } else {
+               LOG.debug("Shortening of {} conflicts with other test classes, running it in a further JVM", clazz.getKey());
+               shortener.close();
+               deferred.addAll(clazz.getValue());
+            }
+         }
+
+         if (!runningTests.isEmpty()) {
+            final TestMethodCall first = runningTests.get(0);
+            final File batchLogFolder = getBatchLogFolder(logFolder, first);
+            final String batchName = getBatchName(batchLogFolder, runningClazzes);
+            LOG.info("Cleaning...");
+            clean(new File(batchLogFolder, batchName + "_clean.txt"));
+
+            LOG.info("Running {} tests of {} classes in one JVM", runningTests.size(), runningClazzes.size());
+            final File batchLogFile = new File(batchLogFolder, batchName + ".txt");
+            if (testTransformer.getConfig().getKiekerConfig().isUseKieker()) {
+               final File resultsFolder = KiekerResultManager.getJSONFileFolder(folders, moduleFolder);
+               runTests(moduleFolder, batchLogFile, first, String.join(",", runningClazzes), timeout, () -> countStartedTests(runningTests, resultsFolder));
+               addNotStartedTests(runningTests, resultsFolder, deferred);
+            } else {
+               LOG.warn("Without Kieker, the progress of the tests can not be observed; the batch gets the summed timeout of its tests");
+               final long batchTimeout = timeout > 0 ? timeout * runningTests.size() : timeout;
+               runTests(moduleFolder, batchLogFile, first, String.join(",", runningClazzes), batchTimeout, () -> 0);
+            }
+         }
+      } catch (Exception e) {
+         e.printStackTrace();
+      } finally {
+         for (JUnitTestShortener shortener : shorteners) {
+            try {
+               shortener.close();
+            } catch (Exception e) {
+               e.printStackTrace();
+            }
+         }
+      }
+      return deferred;
+   }
+
+   /**
+    * If a test exceeded its timeout, the process is killed and the tests after it have not been started; they are executed in a further JVM. If no test has been started
+    * at all, the JVM did not come up and the tests are not tried again.
+    */
+   private void addNotStartedTests(final List<TestMethodCall> runningTests, final File resultsFolder, final List<TestMethodCall> deferred) {
+      final List<TestMethodCall> notStarted = new LinkedList<>();
+      for (TestMethodCall test : runningTests) {
+         if (!isStarted(test, resultsFolder)) {
+            notStarted.add(test);
+         }
+      }
+      if (!notStarted.isEmpty() && notStarted.size() < runningTests.size()) {
+         LOG.info("{} tests have not been started, running them in a further JVM", notStarted.size());
+         deferred.addAll(notStarted);
+      }
+   }
+
+   private int countStartedTests(final List<TestMethodCall> tests, final File resultsFolder) {
+      int started = 0;
+      for (TestMethodCall test : tests) {
+         if (isStarted(test, resultsFolder)) {
+            started++;
+         }
+      }
+      return started;
+   }
+
+   /**
+    * KoPeMe creates the Kieker folder of a test method when the method starts, so the existence of the folder shows that the test has been started.
+    */
+   private boolean isStarted(final TestMethodCall test, final File resultsFolder) {
+      final File clazzFolder = new File(resultsFolder, test.getClazz());
+      final File[] timestampFolders = clazzFolder.listFiles();
+      if (timestampFolders != null) {
+         for (File timestampFolder : timestampFolders) {
+            if (new File(timestampFolder, test.getMethodWithParams()).exists()) {
+               return true;
+            }
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Returns an unused name for the logs of the batch, which is derived from the names of its test classes
+    */
+   private String getBatchName(final File batchLogFolder, final List<String> clazzes) {
+      final String firstClazz = clazzes.get(0);
+      final String lastClazz = clazzes.get(clazzes.size() - 1);
+      final String batchName = clazzes.size() > 1 ? firstClazz + "-" + lastClazz + "_" + clazzes.size() + "_classes" : firstClazz;
+      String unusedName = batchName;
+      for (int index = 1; new File(batchLogFolder, unusedName + ".txt").exists(); index++) {
+         unusedName = batchName + "_" + index;
+      }
+      return unusedName;
+   }
+
+   private File getBatchLogFolder(final File logFolder, final TestMethodCall test) {
+      final File moduleLogFolder = test.getModule() != null && !"".equals(test.getModule()) ? new File(logFolder, test.getModule()) : logFolder;
+      final File batchLogFolder = new File(moduleLogFolder, "log_batches");
+      batchLogFolder.mkdirs();
+      return batchLogFolder;
+   }
+
+   private JUnitTestShortener createShortener(final TestMethodCall test, final File moduleFolder, final Set<String> methods) {
+      try {
+         return new JUnitTestShortener(testTransformer, moduleFolder, test.toEntity(), methods);
+      } catch (RuntimeException e) {
+         LOG.error("Could not shorten {} to all of its methods, running its tests one by one", test.getClazz());
+         e.printStackTrace();
+         return null;
+      }
+   }
+
    @Override
    public boolean doesBuildfileExist() {
       File pomFile = new File(folders.getProjectFolder(), "pom.xml");
@@ -158,7 +403,12 @@ public class MavenTestExecutor extends KoPeMeExecutor {
    public boolean isCommitRunning(final String commit) {
       ProjectModules modules = getModules();
       if (modules != null) {
-         MavenRunningTester mavenRunningTester = new MavenRunningTester(folders, testTransformer.getConfig(), env, modules);
+         prepareBuildDaemon();
+         MavenRunningTester mavenRunningTester = new MavenRunningTester(folders, testTransformer.getConfig(), env, modules, getMavenCall());
+         if (incrementalBuild) {
+            clean(folders.getDependencyLogSuccessRunFile(commit));
+            mavenRunningTester.setCleanBeforeBuild(false);
+         }
          boolean isRunning = mavenRunningTester.isCommitRunning(commit);
          return isRunning;
       } else {
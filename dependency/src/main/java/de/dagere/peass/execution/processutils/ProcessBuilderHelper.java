@@ -32,9 +32,10 @@ public class ProcessBuilderHelper {
    public Process buildFolderProcess(final File currentFolder, final File logFile, final String[] vars) {
       String[] envPropertyArray = env.getProperties().length() > 0 ? env.getProperties().split(" ") : new String[0];
       final String[] varsWithProperties = CommandConcatenator.concatenateCommandArrays(vars, envPropertyArray);
-      LOG.debug("Command: {}", Arrays.toString(varsWithProperties));
+      final String[] command = CommandConcatenator.concatenateCommandArrays(env.getCommandPrefix(), varsWithProperties);
+      LOG.debug("Command: {}", Arrays.toString(command));
 
-      final ProcessBuilder pb = new ProcessBuilder(varsWithProperties);
+      final ProcessBuilder pb = new ProcessBuilder(command);
       overwriteEnvVars(pb);
 
       if (chosenIndex != -1) {
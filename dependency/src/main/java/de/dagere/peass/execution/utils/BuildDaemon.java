@@ -0,0 +1,140 @@
+package de.dagere.peass.execution.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.execution.processutils.ProcessBuilderHelper;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.utils.StreamGobbler;
+
+/**
+ * A resident build tool daemon (mvnd for Maven, the Gradle daemon for Gradle) of one project folder, which is kept during a whole test selection session so the
+ * build tool does not start cold for every clean, compile and trace run. The daemons of every project folder are registered in its own
+ * {@link PeassFolders#getBuildDaemonFolder()}, so parallel project copies do not share daemons.
+ *
+ * Since the daemon keeps its state between builds, it is checked before the builds of every commit: It is stopped if the build tool configuration of the project
+ * changed or if a daemon is still busy (e.g. from a build whose client was killed after a timeout). If the daemon can not be reached at all, it is disabled and
+ * the build tool is started cold again.
+ *
+ * The daemon must only be used for builds whose test JVMs are not measured, since the daemon is warmed up by previous builds.
+ */
+public class BuildDaemon {
+
+   private static final Logger LOG = LogManager.getLogger(BuildDaemon.class);
+
+   private static final int STATUS_TIMEOUT_SECONDS = 60;
+
+   private final PeassFolders folders;
+   private final EnvironmentVariables env;
+   private final String[] call;
+   private final String[] configurationFiles;
+   private boolean available = true;
+   private String lastConfiguration;
+
+   /**
+    * @param call Executable and arguments that select the daemon, which are prepended to every build call
+    * @param configurationFiles Files (relative to the project folder) that configure the build tool itself; if they change, the daemon is restarted
+    */
+   public BuildDaemon(final PeassFolders folders, final EnvironmentVariables env, final String[] call, final String... configurationFiles) {
+      this.folders = folders;
+      this.env = env;
+      this.call = call;
+      this.configurationFiles = configurationFiles;
+   }
+
+   public static BuildDaemon createMavenDaemon(final PeassFolders folders, final EnvironmentVariables env) {
+      final String daemonStorage = "-Dmvnd.daemonStorage=" + folders.getBuildDaemonFolder().getAbsolutePath();
+      // mvnd builds modules in parallel by default; -T1 keeps the module order of plain maven
+      final String[] call = new String[] { env.fetchMavenDaemonCall(), daemonStorage, "-T1" };
+      return new BuildDaemon(folders, env, call, ".mvn/extensions.xml", ".mvn/jvm.config", ".mvn/maven.config");
+   }
+
+   public static BuildDaemon createGradleDaemon(final PeassFolders folders, final EnvironmentVariables env) {
+      final String wrapper = new File(folders.getProjectFolder(), EnvironmentVariables.fetchGradleCall()).getAbsolutePath();
+      final String registry = "-Dorg.gradle.daemon.registry.base=" + folders.getBuildDaemonFolder().getAbsolutePath();
+      final String[] call = new String[] { wrapper, "--daemon", registry };
+      return new BuildDaemon(folders, env, call, "gradle/wrapper/gradle-wrapper.properties", "gradle.properties");
+   }
+
+   /**
+    * Returns the executable and the arguments selecting the daemon
+    */
+   public String[] getCall() {
+      return call;
+   }
+
+   public boolean isAvailable() {
+      return available;
+   }
+
+   /**
+    * Checks the daemon before the builds of a commit; afterwards, {@link #isAvailable()} tells whether the daemon may be used for this commit.
+    */
+   public void prepareCommit() {
+      if (!available) {
+         return;
+      }
+      final String configuration = getConfiguration();
+      if (lastConfiguration != null && !lastConfiguration.equals(configuration)) {
+         LOG.info("Build tool configuration changed, restarting build daemon");
+         stop();
+      }
+      lastConfiguration = configuration;
+
+      final String status = runDaemonCommand("--status");
+      if (status == null) {
+         LOG.warn("Build daemon {} is not usable, starting the build tool without daemon", call[0]);
+         available = false;
+      } else if (status.toLowerCase().contains("busy")) {
+         LOG.info("Build daemon is still busy, restarting it");
+         stop();
+      }
+   }
+
+   public void stop() {
+      runDaemonCommand("--stop");
+   }
+
+   /**
+    * Returns the content of the configuration files; they are small, so they are compared directly
+    */
+   private String getConfiguration() {
+      final StringBuilder configuration = new StringBuilder();
+      for (String configurationFile : configurationFiles) {
+         final File file = new File(folders.getProjectFolder(), configurationFile);
+         if (file.exists()) {
+            try {
+               configuration.append(configurationFile).append(':').append(FileUtils.readFileToString(file, StandardCharsets.UTF_8)).append('\n');
+            } catch (IOException e) {
+               e.printStackTrace();
+            }
+         }
+      }
+      return configuration.toString();
+   }
+
+   /**
+    * Runs the daemon client with the given command and returns its output, or null if the client could not be run successfully
+    */
+   private String runDaemonCommand(final String command) {
+      try {
+         final String[] vars = CommandConcatenator.concatenateCommandArrays(call, new String[] { command });
+         final Process process = new ProcessBuilderHelper(env, folders).buildFolderProcess(folders.getProjectFolder(), null, vars);
+         final String output = StreamGobbler.getFullProcess(process, false, STATUS_TIMEOUT_SECONDS);
+         if (output == null) {
+            LOG.debug("Daemon {} did not finish in {} seconds", command, STATUS_TIMEOUT_SECONDS);
+            return null;
+         }
+         LOG.debug("Daemon {}: {}", command, output);
+         return process.exitValue() == 0 ? output : null;
+      } catch (RuntimeException | InterruptedException e) {
+         LOG.debug("Could not run build daemon", e);
+         return null;
+      }
+   }
+}
@@ -0,0 +1,49 @@
+package de.dagere.peass.execution.utils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Content hashes of all files of the project in one commit and the JDK version that is used for building, in order to decide which build outputs of the previous
+ * commit can be reused.
+ */
+public class BuildManifest {
+
+   private final Map<String, String> fileHashes;
+   private final int jdkVersion;
+
+   /**
+    * @param fileHashes Content hash of every file, with the path relative to the project folder as key
+    */
+   public BuildManifest(final Map<String, String> fileHashes, final int jdkVersion) {
+      this.fileHashes = fileHashes;
+      this.jdkVersion = jdkVersion;
+   }
+
+   public Map<String, String> getFileHashes() {
+      return fileHashes;
+   }
+
+   public int getJdkVersion() {
+      return jdkVersion;
+   }
+
+   /**
+    * Returns the paths of all files that were added, removed or changed compared to the previous manifest
+    */
+   public Set<String> getChangedFiles(final BuildManifest previous) {
+      final Set<String> changedFiles = new TreeSet<>();
+      for (Map.Entry<String, String> file : fileHashes.entrySet()) {
+         if (!file.getValue().equals(previous.fileHashes.get(file.getKey()))) {
+            changedFiles.add(file.getKey());
+         }
+      }
+      for (String previousFile : previous.fileHashes.keySet()) {
+         if (!fileHashes.containsKey(previousFile)) {
+            changedFiles.add(previousFile);
+         }
+      }
+      return changedFiles;
+   }
+}
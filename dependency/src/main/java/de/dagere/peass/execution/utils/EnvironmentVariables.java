@@ -5,6 +5,8 @@ import java.io.Serializable;
 import java.util.Map;
 import java.util.TreeMap;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class EnvironmentVariables implements Serializable {
 
    private static final long serialVersionUID = 6287969989033845334L;
@@ -13,6 +15,8 @@ public class EnvironmentVariables implements Serializable {
 
    private final String properties;
 
+   private String[] commandPrefix = new String[0];
+
    public EnvironmentVariables(final String properties) {
       if (properties != null) {
          this.properties = properties;
@@ -25,6 +29,17 @@ public class EnvironmentVariables implements Serializable {
       properties = "";
    }
 
+   /**
+    * Copy constructor
+    * 
+    * @param other Environment variables to copy
+    */
+   public EnvironmentVariables(final EnvironmentVariables other) {
+      this.properties = other.properties;
+      this.environmentVariables.putAll(other.environmentVariables);
+      this.commandPrefix = other.commandPrefix;
+   }
+
    public Map<String, String> getEnvironmentVariables() {
       return environmentVariables;
    }
@@ -33,6 +48,18 @@ public class EnvironmentVariables implements Serializable {
       return properties;
    }
 
+   /**
+    * Returns the command that every started process is prefixed with, e.g. for pinning the process to certain CPUs; empty by default.
+    */
+   @JsonIgnore
+   public String[] getCommandPrefix() {
+      return commandPrefix;
+   }
+
+   public void setCommandPrefix(final String[] commandPrefix) {
+      this.commandPrefix = commandPrefix;
+   }
+
    public String fetchMavenCall(File projectFolder) {
       if (projectFolder != null) {
          if (!isWindows()) {
@@ -63,6 +90,19 @@ public class EnvironmentVariables implements Serializable {
       return mvnCall;
    }
 
+   /**
+    * Returns the call of the Maven daemon client (mvnd), which may be overwritten by MVND_CMD
+    */
+   public String fetchMavenDaemonCall() {
+      if (environmentVariables.containsKey("MVND_CMD")) {
+         return environmentVariables.get("MVND_CMD");
+      } else if (!isWindows()) {
+         return "mvnd";
+      } else {
+         return "mvnd.cmd";
+      }
+   }
+
    public static String fetchMavenCallGeneric() {
       String mvnCall;
       if (!isWindows()) {
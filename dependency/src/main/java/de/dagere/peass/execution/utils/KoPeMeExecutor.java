@@ -1,8 +1,11 @@
 package de.dagere.peass.execution.utils;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -49,18 +52,7 @@ public abstract class KoPeMeExecutor extends TestExecutor {
    protected void runMethod(final File logFolder, final TestMethodCall test, final File moduleFolder, final long timeout) {
       try (final JUnitTestShortener shortener = new JUnitTestShortener(testTransformer, moduleFolder, test.toEntity(), test.getMethod())) {
          if (testTransformer.getConfig().isDirectlyMeasureKieker()) {
-            File fileToInstrument = shortener.getCalleeClazzFile();
-            boolean strictMode = false;
-
-            if (testTransformer.getConfig().getExecutionConfig().isUseAnbox()) {
-               strictMode = true;
-            }
-            
-            HashSet<String> includedPatterns = new HashSet<>();
-            includedPatterns.add("* " + test.getClazz() + "." + test.getMethod() + "()");
-            InstrumentationConfiguration configuration = new InstrumentationConfiguration(AllowedKiekerRecord.DURATION, true, false, false, includedPatterns, null, false, testTransformer.getConfig().getRepetitions(), false, strictMode);
-            InstrumentKiekerSource instrumenter = new InstrumentKiekerSource(configuration);
-            instrumenter.instrument(fileToInstrument);
+            instrumentTestMethods(shortener.getCalleeClazzFile(), test.getClazz(), Collections.singleton(test.getMethod()));
          }
          
          LOG.info("Cleaning...");
@@ -74,6 +66,22 @@ public abstract class KoPeMeExecutor extends TestExecutor {
       }
    }
 
+   protected void instrumentTestMethods(final File fileToInstrument, final String clazz, final Set<String> methods) throws IOException {
+      boolean strictMode = false;
+
+      if (testTransformer.getConfig().getExecutionConfig().isUseAnbox()) {
+         strictMode = true;
+      }
+
+      HashSet<String> includedPatterns = new HashSet<>();
+      for (String method : methods) {
+         includedPatterns.add("* " + clazz + "." + method + "()");
+      }
+      InstrumentationConfiguration configuration = new InstrumentationConfiguration(AllowedKiekerRecord.DURATION, true, false, false, includedPatterns, null, false, testTransformer.getConfig().getRepetitions(), false, strictMode);
+      InstrumentKiekerSource instrumenter = new InstrumentKiekerSource(configuration);
+      instrumenter.instrument(fileToInstrument);
+   }
+
    @Override
    public JUnitTestTransformer getTestTransformer() {
       return testTransformer;
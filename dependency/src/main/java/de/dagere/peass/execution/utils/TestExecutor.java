@@ -8,6 +8,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.filefilter.TrueFileFilter;
@@ -44,6 +45,8 @@ public abstract class TestExecutor {
    protected List<String> existingClasses;
    protected Set<String> includedMethodPattern;
    protected boolean isAndroid;
+   protected BuildDaemon buildDaemon;
+   protected boolean incrementalBuild = false;
 
    protected final EnvironmentVariables env;
 
@@ -65,6 +68,17 @@ public abstract class TestExecutor {
 
    public abstract void executeTest(final TestMethodCall test, final File logFolder, long timeout);
 
+   /**
+    * Executes a batch of tests; executors which are able to run several test methods in one JVM override this, by default every test is executed separately.
+    * 
+    * @param timeout Timeout of each single test
+    */
+   public void executeTests(final List<TestMethodCall> tests, final File logFolder, final long timeout) {
+      for (TestMethodCall test : tests) {
+         executeTest(test, logFolder, timeout);
+      }
+   }
+
    /**
     * Deletes files which are bigger than sizeInMb Mb, since they pollute the disc space and will not be analyzable
     * 
@@ -130,6 +144,7 @@ public abstract class TestExecutor {
          try {
             process.waitFor();
          } catch (InterruptedException e) {
+            process.destroyForcibly();
             throw new RuntimeException(e);
          }
       } else if (timeoutInSeconds > 0) {
@@ -137,12 +152,12 @@ public abstract class TestExecutor {
             LOG.debug("Executing: {} Timeout: {}", testname, timeoutInSeconds);
             process.waitFor(timeoutInSeconds, TimeUnit.SECONDS);
             if (process.isAlive()) {
-               LOG.debug("Killing: {}", testname);
-               process.destroyForcibly().waitFor();
-               aborted.add(testname);
-               FileUtils.writeStringToFile(new File(folders.getFullMeasurementFolder(), "aborted.txt"), aborted.toString(), Charset.defaultCharset());
+               abort(testname, process);
             }
-         } catch (InterruptedException | IOException e) {
+         } catch (InterruptedException e) {
+            process.destroyForcibly();
+            throw new RuntimeException(e);
+         } catch (IOException e) {
             throw new RuntimeException(e);
          }
       } else {
@@ -150,6 +165,49 @@ public abstract class TestExecutor {
       }
    }
 
+   /**
+    * Executes a process that runs multiple tests, where each test has the given timeout: The process is killed if no further test is started during the timeout.
+    * 
+    * @param startedTests Returns how many of the tests have been started yet
+    */
+   protected void executeWithTestTimeout(final String testnames, final long timeoutInSeconds, final Process process, final IntSupplier startedTests) {
+      if (timeoutInSeconds <= 0) {
+         execute(testnames, timeoutInSeconds, process);
+         return;
+      }
+      try {
+         LOG.debug("Executing: {} Timeout per test: {}", testnames, timeoutInSeconds);
+         final long timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+         int started = startedTests.getAsInt();
+         long deadline = System.nanoTime() + timeoutNanos;
+         while (process.isAlive()) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+               abort(testnames, process);
+            } else {
+               process.waitFor(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+               final int currentStarted = startedTests.getAsInt();
+               if (currentStarted > started) {
+                  started = currentStarted;
+                  deadline = System.nanoTime() + timeoutNanos;
+               }
+            }
+         }
+      } catch (InterruptedException e) {
+         process.destroyForcibly();
+         throw new RuntimeException(e);
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   private void abort(final String testname, final Process process) throws InterruptedException, IOException {
+      LOG.debug("Killing: {}", testname);
+      process.destroyForcibly().waitFor();
+      aborted.add(testname);
+      FileUtils.writeStringToFile(new File(folders.getFullMeasurementFolder(), "aborted.txt"), aborted.toString(), Charset.defaultCharset());
+   }
+
    /**
     * Tells whether currently checkout out version has a buildfile
     * 
@@ -159,6 +217,55 @@ public abstract class TestExecutor {
 
    public abstract boolean isCommitRunning(String version);
 
+   /**
+    * Lets the following builds of this executor use a resident build daemon, if the build tool supports it. This must not be enabled for executors whose test JVMs
+    * are measured.
+    */
+   public void enableBuildDaemon() {
+      if (buildDaemon == null) {
+         buildDaemon = createBuildDaemon();
+      }
+   }
+
+   /**
+    * Creates the daemon of the build tool, or returns null if the build tool has no daemon
+    */
+   protected BuildDaemon createBuildDaemon() {
+      return null;
+   }
+
+   /**
+    * Checks the build daemon before building a new commit; returns whether the daemon may be used for the builds of this commit
+    */
+   protected boolean prepareBuildDaemon() {
+      if (buildDaemon != null) {
+         buildDaemon.prepareCommit();
+         return buildDaemon.isAvailable();
+      }
+      return false;
+   }
+
+   protected boolean isBuildDaemonUsed() {
+      return buildDaemon != null && buildDaemon.isAvailable();
+   }
+
+   /**
+    * Lets the following builds of this executor reuse the build outputs of the previous commit where the sources and build configuration did not change, instead of
+    * cleaning before every build. This must not be enabled for executors whose test JVMs are measured.
+    */
+   public void enableIncrementalBuild() {
+      incrementalBuild = true;
+   }
+
+   /**
+    * Stops the build daemon; if the executor builds again afterwards, a new daemon is started.
+    */
+   public void stopBuildDaemon() {
+      if (buildDaemon != null && buildDaemon.isAvailable()) {
+         buildDaemon.stop();
+      }
+   }
+
    /**
     * Deletes temporary files, in order to not get memory problems
     */
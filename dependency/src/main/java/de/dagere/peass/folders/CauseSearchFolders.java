@@ -23,9 +23,17 @@ public class CauseSearchFolders extends PeassFolders {
    private final File rcaFolder;
 
    public CauseSearchFolders(final File folder) {
+      this(folder, "level");
+   }
+
+   /**
+    * Creates the folders of the project with a separate folder for the measurement results of the current level, so a second tester (e.g. measuring a level
+    * speculatively) can measure the same test at the same time; all other folders, including the archived level results, are shared.
+    */
+   public CauseSearchFolders(final File folder, final String levelFolderName) {
       super(folder);
       rcaFolder = new File(peassFolder, "rca");
-      levelFolder = new File(rcaFolder, "level");
+      levelFolder = new File(rcaFolder, levelFolderName);
       levelFolder.mkdir();
       archivedFolder = new File(rcaFolder, "archived");
       archivedFolder.mkdir();
@@ -128,6 +136,12 @@ public class CauseSearchFolders extends PeassFolders {
       return treeFile;
    }
 
+   public File getRcaTreeJournal(final String commit, final TestMethodCall testcase) {
+      final File treeDataFolder = getRcaTreeFolder(commit, testcase);
+      File journalFile = new File(treeDataFolder, "details" + File.separator + testcase.getMethodWithParams() + ".journal");
+      return journalFile;
+   }
+
    public File getTreeCacheFolder(final String commit, final TestMethodCall testcase) {
       final File folder = getExistingTreeCacheFolder(commit, testcase);
       folder.mkdirs();
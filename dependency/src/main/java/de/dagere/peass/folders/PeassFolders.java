@@ -303,6 +303,28 @@ public class PeassFolders {
       return debugFolder;
    }
 
+   /**
+    * Folder for the result files of finished VMs that have not been organized yet
+    */
+   public File getResultStagingFolder() {
+      final File resultStagingFolder = new File(peassFolder, "resultStaging");
+      if (!resultStagingFolder.exists()) {
+         resultStagingFolder.mkdir();
+      }
+      return resultStagingFolder;
+   }
+
+   /**
+    * Folder for the registry and logs of the build daemons of this project folder, so every project copy has its own daemons
+    */
+   public File getBuildDaemonFolder() {
+      final File buildDaemonFolder = new File(peassFolder, "buildDaemon");
+      if (!buildDaemonFolder.exists()) {
+         buildDaemonFolder.mkdir();
+      }
+      return buildDaemonFolder;
+   }
+
    public PeassFolders getTempFolder(final String name, final String gitCryptKey) {
       final File nowFolder = new File(getTempProjectFolder(), name);
       PeassFolders folders = TemporaryProjectFolderUtil.cloneForcefully(this, nowFolder, logFolders, gitCryptKey);
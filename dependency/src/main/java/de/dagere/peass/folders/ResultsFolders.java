@@ -41,6 +41,13 @@ public class ResultsFolders {
 
    }
 
+   /**
+    * Returns the folder of the incremental store of the static selection (see StaticTestSelectionStore)
+    */
+   public File getStaticTestSelectionStoreFolder() {
+      return new File(resultFolder, STATIC_SELECTION_PREFIX + projectName + "_store");
+   }
+
    public File getTraceTestSelectionFile() {
       File oldFileName = new File(resultFolder, "execute_" + projectName + ".json");
       if (oldFileName.exists()) {
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -39,7 +40,7 @@ public class JUnitTestShortener implements AutoCloseable {
    private JUnitTestTransformer transformer;
    private final File module;
    private final ChangedEntity callee;
-   private final String method;
+   private final Set<String> methods;
 
    private final Map<File, File> lastShortenedMap = new HashMap<>();
    private final Set<File> superclasses = new HashSet<>();
@@ -47,10 +48,17 @@ public class JUnitTestShortener implements AutoCloseable {
    final File calleeClazzFile;
 
    public JUnitTestShortener(final JUnitTestTransformer transformer, final File module, final ChangedEntity callee, final String method) {
+      this(transformer, module, callee, Collections.singleton(method));
+   }
+
+   /**
+    * Shortens the test class to the given methods, e.g. for executing several methods of the class in one JVM
+    */
+   public JUnitTestShortener(final JUnitTestTransformer transformer, final File module, final ChangedEntity callee, final Set<String> methods) {
       this.transformer = transformer;
       this.module = module;
       this.callee = callee;
-      this.method = method;
+      this.methods = methods;
       
       ClazzFileFinder finder = new ClazzFileFinder(transformer.getConfig().getExecutionConfig());
       calleeClazzFile = finder.getClazzFile(module, callee);
@@ -87,6 +95,13 @@ public class JUnitTestShortener implements AutoCloseable {
       return calleeClazzFile;
    }
 
+   /**
+    * Returns all files that are changed by this shortener, i.e. the test class and its shortened parents
+    */
+   public Set<File> getShortenedFiles() {
+      return new HashSet<>(lastShortenedMap.values());
+   }
+
    private void shortenTestClazz(final ChangedEntity callee, final File calleeClazzFile) throws IOException {
       final int version = transformer.getVersion(calleeClazzFile);
 
@@ -99,7 +114,7 @@ public class JUnitTestShortener implements AutoCloseable {
          // The clazz might be null, if it is
          if (clazz != null && clazz instanceof ClassOrInterfaceDeclaration) {
             shortenParent(module, callee, calleeClazzFile, calleeUnit, (ClassOrInterfaceDeclaration) clazz);
-            removeNonWanted(method, version, (ClassOrInterfaceDeclaration) clazz);
+            removeNonWanted(methods, version, (ClassOrInterfaceDeclaration) clazz);
 
             FileUtils.writeStringToFile(calleeClazzFile, calleeUnit.toString(), Charset.defaultCharset());
          }
@@ -162,10 +177,10 @@ public class JUnitTestShortener implements AutoCloseable {
       return parentEntity;
    }
 
-   private void removeNonWanted(final String method, final int version, final ClassOrInterfaceDeclaration clazz) {
+   private void removeNonWanted(final Set<String> methods, final int version, final ClassOrInterfaceDeclaration clazz) {
       final List<Node> remove = new LinkedList<>();
       for (final MethodDeclaration methodDeclaration : clazz.getMethods()) {
-         if (!methodDeclaration.getNameAsString().equals(method)) {
+         if (!methods.contains(methodDeclaration.getNameAsString())) {
             if (methodDeclaration.getModifiers().contains(Modifier.publicModifier()) &&
                   methodDeclaration.getParameters().size() == 0) {
                if (version == 3) {
@@ -20,6 +20,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -34,6 +35,8 @@ public class StreamGobbler extends Thread {
 
    private static final Logger LOG = LogManager.getLogger(StreamGobbler.class);
 
+   private static final long STREAM_END_TIMEOUT_MILLIS = 5000;
+
    private final InputStream is;
    private final boolean showOutput;
    private final StringBuffer output;
@@ -95,4 +98,29 @@ public class StreamGobbler extends Thread {
       return output.toString();
    }
 
+   /**
+    * Combines the streams of the process like {@link #getFullProcess(Process, boolean)}, but waits at most for the given timeout; if the process does not finish
+    * until then, it is killed.
+    * 
+    * @return The combined output of the streams of the process, or null if the process was killed
+    */
+   public static String getFullProcess(final Process process, final boolean showOutput, final long timeoutInSeconds) throws InterruptedException {
+      final StringBuffer output = new StringBuffer();
+      final StreamGobbler errorGobbler = new StreamGobbler(process.getErrorStream(), showOutput, output);
+      final StreamGobbler outputGobbler = new StreamGobbler(process.getInputStream(), showOutput, output);
+
+      outputGobbler.start();
+      errorGobbler.start();
+
+      if (!process.waitFor(timeoutInSeconds, TimeUnit.SECONDS)) {
+         LOG.debug("Process did not finish in {} seconds, killing it", timeoutInSeconds);
+         process.destroyForcibly();
+         return null;
+      }
+      // Processes started by the process (e.g. a daemon) may keep the streams open, so reading the rest of the output is not awaited forever
+      outputGobbler.join(STREAM_END_TIMEOUT_MILLIS);
+      errorGobbler.join(STREAM_END_TIMEOUT_MILLIS);
+      return output.toString();
+   }
+
 }
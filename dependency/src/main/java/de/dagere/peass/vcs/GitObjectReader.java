@@ -0,0 +1,95 @@
+package de.dagere.peass.vcs;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Reads file contents of arbitrary commits directly from the git object database via one long-running git cat-file --batch process, so no checkout is required.
+ */
+public class GitObjectReader implements Closeable {
+
+   private static final Logger LOG = LogManager.getLogger(GitObjectReader.class);
+
+   private final Process process;
+   private final OutputStream request;
+   private final InputStream response;
+
+   public GitObjectReader(final File projectFolder) throws IOException {
+      process = new ProcessBuilder("git", "cat-file", "--batch")
+            .directory(projectFolder)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+      request = process.getOutputStream();
+      response = new BufferedInputStream(process.getInputStream());
+   }
+
+   /**
+    * Returns the content of the file in the given commit.
+    *
+    * @param commit commit (or any other revision) that should be read
+    * @param path path of the file relative to the repository root
+    * @return content of the file or null, if the file does not exist in the commit
+    */
+   public synchronized String readFile(final String commit, final String path) throws IOException {
+      request.write((commit + ":" + path + "\n").getBytes(StandardCharsets.UTF_8));
+      request.flush();
+
+      final String header = readLine();
+      if (header.endsWith(" missing") || header.endsWith(" ambiguous")) {
+         LOG.trace("{} not found in {}", path, commit);
+         return null;
+      }
+      final String[] parts = header.split(" ");
+      if (parts.length != 3) {
+         throw new IOException("Unexpected git cat-file output: " + header);
+      }
+      final int size = Integer.parseInt(parts[2]);
+      final byte[] content = new byte[size];
+      int read = 0;
+      while (read < size) {
+         final int current = response.read(content, read, size - read);
+         if (current == -1) {
+            throw new IOException("git cat-file ended unexpectedly while reading " + commit + ":" + path);
+         }
+         read += current;
+      }
+      // Every object is terminated by a line feed
+      response.read();
+      if (!"blob".equals(parts[1])) {
+         LOG.debug("{} is a {}, not a file", path, parts[1]);
+         return null;
+      }
+      return new String(content, StandardCharsets.UTF_8);
+   }
+
+   private String readLine() throws IOException {
+      final ByteArrayOutputStream line = new ByteArrayOutputStream();
+      int current;
+      while ((current = response.read()) != '\n') {
+         if (current == -1) {
+            throw new IOException("git cat-file ended unexpectedly");
+         }
+         line.write(current);
+      }
+      return new String(line.toByteArray(), StandardCharsets.UTF_8);
+   }
+
+   @Override
+   public void close() throws IOException {
+      request.close();
+      try {
+         process.waitFor();
+      } catch (InterruptedException e) {
+         throw new IOException(e);
+      }
+   }
+}
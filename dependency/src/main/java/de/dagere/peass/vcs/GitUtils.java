@@ -22,9 +22,11 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
@@ -416,6 +418,24 @@ public final class GitUtils {
       }
    }
 
+   /**
+    * Resets all changed files and removes all untracked files of the project folder, without checking out another commit. If the project folder stays at the same commit, this
+    * only touches the files that have been changed, e.g. by the test transformation, and is therefore faster than {@link #goToCommit(String, File)}.
+    * 
+    * @param projectFolder Folder of the project that should be reset
+    */
+   public static void resetChanges(final File projectFolder) {
+      try {
+         synchronized (projectFolder) {
+            LOG.debug("Resetting changes in folder: {}", projectFolder.getAbsolutePath());
+            reset(projectFolder);
+            clean(projectFolder);
+         }
+      } catch (final IOException | InterruptedException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
    public static void clean(final File projectFolder) throws IOException, InterruptedException {
       final Process pClean = Runtime.getRuntime().exec("git clean -df", new String[0], projectFolder);
       final String outClean = StreamGobbler.getFullProcess(pClean, false);
@@ -469,6 +489,33 @@ public final class GitUtils {
       return null;
    }
 
+   /**
+    * Returns the git object hashes of all files of the current commit (HEAD) below the project folder, which change exactly if the file content changes; the paths
+    * are relative to the project folder. Changes in the working tree are ignored. Returns null if the project folder is no git repository.
+    */
+   public static Map<String, String> getFileHashes(final File projectFolder) {
+      try {
+         final Process process = Runtime.getRuntime().exec(new String[] { "git", "ls-tree", "-r", "HEAD" }, new String[0], projectFolder);
+         final String output = StreamGobbler.getFullProcess(process, false);
+         if (process.waitFor() != 0) {
+            return null;
+         }
+         final Map<String, String> fileHashes = new HashMap<>();
+         for (final String line : output.split("\n")) {
+            // Format: <mode> SP <type> SP <object> TAB <file>
+            final int tabIndex = line.indexOf('\t');
+            if (tabIndex != -1) {
+               final String[] objectInfo = line.substring(0, tabIndex).split(" ");
+               fileHashes.put(line.substring(tabIndex + 1), objectInfo[objectInfo.length - 1]);
+            }
+         }
+         return fileHashes;
+      } catch (final IOException | InterruptedException e) {
+         e.printStackTrace();
+         return null;
+      }
+   }
+
    public static synchronized String getPrevious(final String gitCommit, final File projectFolder) {
       return getName(gitCommit + "~1", projectFolder);
    }
@@ -0,0 +1,70 @@
+package de.dagere.peass.dependency;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.config.ExecutionConfig;
+import de.dagere.peass.config.KiekerConfig;
+import de.dagere.peass.dependency.analysis.ModuleClassMapping;
+import de.dagere.peass.dependency.analysis.data.ChangedEntity;
+import de.dagere.peass.dependency.analysis.data.TestSet;
+import de.dagere.peass.dependency.analysis.testData.TestClazzCall;
+import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
+import de.dagere.peass.dependencytests.DependencyTestConstants;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.vcs.GitUtils;
+import de.dagere.peass.vcs.ProjectBuilderHelper;
+
+public class ShardedTraceRunnerIT {
+
+   private static final File PROJECT_FOLDER = new File("target/sharded-traces/project");
+
+   private String commit;
+
+   @BeforeEach
+   public void init() throws IOException, InterruptedException {
+      FileUtils.deleteDirectory(PROJECT_FOLDER.getParentFile());
+      FileUtils.copyDirectory(new File(DependencyTestConstants.VERSIONS_FOLDER, "added_class"), PROJECT_FOLDER);
+      ProjectBuilderHelper.init(PROJECT_FOLDER);
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "Initial commit");
+      commit = GitUtils.getName("HEAD", PROJECT_FOLDER);
+   }
+
+   @Test
+   public void testShardedTracesEqualSequentialTraces() throws IOException {
+      Map<TestMethodCall, Map<ChangedEntity, Set<String>>> sequential = readDependencies(1);
+      Map<TestMethodCall, Map<ChangedEntity, Set<String>>> sharded = readDependencies(2);
+
+      Assert.assertEquals(2, sequential.size());
+      Assert.assertEquals(sequential, sharded);
+   }
+
+   private Map<TestMethodCall, Map<ChangedEntity, Set<String>>> readDependencies(final int shards) throws IOException {
+      // Removes the instrumentation of the previous run
+      GitUtils.goToCommit(commit, PROJECT_FOLDER);
+      PeassFolders folders = new PeassFolders(PROJECT_FOLDER);
+      FileUtils.deleteDirectory(folders.getPeassFolder());
+      folders = new PeassFolders(PROJECT_FOLDER);
+
+      DependencyManager manager = new DependencyManager(folders, new ExecutionConfig(5), new KiekerConfig(true), new EnvironmentVariables());
+      manager.getExecutor().loadClasses();
+      TestSet tests = new TestSet();
+      tests.addTest(new TestClazzCall("defaultpackage.TestMe"), null);
+      tests.addTest(new TestClazzCall("defaultpackage.TestMeAlso"), null);
+
+      ShardedTraceRunner runner = new ShardedTraceRunner(manager, folders, shards);
+      runner.runTraceTests(tests, commit);
+      runner.stopBuildDaemons();
+
+      manager.updateDependencies(tests, new ModuleClassMapping(manager.getExecutor()));
+      return manager.getDependencyMap().getCopiedDependencies();
+   }
+}
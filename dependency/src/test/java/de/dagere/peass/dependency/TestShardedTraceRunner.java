@@ -0,0 +1,42 @@
+package de.dagere.peass.dependency;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.dependency.analysis.data.TestSet;
+import de.dagere.peass.dependency.analysis.testData.TestClazzCall;
+import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
+
+public class TestShardedTraceRunner {
+
+   @Test
+   public void testSplitKeepsClassesTogether() {
+      TestSet tests = new TestSet();
+      tests.addTest(new TestMethodCall("de.ClazzA", "testA1"));
+      tests.addTest(new TestMethodCall("de.ClazzA", "testA2"));
+      tests.addTest(new TestMethodCall("de.ClazzB", "testB"));
+      tests.addTest(new TestClazzCall("de.ClazzC"), null);
+
+      List<TestSet> shards = ShardedTraceRunner.split(tests, 2);
+
+      Assert.assertEquals(2, shards.size());
+      Assert.assertEquals(2, shards.get(0).classCount());
+      Assert.assertEquals(2, shards.get(0).getMethods(new TestClazzCall("de.ClazzA")).size());
+      Assert.assertTrue(shards.get(0).getMethods(new TestClazzCall("de.ClazzC")).isEmpty());
+      Assert.assertEquals(1, shards.get(1).classCount());
+      Assert.assertEquals(1, shards.get(1).getMethods(new TestClazzCall("de.ClazzB")).size());
+   }
+
+   @Test
+   public void testSplitWithMoreShardsThanClasses() {
+      TestSet tests = new TestSet();
+      tests.addTest(new TestMethodCall("de.ClazzA", "testA1"));
+
+      List<TestSet> shards = ShardedTraceRunner.split(tests, 4);
+
+      Assert.assertEquals(1, shards.size());
+      Assert.assertEquals(tests.getTestMethods(), shards.get(0).getTestMethods());
+   }
+}
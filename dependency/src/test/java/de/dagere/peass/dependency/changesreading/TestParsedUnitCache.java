@@ -0,0 +1,91 @@
+package de.dagere.peass.dependency.changesreading;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+
+public class TestParsedUnitCache {
+
+   private static final String SOURCE = "package de;\n\n/** Comment */\npublic class Clazz {\n   // Method comment\n   public void a() {\n   }\n}\n";
+
+   @Test
+   public void testReturnedUnitsAreIndependent() {
+      ParsedUnitCache cache = new ParsedUnitCache(10);
+      String hash = ParsedUnitCache.getHash(SOURCE);
+      Assert.assertNull(cache.get(hash));
+
+      CompilationUnit parsed = JavaParserProvider.getJavaparser().get().parse(SOURCE).getResult().get();
+      cache.put(hash, parsed, SOURCE.length());
+      new CommentRemover(parsed);
+
+      CompilationUnit first = cache.get(hash);
+      Assert.assertTrue(first.getClassByName("Clazz").get().getComment().isPresent());
+      new CommentRemover(first);
+      first.getClassByName("Clazz").get().addMethod("b");
+
+      CompilationUnit second = cache.get(hash);
+      ClassOrInterfaceDeclaration clazz = second.getClassByName("Clazz").get();
+      Assert.assertTrue(clazz.getComment().isPresent());
+      Assert.assertEquals(1, clazz.getMethods().size());
+      Assert.assertTrue(clazz.getMethods().get(0).getComment().isPresent());
+
+      Assert.assertEquals(2, cache.getHits());
+      Assert.assertEquals(1, cache.getMisses());
+   }
+
+   @Test
+   public void testEviction() {
+      ParsedUnitCache cache = new ParsedUnitCache(2);
+      for (int i = 0; i < 3; i++) {
+         String source = "class C" + i + " {}";
+         cache.put(ParsedUnitCache.getHash(source), JavaParserProvider.parse(source), source.length());
+      }
+      Assert.assertEquals(2, cache.size());
+      Assert.assertNull(cache.get(ParsedUnitCache.getHash("class C0 {}")));
+      Assert.assertNotNull(cache.get(ParsedUnitCache.getHash("class C2 {}")));
+
+      cache.setMaximumSize(0);
+      cache.put(ParsedUnitCache.getHash("class C3 {}"), JavaParserProvider.parse("class C3 {}"), 11);
+      Assert.assertEquals(0, cache.size());
+   }
+
+   @Test
+   public void testEvictionByEstimatedSize() {
+      String small = "class S {}";
+      long smallBytes = small.length() * ParsedUnitCache.ESTIMATED_BYTES_PER_SOURCE_CHAR;
+      ParsedUnitCache cache = new ParsedUnitCache(100, 3 * smallBytes);
+      for (int i = 0; i < 3; i++) {
+         String source = "class " + (char) ('A' + i) + " {}";
+         cache.put(ParsedUnitCache.getHash(source), JavaParserProvider.parse(source), source.length());
+      }
+      Assert.assertEquals(3, cache.size());
+      Assert.assertEquals(3 * smallBytes, cache.getEstimatedBytes());
+
+      String large = "class Large { void a() {} void b() {} }";
+      cache.put(ParsedUnitCache.getHash(large), JavaParserProvider.parse(large), large.length());
+      Assert.assertEquals(3 * smallBytes, cache.getEstimatedBytes());
+      Assert.assertNull(cache.get(ParsedUnitCache.getHash(large)));
+
+      String medium = "class Medium {}";
+      cache.put(ParsedUnitCache.getHash(medium), JavaParserProvider.parse(medium), medium.length());
+      Assert.assertNull(cache.get(ParsedUnitCache.getHash("class A {}")));
+      Assert.assertNull(cache.get(ParsedUnitCache.getHash("class B {}")));
+      Assert.assertNotNull(cache.get(ParsedUnitCache.getHash("class C {}")));
+      Assert.assertNotNull(cache.get(ParsedUnitCache.getHash(medium)));
+      Assert.assertTrue(cache.getEstimatedBytes() <= 3 * smallBytes);
+   }
+
+   @Test
+   public void testProviderUsesCache() {
+      String source = "package de;\n\npublic class CachedClazz {\n   public void a() {\n   }\n}\n";
+      long hitsBefore = JavaParserProvider.getCache().getHits();
+      CompilationUnit first = JavaParserProvider.parse(source);
+      first.getClassByName("CachedClazz").get().remove();
+      CompilationUnit second = JavaParserProvider.parse(source);
+
+      Assert.assertTrue(second.getClassByName("CachedClazz").isPresent());
+      Assert.assertEquals(hitsBefore + 1, JavaParserProvider.getCache().getHits());
+   }
+}
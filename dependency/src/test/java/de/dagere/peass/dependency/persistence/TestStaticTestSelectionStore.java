@@ -0,0 +1,126 @@
+package de.dagere.peass.dependency.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.apache.commons.io.FileUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.dependency.analysis.data.ChangedEntity;
+import de.dagere.peass.dependency.analysis.data.TestSet;
+import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
+import de.dagere.peass.utils.Constants;
+
+public class TestStaticTestSelectionStore {
+
+   private static final File STORE_FOLDER = new File("target/selectionStore");
+
+   @BeforeEach
+   public void clean() throws IOException {
+      FileUtils.deleteDirectory(STORE_FOLDER);
+   }
+
+   @Test
+   public void testAppendAndLazyRead() throws IOException {
+      StaticTestSelectionStore store = new StaticTestSelectionStore(STORE_FOLDER);
+      StaticTestSelection selection = buildSelection();
+      store.writeAll(selection);
+
+      CommitStaticSelection updated = buildCommit("de.Changed", "testUpdated");
+      selection.getCommits().put("1", updated);
+      store.appendCommit(selection, "1");
+      selection.getCommits().put("3", buildCommit("de.Other", "testNew"));
+      store.appendCommit(selection, "3");
+
+      StaticTestSelectionStore reopened = new StaticTestSelectionStore(STORE_FOLDER);
+      MatcherAssert.assertThat(reopened.getCommitNames(), Matchers.contains("1", "2", "3"));
+      CommitStaticSelection commit1 = reopened.readCommit("1");
+      MatcherAssert.assertThat(commit1.getTests().getTestMethods(), Matchers.contains(new TestMethodCall("de.Test", "testUpdated")));
+      Assert.assertNull(reopened.readCommit("4"));
+
+      StaticTestSelection loaded = reopened.load();
+      Assert.assertEquals("0", loaded.getInitialcommit().getCommit());
+      Assert.assertEquals(Constants.OBJECTMAPPER.writeValueAsString(selection), Constants.OBJECTMAPPER.writeValueAsString(loaded));
+
+      reopened.compact();
+      Assert.assertEquals(Constants.OBJECTMAPPER.writeValueAsString(selection), Constants.OBJECTMAPPER.writeValueAsString(new StaticTestSelectionStore(STORE_FOLDER).load()));
+   }
+
+   @Test
+   public void testImportExport() throws IOException {
+      StaticTestSelection selection = buildSelection();
+      File jsonFile = new File("target/selectionStore_import.json");
+      Constants.OBJECTMAPPER.writeValue(jsonFile, selection);
+
+      StaticTestSelectionStore store = StaticTestSelectionStore.importJson(jsonFile, STORE_FOLDER);
+      File exportFile = new File("target/selectionStore_export.json");
+      store.exportJson(exportFile);
+
+      Assert.assertEquals(FileUtils.readFileToString(jsonFile, "UTF-8"), FileUtils.readFileToString(exportFile, "UTF-8"));
+   }
+
+   @Test
+   public void testInterruptedWriting() throws IOException {
+      StaticTestSelectionStore store = new StaticTestSelectionStore(STORE_FOLDER);
+      store.writeAll(buildSelection());
+
+      File logFile = new File(STORE_FOLDER, "commits.log");
+      long completeLength = logFile.length();
+      try (RandomAccessFile log = new RandomAccessFile(logFile, "rw")) {
+         log.seek(completeLength);
+         log.write("3\t{\"runn".getBytes());
+      }
+      FileUtils.deleteQuietly(new File(STORE_FOLDER, "commits.index"));
+
+      StaticTestSelectionStore reopened = new StaticTestSelectionStore(STORE_FOLDER);
+      MatcherAssert.assertThat(reopened.getCommitNames(), Matchers.contains("1", "2"));
+      Assert.assertEquals(completeLength, logFile.length());
+      Assert.assertTrue(reopened.readCommit("2").isRunning());
+   }
+
+   @Test
+   public void testLoadWithStoredCommits() throws IOException {
+      StaticTestSelection selection = buildSelection();
+      File jsonFile = new File("target/selectionStore_stale.json");
+      Constants.OBJECTMAPPER.writeValue(jsonFile, selection);
+
+      StaticTestSelectionStore store = new StaticTestSelectionStore(STORE_FOLDER);
+      store.writeAll(selection);
+      selection.getCommits().put("2", buildCommit("de.Changed", "testUpdated"));
+      store.appendCommit(selection, "2");
+      selection.getCommits().put("3", buildCommit("de.Other", "testNew"));
+      store.appendCommit(selection, "3");
+
+      StaticTestSelection loaded = StaticTestSelectionStore.loadWithStoredCommits(jsonFile, STORE_FOLDER);
+      Assert.assertEquals(Constants.OBJECTMAPPER.writeValueAsString(selection), Constants.OBJECTMAPPER.writeValueAsString(loaded));
+
+      FileUtils.deleteDirectory(STORE_FOLDER);
+      StaticTestSelection withoutStore = StaticTestSelectionStore.loadWithStoredCommits(jsonFile, STORE_FOLDER);
+      MatcherAssert.assertThat(withoutStore.getCommits().keySet(), Matchers.contains("1", "2"));
+      Assert.assertFalse(STORE_FOLDER.exists());
+   }
+
+   private StaticTestSelection buildSelection() {
+      StaticTestSelection selection = new StaticTestSelection();
+      selection.setUrl("https://github.com/example/example.git");
+      selection.getInitialcommit().setCommit("0");
+      selection.getInitialcommit().addDependency(new TestMethodCall("de.Test", "testA"), new ChangedEntity("de.Changed", ""));
+      selection.getCommits().put("1", buildCommit("de.Changed", "testA"));
+      selection.getCommits().put("2", buildCommit("de.Other", "testB"));
+      return selection;
+   }
+
+   private CommitStaticSelection buildCommit(final String changedClazz, final String testMethod) {
+      CommitStaticSelection commit = new CommitStaticSelection();
+      commit.setRunning(true);
+      TestSet tests = new TestSet();
+      tests.addTest(new TestMethodCall("de.Test", testMethod));
+      commit.getChangedClazzes().put(new ChangedEntity(changedClazz, ""), tests);
+      return commit;
+   }
+}
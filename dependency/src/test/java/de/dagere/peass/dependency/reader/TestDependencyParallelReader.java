@@ -0,0 +1,46 @@
+package de.dagere.peass.dependency.reader;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+public class TestDependencyParallelReader {
+
+   @Test
+   public void testChunkCount() {
+      Assert.assertEquals(1, DependencyParallelReader.getChunkCount(1, 3));
+      Assert.assertEquals(1, DependencyParallelReader.getChunkCount(2, 3));
+      Assert.assertEquals(1, DependencyParallelReader.getChunkCount(4, 3));
+      Assert.assertEquals(2, DependencyParallelReader.getChunkCount(5, 3));
+      Assert.assertEquals(3, DependencyParallelReader.getChunkCount(10, 3));
+      Assert.assertEquals(4, DependencyParallelReader.getChunkCount(11, 3));
+   }
+
+   @Test
+   public void testChunksCoverAllCommits() {
+      for (int commitCount = 2; commitCount < 30; commitCount++) {
+         for (int chunkSize = 1; chunkSize < 10; chunkSize++) {
+            int chunks = DependencyParallelReader.getChunkCount(commitCount, chunkSize);
+            int lastStart = (chunks - 1) * chunkSize;
+            Assert.assertTrue(lastStart < commitCount - 1);
+            Assert.assertTrue(Math.min(chunks * chunkSize + 1, commitCount) == commitCount);
+         }
+      }
+   }
+
+   @Test
+   public void testChunkClaims() {
+      CommitChunkClaims claims = new CommitChunkClaims(10);
+      Assert.assertEquals(0, claims.claimStart());
+      Assert.assertEquals(5, claims.claimStart());
+
+      Assert.assertTrue(claims.claim(1));
+      Assert.assertFalse(claims.claim(5));
+      Assert.assertFalse(claims.claim(10));
+
+      Assert.assertEquals(8, claims.claimStart());
+      for (int chunk = 2; chunk < 10; chunk++) {
+         claims.claim(chunk);
+      }
+      Assert.assertEquals(-1, claims.claimStart());
+   }
+}
@@ -1,9 +1,14 @@
 package de.dagere.peass.dependency.traces.coverage;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import org.hamcrest.MatcherAssert;
@@ -91,6 +96,70 @@ public class TestCoverageBasedSelection {
       MatcherAssert.assertThat(traceBSummary.getSelectedChanges(), IsEmptyCollection.empty());
    }
 
+   @Test
+   public void testSelectionEqualsGreedyScan() {
+      Random random = new Random(0);
+      List<TraceCallSummary> traces = new LinkedList<>();
+      for (int test = 0; test < 300; test++) {
+         TraceCallSummary summary = new TraceCallSummary();
+         summary.setTestcase(new TestMethodCall("de.Test" + (test % 250), "test"));
+         for (int call = 0; call < 10; call++) {
+            summary.getCallCounts().put("de.Clazz" + random.nextInt(30) + "#method" + random.nextInt(5), 1 + random.nextInt(3));
+         }
+         traces.add(summary);
+      }
+      Set<ChangedEntity> changes = new HashSet<>();
+      for (int change = 0; change < 20; change++) {
+         changes.add(new ChangedEntity("de.Clazz" + random.nextInt(30), "", change % 2 == 0 ? null : "method" + random.nextInt(5)));
+      }
+
+      CoverageSelectionCommit selection = CoverageBasedSelector.selectBasedOnCoverage(traces, changes);
+
+      List<TraceCallSummary> remaining = new ArrayList<>(traces);
+      Set<ChangedEntity> remainingChanges = new HashSet<>(changes);
+      for (TraceCallSummary selected : selection.getTestcases().values()) {
+         if (!selected.isSelected()) {
+            break;
+         }
+         TraceCallSummary expected = null;
+         int expectedScore = 0;
+         for (TraceCallSummary candidate : remaining) {
+            int score = getCallSum(candidate, remainingChanges);
+            if (score > expectedScore) {
+               expected = candidate;
+               expectedScore = score;
+            }
+         }
+         Assert.assertSame(expected, selected);
+         Assert.assertEquals(expectedScore, selected.getOverallScore());
+         remaining.removeIf(summary -> summary.getTestcase().equals(selected.getTestcase()));
+         for (Iterator<ChangedEntity> iterator = remainingChanges.iterator(); iterator.hasNext();) {
+            ChangedEntity change = iterator.next();
+            if (change.getMethod() != null ? selected.getCallCounts().getOrDefault(change.toString(), 0) > 0 : getCallSum(selected, Collections.singleton(change)) > 0) {
+               iterator.remove();
+            }
+         }
+      }
+      for (TraceCallSummary notSelected : remaining) {
+         Assert.assertFalse(notSelected.isSelected());
+         Assert.assertEquals(getCallSum(notSelected, remainingChanges), notSelected.getOverallScore());
+      }
+   }
+
+   private int getCallSum(final TraceCallSummary summary, final Set<ChangedEntity> changes) {
+      int callSum = 0;
+      for (ChangedEntity change : changes) {
+         for (Map.Entry<String, Integer> callCount : summary.getCallCounts().entrySet()) {
+            boolean matches = change.getMethod() != null ? callCount.getKey().equals(change.toString())
+                  : callCount.getKey().startsWith(change.toString() + ChangedEntity.METHOD_SEPARATOR);
+            if (matches) {
+               callSum += callCount.getValue();
+            }
+         }
+      }
+      return callSum;
+   }
+
    private List<TraceCallSummary> getTraceSummaryList() {
       List<Content> firstTrace = TestTraceSummaryTransformer.buildTestTrace();
       TraceCallSummary summary = TraceSummaryTransformer.transform(new TestMethodCall("ClazzA", "testA"), firstTrace);
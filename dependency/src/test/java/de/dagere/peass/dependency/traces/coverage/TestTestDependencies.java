@@ -63,6 +63,31 @@ public class TestTestDependencies {
       MatcherAssert.assertThat(changeTestMap.getChanges().get(new ChangedEntity("package.ClazzA", "moduleA")), IsIterableContaining.hasItem(testEntity));
    }
    
+   @Test
+   public void testRemovedTestNotSelected() {
+      TestDependencies dependencies = buildTestDependencies();
+      
+      TestMethodCall otherTest = new TestMethodCall("package.ClazzC", "testC", "moduleA");
+      HashMap<ChangedEntity, Set<String>> calledClasses = new HashMap<>();
+      Set<String> methodsB = new HashSet<>();
+      methodsB.add("methodB");
+      calledClasses.put(new ChangedEntity("package.ClazzB", "moduleA"), methodsB);
+      dependencies.setDependencies(otherTest, calledClasses);
+      
+      dependencies.removeTest(testEntity);
+      
+      HashMap<ChangedEntity, ClazzChangeData> changes = new HashMap<ChangedEntity, ClazzChangeData>();
+      ClazzChangeData clazzChangeData = new ClazzChangeData(new ChangedEntity("package.ClazzB", "moduleA"), false);
+      clazzChangeData.addChange("ClazzB", "methodB");
+      changes.put(new ChangedEntity("package.ClazzB", "moduleA"), clazzChangeData);
+      
+      ChangeTestMapping changeTestMap = dependencies.getChangeTestMap(changes);
+      
+      Set<TestMethodCall> selected = changeTestMap.getChanges().get(new ChangedEntity("package.ClazzB", "moduleA"));
+      Assert.assertEquals(1, selected.size());
+      MatcherAssert.assertThat(selected, IsIterableContaining.hasItem(otherTest));
+   }
+   
    private TestDependencies buildTestDependenciesFQN() {
       TestDependencies dependencies = new TestDependencies();
       
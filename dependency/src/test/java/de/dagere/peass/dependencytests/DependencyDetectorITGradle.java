@@ -10,9 +10,15 @@ import org.junit.jupiter.api.Test;
 
 import com.github.javaparser.ParseException;
 
+import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.dependency.ChangeManager;
+import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.dependency.reader.DependencyReader;
 import de.dagere.peass.dependencytests.helper.FakeFileIterator;
+import de.dagere.peass.execution.gradle.GradleTestExecutor;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.testtransformation.JUnitTestTransformer;
 import de.dagere.peass.vcs.CommitIterator;
 
 public class DependencyDetectorITGradle {
@@ -49,6 +55,30 @@ public class DependencyDetectorITGradle {
       DependencyDetectorTestUtil.checkTestMeAlsoTestChange(reader, "defaultpackage.NormalDependency#executeThing", "defaultpackage.TestMe", DependencyTestConstants.VERSION_1);
    }
    
+   @Test
+   public void testIncrementalBuildRerunsTests() throws IOException {
+      init(BASIC_STATE);
+
+      MeasurementConfig config = new MeasurementConfig(1);
+      config.getExecutionConfig().setIncrementalBuild(true);
+      PeassFolders folders = new PeassFolders(DependencyTestConstants.CURRENT);
+      GradleTestExecutor executor = new GradleTestExecutor(folders, new JUnitTestTransformer(DependencyTestConstants.CURRENT, config), new EnvironmentVariables());
+      executor.enableIncrementalBuild();
+
+      TestMethodCall test = new TestMethodCall("defaultpackage.TestMe", "testMe");
+      for (int run = 0; run < 2; run++) {
+         FileUtils.deleteDirectory(folders.getTempMeasurementFolder());
+         File logFolder = new File(folders.getMeasureLogFolder(), "run_" + run);
+         logFolder.mkdirs();
+
+         executor.prepareKoPeMeExecution(new File(logFolder, "clean.txt"));
+         executor.executeTest(test, logFolder, 120);
+
+         Assert.assertTrue("Tests were not executed in run " + run, folders.getTempMeasurementFolder().exists()
+               && !FileUtils.listFiles(folders.getTempMeasurementFolder(), new String[] { "json" }, true).isEmpty());
+      }
+   }
+
    @Test
    public void testNormalChangeAndroid() throws IOException, InterruptedException, ParseException {
       init(BASIC_STATE_ANDROID);
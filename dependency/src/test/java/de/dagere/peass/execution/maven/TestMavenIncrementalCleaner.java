@@ -0,0 +1,108 @@
+package de.dagere.peass.execution.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.execution.utils.ProjectModules;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.vcs.ProjectBuilderHelper;
+
+public class TestMavenIncrementalCleaner {
+
+   private static final File PROJECT_FOLDER = new File("target/incremental-clean-test/project");
+
+   private final File moduleA = new File(PROJECT_FOLDER, "module-a");
+   private final File moduleB = new File(PROJECT_FOLDER, "module-b");
+   private final File moduleC = new File(PROJECT_FOLDER, "module-c");
+   private final ProjectModules modules = new ProjectModules(Arrays.asList(moduleA, moduleB, moduleC, PROJECT_FOLDER));
+
+   private int fullCleans = 0;
+   private MavenCleaner fullCleaner;
+   private MavenIncrementalCleaner cleaner;
+
+   @BeforeEach
+   public void init() throws IOException, InterruptedException {
+      FileUtils.deleteDirectory(PROJECT_FOLDER.getParentFile());
+      PROJECT_FOLDER.mkdirs();
+      ProjectBuilderHelper.init(PROJECT_FOLDER);
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, ".gitignore"), "target/\n", StandardCharsets.UTF_8);
+      writePom(PROJECT_FOLDER, "parent", "");
+      writeModule(moduleA, "module-a", "");
+      writeModule(moduleB, "module-b", "<dependencies><dependency><groupId>de</groupId><artifactId>module-a</artifactId></dependency></dependencies>");
+      writeModule(moduleC, "module-c", "");
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "Initial");
+
+      PeassFolders folders = new PeassFolders(PROJECT_FOLDER);
+      fullCleaner = new MavenCleaner(folders, new String[0]) {
+         @Override
+         public void clean(final File logFile) {
+            fullCleans++;
+         }
+      };
+      cleaner = new MavenIncrementalCleaner(folders);
+      cleaner.clean(fullCleaner, modules, 8, null);
+      createTargets();
+   }
+
+   @Test
+   public void testChangedModuleAndDependentsAreCleaned() throws IOException, InterruptedException {
+      FileUtils.writeStringToFile(new File(moduleA, "src/main/java/A.java"), "class A { int x; }", StandardCharsets.UTF_8);
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "Change A");
+
+      cleaner.clean(fullCleaner, modules, 8, null);
+
+      Assert.assertEquals(1, fullCleans);
+      Assert.assertFalse(new File(moduleA, "target").exists());
+      Assert.assertFalse(new File(moduleB, "target").exists());
+      Assert.assertTrue(new File(moduleC, "target").exists());
+      Assert.assertTrue(new File(PROJECT_FOLDER, "target").exists());
+   }
+
+   @Test
+   public void testSameCommitIsNotCleanedAgain() {
+      cleaner.clean(fullCleaner, modules, 8, null);
+
+      Assert.assertEquals(1, fullCleans);
+      Assert.assertTrue(new File(moduleA, "target").exists());
+   }
+
+   @Test
+   public void testBuildfileChangeCleansEverything() throws IOException, InterruptedException {
+      writePom(moduleC, "module-c", "<dependencies><dependency><groupId>de</groupId><artifactId>module-a</artifactId></dependency></dependencies>");
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "Change pom");
+
+      cleaner.clean(fullCleaner, modules, 8, null);
+
+      Assert.assertEquals(2, fullCleans);
+   }
+
+   @Test
+   public void testJdkChangeCleansEverything() {
+      cleaner.clean(fullCleaner, modules, 11, null);
+
+      Assert.assertEquals(2, fullCleans);
+   }
+
+   private void createTargets() {
+      for (File module : modules.getModules()) {
+         new File(module, "target/classes").mkdirs();
+      }
+   }
+
+   private void writeModule(final File module, final String artifactId, final String dependencies) throws IOException {
+      writePom(module, artifactId, dependencies);
+      FileUtils.writeStringToFile(new File(module, "src/main/java/" + artifactId.toUpperCase().replace("-", "") + ".java"), "class Clazz {}", StandardCharsets.UTF_8);
+   }
+
+   private void writePom(final File folder, final String artifactId, final String dependencies) throws IOException {
+      FileUtils.writeStringToFile(new File(folder, "pom.xml"), "<project><modelVersion>4.0.0</modelVersion><groupId>de</groupId><artifactId>" + artifactId
+            + "</artifactId><version>1</version>" + dependencies + "</project>", StandardCharsets.UTF_8);
+   }
+}
@@ -0,0 +1,95 @@
+package de.dagere.peass.execution.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.execution.utils.BuildDaemon;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.folders.PeassFolders;
+
+public class TestBuildDaemon {
+
+   private static final File PROJECT_FOLDER = new File("target/build-daemon-test/project");
+
+   private final File callFile = new File(PROJECT_FOLDER, "calls.txt");
+   private final File statusFile = new File(PROJECT_FOLDER, "status.txt");
+   private EnvironmentVariables env;
+   private PeassFolders folders;
+
+   @BeforeEach
+   public void init() throws IOException {
+      Assumptions.assumeTrue(EnvironmentVariables.isLinux());
+      FileUtils.deleteDirectory(PROJECT_FOLDER.getParentFile());
+      PROJECT_FOLDER.mkdirs();
+
+      // Fake daemon client, which records the command (last parameter) and prints the status file
+      File client = new File(PROJECT_FOLDER, "mvnd");
+      FileUtils.writeStringToFile(client, "#!/bin/sh\n"
+            + "for command; do :; done\n"
+            + "echo \"$command\" >> " + callFile.getAbsolutePath() + "\n"
+            + "if [ \"$command\" = \"--status\" ]; then cat " + statusFile.getAbsolutePath() + "; fi\n", StandardCharsets.UTF_8);
+      client.setExecutable(true);
+      FileUtils.writeStringToFile(statusFile, "ID PID Address Status\n", StandardCharsets.UTF_8);
+
+      env = new EnvironmentVariables();
+      env.getEnvironmentVariables().put("MVND_CMD", client.getAbsolutePath());
+      folders = new PeassFolders(PROJECT_FOLDER);
+   }
+
+   @Test
+   public void testIdleDaemonIsKept() throws IOException {
+      BuildDaemon daemon = BuildDaemon.createMavenDaemon(folders, env);
+      daemon.prepareCommit();
+      daemon.prepareCommit();
+
+      Assert.assertTrue(daemon.isAvailable());
+      Assert.assertEquals(Arrays.asList("--status", "--status"), getCalls());
+   }
+
+   @Test
+   public void testBusyDaemonIsStopped() throws IOException {
+      FileUtils.writeStringToFile(statusFile, "1 4711 inet:127.0.0.1:40000 Busy\n", StandardCharsets.UTF_8, true);
+
+      BuildDaemon daemon = BuildDaemon.createMavenDaemon(folders, env);
+      daemon.prepareCommit();
+
+      Assert.assertTrue(daemon.isAvailable());
+      Assert.assertEquals(Arrays.asList("--status", "--stop"), getCalls());
+   }
+
+   @Test
+   public void testChangedConfigurationRestartsDaemon() throws IOException {
+      File jvmConfig = new File(PROJECT_FOLDER, ".mvn/jvm.config");
+      FileUtils.writeStringToFile(jvmConfig, "-Xmx1g", StandardCharsets.UTF_8);
+
+      BuildDaemon daemon = BuildDaemon.createMavenDaemon(folders, env);
+      daemon.prepareCommit();
+      FileUtils.writeStringToFile(jvmConfig, "-Xmx2g", StandardCharsets.UTF_8);
+      daemon.prepareCommit();
+
+      Assert.assertEquals(Arrays.asList("--status", "--stop", "--status"), getCalls());
+   }
+
+   @Test
+   public void testMissingDaemonIsDisabled() {
+      env.getEnvironmentVariables().put("MVND_CMD", new File(PROJECT_FOLDER, "missing-mvnd").getAbsolutePath());
+
+      BuildDaemon daemon = BuildDaemon.createMavenDaemon(folders, env);
+      daemon.prepareCommit();
+
+      Assert.assertFalse(daemon.isAvailable());
+   }
+
+   private List<String> getCalls() throws IOException {
+      return FileUtils.readLines(callFile, StandardCharsets.UTF_8);
+   }
+}
@@ -0,0 +1,62 @@
+package de.dagere.peass.execution.utils;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.execution.maven.pom.MavenTestExecutor;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.testtransformation.JUnitTestTransformer;
+
+public class TestTestTimeout {
+
+   private static final File PROJECT_FOLDER = new File("target/test-timeout/project");
+
+   private TestExecutor executor;
+
+   @BeforeEach
+   public void init() throws IOException {
+      Assumptions.assumeTrue(EnvironmentVariables.isLinux());
+      FileUtils.deleteDirectory(PROJECT_FOLDER.getParentFile());
+      PROJECT_FOLDER.mkdirs();
+      PeassFolders folders = new PeassFolders(PROJECT_FOLDER);
+      executor = new MavenTestExecutor(folders, new JUnitTestTransformer(PROJECT_FOLDER, new MeasurementConfig(1)), new EnvironmentVariables());
+   }
+
+   @Test
+   public void testEachTestGetsTimeout() throws IOException {
+      // Every test takes 1.5 seconds, so the summed duration exceeds the timeout of a single test
+      Process process = startTests("sleep 1.5; touch test_2; sleep 1.5; touch test_3; sleep 1.5; touch done");
+
+      executor.executeWithTestTimeout("Test", 2, process, this::countStartedTests);
+
+      Assert.assertTrue(new File(PROJECT_FOLDER, "done").exists());
+   }
+
+   @Test
+   public void testHangingTestIsKilled() throws IOException {
+      Process process = startTests("sleep 1; touch test_2; sleep 30; touch done");
+
+      long start = System.currentTimeMillis();
+      executor.executeWithTestTimeout("Test", 2, process, this::countStartedTests);
+
+      Assert.assertFalse(process.isAlive());
+      Assert.assertFalse(new File(PROJECT_FOLDER, "done").exists());
+      Assert.assertTrue(System.currentTimeMillis() - start < 10000);
+   }
+
+   private Process startTests(final String script) throws IOException {
+      FileUtils.touch(new File(PROJECT_FOLDER, "test_1"));
+      return new ProcessBuilder("sh", "-c", script).directory(PROJECT_FOLDER).start();
+   }
+
+   private int countStartedTests() {
+      return PROJECT_FOLDER.list((dir, name) -> name.startsWith("test_")).length;
+   }
+}
@@ -13,16 +13,20 @@ import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import com.github.javaparser.ParseException;
+
 import de.dagere.peass.TestConstants;
 import de.dagere.peass.config.ExecutionConfig;
 import de.dagere.peass.config.KiekerConfig;
 import de.dagere.peass.dependency.ChangeManager;
 import de.dagere.peass.dependency.parallel.OneReader;
 import de.dagere.peass.dependency.parallel.PartialSelectionResultsMerger;
+import de.dagere.peass.dependency.persistence.CommitStaticSelection;
 import de.dagere.peass.dependency.persistence.InitialCommit;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
 import de.dagere.peass.dependency.reader.DependencyReader;
@@ -63,7 +67,9 @@ public class TestCommitSplitting {
       public void readCommit() throws IOException, FileNotFoundException {
          System.out.println(nonRunning + " " + iterator.getCommitName() + " " + nonRunning.contains(iterator.getCommitName()));
          if (!nonRunning.contains(iterator.getCommitName())) {
-            staticSelectionResult.getCommits().put(iterator.getCommitName(), null);
+            CommitStaticSelection runningCommit = new CommitStaticSelection();
+            runningCommit.setRunning(true);
+            staticSelectionResult.getCommits().put(iterator.getCommitName(), runningCommit);
             System.out.println("Reading: " + iterator.getCommitName());
          }
       }
@@ -141,6 +147,24 @@ public class TestCommitSplitting {
       readDummyDependencies(dependencies, i, currentCommits, reserveCommits, minimumCommit);
    }
 
+   @Test
+   public void testFailureIsRethrown() throws IOException, ParseException {
+      DependencyReader failingReader = Mockito.mock(DependencyReader.class);
+      Mockito.when(failingReader.readInitialCommit()).thenThrow(new IOException("Reading failed"));
+
+      RunningCommitFinder finder = new RunningCommitFinder(null, null, null, null, null) {
+         @Override
+         public boolean searchFirstRunningCommit() {
+            return true;
+         }
+      };
+
+      OneReader reader = new OneReader("2", null, failingReader, finder, ParallelTestUtil.getCommits());
+      RuntimeException thrown = Assertions.assertThrows(RuntimeException.class, reader::run);
+      Assert.assertTrue(thrown.getCause() instanceof IOException);
+      Mockito.verify(failingReader).stopBuildDaemons();
+   }
+
    private void readDummyDependencies(final List<StaticTestSelection> dependencies, final int i, final List<String> currentCommits, final List<String> reserveCommits,
          final String minimumCommit)
          throws IOException {
@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.HashSet;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -139,4 +140,24 @@ public class TestShortening {
       Assert.assertTrue(FileUtils.contentEquals(exampleTestFile, testClazz));
       Assert.assertTrue(FileUtils.contentEquals(subTestFile, subClazz));
    }
+
+   @Test
+   public void testMultipleMethodShortening() throws Exception {
+      final File test = new File(folder, "src/test/java/de");
+      final File testClazz = new File(test, "ExampleTest.java");
+      final File subClazz = new File(test, "SubTest.java");
+
+      try (JUnitTestShortener shortener = new JUnitTestShortener(transformer, folder, new ChangedEntity("de.SubTest", ""),
+            new HashSet<>(Arrays.asList("test3", "test4")))) {
+         try (FileInputStream inputStream = new FileInputStream(subClazz)) {
+            String fileContent = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            Assert.assertEquals(2, StringUtils.countMatches(fileContent, "@Test"));
+         }
+         Assert.assertFalse(FileUtils.contentEquals(exampleTestFile, testClazz));
+         Assert.assertEquals(new HashSet<>(Arrays.asList(testClazz, subClazz)), shortener.getShortenedFiles());
+      }
+
+      Assert.assertTrue(FileUtils.contentEquals(exampleTestFile, testClazz));
+      Assert.assertTrue(FileUtils.contentEquals(subTestFile, subClazz));
+   }
 }
@@ -0,0 +1,36 @@
+package de.dagere.peass.utils;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+
+public class TestStreamGobbler {
+
+   @Test
+   public void testOutputWithTimeout() throws IOException, InterruptedException {
+      Assumptions.assumeTrue(EnvironmentVariables.isLinux());
+      Process process = new ProcessBuilder("sh", "-c", "echo status").start();
+
+      String output = StreamGobbler.getFullProcess(process, false, 10);
+
+      Assert.assertEquals("status\n", output);
+   }
+
+   @Test
+   public void testHangingProcessIsKilled() throws IOException, InterruptedException {
+      Assumptions.assumeTrue(EnvironmentVariables.isLinux());
+      Process process = new ProcessBuilder("sh", "-c", "echo started; sleep 60").start();
+
+      long start = System.currentTimeMillis();
+      String output = StreamGobbler.getFullProcess(process, false, 1);
+
+      Assert.assertNull(output);
+      Assert.assertTrue(System.currentTimeMillis() - start < 30000);
+      process.waitFor();
+      Assert.assertFalse(process.isAlive());
+   }
+}
@@ -0,0 +1,105 @@
+package de.dagere.peass.vcs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.dagere.peass.TestConstants;
+import de.dagere.peass.TestUtil;
+import de.dagere.peass.config.ExecutionConfig;
+import de.dagere.peass.dependency.ChangeManager;
+import de.dagere.peass.dependency.analysis.data.ChangedEntity;
+import de.dagere.peass.dependency.changesreading.ClazzChangeData;
+import de.dagere.peass.execution.utils.ProjectModules;
+import de.dagere.peass.execution.utils.TestExecutor;
+import de.dagere.peass.folders.PeassFolders;
+
+public class TestGitObjectReader {
+
+   private final static File PROJECT_FOLDER = new File(TestConstants.CURRENT_FOLDER, "demo-git-objects");
+   private final static String CLAZZ_PATH = "src/main/java/de/Clazz.java";
+   private final static String UNCHANGED_PATH = "src/main/java/de/Unchanged.java";
+
+   private static final String OLD_SOURCE = "package de;\n\npublic class Clazz {\n   public void a() {\n      System.out.println(1);\n   }\n\n   public void b() {\n   }\n}\n";
+   private static final String NEW_SOURCE = "package de;\n\npublic class Clazz {\n   public void a() {\n      System.out.println(2);\n   }\n\n   public void b() {\n   }\n}\n";
+
+   @BeforeEach
+   public void prepareProject() throws InterruptedException, IOException {
+      TestUtil.deleteContents(PROJECT_FOLDER);
+      PROJECT_FOLDER.mkdirs();
+      ProjectBuilderHelper.init(PROJECT_FOLDER);
+
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, CLAZZ_PATH), OLD_SOURCE, StandardCharsets.UTF_8);
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, UNCHANGED_PATH), "package de;\n\npublic class Unchanged {\n}\n", StandardCharsets.UTF_8);
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "Old version");
+
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, CLAZZ_PATH), NEW_SOURCE, StandardCharsets.UTF_8);
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, "src/main/java/de/Added.java"), "package de;\n\npublic class Added {\n}\n", StandardCharsets.UTF_8);
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "New version");
+   }
+
+   @Test
+   public void testReadFile() throws IOException {
+      try (GitObjectReader reader = new GitObjectReader(PROJECT_FOLDER)) {
+         Assert.assertEquals(NEW_SOURCE, reader.readFile("HEAD", CLAZZ_PATH));
+         Assert.assertEquals(OLD_SOURCE, reader.readFile("HEAD~1", CLAZZ_PATH));
+         Assert.assertNull(reader.readFile("HEAD~1", "src/main/java/de/Added.java"));
+         Assert.assertNull(reader.readFile("HEAD", "src/main/java/de"));
+         Assert.assertNotNull(reader.readFile("HEAD", UNCHANGED_PATH));
+      }
+   }
+
+   @Test
+   public void testChangesFromObjects() throws IOException {
+      ExecutionConfig config = new ExecutionConfig();
+      config.setReadChangesFromGitObjects(true);
+
+      TestExecutor executor = Mockito.mock(TestExecutor.class);
+      Mockito.when(executor.getModules()).thenReturn(new ProjectModules(PROJECT_FOLDER));
+      PeassFolders folders = new PeassFolders(PROJECT_FOLDER);
+
+      FileUtils.deleteDirectory(folders.getOldSources());
+
+      ChangeManager manager = new ChangeManager(folders, new CommitIteratorGit(PROJECT_FOLDER), config, executor);
+      manager.saveOldClasses();
+      Assert.assertEquals(0, folders.getOldSources().list().length);
+
+      Map<ChangedEntity, ClazzChangeData> changes = manager.getChanges("HEAD~1");
+
+      MatcherAssert.assertThat(changes.keySet(), Matchers.containsInAnyOrder(new ChangedEntity("de.Clazz", ""), new ChangedEntity("de.Added", "")));
+      ClazzChangeData clazzChange = changes.get(new ChangedEntity("de.Clazz", ""));
+      Assert.assertTrue(clazzChange.isOnlyMethodChange());
+      MatcherAssert.assertThat(clazzChange.getChangedMethods().values().iterator().next(), Matchers.contains("a"));
+      Assert.assertFalse(changes.get(new ChangedEntity("de.Added", "")).isOnlyMethodChange());
+   }
+
+   @Test
+   public void testOldMethodSourceFromObjects() throws IOException {
+      ExecutionConfig config = new ExecutionConfig();
+      config.setReadChangesFromGitObjects(true);
+
+      TestExecutor executor = Mockito.mock(TestExecutor.class);
+      Mockito.when(executor.getModules()).thenReturn(new ProjectModules(PROJECT_FOLDER));
+      PeassFolders folders = new PeassFolders(PROJECT_FOLDER);
+
+      FileUtils.deleteDirectory(folders.getOldSources());
+
+      ChangeManager manager = new ChangeManager(folders, new CommitIteratorGit(PROJECT_FOLDER), config, executor);
+      manager.getChanges("HEAD~1");
+
+      ChangedEntity changedMethod = new ChangedEntity("de.Clazz", "", "a");
+      MatcherAssert.assertThat(manager.getOldMethodSource(changedMethod), Matchers.containsString("System.out.println(1);"));
+      Assert.assertEquals(1, manager.getKeywordChanges(changedMethod).getDeltas().size());
+      Assert.assertEquals("", manager.getOldMethodSource(new ChangedEntity("de.Added", "", "a")));
+      Assert.assertFalse(folders.getOldSources().exists() && folders.getOldSources().list().length > 0);
+   }
+}
@@ -14,6 +14,7 @@ import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.measurement.rca.CausePersistenceManager;
+import de.dagere.peass.measurement.rca.CauseSearchJournal;
 import de.dagere.peass.measurement.rca.CauseTester;
 import de.dagere.peass.measurement.rca.LevelManager;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
@@ -48,6 +49,8 @@ public class RCALevelContinueStarter implements Callable<Void> {
       if (resultFile != null && resultFileFull != null) {
          final CauseSearchData data = Constants.OBJECTMAPPER.readValue(resultFile, CauseSearchData.class);
          final CauseSearchData dataFull = Constants.OBJECTMAPPER.readValue(resultFileFull, CauseSearchData.class);
+         final File journalFile = folders.getRcaTreeJournal(data.getMeasurementConfig().getFixedCommitConfig().getCommit(), data.getCauseConfig().getTestCase());
+         CauseSearchJournal.replay(journalFile, data, dataFull);
 
          MeasurementConfig measurementConfig = data.getMeasurementConfig();
          final CauseSearchFolders alternateFolders = createAlternateFolders(folders, measurementConfig.getExecutionConfig().getGitCryptKey());
@@ -68,7 +71,12 @@ public class RCALevelContinueStarter implements Callable<Void> {
 
          new LevelManager(currentCommitNodeList, currentPredecessorNodeList, reader).goToLastMeasuredLevel(data.getNodes());
 
-         tester.isLevelDifferent(currentPredecessorNodeList, currentCommitNodeList);
+         try {
+            tester.isLevelDifferent(currentPredecessorNodeList, currentCommitNodeList);
+         } finally {
+            tester.closeSpeculation();
+         }
+         persistenceManager.compact();
       }
 
       return null;
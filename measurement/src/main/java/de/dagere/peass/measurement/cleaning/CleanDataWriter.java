@@ -0,0 +1,69 @@
+package de.dagere.peass.measurement.cleaning;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.kopeme.datastorage.JSONDataStorer;
+import de.dagere.kopeme.kopemedata.DatacollectorResult;
+import de.dagere.kopeme.kopemedata.Kopemedata;
+import de.dagere.kopeme.kopemedata.VMResultChunk;
+import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
+import de.dagere.peass.measurement.dataloading.BinaryResultFile;
+import de.dagere.peass.measurement.dataloading.MeasurementFileFinder;
+
+/**
+ * Collects the cleaned chunks of all tests and writes every measurement file of the clean folder only once on {@link #flush()}, instead of loading and rewriting the file
+ * for every chunk. The files have the same content as if every chunk had been written directly; existing files in the binary format of {@link BinaryResultFile}
+ * keep their format.
+ */
+public class CleanDataWriter {
+
+   private static final Logger LOG = LogManager.getLogger(CleanDataWriter.class);
+
+   private final File cleanFolder;
+   private final Map<File, Kopemedata> pendingData = new LinkedHashMap<>();
+   private final Map<String, File> testcaseFiles = new HashMap<>();
+
+   public CleanDataWriter(final File cleanFolder) {
+      this.cleanFolder = cleanFolder;
+   }
+
+   public void addChunk(final TestMethodCall testcase, final VMResultChunk chunk) {
+      final String testcaseKey = testcase.getClazz() + "_" + testcase.getMethodWithParams();
+      File measurementFile = testcaseFiles.get(testcaseKey);
+      if (measurementFile == null) {
+         final MeasurementFileFinder finder = new MeasurementFileFinder(cleanFolder, testcase);
+         measurementFile = finder.getMeasurementFile();
+         testcaseFiles.put(testcaseKey, measurementFile);
+         if (!pendingData.containsKey(measurementFile)) {
+            pendingData.put(measurementFile, finder.getOneResultData());
+         }
+      }
+
+      final Kopemedata oneResultData = pendingData.get(measurementFile);
+      oneResultData.setClazz(testcase.getClazz());
+      final DatacollectorResult datacollector = MeasurementFileFinder.getDataCollector(testcase.getMethod(), oneResultData.getMethods());
+      datacollector.getChunks().add(chunk);
+   }
+
+   /**
+    * Writes all measurement files with added chunks; afterwards, the files are read again from the clean folder when further chunks are added.
+    */
+   public void flush() {
+      LOG.debug("Writing {} clean measurement files", pendingData.size());
+      for (Map.Entry<File, Kopemedata> pending : pendingData.entrySet()) {
+         if (BinaryResultFile.isBinaryResultFile(pending.getKey())) {
+            BinaryResultFile.write(pending.getKey(), pending.getValue());
+         } else {
+            JSONDataStorer.storeData(pending.getKey(), pending.getValue());
+         }
+      }
+      pendingData.clear();
+      testcaseFiles.clear();
+   }
+}
@@ -8,16 +8,12 @@ import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import de.dagere.kopeme.datastorage.JSONDataStorer;
-import de.dagere.kopeme.kopemedata.DatacollectorResult;
 import de.dagere.kopeme.kopemedata.Fulldata;
-import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.kopeme.kopemedata.VMResult;
 import de.dagere.kopeme.kopemedata.VMResultChunk;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.measurement.dataloading.DataAnalyser;
-import de.dagere.peass.measurement.dataloading.MeasurementFileFinder;
 import de.dagere.peass.measurement.dataloading.MultipleVMTestUtil;
 import de.dagere.peass.measurement.statistics.StatisticUtil;
 import de.dagere.peass.measurement.statistics.data.EvaluationPair;
@@ -36,7 +32,7 @@ public class Cleaner extends DataAnalyser {
 
    private static final Logger LOG = LogManager.getLogger(Cleaner.class);
 
-   private final File cleanFolder;
+   private final CleanDataWriter writer;
    private int correct = 0;
    protected int read = 0;
 
@@ -50,7 +46,20 @@ public class Cleaner extends DataAnalyser {
 
    public Cleaner(final File cleanFolder, CommitComparatorInstance comparator) {
       super(comparator);
-      this.cleanFolder = cleanFolder;
+      this.writer = new CleanDataWriter(cleanFolder);
+   }
+
+   @Override
+   public void analyseFolder(final File measurementsFolder) throws InterruptedException {
+      super.analyseFolder(measurementsFolder);
+      flush();
+   }
+
+   /**
+    * Writes the cleaned data of all processed tests to the clean folder; needs to be called after {@link #processTestdata(TestData)} if it is called directly.
+    */
+   public void flush() {
+      writer.flush();
    }
 
    @Override
@@ -92,28 +101,22 @@ public class Cleaner extends DataAnalyser {
    }
 
    private void handleChunk(final Entry<String, EvaluationPair> entry, TestMethodCall testcase, final VMResultChunk cleanedChunk) {
-      final MeasurementFileFinder finder = new MeasurementFileFinder(cleanFolder, testcase);
-      final File measurementFile = finder.getMeasurementFile();
-      final Kopemedata oneResultData = finder.getOneResultData();
-      DatacollectorResult datacollector = finder.getDataCollector();
-
       if (checkChunk(cleanedChunk)) {
-         datacollector.getChunks().add(cleanedChunk);
-         JSONDataStorer.storeData(measurementFile, oneResultData);
+         writer.addChunk(testcase, cleanedChunk);
          correct++;
       } else {
-         printFailureInfo(entry, cleanedChunk, measurementFile);
+         printFailureInfo(entry, cleanedChunk, testcase);
       }
    }
 
-   private void printFailureInfo(final Entry<String, EvaluationPair> entry, final VMResultChunk currentChunk, final File measurementFile) {
+   private void printFailureInfo(final Entry<String, EvaluationPair> entry, final VMResultChunk currentChunk, final TestMethodCall testcase) {
       for (final VMResult r : entry.getValue().getPrevius()) {
          LOG.debug("Value: {} Executions: {} Repetitions: {}", r.getValue(), r.getIterations(), r.getRepetitions());
       }
       for (final VMResult r : entry.getValue().getCurrent()) {
          LOG.debug("Value:  {} Executions: {} Repetitions: {}", r.getValue(), r.getIterations(), r.getRepetitions());
       }
-      LOG.debug("Too few correct measurements: {} ", measurementFile.getAbsolutePath());
+      LOG.debug("Too few correct measurements: {} ", testcase);
       LOG.debug("Measurements: {} / {}", currentChunk.getResults().size(), entry.getValue().getPrevius().size() + entry.getValue().getCurrent().size());
    }
 
@@ -0,0 +1,228 @@
+package de.dagere.peass.measurement.dataloading;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.kopeme.datastorage.JSONDataLoader;
+import de.dagere.kopeme.datastorage.JSONDataStorer;
+import de.dagere.kopeme.junit.rule.annotations.KoPeMeConstants;
+import de.dagere.kopeme.kopemedata.DatacollectorResult;
+import de.dagere.kopeme.kopemedata.Kopemedata;
+import de.dagere.kopeme.kopemedata.MeasuredValue;
+import de.dagere.kopeme.kopemedata.TestMethod;
+import de.dagere.kopeme.kopemedata.VMResult;
+import de.dagere.kopeme.kopemedata.VMResultChunk;
+
+/**
+ * Compact storage of KoPeMe result files: A header with the result data without the iteration values (as JSON), followed by the iteration values of every
+ * {@link VMResult} as packed columns of start times and values. The files are read memory-mapped, so the iteration values are not parsed.
+ *
+ * The format is
+ *
+ * <pre>
+ * int magic, int version, int headerLength, byte[headerLength] header
+ * for every VMResult (in the order of the methods, datacollectors, results and chunk results): int count, long[count] startTimes, long[count] values
+ * </pre>
+ */
+public final class BinaryResultFile {
+
+   private static final Logger LOG = LogManager.getLogger(BinaryResultFile.class);
+
+   public static final String EXTENSION = ".peassbin";
+
+   private static final int MAGIC = 0x50454153;
+   private static final int VERSION = 1;
+
+   private BinaryResultFile() {
+
+   }
+
+   public static boolean isBinaryResultFile(final File file) {
+      return file.getName().endsWith(EXTENSION);
+   }
+
+   /**
+    * Loads the data of a result file in JSON, XML or binary format.
+    */
+   public static Kopemedata loadData(final File file) {
+      if (isBinaryResultFile(file)) {
+         return read(file);
+      } else {
+         return JSONDataLoader.loadData(file);
+      }
+   }
+
+   public static void write(final File destination, final Kopemedata data) {
+      final Kopemedata header = JSONDataStorer.clone(data);
+      final List<VMResult> headerResults = getResults(header);
+      for (VMResult result : headerResults) {
+         if (result.getFulldata() != null) {
+            result.getFulldata().setValues(new ArrayList<>());
+         }
+      }
+
+      try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(destination)))) {
+         final byte[] headerBytes = KoPeMeConstants.OBJECTMAPPER.writeValueAsBytes(header);
+         output.writeInt(MAGIC);
+         output.writeInt(VERSION);
+         output.writeInt(headerBytes.length);
+         output.write(headerBytes);
+
+         for (VMResult result : getResults(data)) {
+            final List<MeasuredValue> values = result.getFulldata() != null ? result.getFulldata().getValues() : null;
+            if (values == null) {
+               output.writeInt(0);
+            } else {
+               output.writeInt(values.size());
+               for (MeasuredValue value : values) {
+                  output.writeLong(value.getStartTime());
+               }
+               for (MeasuredValue value : values) {
+                  output.writeLong(value.getValue());
+               }
+            }
+         }
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   public static Kopemedata read(final File file) {
+      try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+         final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+         return read(file, buffer);
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   /**
+    * Reads the file into the heap instead of mapping it, so the file can be deleted directly afterwards; a mapping would keep the file open until the buffer is
+    * garbage collected, which prevents deletion on Windows.
+    */
+   private static Kopemedata readUnmapped(final File file) {
+      try {
+         return read(file, ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   private static Kopemedata read(final File file, final ByteBuffer buffer) throws IOException {
+      if (buffer.getInt() != MAGIC) {
+         throw new RuntimeException("File " + file + " is no binary result file");
+      }
+      final int version = buffer.getInt();
+      if (version != VERSION) {
+         throw new RuntimeException("Binary result file version " + version + " of " + file + " is not supported");
+      }
+      final byte[] headerBytes = new byte[buffer.getInt()];
+      buffer.get(headerBytes);
+      final Kopemedata data = KoPeMeConstants.OBJECTMAPPER.readValue(headerBytes, Kopemedata.class);
+
+      for (VMResult result : getResults(data)) {
+         readValues(buffer, result);
+      }
+      return data;
+   }
+
+   private static void readValues(final ByteBuffer buffer, final VMResult result) {
+      final int count = buffer.getInt();
+      final LongBuffer startTimes = buffer.asLongBuffer();
+      buffer.position(buffer.position() + count * Long.BYTES);
+      final LongBuffer values = buffer.asLongBuffer();
+      buffer.position(buffer.position() + count * Long.BYTES);
+      if (result.getFulldata() != null) {
+         final List<MeasuredValue> measuredValues = new ArrayList<>(count);
+         for (int i = 0; i < count; i++) {
+            final MeasuredValue measuredValue = new MeasuredValue();
+            measuredValue.setStartTime(startTimes.get(i));
+            measuredValue.setValue(values.get(i));
+            measuredValues.add(measuredValue);
+         }
+         result.getFulldata().setValues(measuredValues);
+      }
+   }
+
+   private static List<VMResult> getResults(final Kopemedata data) {
+      final List<VMResult> results = new LinkedList<>();
+      for (TestMethod method : data.getMethods()) {
+         for (DatacollectorResult datacollector : method.getDatacollectorResults()) {
+            results.addAll(datacollector.getResults());
+            for (VMResultChunk chunk : datacollector.getChunks()) {
+               results.addAll(chunk.getResults());
+            }
+         }
+      }
+      return results;
+   }
+
+   /**
+    * Converts all JSON result files in the folder and its subfolders to the binary format, deleting the JSON files.
+    *
+    * @return Count of converted files
+    */
+   public static int convertToBinary(final File folder) {
+      int converted = 0;
+      for (File file : folder.listFiles((FileFilter) (candidate -> candidate.isDirectory() || candidate.getName().endsWith(".json")))) {
+         if (file.isDirectory()) {
+            converted += convertToBinary(file);
+         } else {
+            final String baseName = file.getName().substring(0, file.getName().length() - ".json".length());
+            write(new File(file.getParentFile(), baseName + EXTENSION), JSONDataLoader.loadData(file));
+            delete(file);
+            converted++;
+         }
+      }
+      LOG.debug("Converted {} files in {} to binary", converted, folder);
+      return converted;
+   }
+
+   /**
+    * Converts all binary result files in the folder and its subfolders to JSON, deleting the binary files.
+    *
+    * @return Count of converted files
+    */
+   public static int convertToJson(final File folder) {
+      int converted = 0;
+      for (File file : folder.listFiles((FileFilter) (candidate -> candidate.isDirectory() || isBinaryResultFile(candidate)))) {
+         if (file.isDirectory()) {
+            converted += convertToJson(file);
+         } else {
+            final String baseName = file.getName().substring(0, file.getName().length() - EXTENSION.length());
+            JSONDataStorer.storeData(new File(file.getParentFile(), baseName + ".json"), readUnmapped(file));
+            delete(file);
+            converted++;
+         }
+      }
+      LOG.debug("Converted {} files in {} to JSON", converted, folder);
+      return converted;
+   }
+
+   /**
+    * Deletes the converted file; if it can not be deleted, the conversion fails, since otherwise the same result would exist in both formats.
+    */
+   private static void delete(final File convertedFile) {
+      try {
+         Files.delete(convertedFile.toPath());
+      } catch (IOException e) {
+         throw new RuntimeException("Could not delete converted file " + convertedFile, e);
+      }
+   }
+}
@@ -0,0 +1,40 @@
+package de.dagere.peass.measurement.dataloading;
+
+import java.io.File;
+import java.util.concurrent.Callable;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(name = "convertResults", description = "Converts the KoPeMe result files of measurement folders from JSON to the binary format or back", mixinStandardHelpOptions = true)
+public class ConvertResultsStarter implements Callable<Void> {
+
+   private static final Logger LOG = LogManager.getLogger(ConvertResultsStarter.class);
+
+   @Option(names = { "-data", "--data" }, description = "Path to measurement folders (e.g. measurementsFull/measurements)", required = true)
+   protected File data[];
+
+   @Option(names = { "-toJson", "--toJson" }, description = "Converts binary result files back to JSON (Default: false, i.e. JSON files are converted to binary)")
+   protected boolean toJson = false;
+
+   public static void main(final String[] args) {
+      final CommandLine commandLine = new CommandLine(new ConvertResultsStarter());
+      System.exit(commandLine.execute(args));
+   }
+
+   @Override
+   public Void call() throws Exception {
+      for (File folder : data) {
+         if (!folder.exists()) {
+            throw new RuntimeException("Folder " + folder + " did not exist");
+         }
+         final int converted = toJson ? BinaryResultFile.convertToJson(folder) : BinaryResultFile.convertToBinary(folder);
+         LOG.info("Converted {} files in {}", converted, folder);
+      }
+      return null;
+   }
+}
@@ -13,7 +13,6 @@ public abstract class DataAnalyser {
    
    private static final Logger LOG = LogManager.getLogger(DataAnalyser.class);
    
-   private boolean isFinished = false;
    protected final CommitComparatorInstance comparator;
 
    public DataAnalyser(CommitComparatorInstance comparator) {
@@ -28,19 +27,18 @@ public abstract class DataAnalyser {
          System.exit(1);
       }
 
-      final LinkedBlockingQueue<TestData> measurements = new LinkedBlockingQueue<>();
+      final LinkedBlockingQueue<TestData> measurements = DataReader.createQueue();
       final Thread readerThread = DataReader.startReadVersionDataMap(measurementsFolder, measurements, comparator);
 
       Thread processorThread = new Thread(new Runnable() {
          
          @Override
          public void run() {
-            isFinished = false;
             TestData measurementEntry;
             try {
                measurementEntry = measurements.take();
                
-               while (measurementEntry != DataReader.POISON_PILL && !isFinished) {
+               while (measurementEntry != DataReader.POISON_PILL) {
                   processTestdata(measurementEntry);
                   measurementEntry = measurements.take();
                }
@@ -52,14 +50,8 @@ public abstract class DataAnalyser {
       processorThread.start();
       readerThread.join();
       
-      finishProcessingIfRunning(processorThread);
-   }
-
-   private void finishProcessingIfRunning(Thread processorThread) throws InterruptedException {
-      Thread.sleep(100);
-      isFinished = true;
+      // The reader always adds the poison pill, so the processor finishes after all read data are processed
       processorThread.join();
-//      processorThread.interrupt();
    }
 
    public abstract void processTestdata(TestData measurementEntry);
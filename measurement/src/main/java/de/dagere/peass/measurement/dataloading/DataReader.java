@@ -3,21 +3,28 @@ package de.dagere.peass.measurement.dataloading;
 import java.io.File;
 import java.io.FileFilter;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import de.dagere.kopeme.datastorage.JSONDataLoader;
 import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.measurement.statistics.data.TestData;
 
 /**
- * Reads measurement data sequentially, reading files after each other to a queue and stops reading if the queue gets too full (currently 10 elements).
+ * Reads measurement data to a queue: The class folders are read in parallel by a bounded work-stealing pool, and the readers block if the queue is full (if it has been
+ * created by {@link #createQueue()}, this means {@value #MAX_QUEUE_SIZE} elements). After all data are read, or if reading failed, the {@link #POISON_PILL} is added.
  * 
  * @author reichelt
  *
@@ -28,22 +35,33 @@ public final class DataReader {
    private static final Logger LOG = LogManager.getLogger(DataReader.class);
 
    public static final TestData POISON_PILL = new TestData(null, null, null);
-   private static int size = 0;
+
+   private static final int MAX_READERS = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8));
 
    private DataReader() {
 
    }
 
+   /**
+    * Creates a queue for {@link #startReadVersionDataMap(File, LinkedBlockingQueue, CommitComparatorInstance)} that is bounded, so reading waits for the processing of the
+    * data.
+    */
+   public static LinkedBlockingQueue<TestData> createQueue() {
+      return new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
+   }
+
    public static Thread startReadVersionDataMap(final File fullDataFolder, LinkedBlockingQueue<TestData> myQueue, CommitComparatorInstance comparator) {
       final Thread readerThread = new Thread(new Runnable() {
 
          @Override
          public void run() {
-            size = 0;
             LOG.debug("Starting data-reading from: {}", fullDataFolder);
-            readDataToQueue(fullDataFolder, myQueue, comparator);
-            myQueue.add(POISON_PILL);
-            LOG.debug("Finished data-reading, testcase-changes: {}", size);
+            try {
+               final int size = readDataToQueue(fullDataFolder, myQueue, comparator);
+               LOG.debug("Finished data-reading, testcase-changes: {}", size);
+            } finally {
+               putUninterruptibly(myQueue, POISON_PILL);
+            }
          }
       });
       readerThread.start();
@@ -51,25 +69,40 @@ public final class DataReader {
       return readerThread;
    }
 
-   private static void readDataToQueue(final File fullDataFolder, final LinkedBlockingQueue<TestData> measurements, CommitComparatorInstance comparator) {
+   private static int readDataToQueue(final File fullDataFolder, final LinkedBlockingQueue<TestData> measurements, CommitComparatorInstance comparator) {
       LOG.info("Loading folder: {}", fullDataFolder);
 
-      for (final File clazzFile : fullDataFolder.listFiles()) {
-         final Map<String, TestData> currentMeasurement = readClassFolder(clazzFile, comparator);
-
-         for (final TestData data : currentMeasurement.values()) {
-            LOG.debug("Add: {}", data.getTestClass() + " " + data.getTestMethod());
-            while (measurements.size() > MAX_QUEUE_SIZE) {
-               LOG.info("Waiting, Measurements: {} Max-Queue-Size: {}", measurements.size(), MAX_QUEUE_SIZE);
-               try {
-                  Thread.sleep(1000);
-               } catch (final InterruptedException e) {
-                  e.printStackTrace();
+      final AtomicInteger size = new AtomicInteger();
+      final File[] clazzFiles = fullDataFolder.listFiles();
+      final ExecutorService readers = Executors.newWorkStealingPool(Math.max(1, Math.min(MAX_READERS, clazzFiles.length)));
+      try {
+         final List<Future<?>> futures = new LinkedList<>();
+         for (final File clazzFile : clazzFiles) {
+            futures.add(readers.submit(() -> {
+               final Map<String, TestData> currentMeasurement = readClassFolder(clazzFile, comparator);
+               for (final TestData data : currentMeasurement.values()) {
+                  LOG.debug("Add: {}", data.getTestClass() + " " + data.getTestMethod());
+                  putUninterruptibly(measurements, data);
+                  size.addAndGet(data.getVersions());
                }
-            }
-            measurements.add(data);
-            size += data.getVersions();
+            }));
+         }
+         for (Future<?> future : futures) {
+            future.get();
          }
+      } catch (InterruptedException | ExecutionException e) {
+         throw new RuntimeException(e);
+      } finally {
+         readers.shutdownNow();
+      }
+      return size.get();
+   }
+
+   private static void putUninterruptibly(final LinkedBlockingQueue<TestData> measurements, final TestData data) {
+      try {
+         measurements.put(data);
+      } catch (InterruptedException e) {
+         throw new RuntimeException(e);
       }
    }
 
@@ -77,14 +110,20 @@ public final class DataReader {
       final Map<String, TestData> currentMeasurement = new HashMap<>();
       for (final File commitOfPair : clazzFile.listFiles()) {
          if (commitOfPair.isDirectory()) {
-            for (final File commitCurrent : commitOfPair.listFiles()) {
+            final File[] commitFiles = commitOfPair.listFiles();
+            final String predecessor = getPredecessor(commitOfPair, commitFiles);
+            for (final File commitCurrent : commitFiles) {
                for (final File measurementFile : commitCurrent.listFiles((FileFilter) new WildcardFileFilter("*.json"))) {
-                  readMeasurementFile(currentMeasurement, commitOfPair, commitCurrent, measurementFile, comparator);
+                  readMeasurementFile(currentMeasurement, commitOfPair, commitCurrent, predecessor, measurementFile, comparator);
                }
                
+               for (final File measurementFile : commitCurrent.listFiles((FileFilter) new WildcardFileFilter("*" + BinaryResultFile.EXTENSION))) {
+                  readMeasurementFile(currentMeasurement, commitOfPair, commitCurrent, predecessor, measurementFile, comparator);
+               }
+
                // For compatibility with reading old xml result data, this needs to stay in the code
                for (final File measurementFile : commitCurrent.listFiles((FileFilter) new WildcardFileFilter("*.xml"))) {
-                  readMeasurementFile(currentMeasurement, commitOfPair, commitCurrent, measurementFile, comparator);
+                  readMeasurementFile(currentMeasurement, commitOfPair, commitCurrent, predecessor, measurementFile, comparator);
                }
             }
          } else {
@@ -94,8 +133,19 @@ public final class DataReader {
       return currentMeasurement;
    }
 
-   private static void readMeasurementFile(final Map<String, TestData> currentMeasurement, final File commitOfPair, final File commitCurrent, final File measurementFile, CommitComparatorInstance comparator) {
-      final Kopemedata resultData = JSONDataLoader.loadData(measurementFile);
+   private static String getPredecessor(final File commitOfPair, final File[] commitFiles) {
+      String predecessor = null;
+      for (final File commitFile : commitFiles) {
+         if (!commitFile.getName().equals(commitOfPair.getName())) {
+            predecessor = commitFile.getName();
+         }
+      }
+      return predecessor;
+   }
+
+   private static void readMeasurementFile(final Map<String, TestData> currentMeasurement, final File commitOfPair, final File commitCurrent, final String predecessor,
+         final File measurementFile, CommitComparatorInstance comparator) {
+      final Kopemedata resultData = BinaryResultFile.loadData(measurementFile);
       final String testclazz = resultData.getClazz();
       TestMethodCall testcase = new TestMethodCall(resultData);
       TestData testData = currentMeasurement.get(testcase.getMethodWithParams());
@@ -105,14 +155,6 @@ public final class DataReader {
          currentMeasurement.put(testcase.getMethodWithParams(), testData);
       }
 
-      String predecessor = null;
-      final File commitFiles[] = commitOfPair.listFiles();
-      for (final File commitFile : commitFiles) {
-         if (!commitFile.getName().equals(commitOfPair.getName())) {
-            predecessor = commitFile.getName();
-         }
-      }
-
       if (predecessor != null) {
          testData.addMeasurement(commitOfPair.getName(), commitCurrent.getName(), predecessor, resultData);
       } else {
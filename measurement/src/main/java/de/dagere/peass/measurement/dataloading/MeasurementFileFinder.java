@@ -3,7 +3,6 @@ package de.dagere.peass.measurement.dataloading;
 import java.io.File;
 import java.util.List;
 
-import de.dagere.kopeme.datastorage.JSONDataLoader;
 import de.dagere.kopeme.kopemedata.DatacollectorResult;
 import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.kopeme.kopemedata.TestMethod;
@@ -21,7 +20,11 @@ public class MeasurementFileFinder {
       final String shortClazz = clazz.substring(clazz.lastIndexOf('.') + 1);
       File xmlCandidateFull = new File(folder, clazz + "_" + methodWithParams + ".xml");
       final File xmlCandidateShort = new File(folder, shortClazz + "_" + methodWithParams + ".xml");
-      if (xmlCandidateFull.exists()) {
+      final File binaryCandidate = findBinaryCandidate(folder, clazz, shortClazz, methodWithParams);
+      if (binaryCandidate != null) {
+         measurementFile = binaryCandidate;
+         oneResultData = loadData(measurementFile);
+      } else if (xmlCandidateFull.exists()) {
          measurementFile = xmlCandidateFull;
          oneResultData = loadData(measurementFile);
       } else if (xmlCandidateShort.exists()) {
@@ -64,8 +67,23 @@ public class MeasurementFileFinder {
       datacollector = getDataCollector(testcase.getMethod(), testcaseList);
    }
 
+   /**
+    * Returns the existing result file in the binary format of {@link BinaryResultFile}, or null if the results are not stored in binary format
+    */
+   private File findBinaryCandidate(final File folder, final String clazz, final String shortClazz, final String methodWithParams) {
+      final File binaryCandidateFull = new File(folder, clazz + "_" + methodWithParams + BinaryResultFile.EXTENSION);
+      if (binaryCandidateFull.exists()) {
+         return binaryCandidateFull;
+      }
+      final File binaryCandidateShort = new File(folder, shortClazz + "_" + methodWithParams + BinaryResultFile.EXTENSION);
+      if (binaryCandidateShort.exists() && clazz.equals(loadData(binaryCandidateShort).getClazz())) {
+         return binaryCandidateShort;
+      }
+      return null;
+   }
+
    public Kopemedata loadData(final File file) {
-      final Kopemedata oneResultData2 = JSONDataLoader.loadData(file);
+      final Kopemedata oneResultData2 = BinaryResultFile.loadData(file);
       return oneResultData2;
    }
 
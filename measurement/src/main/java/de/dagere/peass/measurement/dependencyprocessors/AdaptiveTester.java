@@ -34,6 +34,8 @@ public class AdaptiveTester extends DependencyTester {
 
       try (ProgressWriter writer = new ProgressWriter(folders.getProgressFile(), configuration.getVms())) {
          evaluateWithAdaption(testcase, logFolder, writer);
+      } finally {
+         finishResultOrganization();
       }
    }
 
@@ -41,7 +43,8 @@ public class AdaptiveTester extends DependencyTester {
       currentChunkStart = System.currentTimeMillis();
       for (finishedVMs = 0; finishedVMs < configuration.getVms(); finishedVMs++) {
          long comparisonStart = System.currentTimeMillis();
-         runOneComparison(logFolder, testcase, finishedVMs);
+         final int firstVMid = finishedVMs;
+         finishedVMs = runComparisons(logFolder, testcase, firstVMid);
 
          final boolean savelyDecidable = checkIsDecidable(testcase, finishedVMs);
 
@@ -50,7 +53,7 @@ public class AdaptiveTester extends DependencyTester {
             break;
          }
 
-         final boolean shouldBreak = reductionManager.updateExecutions(testcase, finishedVMs, getCurrentOrganizer());
+         final boolean shouldBreak = updateExecutions(testcase, firstVMid, finishedVMs);
          if (shouldBreak) {
             LOG.debug("Too few executions possible - finishing testing.");
             break;
@@ -3,6 +3,7 @@ package de.dagere.peass.measurement.dependencyprocessors;
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -11,6 +12,7 @@ import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import de.dagere.peass.config.FixedCommitConfig;
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.config.MeasurementStrategy;
+import de.dagere.peass.config.SlotIsolation;
 import de.dagere.peass.dependency.ExecutorCreator;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
@@ -22,6 +24,7 @@ import de.dagere.peass.measurement.cleaning.Cleaner;
 import de.dagere.peass.measurement.dataloading.DataReader;
 import de.dagere.peass.measurement.dependencyprocessors.helper.ProgressWriter;
 import de.dagere.peass.measurement.dependencyprocessors.reductioninfos.ReductionManager;
+import de.dagere.peass.measurement.organize.AsyncResultOrganizer;
 import de.dagere.peass.measurement.organize.FolderDeterminer;
 import de.dagere.peass.measurement.organize.ResultOrganizer;
 import de.dagere.peass.measurement.organize.ResultOrganizerParallel;
@@ -38,13 +41,23 @@ public class DependencyTester implements KiekerResultHandler {
 
    private static final Logger LOG = LogManager.getLogger(DependencyTester.class);
 
+   private static final int NO_TEST_SLOT = -1;
+
    protected final PeassFolders folders;
    protected final MeasurementConfig configuration;
    protected final EnvironmentVariables env;
    private ResultOrganizer currentOrganizer;
+   private final Map<Integer, ResultOrganizer> vmOrganizers = new ConcurrentHashMap<>();
    protected long currentChunkStart = 0;
    private final CommitComparatorInstance comparator;
    protected final ReductionManager reductionManager; 
+   private ProjectClonePool clonePool;
+   private int testSlot = NO_TEST_SLOT;
+   private AsyncResultOrganizer asyncResultOrganizer;
+   private final Map<File, EnvironmentVariables> slotEnvironments = new ConcurrentHashMap<>();
+   private MeasurementSlots measurementSlots;
+   private MeasurementGate measurementGate;
+   private MeasurementSlots sharedMeasurementSlots;
 
    public DependencyTester(final PeassFolders folders, final MeasurementConfig measurementConfig, final EnvironmentVariables env, CommitComparatorInstance comparator) {
       this.folders = folders;
@@ -54,6 +67,36 @@ public class DependencyTester implements KiekerResultHandler {
       reductionManager = new ReductionManager(measurementConfig);
    }
 
+   /**
+    * Lets this tester measure in the given test slot: All VMs are executed in the clones of the slot from the shared pool instead of the project folder, so other tests can
+    * be measured in other slots at the same time, and the processes are restricted to the CPUs of the slot.
+    * 
+    * @param sharedClonePool Clone pool that is shared by all test slots
+    * @param testSlot Index of the test slot, between 0 and {@link MeasurementConfig#getTestSlots()} - 1
+    */
+   public void setTestSlot(final ProjectClonePool sharedClonePool, final int testSlot) {
+      this.clonePool = sharedClonePool;
+      this.testSlot = testSlot;
+   }
+
+   /**
+    * Lets this tester measure in the given test slot like {@link #setTestSlot(ProjectClonePool, int)}, but the VMs are only executed if the gate lets the slot measure, so
+    * only the preparation of the VMs overlaps with the measurements of other slots.
+    */
+   public void setTestSlot(final ProjectClonePool sharedClonePool, final int testSlot, final MeasurementGate measurementGate) {
+      setTestSlot(sharedClonePool, testSlot);
+      this.measurementGate = measurementGate;
+   }
+
+   /**
+    * Lets this tester measure in the given test slot like {@link #setTestSlot(ProjectClonePool, int)}, but with CPUs assigned by the given slots, which are shared with
+    * other testers measuring at the same time, instead of the slots defined by {@link MeasurementConfig#getTestSlots()}.
+    */
+   public void setTestSlot(final ProjectClonePool sharedClonePool, final int testSlot, final MeasurementSlots sharedMeasurementSlots) {
+      setTestSlot(sharedClonePool, testSlot);
+      this.sharedMeasurementSlots = sharedMeasurementSlots;
+   }
+
    /**
     * Compares the given testcase for the given commits.
     * 
@@ -68,6 +111,8 @@ public class DependencyTester implements KiekerResultHandler {
       final File logFolder = folders.getMeasureLogFolder(configuration.getFixedCommitConfig().getCommit(), testcase);
       try (ProgressWriter writer = new ProgressWriter(folders.getProgressFile(), configuration.getVms())) {
          evaluateSimple(testcase, logFolder, writer);
+      } finally {
+         finishResultOrganization();
       }
    }
 
@@ -76,6 +121,43 @@ public class DependencyTester implements KiekerResultHandler {
       LOG.info("Executing test " + testcase.getClazz() + " " + testcase.getMethod() + " in commits {} and {}", fixedCommitConfig.getCommitOld(),
             fixedCommitConfig.getCommit());
       new FolderDeterminer(folders).testResultFolders(fixedCommitConfig.getCommit(), fixedCommitConfig.getCommitOld(), testcase);
+      if (testSlot == NO_TEST_SLOT) {
+         clonePool = new ProjectClonePool(folders, configuration.getExecutionConfig().getGitCryptKey());
+      }
+      vmOrganizers.clear();
+      if (sharedMeasurementSlots != null) {
+         measurementSlots = sharedMeasurementSlots;
+      } else if (testSlot != NO_TEST_SLOT || configuration.getMeasurementStrategy().equals(MeasurementStrategy.PARALLEL)) {
+         final int totalSlots = testSlot == NO_TEST_SLOT ? configuration.getParallelSlots() : configuration.getTestSlots() * configuration.getParallelSlots();
+         measurementSlots = new MeasurementSlots(totalSlots, configuration.getSlotIsolation());
+      }
+      if (configuration.isOrganizeResultsAsync()) {
+         asyncResultOrganizer = new AsyncResultOrganizer(folders);
+      }
+   }
+
+   /**
+    * Waits until the results of all VMs of the test are organized; needs to be called at the end of every evaluation. In a test slot, the slot holds the
+    * {@link MeasurementGate} meanwhile, so the compression of the Kieker results does not run while a slot without isolation measures.
+    */
+   protected void finishResultOrganization() {
+      if (asyncResultOrganizer != null) {
+         if (measurementGate != null) {
+            try {
+               measurementGate.enter(testSlot);
+            } catch (InterruptedException e) {
+               throw new RuntimeException(e);
+            }
+            try {
+               asyncResultOrganizer.close();
+            } finally {
+               measurementGate.leave(testSlot);
+            }
+         } else {
+            asyncResultOrganizer.close();
+         }
+         asyncResultOrganizer = null;
+      }
    }
 
    private void evaluateSimple(final TestMethodCall testcase, final File logFolder, final ProgressWriter writer)
@@ -84,9 +166,10 @@ public class DependencyTester implements KiekerResultHandler {
       for (int finishedVMs = 0; finishedVMs < configuration.getVms(); finishedVMs++) {
          long comparisonStart = System.currentTimeMillis();
 
-         runOneComparison(logFolder, testcase, finishedVMs);
+         final int firstVMid = finishedVMs;
+         finishedVMs = runComparisons(logFolder, testcase, firstVMid);
 
-         final boolean shouldBreak = reductionManager.updateExecutions(testcase, finishedVMs, getCurrentOrganizer());
+         final boolean shouldBreak = updateExecutions(testcase, firstVMid, finishedVMs);
          if (shouldBreak) {
             LOG.debug("Too few executions possible - finishing testing.");
             break;
@@ -123,13 +206,60 @@ public class DependencyTester implements KiekerResultHandler {
                cleaner.processTestdata(entry.getValue());
             }
          }
+         cleaner.flush();
+      }
+   }
+
+   /**
+    * Runs the comparisons starting with the given VM id. With {@link MeasurementStrategy#PARALLEL} and more than one parallel slot, one comparison is run in every slot at the
+    * same time.
+    * 
+    * The results of all VMs are organized when this method returns, so they can be checked before the cooldown and the next comparison.
+    * 
+    * @return The id of the last VM that has been run
+    */
+   protected int runComparisons(final File logFolder, final TestMethodCall testcase, final int firstVMid) throws IOException {
+      final int slotCount = getSlotCount(firstVMid);
+      if (slotCount > 1) {
+         LOG.info("Running parallel in {} slots", slotCount);
+         runParallel(logFolder, testcase, firstVMid, slotCount, getVersions());
+      } else {
+         runOneComparison(logFolder, testcase, firstVMid);
+      }
+      if (asyncResultOrganizer != null) {
+         asyncResultOrganizer.awaitPending();
+      }
+      return firstVMid + slotCount - 1;
+   }
+
+   private int getSlotCount(final int firstVMid) {
+      if (configuration.getMeasurementStrategy().equals(MeasurementStrategy.PARALLEL)) {
+         return Math.max(1, Math.min(configuration.getParallelSlots(), configuration.getVms() - firstVMid));
+      } else {
+         return 1;
       }
    }
 
+   /**
+    * Checks for all VMs between firstVMid and lastVMid whether the executions need to be reduced.
+    * 
+    * @return Whether the measurement should be stopped
+    */
+   protected boolean updateExecutions(final TestMethodCall testcase, final int firstVMid, final int lastVMid) {
+      boolean shouldBreak = false;
+      for (int vmid = firstVMid; vmid <= lastVMid; vmid++) {
+         shouldBreak |= reductionManager.updateExecutions(testcase, vmid, getOrganizer(vmid));
+      }
+      return shouldBreak;
+   }
+
    public void runOneComparison(final File logFolder, final TestMethodCall testcase, final int vmid) throws IOException {
       String[] commits = getVersions();
 
-      if (configuration.getMeasurementStrategy().equals(MeasurementStrategy.SEQUENTIAL)) {
+      if (testSlot != NO_TEST_SLOT) {
+         LOG.info("Running in test slot {}", testSlot);
+         runParallel(logFolder, testcase, vmid, 1, commits);
+      } else if (configuration.getMeasurementStrategy().equals(MeasurementStrategy.SEQUENTIAL)) {
          LOG.info("Running sequential");
          runSequential(logFolder, testcase, vmid, commits);
       } else if (configuration.getMeasurementStrategy().equals(MeasurementStrategy.PARALLEL)) {
@@ -147,30 +277,58 @@ public class DependencyTester implements KiekerResultHandler {
    }
 
    private void runParallel(final File logFolder, final TestMethodCall testcase, final int vmid, final String[] commits) throws IOException {
-      final ResultOrganizerParallel organizer = new ResultOrganizerParallel(folders, configuration.getFixedCommitConfig().getCommit(), currentChunkStart,
-            configuration.getKiekerConfig().isUseKieker(),
-            configuration.isSaveAll(), testcase,
-            configuration.getAllIterations());
-      currentOrganizer = organizer;
-      final ParallelExecutionRunnable[] runnables = new ParallelExecutionRunnable[2];
-      for (int i = 0; i < 2; i++) {
-         final String commit = commits[i];
-         runnables[i] = new ParallelExecutionRunnable(organizer, commit, testcase, vmid, logFolder, this, configuration.getExecutionConfig().getGitCryptKey());
+      runParallel(logFolder, testcase, vmid, 1, commits);
+   }
+
+   /**
+    * Runs the VMs firstVMid to firstVMid + slotCount - 1 of both commits at the same time; every slot uses its own clones of the project, its own
+    * {@link ResultOrganizerParallel} and, depending on the {@link SlotIsolation}, its own CPUs. In a test slot with {@link MeasurementStrategy#SEQUENTIAL}, the VMs of the
+    * commits are run one after another.
+    */
+   private void runParallel(final File logFolder, final TestMethodCall testcase, final int firstVMid, final int slotCount, final String[] commits) {
+      if (clonePool == null) {
+         clonePool = new ProjectClonePool(folders, configuration.getExecutionConfig().getGitCryptKey());
+      }
+      final int firstSlot = testSlot == NO_TEST_SLOT ? 0 : testSlot * configuration.getParallelSlots();
+      final ParallelExecutionRunnable[] runnables = new ParallelExecutionRunnable[slotCount * commits.length];
+      for (int slot = 0; slot < slotCount; slot++) {
+         final ResultOrganizerParallel organizer = new ResultOrganizerParallel(folders, configuration.getFixedCommitConfig().getCommit(), currentChunkStart,
+               configuration.getKiekerConfig().isUseKieker(),
+               configuration.isSaveAll(), testcase,
+               configuration.getAllIterations());
+         currentOrganizer = organizer;
+         vmOrganizers.put(firstVMid + slot, organizer);
+         for (int i = 0; i < commits.length; i++) {
+            final String commit = commits[i];
+            final PeassFolders clone = clonePool.getClone(commit, firstSlot + slot);
+            slotEnvironments.put(clone.getProjectFolder(), measurementSlots.getSlotEnvironment(env, firstSlot + slot, i));
+            runnables[slot * commits.length + i] = new ParallelExecutionRunnable(organizer, commit, testcase, firstVMid + slot, logFolder, this, clone);
+         }
+      }
+      if (configuration.getMeasurementStrategy().equals(MeasurementStrategy.SEQUENTIAL)) {
+         for (ParallelExecutionRunnable runnable : runnables) {
+            runnable.run();
+         }
+      } else {
+         runParallel(runnables);
       }
-      runParallel(runnables);
    }
 
    public void runParallel(final ParallelExecutionRunnable[] runnables) {
-      Thread[] threads = new Thread[2];
-      for (int i = 0; i < 2; i++) {
+      Thread[] threads = new Thread[runnables.length];
+      for (int i = 0; i < runnables.length; i++) {
          threads[i] = new Thread(runnables[i]);
          threads[i].start();
       }
       try {
-         for (int i = 0; i < 2; i++) {
+         for (int i = 0; i < runnables.length; i++) {
             threads[i].join();
          }
       } catch (InterruptedException e) {
+         // Interrupting the VM threads kills their processes, so no VM keeps running after the measurement has been cancelled
+         for (Thread thread : threads) {
+            thread.interrupt();
+         }
          throw new RuntimeException(e);
       }
    }
@@ -180,6 +338,7 @@ public class DependencyTester implements KiekerResultHandler {
       currentOrganizer = new ResultOrganizer(folders, configuration.getFixedCommitConfig().getCommit(), currentChunkStart, configuration.getKiekerConfig().isUseKieker(),
             configuration.isSaveAll(),
             testcase, configuration.getAllIterations());
+      vmOrganizers.put(vmid, currentOrganizer);
       for (String commit : commits) {
          runOnce(testcase, commit, vmid, logFolder);
       }
@@ -188,12 +347,14 @@ public class DependencyTester implements KiekerResultHandler {
    public void runOnce(final TestMethodCall testcase, final String commit, final int vmid, final File logFolder) {
       final TestExecutor testExecutor = getExecutor(folders, commit);
       final OnceRunner runner = new OnceRunner(folders, testExecutor, getCurrentOrganizer(), this);
+      runner.setAsyncOrganizer(asyncResultOrganizer);
       runner.runOnce(testcase, commit, vmid, logFolder);
    }
 
    protected synchronized TestExecutor getExecutor(final PeassFolders currentFolders, final String commit) {
       TestTransformer transformer = ExecutorCreator.createTestTransformer(currentFolders, configuration.getExecutionConfig(), configuration);
-      final TestExecutor testExecutor = ExecutorCreator.createExecutor(currentFolders, transformer, env);
+      final EnvironmentVariables executorEnv = slotEnvironments.getOrDefault(currentFolders.getProjectFolder(), env);
+      final TestExecutor testExecutor = ExecutorCreator.createExecutor(currentFolders, transformer, executorEnv);
       return testExecutor;
    }
 
@@ -220,10 +381,45 @@ public class DependencyTester implements KiekerResultHandler {
       return currentOrganizer;
    }
 
+   /**
+    * Returns the organizer of the given VM; with parallel slots, every slot has its own organizer, so the current organizer only belongs to the VM of the last slot.
+    */
+   public ResultOrganizer getOrganizer(final int vmid) {
+      final ResultOrganizer organizer = vmOrganizers.get(vmid);
+      return organizer != null ? organizer : getCurrentOrganizer();
+   }
+
+   /**
+    * Returns the organizer whose temporary result folder of the given commit is the given folder, preferring the current organizer.
+    */
+   protected ResultOrganizer getOrganizer(final String commit, final File tempResultsFolder) {
+      if (getCurrentOrganizer() == null || tempResultsFolder.equals(getCurrentOrganizer().getTempResultsFolder(commit))) {
+         return getCurrentOrganizer();
+      }
+      for (ResultOrganizer organizer : vmOrganizers.values()) {
+         if (tempResultsFolder.equals(organizer.getTempResultsFolder(commit))) {
+            return organizer;
+         }
+      }
+      return getCurrentOrganizer();
+   }
+
    public PeassFolders getFolders() {
       return folders;
    }
    
+   public MeasurementGate getMeasurementGate() {
+      return measurementGate;
+   }
+
+   public int getTestSlot() {
+      return testSlot;
+   }
+
+   public AsyncResultOrganizer getAsyncResultOrganizer() {
+      return asyncResultOrganizer;
+   }
+
    public ReductionManager getReductionManager() {
       return reductionManager;
    }
@@ -0,0 +1,54 @@
+package de.dagere.peass.measurement.dependencyprocessors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits how many test slots run measured VMs at the same time, while the preparation of the next VM of a slot (checkout, test transformation and build file
+ * preparation) may overlap with the measurement of another slot. All VMs of one slot (e.g. the VMs of both commits with the parallel measurement strategy) are executed
+ * under the same permit.
+ */
+public class MeasurementGate {
+
+   private final Semaphore permits;
+   private final Map<Integer, SlotState> slots = new HashMap<>();
+
+   private static class SlotState {
+      private int runningVMs = 0;
+   }
+
+   /**
+    * @param measuringSlots Count of test slots that may measure at the same time; without CPU isolation of the slots, this should be 1
+    */
+   public MeasurementGate(final int measuringSlots) {
+      permits = new Semaphore(measuringSlots, true);
+   }
+
+   /**
+    * Waits until the given slot may measure; needs to be followed by {@link #leave(int)} after the measured VM has finished.
+    */
+   public void enter(final int slot) throws InterruptedException {
+      final SlotState state = getState(slot);
+      synchronized (state) {
+         if (state.runningVMs == 0) {
+            permits.acquire();
+         }
+         state.runningVMs++;
+      }
+   }
+
+   public void leave(final int slot) {
+      final SlotState state = getState(slot);
+      synchronized (state) {
+         state.runningVMs--;
+         if (state.runningVMs == 0) {
+            permits.release();
+         }
+      }
+   }
+
+   private synchronized SlotState getState(final int slot) {
+      return slots.computeIfAbsent(slot, index -> new SlotState());
+   }
+}
@@ -0,0 +1,70 @@
+package de.dagere.peass.measurement.dependencyprocessors;
+
+import de.dagere.peass.config.SlotIsolation;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+
+/**
+ * Assigns the available CPUs to the parallel measurement slots; every slot executes one VM of each commit, and every of these VMs gets its own, disjoint CPU set. If the
+ * processes should be isolated, but there are less CPUs than VMs, the slots are rejected, since the VMs would share CPUs.
+ */
+public class MeasurementSlots {
+
+   private static final int COMMITS_PER_SLOT = 2;
+
+   private final int slots;
+   private final SlotIsolation isolation;
+   private final int availableCpus;
+
+   public MeasurementSlots(final int slots, final SlotIsolation isolation) {
+      this(slots, isolation, Runtime.getRuntime().availableProcessors());
+   }
+
+   public MeasurementSlots(final int slots, final SlotIsolation isolation, final int availableCpus) {
+      if (isolation != SlotIsolation.NONE && slots * COMMITS_PER_SLOT > availableCpus) {
+         throw new RuntimeException("Isolating " + slots + " slots requires at least " + slots * COMMITS_PER_SLOT + " CPUs, but only " + availableCpus + " are available");
+      }
+      this.slots = slots;
+      this.isolation = isolation;
+      this.availableCpus = availableCpus;
+   }
+
+   public int getSlots() {
+      return slots;
+   }
+
+   /**
+    * Returns the CPU list (in the format of taskset and cgroups, e.g. 0-3) of the VM of the given commit index in the given slot.
+    */
+   public String getCpuList(final int slot, final int commitIndex) {
+      final int executions = slots * COMMITS_PER_SLOT;
+      final int cpusPerExecution = Math.max(1, availableCpus / executions);
+      final int executionIndex = slot * COMMITS_PER_SLOT + commitIndex;
+      final int firstCpu = executionIndex * cpusPerExecution;
+      final int lastCpu = firstCpu + cpusPerExecution - 1;
+      return firstCpu == lastCpu ? Integer.toString(firstCpu) : firstCpu + "-" + lastCpu;
+   }
+
+   /**
+    * Returns the command prefix that isolates the processes of the VM of the given commit index in the given slot.
+    */
+   public String[] getCommandPrefix(final int slot, final int commitIndex) {
+      switch (isolation) {
+      case TASKSET:
+         return new String[] { "taskset", "-c", getCpuList(slot, commitIndex) };
+      case CGROUP:
+         return new String[] { "systemd-run", "--user", "--scope", "--quiet", "-p", "AllowedCPUs=" + getCpuList(slot, commitIndex) };
+      case NONE:
+      default:
+         return new String[0];
+      }
+   }
+
+   /**
+    * Creates a copy of the environment variables, whose processes are isolated for the given slot and commit index.
+    */
+   public EnvironmentVariables getSlotEnvironment(final EnvironmentVariables env, final int slot, final int commitIndex) {
+      final EnvironmentVariables slotEnv = new EnvironmentVariables(env);
+      slotEnv.setCommandPrefix(getCommandPrefix(slot, commitIndex));
+      return slotEnv;
+   }
+}
@@ -10,6 +10,7 @@ import org.apache.logging.log4j.Logger;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.organize.AsyncResultOrganizer;
 import de.dagere.peass.measurement.organize.ResultOrganizer;
 import de.dagere.peass.testtransformation.TestTransformer;
 import de.dagere.peass.vcs.GitUtils;
@@ -26,9 +27,23 @@ public class OnceRunner {
 
    protected final ResultOrganizer currentOrganizer;
    private final KiekerResultHandler resultHandler;
+   private final boolean projectPrepared;
+   private AsyncResultOrganizer asyncOrganizer;
+   private MeasurementGate measurementGate;
+   private int measurementSlot;
 
    public OnceRunner(final PeassFolders folders, final TestExecutor testExecutor, final ResultOrganizer currentOrganizer, final KiekerResultHandler resultHandler) {
+      this(folders, testExecutor, currentOrganizer, resultHandler, false);
+   }
+
+   /**
+    * Creates a runner; if projectPrepared is true, the project folder is expected to be at the commit that should be measured already (e.g. since it has been taken from a
+    * {@link ProjectClonePool}), so no checkout is done.
+    */
+   public OnceRunner(final PeassFolders folders, final TestExecutor testExecutor, final ResultOrganizer currentOrganizer, final KiekerResultHandler resultHandler,
+         final boolean projectPrepared) {
       this.folders = folders;
+      this.projectPrepared = projectPrepared;
       this.vcs = folders.getVCS();
       this.testTransformer = testExecutor.getTestTransformer();
       this.testExecutor = testExecutor;
@@ -45,7 +60,7 @@ public class OnceRunner {
    public void runOnce(final TestMethodCall testcase, final String commit, final int vmid, final File logFolder) {
       if (vcs.equals(VersionControlSystem.SVN)) {
          throw new RuntimeException("SVN not supported currently.");
-      } else {
+      } else if (!projectPrepared) {
          GitUtils.goToCommit(commit, folders.getProjectFolder());
       }
 
@@ -56,7 +71,14 @@ public class OnceRunner {
       }
       testExecutor.prepareKoPeMeExecution(new File(logFolder, "clean.txt"));
       final long outerTimeout = 10 + (int) (this.testTransformer.getConfig().getTimeoutInSeconds() * 1.2);
-      testExecutor.executeTest(testcase, vmidFolder, outerTimeout);
+      enterMeasurement();
+      try {
+         testExecutor.executeTest(testcase, vmidFolder, outerTimeout);
+      } finally {
+         if (measurementGate != null) {
+            measurementGate.leave(measurementSlot);
+         }
+      }
 
       if (testTransformer.getConfig().isDirectlyMeasureKieker()) {
          DirectKiekerMeasurementTransformer measurementTransformer = new DirectKiekerMeasurementTransformer(folders);
@@ -67,11 +89,25 @@ public class OnceRunner {
       resultHandler.handleKiekerResults(commit, currentOrganizer.getTempResultsFolder(commit));
 
       LOG.info("Organizing result paths");
-      currentOrganizer.saveResultFiles(commit, vmid);
+      if (asyncOrganizer != null) {
+         asyncOrganizer.organize(currentOrganizer, commit, vmid);
+      } else {
+         currentOrganizer.saveResultFiles(commit, vmid);
+      }
 
       cleanup();
    }
 
+   private void enterMeasurement() {
+      if (measurementGate != null) {
+         try {
+            measurementGate.enter(measurementSlot);
+         } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+         }
+      }
+   }
+
    private File initVMFolder(final String commit, final int vmid, final File logFolder) {
       File vmidFolder = new File(logFolder, "vm_" + vmid + "_" + commit);
       vmidFolder.mkdirs();
@@ -91,6 +127,22 @@ public class OnceRunner {
       }
    }
 
+   /**
+    * Lets the results be organized by the given asynchronous organizer; if it is null, the results are organized before {@link #runOnce} returns.
+    */
+   public void setAsyncOrganizer(final AsyncResultOrganizer asyncOrganizer) {
+      this.asyncOrganizer = asyncOrganizer;
+   }
+
+   /**
+    * Lets the VM only be executed if the gate lets the given slot measure; the checkout and the preparation of the VM are done before. If the gate is null, the VM is
+    * executed directly.
+    */
+   public void setMeasurementGate(final MeasurementGate measurementGate, final int measurementSlot) {
+      this.measurementGate = measurementGate;
+      this.measurementSlot = measurementSlot;
+   }
+
    public ResultOrganizer getCurrentOrganizer() {
       return currentOrganizer;
    }
@@ -17,6 +17,7 @@ public class ParallelExecutionRunnable implements Runnable {
    private final File logFolder;
    private final DependencyTester tester;
    private final PeassFolders temporaryFolders;
+   private final boolean pooled;
 
    public ParallelExecutionRunnable(final ResultOrganizerParallel organizer, final String commit, final TestMethodCall testcase, final int vmid, final File logFolder,
          final DependencyTester tester, final String gitCryptKey) throws IOException {
@@ -27,12 +28,31 @@ public class ParallelExecutionRunnable implements Runnable {
       this.logFolder = logFolder;
       this.tester = tester;
       temporaryFolders = cloneProjectFolder(gitCryptKey);
+      pooled = false;
+   }
+
+   /**
+    * Creates a runnable that uses the given, already checked out clone of the commit (usually from the {@link ProjectClonePool}).
+    */
+   public ParallelExecutionRunnable(final ResultOrganizerParallel organizer, final String commit, final TestMethodCall testcase, final int vmid, final File logFolder,
+         final DependencyTester tester, final PeassFolders checkedOutFolders) {
+      this.organizer = organizer;
+      this.commit = commit;
+      this.testcase = testcase;
+      this.vmid = vmid;
+      this.logFolder = logFolder;
+      this.tester = tester;
+      temporaryFolders = checkedOutFolders;
+      organizer.addCommitFolders(commit, temporaryFolders);
+      pooled = true;
    }
 
    @Override
    public void run() {
       final TestExecutor testExecutor = tester.getExecutor(temporaryFolders, commit);
-      final OnceRunner runner = new OnceRunner(temporaryFolders, testExecutor, organizer, tester);
+      final OnceRunner runner = new OnceRunner(temporaryFolders, testExecutor, organizer, tester, pooled);
+      runner.setAsyncOrganizer(tester.getAsyncResultOrganizer());
+      runner.setMeasurementGate(tester.getMeasurementGate(), tester.getTestSlot());
       runner.runOnce(testcase, commit, vmid, logFolder);
    }
 
@@ -0,0 +1,62 @@
+package de.dagere.peass.measurement.dependencyprocessors;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.vcs.GitUtils;
+
+/**
+ * Keeps one checked out clone of the project per commit, so parallel measurement does not need to clone and checkout the project for every VM. Before a clone is handed out
+ * again, only the files changed since the checkout (e.g. by the test transformation) are reset.
+ */
+public class ProjectClonePool {
+
+   private static final Logger LOG = LogManager.getLogger(ProjectClonePool.class);
+
+   private final PeassFolders folders;
+   private final String gitCryptKey;
+   private final Map<String, PeassFolders> clones = new ConcurrentHashMap<>();
+
+   public ProjectClonePool(final PeassFolders folders, final String gitCryptKey) {
+      this.folders = folders;
+      this.gitCryptKey = gitCryptKey;
+   }
+
+   /**
+    * Returns the clone of the given commit; on first call, the clone is created and checked out, afterwards, the changes of the previous usage are reset.
+    * 
+    * @param commit Commit that should be checked out in the clone
+    * @return Folders of the clone
+    */
+   public PeassFolders getClone(final String commit) {
+      return getClone(commit, 0);
+   }
+
+   /**
+    * Returns the clone of the given commit for the given parallel measurement slot; every slot has its own clones.
+    * 
+    * @param commit Commit that should be checked out in the clone
+    * @param slot Index of the measurement slot
+    * @return Folders of the clone
+    */
+   public PeassFolders getClone(final String commit, final int slot) {
+      final String cloneName = slot == 0 ? "parallel_" + commit : "parallel_" + commit + "_slot" + slot;
+      final boolean[] created = new boolean[1];
+      final PeassFolders clone = clones.computeIfAbsent(cloneName, (newCloneName) -> {
+         LOG.debug("Creating clone {}", newCloneName);
+         PeassFolders temporaryFolders = folders.getTempFolder(newCloneName, gitCryptKey);
+         GitUtils.goToCommit(commit, temporaryFolders.getProjectFolder());
+         created[0] = true;
+         return temporaryFolders;
+      });
+      if (!created[0]) {
+         LOG.debug("Reusing clone {}", cloneName);
+         GitUtils.resetChanges(clone.getProjectFolder());
+      }
+      return clone;
+   }
+}
@@ -53,5 +53,18 @@ public class EarlyBreakDecider {
       return savelyDecidable;
    }
 
-
+   /**
+    * Checks whether the measurements already show a difference which is safe regarding both error types; in contrast to {@link #isBreakPossible(int)}, a safe
+    * equality does not count.
+    *
+    * @param vmidThreshold VM id which needs to be exceeded before a difference is reported
+    * @param valueThreshold Count of values of both commits which needs to be exceeded before a difference is reported
+    */
+   public boolean isClearlyDifferent(final int vmid, final int vmidThreshold, final int valueThreshold) {
+      if (vmid > vmidThreshold && statisticsPredecessor.getN() > valueThreshold && statisticsCurrent.getN() > valueThreshold) {
+         final Relation relation = StatisticUtil.agnosticTTest(statisticsPredecessor, statisticsCurrent, type1error, type2error);
+         return relation == Relation.UNEQUAL;
+      }
+      return false;
+   }
 }
@@ -0,0 +1,150 @@
+package de.dagere.peass.measurement.organize;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.execution.processutils.ProcessBuilderHelper;
+import de.dagere.peass.folders.PeassFolders;
+
+/**
+ * Organizes the result files of finished VMs in a background thread, so the next VM does not need to wait until the results of the previous VM are parsed, moved and
+ * compressed. The result files are moved to a staging folder first, so the next VM can write its results to the temporary result folder. At most {@value #MAX_PENDING}
+ * VMs wait for organization; if more are finished, the results are organized in the calling thread.
+ *
+ * The Kieker folders are only moved to the staging folder while VMs are measured; they are moved or compressed on {@link #close()}, after all VMs of the comparison
+ * are finished, so the compression does not compete with the measured VMs for CPU and disk.
+ */
+public class AsyncResultOrganizer implements AutoCloseable {
+
+   private static final Logger LOG = LogManager.getLogger(AsyncResultOrganizer.class);
+
+   private static final int MAX_PENDING = 4;
+
+   private final PeassFolders folders;
+   private final ThreadPoolExecutor executor;
+   private final List<Future<?>> pending = new LinkedList<>();
+   private final AtomicInteger stagingIndex = new AtomicInteger();
+   private final List<DeferredKiekerFolder> deferredKiekerFolders = new LinkedList<>();
+
+   private static class DeferredKiekerFolder {
+      private final KiekerFileCompressor compressor;
+      private final File destFolder;
+      private final File kiekerFolder;
+
+      DeferredKiekerFolder(final KiekerFileCompressor compressor, final File destFolder, final File kiekerFolder) {
+         this.compressor = compressor;
+         this.destFolder = destFolder;
+         this.kiekerFolder = kiekerFolder;
+      }
+   }
+
+   public AsyncResultOrganizer(final PeassFolders folders) {
+      this.folders = folders;
+      executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_PENDING), runnable -> {
+         Thread thread = new Thread(runnable, "resultorganizer");
+         thread.setDaemon(true);
+         return thread;
+      }, new ThreadPoolExecutor.CallerRunsPolicy());
+   }
+
+   /**
+    * Moves the results of the VM to the staging folder and organizes them in the background.
+    */
+   public void organize(final ResultOrganizer organizer, final String commit, final int vmid) {
+      final File resultsFolder = organizer.getTempResultsFolder(commit);
+      if (resultsFolder == null) {
+         return;
+      }
+      final File stagingFolder = new File(folders.getResultStagingFolder(), "vm_" + vmid + "_" + commit + "_" + stagingIndex.getAndIncrement());
+      try {
+         for (File resultFile : resultsFolder.listFiles()) {
+            FileUtils.moveToDirectory(resultFile, stagingFolder, true);
+         }
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+
+      final Future<?> organization = executor.submit(() -> {
+         organizer.saveResultFiles(commit, vmid, stagingFolder, (destFolder, kiekerFolder) -> deferKiekerFolder(organizer, destFolder, kiekerFolder));
+         FileUtils.deleteDirectory(stagingFolder);
+         return null;
+      });
+      synchronized (pending) {
+         pending.add(organization);
+      }
+   }
+
+   /**
+    * Moves the Kieker folder out of the staging folder of the VM, keeping its name, so it can be moved or compressed after the comparison.
+    */
+   private void deferKiekerFolder(final ResultOrganizer organizer, final File destFolder, final File kiekerFolder) throws IOException {
+      final File deferredFolder = new File(folders.getResultStagingFolder(), "kieker_" + stagingIndex.getAndIncrement());
+      FileUtils.moveDirectoryToDirectory(kiekerFolder, deferredFolder, true);
+      synchronized (deferredKiekerFolders) {
+         deferredKiekerFolders.add(new DeferredKiekerFolder(organizer.getCompressor(), destFolder, new File(deferredFolder, kiekerFolder.getName())));
+      }
+   }
+
+   private void saveDeferredKiekerFolders() {
+      final List<DeferredKiekerFolder> current;
+      synchronized (deferredKiekerFolders) {
+         current = new LinkedList<>(deferredKiekerFolders);
+         deferredKiekerFolders.clear();
+      }
+      LOG.debug("Moving or compressing {} deferred Kieker folders", current.size());
+      try {
+         for (DeferredKiekerFolder deferred : current) {
+            deferred.compressor.moveOrCompressFile(deferred.destFolder, deferred.kiekerFolder);
+            FileUtils.deleteDirectory(deferred.kiekerFolder.getParentFile());
+         }
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   /**
+    * Waits until the results of all finished VMs are organized; their Kieker folders are still waiting for {@link #close()}.
+    */
+   public void awaitPending() {
+      final List<Future<?>> current;
+      synchronized (pending) {
+         current = new LinkedList<>(pending);
+         pending.clear();
+      }
+      LOG.debug("Waiting for organization of {} VM results", current.size());
+      for (Future<?> organization : current) {
+         try {
+            organization.get();
+         } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+         }
+      }
+   }
+
+   /**
+    * Waits until all results are organized, moves or compresses the Kieker folders and synchronizes the results to the disk. Needs to be called after all VMs of the
+    * comparison are finished.
+    */
+   @Override
+   public void close() {
+      try {
+         awaitPending();
+      } finally {
+         executor.shutdown();
+      }
+      saveDeferredKiekerFolders();
+      ProcessBuilderHelper.syncToHdd();
+   }
+}
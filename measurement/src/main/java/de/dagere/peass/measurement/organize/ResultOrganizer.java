@@ -29,6 +29,13 @@ public class ResultOrganizer {
 
    private static final Logger LOG = LogManager.getLogger(ResultOrganizer.class);
 
+   /**
+    * Saves the Kieker folder of one VM to the destination folder
+    */
+   public interface KiekerFolderSaver {
+      void save(File destFolder, File kiekerFolder) throws IOException;
+   }
+
    protected final PeassFolders folders;
    // mainVersion equals current commit
    private final String mainCommit;
@@ -93,10 +100,24 @@ public class ResultOrganizer {
    }
 
    public void saveResultFiles(final String commit, final int vmid) {
+      saveResultFiles(commit, vmid, getTempResultsFolder(commit));
+   }
+
+   /**
+    * Saves the results of the VM from the given folder, which is the temporary result folder or a folder the results have been moved to
+    */
+   public void saveResultFiles(final String commit, final int vmid, final File folder) {
+      saveResultFiles(commit, vmid, folder, compressor::moveOrCompressFile);
+   }
+
+   /**
+    * Saves the results of the VM from the given folder like {@link #saveResultFiles(String, int, File)}, but hands the Kieker folder to the given saver instead of
+    * moving or compressing it directly, e.g. to compress it after all VMs are finished.
+    */
+   public void saveResultFiles(final String commit, final int vmid, final File folder, final KiekerFolderSaver kiekerFolderSaver) {
       // Saving and merging result files should not be executed in parallel, therefore, this needs to be synchronized over the class (not the instance)
       synchronized (ResultOrganizer.class) {
          try {
-            final File folder = getTempResultsFolder(commit);
             if (folder != null) {
                final String methodname = testcase.getMethodWithParams();
                File oneResultFile = new File(folder, methodname + ".json");
@@ -115,7 +136,7 @@ public class ResultOrganizer {
 
                      if (isUseKieker) {
                         File destFolder = folders.getFullResultFolder(testcase, mainCommit, commit);
-                        saveKiekerFiles(folder, destFolder);
+                        saveKiekerFiles(folder, destFolder, kiekerFolderSaver);
                      }
                   } else {
                      LOG.error("No data - measurement failed?");
@@ -194,14 +215,14 @@ public class ResultOrganizer {
       }
    }
 
-   private void saveKiekerFiles(final File folder, final File destFolder) throws IOException {
+   private void saveKiekerFiles(final File folder, final File destFolder, final KiekerFolderSaver kiekerFolderSaver) throws IOException {
       final File[] kiekerFolders = folder.listFiles((FilenameFilter) new RegexFileFilter("[0-9]*"));
       if (kiekerFolders.length != 1) {
          String fileNameList = Arrays.toString(kiekerFolders);
          throw new RuntimeException("It is expected that after one execution exactly one Kieker folder exists, but was " + fileNameList);
       }
       if (saveAll) {
-         compressor.moveOrCompressFile(destFolder, kiekerFolders[0]);
+         kiekerFolderSaver.save(destFolder, kiekerFolders[0]);
       } else {
          FileUtils.deleteDirectory(kiekerFolders[0]);
       }
@@ -2,25 +2,36 @@ package de.dagere.peass.measurement.rca;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
+import de.dagere.peass.measurement.rca.serialization.MeasuredNode;
 import de.dagere.peass.utils.Constants;
 
 /**
- * Persists RCA data to the file system 
+ * Persists RCA data to the file system. The complete data are written every {@value #COMPACTION_INTERVAL} tree states; in between, only the newly measured nodes are
+ * appended to a {@link CauseSearchJournal}, from which the state can be rebuilt.
  *
  */
 public class CausePersistenceManager {
 
+   public static final int COMPACTION_INTERVAL = 5;
+
    protected final CauseSearchData data;
    protected final CauseSearchData dataDetails;
    private final CauseSearchFolders folders;
    private final File treeDataFile;
    private final File treeDataFileDetails;
+   private final CauseSearchJournal journal;
+   private final Map<MeasuredNode, List<Integer>> paths = new IdentityHashMap<>();
+   private int writtenStates = 0;
 
    public CausePersistenceManager(final CauseSearcherConfig causeSearchConfig, final MeasurementConfig measurementConfig, final CauseSearchFolders folders) {
       this(new CauseSearchData(measurementConfig, causeSearchConfig), new CauseSearchData(measurementConfig, causeSearchConfig), folders);
@@ -41,20 +52,70 @@ public class CausePersistenceManager {
       treeDataFolder.mkdirs();
       treeDataFileDetails = folders.getRcaTreeFileDetails(commit, testCase);
       treeDataFileDetails.getParentFile().mkdirs();
+      journal = new CauseSearchJournal(folders.getRcaTreeJournal(commit, testCase));
    }
 
    public void writeTreeState() {
+      if (writtenStates % COMPACTION_INTERVAL == 0) {
+         compact();
+      } else {
+         journal.append();
+      }
+      writtenStates++;
+   }
+
+   /**
+    * Writes the complete data and removes the journal.
+    */
+   public void compact() {
       try {
          Constants.OBJECTMAPPER.writeValue(treeDataFile, data);
          Constants.OBJECTMAPPER.writeValue(treeDataFileDetails, dataDetails);
       } catch (IOException e) {
          throw new RuntimeException(e);
       }
+      journal.clear();
    }
 
    public void addMeasurement(final CallTreeNode predecessorNode) {
       data.addDiff(predecessorNode);
-      dataDetails.addDetailDiff(predecessorNode);
+      final MeasuredNode detailNode = dataDetails.addDetailDiff(predecessorNode);
+      final List<Integer> path = getPath(predecessorNode);
+      if (path != null) {
+         paths.put(detailNode, path);
+         journal.add(path, detailNode);
+      }
+   }
+
+   private List<Integer> getPath(final CallTreeNode node) {
+      if (node.getParent() == null) {
+         return new ArrayList<>();
+      }
+      final MeasuredNode parent = dataDetails.getMeasuredNode(node.getParent());
+      if (parent == null) {
+         return null;
+      }
+      List<Integer> parentPath = paths.get(parent);
+      if (parentPath == null) {
+         // Nodes which were read from an existing tree file are indexed on first use
+         indexPaths(dataDetails.getNodes(), new ArrayList<>());
+         parentPath = paths.get(parent);
+         if (parentPath == null) {
+            return null;
+         }
+      }
+      final List<Integer> path = new ArrayList<>(parentPath);
+      path.add(parent.getChilds().size() - 1);
+      return path;
+   }
+
+   private void indexPaths(final MeasuredNode node, final List<Integer> path) {
+      paths.put(node, path);
+      for (int childIndex = 0; childIndex < node.getChilds().size(); childIndex++) {
+         final List<Integer> childPath = new ArrayList<>(path);
+         childPath.add(childIndex);
+         indexPaths(node.getChilds().get(childIndex), childPath);
+      }
    }
 
    public CauseSearchData getRCAData() {
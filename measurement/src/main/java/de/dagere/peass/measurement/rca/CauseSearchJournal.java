@@ -0,0 +1,154 @@
+package de.dagere.peass.measurement.rca;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import de.dagere.peass.measurement.rca.data.CauseSearchData;
+import de.dagere.peass.measurement.rca.serialization.MeasuredNode;
+import de.dagere.peass.utils.Constants;
+
+/**
+ * Append-only journal of the nodes which were measured since the RCA data were written completely. Every line contains the path of the node in the measured tree
+ * (the child indices, starting from the root) and the node with its values, but without its children.
+ */
+public class CauseSearchJournal {
+
+   private static final Logger LOG = LogManager.getLogger(CauseSearchJournal.class);
+
+   private static final ObjectWriter LINE_WRITER = Constants.OBJECTMAPPER.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+   private final File journalFile;
+   private final List<String> pendingEntries = new LinkedList<>();
+
+   public CauseSearchJournal(final File journalFile) {
+      this.journalFile = journalFile;
+   }
+
+   /**
+    * Adds the node to the next append; the node is serialized directly, so children which are added later are not contained.
+    */
+   public void add(final List<Integer> path, final MeasuredNode node) {
+      try {
+         pendingEntries.add(LINE_WRITER.writeValueAsString(new JournalEntry(path, node)));
+      } catch (JsonProcessingException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   public void append() {
+      LOG.debug("Appending {} nodes to {}", pendingEntries.size(), journalFile);
+      try (BufferedWriter writer = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+         for (String entry : pendingEntries) {
+            writer.write(entry);
+            writer.newLine();
+         }
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+      pendingEntries.clear();
+   }
+
+   /**
+    * Removes the journal after the complete data have been written.
+    */
+   public void clear() {
+      pendingEntries.clear();
+      if (journalFile.exists()) {
+         journalFile.delete();
+      }
+   }
+
+   /**
+    * Adds all nodes of the journal to the data which have been read from the last complete write.
+    *
+    * @return Count of replayed nodes
+    */
+   public static int replay(final File journalFile, final CauseSearchData data, final CauseSearchData dataDetails) throws IOException {
+      if (!journalFile.exists()) {
+         return 0;
+      }
+      int replayed = 0;
+      MeasuredNode root = data.getNodes();
+      MeasuredNode detailRoot = dataDetails.getNodes();
+      try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+         String line;
+         while ((line = reader.readLine()) != null) {
+            if (!line.isEmpty()) {
+               final JournalEntry entry = Constants.OBJECTMAPPER.readValue(line, JournalEntry.class);
+               root = addNode(root, entry.getPath(), withoutValues(entry.getNode()));
+               detailRoot = addNode(detailRoot, entry.getPath(), entry.getNode());
+               replayed++;
+            }
+         }
+      }
+      if (root != null) {
+         data.setNodes(root);
+         dataDetails.setNodes(detailRoot);
+      }
+      LOG.info("Replayed {} nodes from {}", replayed, journalFile);
+      return replayed;
+   }
+
+   private static MeasuredNode addNode(final MeasuredNode root, final List<Integer> path, final MeasuredNode node) {
+      if (path.isEmpty()) {
+         return node;
+      }
+      MeasuredNode parent = root;
+      for (int index : path.subList(0, path.size() - 1)) {
+         parent = parent.getChilds().get(index);
+      }
+      parent.getChilds().add(node);
+      return root;
+   }
+
+   private static MeasuredNode withoutValues(final MeasuredNode detailNode) {
+      final MeasuredNode node = new MeasuredNode(detailNode.getCall(), detailNode.getKiekerPattern(), detailNode.getOtherKiekerPattern());
+      node.setModule(detailNode.getModule());
+      node.setStatistic(detailNode.getStatistic());
+      return node;
+   }
+
+   public static class JournalEntry {
+      private List<Integer> path;
+      private MeasuredNode node;
+
+      public JournalEntry() {
+
+      }
+
+      public JournalEntry(final List<Integer> path, final MeasuredNode node) {
+         this.path = path;
+         this.node = node;
+      }
+
+      public List<Integer> getPath() {
+         return path;
+      }
+
+      public void setPath(final List<Integer> path) {
+         this.path = path;
+      }
+
+      public MeasuredNode getNode() {
+         return node;
+      }
+
+      public void setNode(final MeasuredNode node) {
+         this.node = node;
+      }
+   }
+}
@@ -26,6 +26,10 @@ public class CauseSearcherConfig implements Serializable {
    private File propertyFolder;
    private final RCAStrategy rcaStrategy;
    private final int levels;
+   @JsonInclude(Include.NON_DEFAULT)
+   private boolean speculativeLevels = false;
+   private int speculationVmidThreshold = 3;
+   private int speculationValueThreshold = 30;
 
    @JsonCreator
    public CauseSearcherConfig(@JsonProperty("testcase") final TestMethodCall testCase,
@@ -57,6 +61,9 @@ public class CauseSearcherConfig implements Serializable {
       this(test, !config.isNotSplitAggregated(), config.getMinTime(), config.isUseCalibrationRun(), !config.isUseEOIs(),
             config.getStrategy(), config.getLevels());
       this.propertyFolder = config.getPropertyFolder();
+      this.speculativeLevels = config.isSpeculativeLevels();
+      this.speculationVmidThreshold = config.getSpeculationVmidThreshold();
+      this.speculationValueThreshold = config.getSpeculationValueThreshold();
    }
 
    public CauseSearcherConfig(final TestMethodCall testCase, final CauseSearcherConfig causeConfig) {
@@ -64,6 +71,9 @@ public class CauseSearcherConfig implements Serializable {
             causeConfig.isSplitAggregated(), causeConfig.getMinTime(), causeConfig.useCalibrationRun(), causeConfig.isIgnoreEOIs(),
             causeConfig.getRcaStrategy(), causeConfig.getLevels());
       this.propertyFolder = causeConfig.getPropertyFolder();
+      this.speculativeLevels = causeConfig.isSpeculativeLevels();
+      this.speculationVmidThreshold = causeConfig.getSpeculationVmidThreshold();
+      this.speculationValueThreshold = causeConfig.getSpeculationValueThreshold();
    }
 
    public TestMethodCall getTestCase() {
@@ -101,4 +111,38 @@ public class CauseSearcherConfig implements Serializable {
    public int getLevels() {
       return levels;
    }
-}
\ No newline at end of file
+
+   /**
+    * Whether the next level is measured speculatively while the current level is measured, starting with the children of nodes which early VMs show to be different
+    * (only for strategy LEVELWISE).
+    */
+   public boolean isSpeculativeLevels() {
+      return speculativeLevels;
+   }
+
+   public void setSpeculativeLevels(final boolean speculativeLevels) {
+      this.speculativeLevels = speculativeLevels;
+   }
+
+   /**
+    * A speculative measurement of the next level is only started after VMs with an id above this threshold, since the first VMs are not representative.
+    */
+   public int getSpeculationVmidThreshold() {
+      return speculationVmidThreshold;
+   }
+
+   public void setSpeculationVmidThreshold(final int speculationVmidThreshold) {
+      this.speculationVmidThreshold = speculationVmidThreshold;
+   }
+
+   /**
+    * A node is only considered clearly different for speculation if both commits have more measured values than this threshold.
+    */
+   public int getSpeculationValueThreshold() {
+      return speculationValueThreshold;
+   }
+
+   public void setSpeculationValueThreshold(final int speculationValueThreshold) {
+      this.speculationValueThreshold = speculationValueThreshold;
+   }
+}
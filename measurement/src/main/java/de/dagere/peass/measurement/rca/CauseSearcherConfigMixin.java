@@ -31,6 +31,18 @@ public class CauseSearcherConfigMixin {
    @Option(names = { "-levels", "--levels" }, description = "Count of levels that should be measured at once; only allowed with strategy CONSTANT_LEVELS")
    private int levels = 1;
 
+   @Option(names = { "-speculativeLevels", "--speculativeLevels" }, description = "Measure the next level in parallel to the current level on a separate project clone, "
+         + "starting as soon as early VMs show a difference; only used by strategy LEVELWISE and requires slotIsolation, so both levels run on disjoint CPUs")
+   private boolean speculativeLevels = false;
+
+   @Option(names = { "-speculationVmidThreshold", "--speculationVmidThreshold" }, description = "VM id after which early differences may start a speculative "
+         + "measurement (Default: 3)")
+   private int speculationVmidThreshold = 3;
+
+   @Option(names = { "-speculationValueThreshold", "--speculationValueThreshold" }, description = "Count of measured values per commit which needs to be exceeded "
+         + "before a node counts as clearly different for speculation (Default: 30)")
+   private int speculationValueThreshold = 30;
+
    public boolean isUseCalibrationRun() {
       return useCalibrationRun;
    }
@@ -59,4 +71,16 @@ public class CauseSearcherConfigMixin {
       return levels;
    }
 
-}
\ No newline at end of file
+   public boolean isSpeculativeLevels() {
+      return speculativeLevels;
+   }
+
+   public int getSpeculationVmidThreshold() {
+      return speculationVmidThreshold;
+   }
+
+   public int getSpeculationValueThreshold() {
+      return speculationValueThreshold;
+   }
+
+}
@@ -3,15 +3,18 @@ package de.dagere.peass.measurement.rca;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.config.SlotIsolation;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
@@ -19,6 +22,8 @@ import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.measurement.dependencyprocessors.AdaptiveTester;
+import de.dagere.peass.measurement.dependencyprocessors.MeasurementSlots;
+import de.dagere.peass.measurement.dependencyprocessors.ProjectClonePool;
 import de.dagere.peass.measurement.dependencyprocessors.helper.EarlyBreakDecider;
 import de.dagere.peass.measurement.dependencyprocessors.helper.ProgressWriter;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
@@ -36,12 +41,21 @@ public class CauseTester extends AdaptiveTester {
 
    private static final Logger LOG = LogManager.getLogger(CauseTester.class);
 
+   private static final int SPECULATION_TEST_SLOTS = 2;
+   private static final int MAIN_TEST_SLOT = 0;
+   private static final int SPECULATIVE_TEST_SLOT = 1;
+   private static final String SPECULATIVE_LEVEL_FOLDER = "speculativeLevel";
+
    private Set<CallTreeNode> includedNodes;
    private Set<String> includedPattern;
    private final TestMethodCall testcase;
    private final CauseSearcherConfig causeConfig;
    private final CauseSearchFolders folders;
+   private final CommitComparatorInstance comparator;
    private int levelId = 0;
+   private Consumer<List<CallTreeNode>> earlyDifferenceListener;
+   private MeasurementSlots speculationSlots;
+   private ProjectClonePool speculationClonePool;
 
    public CauseTester(final CauseSearchFolders project, final MeasurementConfig measurementConfig, final CauseSearcherConfig causeConfig, final EnvironmentVariables env,
          CommitComparatorInstance comparator) {
@@ -49,6 +63,65 @@ public class CauseTester extends AdaptiveTester {
       this.testcase = causeConfig.getTestCase();
       this.causeConfig = causeConfig;
       this.folders = project;
+      this.comparator = comparator;
+   }
+
+   /**
+    * Pins this tester to the first of two isolated test slots, so a tester created by {@link #createSpeculativeTester()} can measure on disjoint CPUs at the same
+    * time. Without slot isolation, speculation is refused, since the VMs of both testers would influence each other.
+    */
+   public void prepareSpeculation() {
+      if (configuration.getSlotIsolation() == SlotIsolation.NONE) {
+         throw new RuntimeException("Speculative levels require slot isolation (TASKSET or CGROUP), since the speculative VMs would otherwise disturb the measurement "
+               + "of the current level");
+      }
+      speculationSlots = new MeasurementSlots(SPECULATION_TEST_SLOTS * configuration.getParallelSlots(), configuration.getSlotIsolation());
+      speculationClonePool = new ProjectClonePool(folders, configuration.getExecutionConfig().getGitCryptKey());
+      setTestSlot(speculationClonePool, MAIN_TEST_SLOT, speculationSlots);
+   }
+
+   /**
+    * Creates a tester which measures in the second test slot prepared by {@link #prepareSpeculation()}, so it can measure speculatively in parallel to this tester. Its
+    * results are archived in the folders of this tester; only the measurement of the current level is kept in a separate level folder.
+    */
+   public CauseTester createSpeculativeTester() {
+      if (speculationSlots == null) {
+         throw new RuntimeException("Speculation needs to be prepared before the speculative tester is created");
+      }
+      final CauseSearchFolders speculativeFolders = new CauseSearchFolders(folders.getProjectFolder(), SPECULATIVE_LEVEL_FOLDER);
+      final CauseTester speculativeTester = new CauseTester(speculativeFolders, new MeasurementConfig(configuration), causeConfig, env, comparator);
+      speculativeTester.setTestSlot(speculationClonePool, SPECULATIVE_TEST_SLOT, speculationSlots);
+      return speculativeTester;
+   }
+
+   /**
+    * Deletes the results of the given level, e.g. of a dropped speculative measurement, so the level can be measured again.
+    */
+   public void discardLevel(final int discardedLevelId) {
+      final String mainCommit = configuration.getFixedCommitConfig().getCommit();
+      for (String commit : new String[] { mainCommit, configuration.getFixedCommitConfig().getCommitOld() }) {
+         FileUtils.deleteQuietly(folders.getFullResultFolder(testcase, mainCommit, commit));
+         FileUtils.deleteQuietly(new File(new File(folders.getArchiveResultFolder(mainCommit, testcase), commit), "" + discardedLevelId));
+      }
+      FileUtils.deleteQuietly(folders.getRCALogFolder(mainCommit, testcase, discardedLevelId));
+   }
+
+   /**
+    * Returns the id of the level which is measured next, which defines the folders of its archived results and logs.
+    */
+   public int getLevelId() {
+      return levelId;
+   }
+
+   public void setLevelId(final int levelId) {
+      this.levelId = levelId;
+   }
+
+   /**
+    * Sets the listener which is informed after every VM about the included nodes whose measurements already show a clear difference.
+    */
+   public void setEarlyDifferenceListener(final Consumer<List<CallTreeNode>> earlyDifferenceListener) {
+      this.earlyDifferenceListener = earlyDifferenceListener;
    }
 
    public void measureVersion(final List<CallTreeNode> nodes) {
@@ -97,6 +170,8 @@ public class CauseTester extends AdaptiveTester {
          evaluateWithAdaption(testcase, logFolder, writer);
       } catch (IOException e) {
          throw new RuntimeException(e);
+      } finally {
+         finishResultOrganization();
       }
    }
 
@@ -122,12 +197,30 @@ public class CauseTester extends AdaptiveTester {
          allDecidable &= checkLevelDecidable(vmid, allDecidable, includedNode);
       }
       LOG.debug("Level decideable: {}", allDecidable);
+      if (earlyDifferenceListener != null) {
+         notifyEarlyDifferences(vmid);
+      }
       return allDecidable;
    }
 
+   private void notifyEarlyDifferences(final int vmid) {
+      final List<CallTreeNode> differentNodes = new LinkedList<>();
+      for (final CallTreeNode includedNode : includedNodes) {
+         final StatisticalSummary statisticsOld = includedNode.getStatistics(configuration.getFixedCommitConfig().getCommitOld());
+         final StatisticalSummary statistics = includedNode.getStatistics(configuration.getFixedCommitConfig().getCommit());
+         final EarlyBreakDecider decider = new EarlyBreakDecider(configuration, statisticsOld, statistics);
+         if (decider.isClearlyDifferent(vmid, causeConfig.getSpeculationVmidThreshold(), causeConfig.getSpeculationValueThreshold())) {
+            differentNodes.add(includedNode);
+         }
+      }
+      if (!differentNodes.isEmpty()) {
+         earlyDifferenceListener.accept(differentNodes);
+      }
+   }
+
    private boolean checkLevelDecidable(final int vmid, final boolean allDecidable, final CallTreeNode includedNode) {
-      final SummaryStatistics statisticsOld = includedNode.getStatistics(configuration.getFixedCommitConfig().getCommitOld());
-      final SummaryStatistics statistics = includedNode.getStatistics(configuration.getFixedCommitConfig().getCommit());
+      final StatisticalSummary statisticsOld = includedNode.getStatistics(configuration.getFixedCommitConfig().getCommitOld());
+      final StatisticalSummary statistics = includedNode.getStatistics(configuration.getFixedCommitConfig().getCommit());
       final EarlyBreakDecider decider = new EarlyBreakDecider(configuration, statisticsOld, statistics);
       final boolean nodeDecidable = decider.isBreakPossible(vmid);
       LOG.debug("{} decideable: {}", includedNode.getKiekerPattern(), allDecidable);
@@ -138,7 +231,7 @@ public class CauseTester extends AdaptiveTester {
 
    @Override
    public void handleKiekerResults(final String commit, final File commitResultFolder) {
-      if (getCurrentOrganizer().testSuccess(commit)) {
+      if (getOrganizer(commit, commitResultFolder).testSuccess(commit)) {
          LOG.info("Did succeed in measurement - analyse values");
 
          boolean isOtherVersion = commit.equals(configuration.getFixedCommitConfig().getCommit());
@@ -8,7 +8,6 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.math3.exception.NumberIsTooSmallException;
 import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -107,6 +106,17 @@ public class CallTreeNode extends BasicNode {
       callTreeStatistics.addMeasurement(duration);
    }
 
+   /**
+    * Returns the result of the current VM of the commit, so readers of big traces can add values directly without checking the node for every value
+    * 
+    * @param commit
+    * @return result of the current VM
+    */
+   public CallTreeResult getCurrentVMResult(final String commit) {
+      checkDataAddPossible(commit);
+      return data.get(commit).getCurrentResult();
+   }
+
    /**
     * Adds the measurement of *one full VM* to the measurements of the commit
     * 
@@ -166,7 +176,7 @@ public class CallTreeNode extends BasicNode {
       return cd;
    }
 
-   public SummaryStatistics getStatistics(final String commit) {
+   public StatisticalSummary getStatistics(final String commit) {
       LOG.trace("Getting data: {}", commit);
       final CallTreeStatistics statistics = data.get(commit);
       return statistics != null ? statistics.getStatistics() : null;
@@ -208,9 +218,9 @@ public class CallTreeNode extends BasicNode {
    public TestcaseStatistic getTestcaseStatistic() {
       LOG.debug("Creating statistics for {} {} Keys: {}", config.getFixedCommitConfig().getCommit(), config.getFixedCommitConfig().getCommitOld(), data.keySet());
       final CallTreeStatistics currentVersionStatistics = data.get(config.getFixedCommitConfig().getCommit());
-      final SummaryStatistics current = currentVersionStatistics.getStatistics();
+      final StatisticalSummary current = currentVersionStatistics.getStatistics();
       final CallTreeStatistics previousVersionStatistics = data.get(config.getFixedCommitConfig().getCommitOld());
-      final SummaryStatistics previous = previousVersionStatistics.getStatistics();
+      final StatisticalSummary previous = previousVersionStatistics.getStatistics();
       try {
          final TestcaseStatistic testcaseStatistic = new TestcaseStatistic(previous, current,
                previousVersionStatistics.getCalls(), currentVersionStatistics.getCalls());
@@ -229,9 +239,9 @@ public class CallTreeNode extends BasicNode {
    @JsonIgnore
    public TestcaseStatistic getPartialTestcaseStatistic() {
       final CallTreeStatistics currentVersionStatistics = data.get(config.getFixedCommitConfig().getCommit());
-      final SummaryStatistics current = currentVersionStatistics.getStatistics();
+      final StatisticalSummary current = currentVersionStatistics.getStatistics();
       final CallTreeStatistics previousVersionStatistics = data.get(config.getFixedCommitConfig().getCommitOld());
-      final SummaryStatistics previous = previousVersionStatistics.getStatistics();
+      final StatisticalSummary previous = previousVersionStatistics.getStatistics();
 
       if (firstHasValues(current, previous)) {
          final TestcaseStatistic testcaseStatistic = new TestcaseStatistic(previous, current, 0, currentVersionStatistics.getCalls());
@@ -251,7 +261,7 @@ public class CallTreeNode extends BasicNode {
       }
    }
 
-   private boolean firstHasValues(final SummaryStatistics first, final SummaryStatistics second) {
+   private boolean firstHasValues(final StatisticalSummary first, final StatisticalSummary second) {
       return (second == null || second.getN() == 0) && (first != null && first.getN() > 0);
    }
 
@@ -4,7 +4,8 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+
+import de.dagere.peass.measurement.statistics.data.StreamingStatistics;
 
 /**
  * CallTreeResult for analyzing a log line by line
@@ -14,7 +15,7 @@ public class CallTreeResult implements OneVMResult {
 
    private final int warmup;
    private int measured = 0;
-   private final SummaryStatistics statistics = new SummaryStatistics();
+   private final StreamingStatistics statistics = new StreamingStatistics();
 
    public CallTreeResult(final int warmup) {
       this.warmup = warmup;
@@ -25,6 +26,13 @@ public class CallTreeResult implements OneVMResult {
    }
 
    public void addValue(final Long value) {
+      addValue(value.longValue());
+   }
+
+   /**
+    * Adds one value without boxing; suitable for reading large Kieker traces.
+    */
+   public void addValue(final long value) {
       measured++;
       if (measured > warmup) {
          statistics.addValue(value);
@@ -4,16 +4,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 
 import de.dagere.peass.config.StatisticsConfig;
 import de.dagere.peass.measurement.statistics.data.OutlierRemoverVMResults;
+import de.dagere.peass.measurement.statistics.data.StreamingStatistics;
 
 public class CallTreeStatistics {
    
    private final int warmup;
    private final List<OneVMResult> results = new ArrayList<>();
-   protected final SummaryStatistics statistics = new SummaryStatistics();
+   protected final StreamingStatistics statistics = new StreamingStatistics();
 
    public CallTreeStatistics(final int warmup) {
       this.warmup = warmup;
@@ -25,8 +25,14 @@ public class CallTreeStatistics {
     * @param duration   duration of one iteration (usually in microseconds)
     */
    public void addMeasurement(final Long duration) {
-      final CallTreeResult current = (CallTreeResult) results.get(results.size() - 1);
-      current.addValue(duration);
+      getCurrentResult().addValue(duration.longValue());
+   }
+
+   /**
+    * Returns the current (last) VM result, which values of one iteration can be added to directly
+    */
+   public CallTreeResult getCurrentResult() {
+      return (CallTreeResult) results.get(results.size() - 1);
    }
    
    /**
@@ -54,7 +60,7 @@ public class CallTreeStatistics {
     * Returns the statistics *after* warmup consideration and outlier removal - values may therefore be unequal to full values from csv-measuremets
     * @return statistics of VM averages
     */
-   public SummaryStatistics getStatistics() {
+   public StatisticalSummary getStatistics() {
       return statistics;
    }
 
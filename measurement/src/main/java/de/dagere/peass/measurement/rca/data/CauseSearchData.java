@@ -110,8 +110,14 @@ public class CauseSearchData {
    }
 
    @JsonIgnore
-   public void addDetailDiff(final CallTreeNode rawDataNode) {
+   public MeasuredNode addDetailDiff(final CallTreeNode rawDataNode) {
       final MeasuredNode serializeNode = addDiff(rawDataNode);
       serializeNode.setValues(rawDataNode, measurementConfig.getFixedCommitConfig().getCommit(), measurementConfig.getFixedCommitConfig().getCommitOld());
+      return serializeNode;
+   }
+
+   @JsonIgnore
+   public MeasuredNode getMeasuredNode(final CallTreeNode rawDataNode) {
+      return current.get(rawDataNode);
    }
 }
@@ -3,6 +3,10 @@ package de.dagere.peass.measurement.rca.kieker;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -20,7 +24,8 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 
 import de.dagere.kopeme.kieker.aggregateddata.AggregatedData;
 import de.dagere.kopeme.kieker.aggregateddata.AggregatedDataNode;
-import de.dagere.kopeme.kieker.writer.AggregatedDataReader;
+import de.dagere.kopeme.kieker.writer.AggregatedDataReaderBin;
+import de.dagere.kopeme.kieker.writer.AggregatedDataReaderCSV;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.dependency.traces.KiekerFolderUtil;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
@@ -33,6 +38,8 @@ public class KiekerResultReader {
 
    private static final Logger LOG = LogManager.getLogger(KiekerResultReader.class);
 
+   private static final int NO_POSITION = -1;
+
    final boolean useAggregation;
    private final AllowedKiekerRecord usedRecord;
    private final Set<CallTreeNode> includedNodes;
@@ -42,6 +49,8 @@ public class KiekerResultReader {
 
    boolean considerNodePosition = false;
 
+   private final Map<String, String> measuredPatterns = new HashMap<>();
+
    public KiekerResultReader(final boolean useAggregation, final AllowedKiekerRecord usedRecord, final Set<CallTreeNode> includedNodes, final String commit,
          final TestMethodCall testcase, final boolean otherCommit) {
       this.useAggregation = useAggregation;
@@ -75,58 +84,81 @@ public class KiekerResultReader {
       }
    }
 
+   /**
+    * Reads the aggregated data file by file and dispatches every measured method directly to the nodes with the same kieker pattern (and, if the node position is
+    * considered, the same call position), so neither the full data map needs to be materialized nor every measured method needs to be compared to every node.
+    */
    public void readAggregatedData(final File kiekerTraceFolder) throws JsonParseException, JsonMappingException, IOException {
-      final Map<AggregatedDataNode, AggregatedData> fullDataMap = AggregatedDataReader.getFullDataMap(kiekerTraceFolder);
-      if (fullDataMap.isEmpty()) {
+      if (!kiekerTraceFolder.isDirectory()) {
+         throw new RuntimeException("Expecting folder with CSV-files!");
+      }
+      final Map<String, List<CallTreeNode>> nodeIndex = buildNodeIndex();
+      final Map<CallTreeNode, List<StatisticalSummary>> nodeValues = new IdentityHashMap<>();
+      final Set<AggregatedDataNode> measuredMethods = new HashSet<>();
+
+      for (final File aggregatedFile : kiekerTraceFolder.listFiles()) {
+         final Map<AggregatedDataNode, AggregatedData> fileDataMap = new LinkedHashMap<>();
+         if (aggregatedFile.getName().endsWith(".csv")) {
+            AggregatedDataReaderCSV.readAggregatedDataFile(aggregatedFile, fileDataMap);
+         } else if (aggregatedFile.getName().endsWith(".bin")) {
+            AggregatedDataReaderBin.readAggregatedDataFile(aggregatedFile, fileDataMap);
+         }
+         for (final Entry<AggregatedDataNode, AggregatedData> entry : fileDataMap.entrySet()) {
+            measuredMethods.add(entry.getKey());
+            dispatch(nodeIndex, nodeValues, entry.getKey(), entry.getValue());
+         }
+      }
+
+      if (measuredMethods.isEmpty()) {
          LOG.warn("No data were measured - a measurement error occured");
       } else {
          for (final CallTreeNode node : includedNodes) {
-            readNode(fullDataMap, node);
+            final List<StatisticalSummary> values = nodeValues.get(node);
+            if (values != null) {
+               LOG.debug("Setting measurement: {} {} Values: {}", commit, node.getKiekerPattern(), values.size());
+               node.addAggregatedMeasurement(commit, values);
+            } else {
+               LOG.warn("Node {} ({}) did not find measurement values, measured methods: {}", node.getKiekerPattern(), node.getOtherKiekerPattern(), measuredMethods.size());
+            }
          }
       }
    }
 
-   private void readNode(final Map<AggregatedDataNode, AggregatedData> fullDataMap, final CallTreeNode node) {
-      boolean nodeFound = false;
-      final CallTreeNode examinedNode = otherCommit ? node.getOtherCommitNode() : node;
-      final List<StatisticalSummary> values = new LinkedList<>();
-      for (final Entry<AggregatedDataNode, AggregatedData> entry : fullDataMap.entrySet()) {
-         if (isSameNode(examinedNode, entry.getKey())) {
-            for (final StatisticalSummary dataSlice : entry.getValue().getStatistic().values()) {
-               values.add(dataSlice);
-            }
-            nodeFound = true;
+   private void dispatch(final Map<String, List<CallTreeNode>> nodeIndex, final Map<CallTreeNode, List<StatisticalSummary>> nodeValues,
+         final AggregatedDataNode measuredNode, final AggregatedData data) {
+      final String kiekerCall = measuredPatterns.computeIfAbsent(measuredNode.getCall(), call -> KiekerPatternConverter.getKiekerPattern(call));
+      final List<CallTreeNode> nodes = nodeIndex.get(getIndexKey(kiekerCall, measuredNode.getEoi()));
+      if (nodes != null) {
+         for (final CallTreeNode node : nodes) {
+            final List<StatisticalSummary> values = nodeValues.computeIfAbsent(node, key -> new LinkedList<>());
+            values.addAll(data.getStatistic().values());
          }
-      }
-
-      if (nodeFound) {
-         LOG.debug("Setting measurement: {} {} Values: {}", commit, node.getKiekerPattern(), values.size());
-         // System.out.println(StatisticUtil.getMean(values) + " ");
-         node.addAggregatedMeasurement(commit, values);
       } else {
-         LOG.warn("Node {} ({}) did not find measurement values, measured methods: {}", node.getKiekerPattern(), node.getOtherKiekerPattern(), fullDataMap.entrySet().size());
+         LOG.trace("No node for {} (EOI: {})", kiekerCall, measuredNode.getEoi());
       }
    }
 
-   private boolean isSameNode(final CallTreeNode node, final AggregatedDataNode measuredNode) {
-      final String nodeCall = KiekerPatternConverter.fixParameters(node.getKiekerPattern());
-      final String kiekerCall = KiekerPatternConverter.getKiekerPattern(measuredNode.getCall());
-      LOG.trace("Node: {} Kieker: {} Equal: {}", nodeCall, kiekerCall, nodeCall.equals(kiekerCall));
-      if (nodeCall.equals(kiekerCall) || (node.getParent() == null && isSameNodeWithoutModifier(nodeCall, kiekerCall))) {
-         LOG.trace("EOI: {} vs {}", node.getEoi(commit), measuredNode.getEoi());
-         if (considerNodePosition) {
-            final int eoi = node.getEoi(commit);
-            if (measuredNode.getEoi() == eoi) {
-               return true;
-            } else {
-               return false;
-            }
-         } else {
-            return true;
+   /**
+    * Indexes the included nodes by their kieker pattern and, if the node position is considered, their call position. Root nodes are additionally indexed by their
+    * pattern without modifier, since the test method may be measured without modifier.
+    */
+   private Map<String, List<CallTreeNode>> buildNodeIndex() {
+      final Map<String, List<CallTreeNode>> nodeIndex = new HashMap<>();
+      for (final CallTreeNode node : includedNodes) {
+         final CallTreeNode examinedNode = otherCommit ? node.getOtherCommitNode() : node;
+         final String nodeCall = KiekerPatternConverter.fixParameters(examinedNode.getKiekerPattern());
+         final int eoi = considerNodePosition ? examinedNode.getEoi(commit) : NO_POSITION;
+         nodeIndex.computeIfAbsent(getIndexKey(nodeCall, eoi), key -> new LinkedList<>()).add(node);
+         if (examinedNode.getParent() == null && isTestcaseCall(nodeCall)) {
+            final String pureCall = nodeCall.substring("public ".length());
+            nodeIndex.computeIfAbsent(getIndexKey(pureCall, eoi), key -> new LinkedList<>()).add(node);
          }
-      } else {
-         return false;
       }
+      return nodeIndex;
+   }
+
+   private String getIndexKey(final String kiekerCall, final int eoi) {
+      return considerNodePosition ? kiekerCall + "@" + eoi : kiekerCall;
    }
 
    public void readNonAggregated(final File kiekerTraceFolder) throws AnalysisConfigurationException {
@@ -137,12 +169,11 @@ public class KiekerResultReader {
       }
    }
 
-   private boolean isSameNodeWithoutModifier(String nodeCall, String kiekerCall) {
+   private boolean isTestcaseCall(final String nodeCall) {
       if (CauseSearchData.ADDED.equals(nodeCall)) {
          return false;
       }
       String executable = testcase.getExecutable().replace("#", ".");
-      String pureCall = nodeCall.substring("public ".length());
-      return nodeCall.contains(executable) && pureCall.equals(kiekerCall);
+      return nodeCall.contains(executable);
    }
 }
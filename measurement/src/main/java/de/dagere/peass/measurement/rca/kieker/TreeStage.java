@@ -1,5 +1,9 @@
 package de.dagere.peass.measurement.rca.kieker;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -12,7 +16,12 @@ import kieker.analysis.trace.AbstractTraceProcessingStage;
 import kieker.model.repository.SystemModelRepository;
 import kieker.model.system.model.Execution;
 import kieker.model.system.model.ExecutionTrace;
+import kieker.model.system.model.Operation;
 
+/**
+ * Builds the call tree of a test from its execution traces. The signature strings of every operation are only created once and shared by all nodes of the operation,
+ * and the children of every node are indexed by their pattern id, so the tree is built in linear time of the count of executions.
+ */
 public class TreeStage extends AbstractTraceProcessingStage<ExecutionTrace> {
 
    private static final Logger LOG = LogManager.getLogger(TreeStage.class);
@@ -40,6 +49,10 @@ public class TreeStage extends AbstractTraceProcessingStage<ExecutionTrace> {
       return root;
    }
 
+   private final Map<Integer, OperationSignature> signatures = new HashMap<>();
+   private final Map<String, Integer> patternIds = new HashMap<>();
+   private final Map<CallTreeNode, Map<Integer, CallTreeNode>> childIndex = new IdentityHashMap<>();
+
    private CallTreeNode lastParent = null, lastAdded = null;
    private int lastStackSize = 1;
    private long testTraceId = -1;
@@ -49,52 +62,66 @@ public class TreeStage extends AbstractTraceProcessingStage<ExecutionTrace> {
       LOG.info("Trace: " + trace.getTraceId());
 
       for (final Execution execution : trace.getTraceAsSortedExecutionSet()) {
-         final String fullClassname = execution.getOperation().getComponentType().getFullQualifiedName().intern();
-         final String methodname = execution.getOperation().getSignature().getName().intern();
-         final String call = fullClassname + "#" + methodname;
-         final String kiekerPattern = KiekerPatternConverter.getKiekerPattern(execution.getOperation());
-         LOG.trace("{} {}", kiekerPattern, execution.getEss());
+         final Operation operation = execution.getOperation();
+         final OperationSignature signature = signatures.computeIfAbsent(operation.getId(), id -> createSignature(operation));
+         LOG.trace("{} {}", signature.kiekerPattern, execution.getEss());
 
          // ignore synthetic java methods
-         if (!methodname.equals("class$") && !methodname.startsWith("access$")) {
-            addExecutionToTree(execution, fullClassname, methodname, call, kiekerPattern);
+         if (!signature.methodname.equals("class$") && !signature.methodname.startsWith("access$")) {
+            addExecutionToTree(execution, signature);
          }
       }
    }
 
-   private void addExecutionToTree(final Execution execution, final String fullClassname, final String methodname, final String call, final String kiekerPattern) {
-      if (test.getClazz().equals(fullClassname) && test.getMethod().equals(methodname)) {
-         readRoot(execution, call, kiekerPattern);
+   private OperationSignature createSignature(final Operation operation) {
+      final String fullClassname = operation.getComponentType().getFullQualifiedName().intern();
+      final String methodname = operation.getSignature().getName().intern();
+      final String kiekerPattern = KiekerPatternConverter.getKiekerPattern(operation);
+      final Integer patternId = patternIds.computeIfAbsent(kiekerPattern, pattern -> patternIds.size());
+      return new OperationSignature(fullClassname, methodname, kiekerPattern, patternId);
+   }
+
+   private void addExecutionToTree(final Execution execution, final OperationSignature signature) {
+      final String fullClassname = signature.fullClassname;
+      if (test.getClazz().equals(fullClassname) && test.getMethod().equals(signature.methodname)) {
+         readRoot(execution, signature.call, signature.kiekerPattern);
          setModule(fullClassname, root);
       } else if (root != null && execution.getTraceId() == testTraceId) {
-         LOG.trace(fullClassname + " " + execution.getOperation().getSignature() + " " + execution.getEoi() + " " + execution.getEss());
-         LOG.trace("Last Stack: " + lastStackSize);
+         LOG.trace("{} {} {} {}", fullClassname, execution.getOperation().getSignature(), execution.getEoi(), execution.getEss());
+         LOG.trace("Last Stack: {}", lastStackSize);
 
          callLevelDown(execution);
          callLevelUp(execution);
          LOG.trace("Parent: {} {}", lastParent.getCall(), lastParent.getEss());
 
          if (execution.getEss() == lastParent.getEss()) {
-            final String message = "Trying to add " + call + "(" + execution.getEss() + ")" + " to " + lastParent.getCall() + "(" + lastParent.getEss()
+            final String message = "Trying to add " + signature.call + "(" + execution.getEss() + ")" + " to " + lastParent.getCall() + "(" + lastParent.getEss()
                   + "), but parent ess always needs to be child ess -1";
             LOG.error(message);
             throw new RuntimeException(message);
          }
 
-         boolean hasEqualNode = false;
-         for (CallTreeNode candidate : lastParent.getChildren()) {
-            if (candidate.getKiekerPattern().equals(kiekerPattern)) {
-               hasEqualNode = true;
-               lastAdded = candidate;
+         if (ignoreEOIs) {
+            final Map<Integer, CallTreeNode> children = childIndex.computeIfAbsent(lastParent, parent -> new HashMap<>());
+            final CallTreeNode equalNode = children.get(signature.patternId);
+            if (equalNode != null) {
+               lastAdded = equalNode;
+            } else {
+               lastAdded = appendChild(signature);
+               children.put(signature.patternId, lastAdded);
             }
-         }
-         if (!ignoreEOIs || !hasEqualNode) {
-            lastAdded = lastParent.appendChild(call, kiekerPattern, null);
-            setModule(fullClassname, lastAdded);
+         } else {
+            lastAdded = appendChild(signature);
          }
       }
    }
 
+   private CallTreeNode appendChild(final OperationSignature signature) {
+      final CallTreeNode child = lastParent.appendChild(signature.call, signature.kiekerPattern, null);
+      setModule(signature.fullClassname, child);
+      return child;
+   }
+
    private void setModule(final String fullClassname, final CallTreeNode node) {
       final String outerClazzName = ClazzFileFinder.getOuterClass(fullClassname);
       final String moduleOfClass = mapping.getModuleOfClass(outerClazzName);
@@ -132,4 +159,19 @@ public class TreeStage extends AbstractTraceProcessingStage<ExecutionTrace> {
       testTraceId = execution.getTraceId();
    }
 
+   private static final class OperationSignature {
+      private final String fullClassname;
+      private final String methodname;
+      private final String call;
+      private final String kiekerPattern;
+      private final Integer patternId;
+
+      private OperationSignature(final String fullClassname, final String methodname, final String kiekerPattern, final Integer patternId) {
+         this.fullClassname = fullClassname;
+         this.methodname = methodname;
+         this.call = fullClassname + "#" + methodname;
+         this.kiekerPattern = kiekerPattern;
+         this.patternId = patternId;
+      }
+   }
 }
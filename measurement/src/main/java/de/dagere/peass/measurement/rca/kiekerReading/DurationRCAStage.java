@@ -9,6 +9,7 @@ import org.apache.logging.log4j.Logger;
 
 import de.dagere.kopeme.kieker.record.DurationRecord;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.data.CallTreeResult;
 import de.dagere.peass.measurement.rca.kieker.KiekerPatternConverter;
 import kieker.analysis.trace.AbstractTraceAnalysisStage;
 import kieker.model.repository.SystemModelRepository;
@@ -17,7 +18,17 @@ public class DurationRCAStage extends AbstractTraceAnalysisStage<DurationRecord>
 
    private static final Logger LOG = LogManager.getLogger(DurationRCAStage.class);
 
+   /**
+    * Marks signatures that belong to no measured node
+    */
+   private static final CallTreeResult NOT_MEASURED = new CallTreeResult(0);
+
    private final Map<String, CallTreeNode> measuredNodes = new HashMap<>();
+   /**
+    * Caches the VM result of every operation signature as read from the trace, so the kieker pattern is only built once per signature. The Kieker reader resolves
+    * signatures via its string registry, so usually the same String instance (with cached hash) is passed for every record of a signature.
+    */
+   private final Map<String, CallTreeResult> signatureResults = new HashMap<>();
    private final String commit;
 
    /**
@@ -37,12 +48,23 @@ public class DurationRCAStage extends AbstractTraceAnalysisStage<DurationRecord>
 
    @Override
    protected void execute(final DurationRecord execution) throws Exception {
-      final String kiekerPattern = KiekerPatternConverter.addNewIfRequired(execution.getOperationSignature());
-      CallTreeNode node = measuredNodes.get(kiekerPattern);
-      if (node != null) {
+      final CallTreeResult result = getResult(execution.getOperationSignature());
+      if (result != NOT_MEASURED) {
          // Get duration in mikroseconds - Kieker produces nanoseconds
          final long duration = (execution.getTout() - execution.getTin());
-         node.addMeasurement(commit, duration);
+         result.addValue(duration);
+      }
+   }
+
+   private CallTreeResult getResult(final String operationSignature) {
+      CallTreeResult result = signatureResults.get(operationSignature);
+      if (result == null) {
+         final String kiekerPattern = KiekerPatternConverter.addNewIfRequired(operationSignature);
+         final CallTreeNode node = measuredNodes.get(kiekerPattern);
+         result = node != null ? node.getCurrentVMResult(commit) : NOT_MEASURED;
+         LOG.trace("Resolved {} to {}", operationSignature, node);
+         signatureResults.put(operationSignature, result);
       }
+      return result;
    }
 }
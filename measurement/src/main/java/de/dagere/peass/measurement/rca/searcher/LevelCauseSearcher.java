@@ -29,6 +29,8 @@ public class LevelCauseSearcher extends CauseSearcher {
 
    private static final Logger LOG = LogManager.getLogger(LevelCauseSearcher.class);
 
+   private final SpeculativeLevelMeasurer speculativeMeasurer;
+
    /**
     * Continues existing run
     * 
@@ -42,6 +44,7 @@ public class LevelCauseSearcher extends CauseSearcher {
          throws InterruptedException, IOException {
       super(null, persistenceManager.getRCAData().getCauseConfig(), measurer, persistenceManager.getRCAData().getMeasurementConfig(), persistenceManager.getFolders(), env);
       this.persistenceManager = persistenceManager;
+      speculativeMeasurer = createSpeculativeMeasurer();
    }
 
    public LevelCauseSearcher(final BothTreeReader reader, final CauseSearcherConfig causeSearchConfig, final CauseTester measurer, final MeasurementConfig measurementConfig,
@@ -55,6 +58,16 @@ public class LevelCauseSearcher extends CauseSearcher {
       }
       new FolderDeterminer(folders).testResultFolders(measurementConfig.getFixedCommitConfig().getCommit(), measurementConfig.getFixedCommitConfig().getCommitOld(),
             causeSearchConfig.getTestCase());
+      speculativeMeasurer = createSpeculativeMeasurer();
+   }
+
+   private SpeculativeLevelMeasurer createSpeculativeMeasurer() {
+      if (causeSearchConfig.isSpeculativeLevels()) {
+         measurer.prepareSpeculation();
+         return new SpeculativeLevelMeasurer(measurer, causeSearchConfig, measurementConfig);
+      } else {
+         return null;
+      }
    }
 
    @Override
@@ -68,20 +81,32 @@ public class LevelCauseSearcher extends CauseSearcher {
       LevelChildDeterminer currentDeterminer = new LevelChildDeterminer(Arrays.asList(new CallTreeNode[] { reader.getRootVersion() }), causeSearchConfig.getLevels() - 1);
       List<CallTreeNode> initialNodesCurrent = currentDeterminer.getSelectedIncludingParentNodes();
 
-      isLevelDifferent(initialNodesPredecessor, initialNodesCurrent);
+      try {
+         isLevelDifferent(initialNodesPredecessor, initialNodesCurrent);
+      } finally {
+         closeSpeculation();
+      }
+      persistenceManager.compact();
 
       return convertToChangedEntitites();
    }
 
    public void isLevelDifferent(final List<CallTreeNode> currentPredecessorNodeList, final List<CallTreeNode> currentVersionNodeList) {
-      final LevelDifferentNodeDeterminer levelDifferentNodeDeterminer = new LevelDifferentNodeDeterminer(currentPredecessorNodeList, currentVersionNodeList, causeSearchConfig,
-            measurementConfig);
+      final LevelDifferentNodeDeterminer speculativeDeterminer = speculativeMeasurer != null
+            ? speculativeMeasurer.takeMeasuredLevel(currentPredecessorNodeList, currentVersionNodeList)
+            : null;
+      final LevelDifferentNodeDeterminer levelDifferentNodeDeterminer = speculativeDeterminer != null ? speculativeDeterminer
+            : new LevelDifferentNodeDeterminer(currentPredecessorNodeList, currentVersionNodeList, causeSearchConfig, measurementConfig);
 
       final List<CallTreeNode> measurePredecessor = levelDifferentNodeDeterminer.getMeasurePredecessor();
 
       LOG.info("Measure next level: {}", measurePredecessor);
       if (measurePredecessor.size() > 0) {
-         measureLevel(levelDifferentNodeDeterminer, measurePredecessor);
+         if (speculativeDeterminer != null) {
+            analyzeLevel(levelDifferentNodeDeterminer, measurePredecessor);
+         } else {
+            measureLevel(levelDifferentNodeDeterminer, measurePredecessor);
+         }
          writeTreeState();
 
          List<CallTreeNode> differentNodesPredecessor = LevelChildDeterminer.filterDeepestLevel(levelDifferentNodeDeterminer.getLevelDifferentPredecessor());
@@ -95,8 +120,29 @@ public class LevelCauseSearcher extends CauseSearcher {
       }
    }
 
+   /**
+    * Closes the speculative measurement, cancelling a pending measurement; needs to be called after the search if the search was continued by
+    * {@link #isLevelDifferent(List, List)}.
+    */
+   public void closeSpeculation() {
+      if (speculativeMeasurer != null) {
+         speculativeMeasurer.close();
+      }
+   }
+
    private void measureLevel(final LevelDifferentNodeDeterminer levelDifferentNodeDeterminer, final List<CallTreeNode> measuredPredecessor) {
-      measurer.measureVersion(measuredPredecessor);
+      if (speculativeMeasurer != null) {
+         measurer.setEarlyDifferenceListener(differentNodes -> speculativeMeasurer.speculate(measuredPredecessor, differentNodes));
+      }
+      try {
+         measurer.measureVersion(measuredPredecessor);
+      } finally {
+         measurer.setEarlyDifferenceListener(null);
+      }
+      analyzeLevel(levelDifferentNodeDeterminer, measuredPredecessor);
+   }
+
+   private void analyzeLevel(final LevelDifferentNodeDeterminer levelDifferentNodeDeterminer, final List<CallTreeNode> measuredPredecessor) {
       levelDifferentNodeDeterminer.calculateDiffering();
 
       for (final CallTreeNode predecessorNode : measuredPredecessor) {
@@ -0,0 +1,179 @@
+package de.dagere.peass.measurement.rca.searcher;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.measurement.dependencyprocessors.helper.EarlyBreakDecider;
+import de.dagere.peass.measurement.rca.CauseSearcherConfig;
+import de.dagere.peass.measurement.rca.CauseTester;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.treeanalysis.LevelDifferentNodeDeterminer;
+
+/**
+ * Measures the next level speculatively while the current level is still measured: As soon as early VMs of the current level show a clear difference for some nodes
+ * (see {@link EarlyBreakDecider#isClearlyDifferent(int, int, int)}), the children of these nodes are measured by a second {@link CauseTester}, which is created on the
+ * first speculation and measures in its own isolated test slot. If the next level turns out to be exactly the speculatively measured level, its measurement is used;
+ * otherwise, it is cancelled and its results are discarded.
+ */
+class SpeculativeLevelMeasurer implements AutoCloseable {
+
+   private static final Logger LOG = LogManager.getLogger(SpeculativeLevelMeasurer.class);
+
+   private final CauseTester mainTester;
+   private final CauseSearcherConfig causeSearchConfig;
+   private final MeasurementConfig measurementConfig;
+   private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "speculation");
+      thread.setDaemon(true);
+      return thread;
+   });
+
+   private CauseTester speculativeTester;
+   private List<CallTreeNode> speculativePredecessor;
+   private List<CallTreeNode> speculativeCurrent;
+   private int speculativeLevelId;
+   private Future<LevelDifferentNodeDeterminer> speculation;
+
+   /**
+    * @param mainTester Tester of the current level, which needs to be prepared by {@link CauseTester#prepareSpeculation()}
+    */
+   SpeculativeLevelMeasurer(final CauseTester mainTester, final CauseSearcherConfig causeSearchConfig, final MeasurementConfig measurementConfig) {
+      this.mainTester = mainTester;
+      this.causeSearchConfig = causeSearchConfig;
+      this.measurementConfig = measurementConfig;
+   }
+
+   /**
+    * Starts the measurement of the children of the different nodes, if no speculative measurement is pending yet. Needs to be called while the main tester measures
+    * the current level, since the speculative level gets the id following the current level.
+    *
+    * @param levelNodes Nodes of the currently measured level, defining the order of the next level
+    * @param differentNodes Nodes whose early VMs show a clear difference
+    */
+   synchronized void speculate(final List<CallTreeNode> levelNodes, final List<CallTreeNode> differentNodes) {
+      if (speculation != null) {
+         return;
+      }
+      final Set<CallTreeNode> different = Collections.newSetFromMap(new IdentityHashMap<>());
+      different.addAll(differentNodes);
+      final List<CallTreeNode> differentPredecessor = new LinkedList<>();
+      final List<CallTreeNode> differentCurrent = new LinkedList<>();
+      for (final CallTreeNode node : levelNodes) {
+         if (different.contains(node)) {
+            differentPredecessor.add(node);
+            differentCurrent.add(node.getOtherCommitNode());
+         }
+      }
+      final List<CallTreeNode> predecessorChilds = LevelChildDeterminer.getLevelChilds(LevelChildDeterminer.filterDeepestLevel(differentPredecessor),
+            causeSearchConfig.getLevels());
+      final List<CallTreeNode> currentChilds = LevelChildDeterminer.getLevelChilds(LevelChildDeterminer.filterDeepestLevel(differentCurrent), causeSearchConfig.getLevels());
+      if (predecessorChilds.isEmpty()) {
+         return;
+      }
+
+      if (speculativeTester == null) {
+         speculativeTester = mainTester.createSpeculativeTester();
+      }
+      LOG.info("Starting speculative measurement of {}", predecessorChilds);
+      speculativePredecessor = predecessorChilds;
+      speculativeCurrent = currentChilds;
+      speculativeLevelId = mainTester.getLevelId() + 1;
+      speculativeTester.setLevelId(speculativeLevelId);
+      speculation = executor.submit(() -> {
+         final LevelDifferentNodeDeterminer determiner = new LevelDifferentNodeDeterminer(predecessorChilds, currentChilds, causeSearchConfig, measurementConfig);
+         if (determiner.getMeasurePredecessor().size() > 0) {
+            speculativeTester.measureVersion(determiner.getMeasurePredecessor());
+         }
+         return determiner;
+      });
+   }
+
+   /**
+    * Returns the determiner of the pending speculative measurement if exactly the given level was measured, waiting for the measurement to finish; otherwise, the
+    * measurement is cancelled and its results are discarded.
+    *
+    * @return The determiner of the measured level, or null if the level needs to be measured
+    */
+   LevelDifferentNodeDeterminer takeMeasuredLevel(final List<CallTreeNode> predecessorNodes, final List<CallTreeNode> currentNodes) {
+      final Future<LevelDifferentNodeDeterminer> pending;
+      final List<CallTreeNode> pendingPredecessor;
+      final List<CallTreeNode> pendingCurrent;
+      synchronized (this) {
+         pending = speculation;
+         pendingPredecessor = speculativePredecessor;
+         pendingCurrent = speculativeCurrent;
+         speculation = null;
+         speculativePredecessor = null;
+         speculativeCurrent = null;
+      }
+      if (pending == null) {
+         return null;
+      }
+
+      if (!isSameLevel(pendingPredecessor, predecessorNodes) || !isSameLevel(pendingCurrent, currentNodes)) {
+         LOG.info("Cancelling speculative measurement of {}, since {} needs to be measured", pendingPredecessor, predecessorNodes);
+         cancel(pending);
+         return null;
+      }
+
+      try {
+         final LevelDifferentNodeDeterminer determiner = pending.get();
+         LOG.info("Using speculative measurement of {}", predecessorNodes);
+         mainTester.setLevelId(speculativeLevelId + 1);
+         return determiner;
+      } catch (InterruptedException | ExecutionException e) {
+         LOG.warn("Speculative measurement failed - measuring level regularly", e);
+         cancel(pending);
+         return null;
+      }
+   }
+
+   /**
+    * Cancels the speculative measurement, which kills its running VM, waits until it has stopped and discards its results.
+    */
+   private void cancel(final Future<LevelDifferentNodeDeterminer> pending) {
+      pending.cancel(true);
+      try {
+         // The executor has only one thread, so this returns after the cancelled measurement has stopped
+         executor.submit(() -> {
+         }).get();
+      } catch (InterruptedException | ExecutionException e) {
+         throw new RuntimeException(e);
+      }
+      speculativeTester.discardLevel(speculativeLevelId);
+   }
+
+   private boolean isSameLevel(final List<CallTreeNode> speculativeNodes, final List<CallTreeNode> nodes) {
+      if (speculativeNodes.size() != nodes.size()) {
+         return false;
+      }
+      final Iterator<CallTreeNode> nodeIterator = nodes.iterator();
+      for (final CallTreeNode speculativeNode : speculativeNodes) {
+         if (speculativeNode != nodeIterator.next()) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Cancels a pending speculative measurement, so no VM of it keeps running.
+    */
+   @Override
+   public void close() {
+      takeMeasuredLevel(Collections.emptyList(), Collections.emptyList());
+      executor.shutdown();
+   }
+}
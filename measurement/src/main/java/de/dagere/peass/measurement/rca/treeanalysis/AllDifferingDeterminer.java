@@ -3,7 +3,7 @@ package de.dagere.peass.measurement.rca.treeanalysis;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
 
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.measurement.rca.CauseSearcherConfig;
@@ -32,8 +32,8 @@ public class AllDifferingDeterminer extends DifferentNodeDeterminer {
    public List<CallTreeNode> getIncludableNodes() {
       final List<CallTreeNode> includeable = new LinkedList<CallTreeNode>();
       for (final CallTreeNode node : measurePredecessor) {
-         final SummaryStatistics statistics = node.getStatistics(measurementConfig.getFixedCommitConfig().getCommit());
-         final SummaryStatistics statisticsOld = node.getStatistics(measurementConfig.getFixedCommitConfig().getCommitOld());
+         final StatisticalSummary statistics = node.getStatistics(measurementConfig.getFixedCommitConfig().getCommit());
+         final StatisticalSummary statisticsOld = node.getStatistics(measurementConfig.getFixedCommitConfig().getCommitOld());
          if (statistics.getMean() > causeSearchConfig.getMinTime() &&
                statisticsOld.getMean() > causeSearchConfig.getMinTime()) {
             includeable.add(node);
@@ -2,6 +2,7 @@ package de.dagere.peass.measurement.rca.treeanalysis;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -25,8 +26,8 @@ public class MatchingTreeBuilder {
 
    private static final Logger LOG = LogManager.getLogger(MatchingTreeBuilder.class);
 
-   final CallTreeNode firstNode;
-   final CallTreeNode secondNode;
+   final List<CallTreeNode> firstChildren;
+   final List<CallTreeNode> secondChildren;
    final Set<CallTreeNodeVertex> partition1 = new HashSet<>();
    final Set<CallTreeNodeVertex> partition2 = new HashSet<>();
    final Graph<CallTreeNodeVertex, DefaultWeightedEdge> graph = new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
@@ -35,17 +36,23 @@ public class MatchingTreeBuilder {
    final Map<Integer, CallTreeNodeVertex> vertices2 = new HashMap<>();
 
    public MatchingTreeBuilder(final CallTreeNode firstNode, final CallTreeNode secondNode) {
-      super();
-      this.firstNode = firstNode;
-      this.secondNode = secondNode;
+      this(firstNode.getChildren(), secondNode.getChildren());
+   }
+
+   /**
+    * Creates the matching graph for the given children, which may be a subset of the children of the compared nodes.
+    */
+   public MatchingTreeBuilder(final List<CallTreeNode> firstChildren, final List<CallTreeNode> secondChildren) {
+      this.firstChildren = firstChildren;
+      this.secondChildren = secondChildren;
 
-      buildVertices(firstNode, partition1, vertices1);
-      buildVertices(secondNode, partition2, vertices2);
+      buildVertices(firstChildren, partition1, vertices1);
+      buildVertices(secondChildren, partition2, vertices2);
    }
 
-   private void buildVertices(final CallTreeNode firstNode, final Set<CallTreeNodeVertex> partition, final Map<Integer, CallTreeNodeVertex> vertices) {
-      for (int firstChildIndex = 0; firstChildIndex < firstNode.getChildren().size(); firstChildIndex++) {
-         final CallTreeNode child = firstNode.getChildren().get(firstChildIndex);
+   private void buildVertices(final List<CallTreeNode> children, final Set<CallTreeNodeVertex> partition, final Map<Integer, CallTreeNodeVertex> vertices) {
+      for (int firstChildIndex = 0; firstChildIndex < children.size(); firstChildIndex++) {
+         final CallTreeNode child = children.get(firstChildIndex);
          final CallTreeNodeVertex vertex = new CallTreeNodeVertex(child);
          vertices.put(firstChildIndex, vertex);
          partition.add(vertex);
@@ -65,11 +72,11 @@ public class MatchingTreeBuilder {
       return graph;
    }
 
-   public void buildEdges(final CallTreeNode firstNode, final CallTreeNode secondNode, final Graph<CallTreeNodeVertex, DefaultWeightedEdge> graph) {
-      for (int firstChildIndex = 0; firstChildIndex < firstNode.getChildren().size(); firstChildIndex++) {
-         for (int secondChildIndex = 0; secondChildIndex < secondNode.getChildren().size(); secondChildIndex++) {
-            final CallTreeNode firstChild = firstNode.getChildren().get(firstChildIndex);
-            final CallTreeNode secondChild = secondNode.getChildren().get(secondChildIndex);
+   public void buildEdges(final Graph<CallTreeNodeVertex, DefaultWeightedEdge> graph) {
+      for (int firstChildIndex = 0; firstChildIndex < firstChildren.size(); firstChildIndex++) {
+         for (int secondChildIndex = 0; secondChildIndex < secondChildren.size(); secondChildIndex++) {
+            final CallTreeNode firstChild = firstChildren.get(firstChildIndex);
+            final CallTreeNode secondChild = secondChildren.get(secondChildIndex);
             final DefaultWeightedEdge edge = graph.addEdge(
                   vertices1.get(firstChildIndex),
                   vertices2.get(secondChildIndex));
@@ -53,23 +53,42 @@ public class TreeUtil {
       }
    }
 
+   /**
+    * Maximum count of edges (children of the first node times children of the second node) for which the maximum weight matching is used directly; wider nodes are
+    * matched by {@link WideChildMatcher}.
+    */
+   public static final int MAX_WEIGHTED_MATCHING_EDGES = 50000;
+
    public static int findChildMapping(final CallTreeNode firstNode, final CallTreeNode secondNode) {
-      final MatchingTreeBuilder builder = new MatchingTreeBuilder(firstNode, secondNode);
-      final Graph<CallTreeNodeVertex, DefaultWeightedEdge> graph = builder.getGraph();
+      final List<CallTreeNode> firstChildren = firstNode.getChildren();
+      final List<CallTreeNode> secondChildren = secondNode.getChildren();
+      final int firstSize = firstChildren.size();
+      final int secondSize = secondChildren.size();
+
+      final int matched;
+      if ((long) firstSize * secondSize <= MAX_WEIGHTED_MATCHING_EDGES) {
+         matched = findWeightedMapping(firstChildren, secondChildren);
+      } else {
+         LOG.debug("Matching wide nodes with {} and {} children", firstSize, secondSize);
+         matched = WideChildMatcher.findMapping(firstChildren, secondChildren);
+      }
+      if (firstSize > secondSize) {
+         addSurplus(secondNode, firstChildren);
+      }
+      if (secondSize > firstSize) {
+         addSurplus(firstNode, secondChildren);
+      }
 
-      builder.buildEdges(firstNode, secondNode, graph);
+      return matched;
+   }
 
-      final Set<CallTreeNodeVertex> partition1 = builder.getPartition1();
-      final Set<CallTreeNodeVertex> partition2 = builder.getPartition2();
+   static int findWeightedMapping(final List<CallTreeNode> firstChildren, final List<CallTreeNode> secondChildren) {
+      final MatchingTreeBuilder builder = new MatchingTreeBuilder(firstChildren, secondChildren);
+      final Graph<CallTreeNodeVertex, DefaultWeightedEdge> graph = builder.getGraph();
 
-      final Matching<CallTreeNodeVertex, DefaultWeightedEdge> resultMatching = setOtherVersionNodes(graph, partition1, partition2);
-      if (partition1.size() > partition2.size()) {
-         addSurplus(secondNode, firstNode.getChildren());
-      }
-      if (partition2.size() > partition1.size()) {
-         addSurplus(firstNode, secondNode.getChildren());
-      }
+      builder.buildEdges(graph);
 
+      final Matching<CallTreeNodeVertex, DefaultWeightedEdge> resultMatching = setOtherVersionNodes(graph, builder.getPartition1(), builder.getPartition2());
       return resultMatching.getEdges().size();
    }
 
@@ -81,16 +100,20 @@ public class TreeUtil {
       for (final DefaultWeightedEdge edge : resultMatching) {
          final CallTreeNode source = graph.getEdgeSource(edge).getNode();
          final CallTreeNode target = graph.getEdgeTarget(edge).getNode();
-         source.setOtherCommitNode(target);
-         target.setOtherCommitNode(source);
-         source.setOtherKiekerPattern(target.getKiekerPattern());
-         target.setOtherKiekerPattern(source.getKiekerPattern());
+         setOtherCommitNodes(source, target);
          
 //         LOG.info("Matched: {} - {}", source, target);
       }
       return resultMatching;
    }
 
+   static void setOtherCommitNodes(final CallTreeNode source, final CallTreeNode target) {
+      source.setOtherCommitNode(target);
+      target.setOtherCommitNode(source);
+      source.setOtherKiekerPattern(target.getKiekerPattern());
+      target.setOtherKiekerPattern(source.getKiekerPattern());
+   }
+
    private static void addSurplus(final CallTreeNode otherParent, final List<CallTreeNode> partition) {
       for (final CallTreeNode unmatched : partition) {
          if (unmatched.getOtherCommitNode() == null) {
@@ -0,0 +1,194 @@
+package de.dagere.peass.measurement.rca.treeanalysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+
+/**
+ * Matches the children of wide nodes, for which the complete bipartite graph of {@link MatchingTreeBuilder} would be too big. First, children with equal kieker
+ * pattern are matched in the order of their occurrence. The remaining children are matched by the maximum weight matching if they are few enough, and otherwise
+ * aligned by the longest common subsequence of their calls. Like in the complete matching, as many children as possible are matched.
+ */
+class WideChildMatcher {
+
+   private static final Logger LOG = LogManager.getLogger(WideChildMatcher.class);
+
+   private static final int NO_PARTNER = -1;
+
+   private WideChildMatcher() {
+
+   }
+
+   static int findMapping(final List<CallTreeNode> firstChildren, final List<CallTreeNode> secondChildren) {
+      final Map<String, Queue<CallTreeNode>> secondByPattern = new HashMap<>();
+      for (final CallTreeNode child : secondChildren) {
+         secondByPattern.computeIfAbsent(child.getKiekerPattern(), pattern -> new LinkedList<>()).add(child);
+      }
+
+      int matched = 0;
+      final Set<CallTreeNode> matchedSecond = Collections.newSetFromMap(new IdentityHashMap<>());
+      final List<CallTreeNode> remainingFirst = new ArrayList<>();
+      for (final CallTreeNode child : firstChildren) {
+         final Queue<CallTreeNode> candidates = secondByPattern.get(child.getKiekerPattern());
+         if (candidates != null && !candidates.isEmpty()) {
+            final CallTreeNode partner = candidates.poll();
+            TreeUtil.setOtherCommitNodes(child, partner);
+            matchedSecond.add(partner);
+            matched++;
+         } else {
+            remainingFirst.add(child);
+         }
+      }
+      final List<CallTreeNode> remainingSecond = new ArrayList<>();
+      for (final CallTreeNode child : secondChildren) {
+         if (!matchedSecond.contains(child)) {
+            remainingSecond.add(child);
+         }
+      }
+      LOG.debug("Matched {} children by pattern, remaining: {} and {}", matched, remainingFirst.size(), remainingSecond.size());
+
+      if (remainingFirst.isEmpty() || remainingSecond.isEmpty()) {
+         return matched;
+      }
+      if ((long) remainingFirst.size() * remainingSecond.size() <= TreeUtil.MAX_WEIGHTED_MATCHING_EDGES) {
+         matched += TreeUtil.findWeightedMapping(remainingFirst, remainingSecond);
+      } else {
+         matched += alignByCall(remainingFirst, remainingSecond);
+      }
+      return matched;
+   }
+
+   /**
+    * Aligns the children by the longest common subsequence of their calls. The subsequence is computed by Hirschberg's algorithm, so only linear space is needed even
+    * for very wide nodes.
+    */
+   private static int alignByCall(final List<CallTreeNode> firstChildren, final List<CallTreeNode> secondChildren) {
+      final int[] partnerIndex = new int[firstChildren.size()];
+      Arrays.fill(partnerIndex, NO_PARTNER);
+      align(firstChildren, 0, firstChildren.size(), secondChildren, 0, secondChildren.size(), partnerIndex);
+
+      int matched = 0;
+      final List<CallTreeNode> unalignedFirst = new ArrayList<>();
+      final boolean[] alignedSecond = new boolean[secondChildren.size()];
+      for (int firstIndex = 0; firstIndex < firstChildren.size(); firstIndex++) {
+         if (partnerIndex[firstIndex] != NO_PARTNER) {
+            TreeUtil.setOtherCommitNodes(firstChildren.get(firstIndex), secondChildren.get(partnerIndex[firstIndex]));
+            alignedSecond[partnerIndex[firstIndex]] = true;
+            matched++;
+         } else {
+            unalignedFirst.add(firstChildren.get(firstIndex));
+         }
+      }
+      final List<CallTreeNode> unalignedSecond = new ArrayList<>();
+      for (int secondIndex = 0; secondIndex < secondChildren.size(); secondIndex++) {
+         if (!alignedSecond[secondIndex]) {
+            unalignedSecond.add(secondChildren.get(secondIndex));
+         }
+      }
+
+      // Since every pair of children is connected in the complete matching, the children without common call are matched in their order
+      final Iterator<CallTreeNode> firstIterator = unalignedFirst.iterator();
+      final Iterator<CallTreeNode> secondIterator = unalignedSecond.iterator();
+      while (firstIterator.hasNext() && secondIterator.hasNext()) {
+         TreeUtil.setOtherCommitNodes(firstIterator.next(), secondIterator.next());
+         matched++;
+      }
+      return matched;
+   }
+
+   /**
+    * Stores the partners of the longest common subsequence of first[firstStart, firstEnd) and second[secondStart, secondEnd) in partnerIndex: The first range is split in
+    * the middle, the second range is split where the lengths of the common subsequences of both halves sum up to the maximum, and both halves are aligned recursively.
+    */
+   private static void align(final List<CallTreeNode> first, final int firstStart, final int firstEnd, final List<CallTreeNode> second, final int secondStart,
+         final int secondEnd, final int[] partnerIndex) {
+      if (firstStart == firstEnd || secondStart == secondEnd) {
+         return;
+      }
+      if (firstEnd - firstStart == 1) {
+         for (int secondIndex = secondStart; secondIndex < secondEnd; secondIndex++) {
+            if (isSameCall(first.get(firstStart), second.get(secondIndex))) {
+               partnerIndex[firstStart] = secondIndex;
+               return;
+            }
+         }
+         return;
+      }
+      final int firstMiddle = (firstStart + firstEnd) / 2;
+      final int[] prefixLengths = getPrefixLengths(first, firstStart, firstMiddle, second, secondStart, secondEnd);
+      final int[] suffixLengths = getSuffixLengths(first, firstMiddle, firstEnd, second, secondStart, secondEnd);
+      int split = 0;
+      for (int length = 1; length <= secondEnd - secondStart; length++) {
+         if (prefixLengths[length] + suffixLengths[length] > prefixLengths[split] + suffixLengths[split]) {
+            split = length;
+         }
+      }
+      align(first, firstStart, firstMiddle, second, secondStart, secondStart + split, partnerIndex);
+      align(first, firstMiddle, firstEnd, second, secondStart + split, secondEnd, partnerIndex);
+   }
+
+   /**
+    * Returns for every length l the length of the longest common subsequence of first[firstStart, firstEnd) and second[secondStart, secondStart + l)
+    */
+   private static int[] getPrefixLengths(final List<CallTreeNode> first, final int firstStart, final int firstEnd, final List<CallTreeNode> second, final int secondStart,
+         final int secondEnd) {
+      final int secondSize = secondEnd - secondStart;
+      int[] previous = new int[secondSize + 1];
+      int[] current = new int[secondSize + 1];
+      for (int firstIndex = firstStart; firstIndex < firstEnd; firstIndex++) {
+         final CallTreeNode firstChild = first.get(firstIndex);
+         for (int length = 1; length <= secondSize; length++) {
+            if (isSameCall(firstChild, second.get(secondStart + length - 1))) {
+               current[length] = previous[length - 1] + 1;
+            } else {
+               current[length] = Math.max(previous[length], current[length - 1]);
+            }
+         }
+         final int[] swap = previous;
+         previous = current;
+         current = swap;
+      }
+      return previous;
+   }
+
+   /**
+    * Returns for every offset o the length of the longest common subsequence of first[firstStart, firstEnd) and second[secondStart + o, secondEnd)
+    */
+   private static int[] getSuffixLengths(final List<CallTreeNode> first, final int firstStart, final int firstEnd, final List<CallTreeNode> second, final int secondStart,
+         final int secondEnd) {
+      final int secondSize = secondEnd - secondStart;
+      int[] previous = new int[secondSize + 1];
+      int[] current = new int[secondSize + 1];
+      for (int firstIndex = firstEnd - 1; firstIndex >= firstStart; firstIndex--) {
+         final CallTreeNode firstChild = first.get(firstIndex);
+         for (int offset = secondSize - 1; offset >= 0; offset--) {
+            if (isSameCall(firstChild, second.get(secondStart + offset))) {
+               current[offset] = previous[offset + 1] + 1;
+            } else {
+               current[offset] = Math.max(previous[offset], current[offset + 1]);
+            }
+         }
+         final int[] swap = previous;
+         previous = current;
+         current = swap;
+      }
+      return previous;
+   }
+
+   private static boolean isSameCall(final CallTreeNode firstChild, final CallTreeNode secondChild) {
+      return firstChild.getCall().equals(secondChild.getCall());
+   }
+}
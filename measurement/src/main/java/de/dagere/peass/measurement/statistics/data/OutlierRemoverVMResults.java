@@ -1,8 +1,8 @@
 package de.dagere.peass.measurement.statistics.data;
 
 import java.util.List;
+import java.util.function.DoubleConsumer;
 
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -13,40 +13,47 @@ public class OutlierRemoverVMResults {
 
    private static final Logger LOG = LogManager.getLogger(OutlierRemoverVMResults.class);
 
-   public static void getValuesWithoutOutliers(final List<OneVMResult> results, final SummaryStatistics statistics, final StatisticsConfig config) {
+   public static void getValuesWithoutOutliers(final List<OneVMResult> results, final StreamingStatistics statistics, final StatisticsConfig config) {
+      getValuesWithoutOutliers(results, (DoubleConsumer) statistics::addValue, config);
+   }
+
+   private static void getValuesWithoutOutliers(final List<OneVMResult> results, final DoubleConsumer statistics, final StatisticsConfig config) {
       if (config.getOutlierFactor() != 0 && results.size() > 1) {
-         final SummaryStatistics fullStatistic = new SummaryStatistics();
-         addAll(results, fullStatistic);
+         final StreamingStatistics fullStatistic = new StreamingStatistics();
+         addAll(results, fullStatistic::addValue);
 
          double min = fullStatistic.getMean() - config.getOutlierFactor() * fullStatistic.getStandardDeviation();
          double max = fullStatistic.getMean() + config.getOutlierFactor() * fullStatistic.getStandardDeviation();
 
          LOG.debug("Removing outliers that are not between {} and {} - Old vm count: {}", min, max, results.size());
-         addNonOutlier(results, statistics, min, max);
-         LOG.debug("Final VM count: {}", statistics.getN());
+         final int added = addNonOutlier(results, statistics, min, max);
+         LOG.debug("Final VM count: {}", added);
       } else {
          addAll(results, statistics);
       }
 
    }
 
-   private static void addNonOutlier(final List<OneVMResult> results, final SummaryStatistics statistics, final double min, final double max) {
+   private static int addNonOutlier(final List<OneVMResult> results, final DoubleConsumer statistics, final double min, final double max) {
+      int added = 0;
       for (final OneVMResult result : results) {
          final double average = result.getAverage();
          if (average >= min && average <= max) {
-            statistics.addValue(average);
+            statistics.accept(average);
+            added++;
             LOG.trace("Adding value: {}", average);
          } else {
             LOG.debug("Not adding outlier: {}", average);
          }
       }
+      return added;
    }
 
-   private static void addAll(final List<OneVMResult> results, final SummaryStatistics statistics) {
+   private static void addAll(final List<OneVMResult> results, final DoubleConsumer statistics) {
       for (final OneVMResult result : results) {
          if (!Double.isNaN(result.getAverage())) {
             final double average = result.getAverage();
-            statistics.addValue(average);
+            statistics.accept(average);
          }
       }
    }
@@ -0,0 +1,105 @@
+package de.dagere.peass.measurement.statistics.data;
+
+import java.io.Serializable;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import de.dagere.peass.utils.SummaryStatisticsSerializer;
+
+/**
+ * Compact replacement for {@link org.apache.commons.math3.stat.descriptive.SummaryStatistics}, which only keeps count, mean, M2 (for the variance, using Welford's
+ * algorithm), minimum and maximum in primitive fields. Since a SummaryStatistics object contains many objects for moments that are never used, this saves much heap
+ * if one statistic is kept per node and VM.
+ */
+@JsonSerialize(using = SummaryStatisticsSerializer.class)
+public class StreamingStatistics implements StatisticalSummary, Serializable {
+
+   private static final long serialVersionUID = -2856398264532458541L;
+
+   private long n = 0;
+   private double mean = 0;
+   private double m2 = 0;
+   private double min = Double.NaN;
+   private double max = Double.NaN;
+
+   public void addValue(final double value) {
+      n++;
+      final double delta = value - mean;
+      mean += delta / n;
+      m2 += delta * (value - mean);
+      if (n == 1) {
+         min = value;
+         max = value;
+      } else {
+         if (value < min) {
+            min = value;
+         }
+         if (value > max) {
+            max = value;
+         }
+      }
+   }
+
+   public void addValue(final long value) {
+      addValue((double) value);
+   }
+
+   public void clear() {
+      n = 0;
+      mean = 0;
+      m2 = 0;
+      min = Double.NaN;
+      max = Double.NaN;
+   }
+
+   @Override
+   public double getMean() {
+      return n > 0 ? mean : Double.NaN;
+   }
+
+   /**
+    * Returns the bias-corrected (sample) variance, like {@link org.apache.commons.math3.stat.descriptive.SummaryStatistics#getVariance()}
+    */
+   @Override
+   public double getVariance() {
+      if (n == 0) {
+         return Double.NaN;
+      } else if (n == 1) {
+         return 0;
+      } else {
+         return m2 / (n - 1);
+      }
+   }
+
+   @Override
+   public double getStandardDeviation() {
+      return n > 0 ? Math.sqrt(getVariance()) : Double.NaN;
+   }
+
+   @Override
+   public double getMax() {
+      return max;
+   }
+
+   @Override
+   public double getMin() {
+      return min;
+   }
+
+   @Override
+   public long getN() {
+      return n;
+   }
+
+   @Override
+   public double getSum() {
+      return mean * n;
+   }
+
+   @Override
+   public String toString() {
+      return "StreamingStatistics [n=" + n + ", mean=" + getMean() + ", standardDeviation=" + getStandardDeviation() + ", min=" + min + ", max=" + max + "]";
+   }
+}
@@ -19,6 +19,7 @@ import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.peass.TestUtil;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.organize.AsyncResultOrganizer;
 import de.dagere.peass.measurement.organize.ResultOrganizer;
 import de.dagere.peass.measurement.rca.helper.TestConstants;
 
@@ -136,6 +137,28 @@ public class TestResultOrganizer {
       Assert.assertTrue(expectedKiekerFile.exists());
    }
 
+   @Test
+   public void testKiekerCompressionDeferredAsync() throws IOException {
+      organizer = new ResultOrganizer(folders, COMMIT_NAME, 1, true, true, searchedTest, 1);
+      organizer.getCompressor().setThresholdForZippingInMB(1);
+
+      DummyKoPeMeDataCreator.initDummyTestfile(methodFolder, 3, searchedTest);
+
+      writeKiekerFile(100000);
+
+      final File expectedKiekerTarFile = new File(getVersionMeasurementFolder(), KIEKER_TIMESTAMP + ".tar");
+      try (AsyncResultOrganizer asyncOrganizer = new AsyncResultOrganizer(folders)) {
+         asyncOrganizer.organize(organizer, COMMIT_NAME, 0);
+         asyncOrganizer.awaitPending();
+
+         testXMLFileExists();
+         Assert.assertFalse(expectedKiekerTarFile.exists());
+      }
+
+      Assert.assertTrue(expectedKiekerTarFile.exists());
+      Assert.assertEquals(0, folders.getResultStagingFolder().list().length);
+   }
+
    private File getVersionMeasurementFolder() {
       File versionFolder = new File(folders.getFullMeasurementFolder(), "measurements" + File.separator +
             searchedTest.getClazz() + File.separator +
@@ -0,0 +1,61 @@
+package de.dagere.peass.measurement;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.measurement.dependencyprocessors.MeasurementGate;
+
+public class TestMeasurementGate {
+
+   @Test
+   public void testOtherSlotWaits() throws InterruptedException {
+      MeasurementGate gate = new MeasurementGate(1);
+      gate.enter(0);
+
+      AtomicBoolean measured = new AtomicBoolean(false);
+      CountDownLatch finished = new CountDownLatch(1);
+      Thread otherSlot = new Thread(() -> {
+         try {
+            gate.enter(1);
+            measured.set(true);
+            gate.leave(1);
+            finished.countDown();
+         } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+         }
+      });
+      otherSlot.start();
+
+      Assert.assertFalse(finished.await(500, TimeUnit.MILLISECONDS));
+      Assert.assertFalse(measured.get());
+
+      gate.leave(0);
+      Assert.assertTrue(finished.await(10, TimeUnit.SECONDS));
+      Assert.assertTrue(measured.get());
+   }
+
+   @Test
+   public void testSameSlotRunsVMsTogether() throws InterruptedException {
+      MeasurementGate gate = new MeasurementGate(1);
+      gate.enter(0);
+
+      CountDownLatch secondVM = new CountDownLatch(1);
+      Thread parallelVM = new Thread(() -> {
+         try {
+            gate.enter(0);
+            secondVM.countDown();
+            gate.leave(0);
+         } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+         }
+      });
+      parallelVM.start();
+
+      Assert.assertTrue(secondVM.await(10, TimeUnit.SECONDS));
+      gate.leave(0);
+   }
+}
@@ -0,0 +1,49 @@
+package de.dagere.peass.measurement;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.config.SlotIsolation;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.measurement.dependencyprocessors.MeasurementSlots;
+
+public class TestMeasurementSlots {
+
+   @Test
+   public void testDisjointCpus() {
+      MeasurementSlots slots = new MeasurementSlots(2, SlotIsolation.TASKSET, 8);
+
+      Assert.assertEquals("0-1", slots.getCpuList(0, 0));
+      Assert.assertEquals("2-3", slots.getCpuList(0, 1));
+      Assert.assertEquals("4-5", slots.getCpuList(1, 0));
+      Assert.assertEquals("6-7", slots.getCpuList(1, 1));
+   }
+
+   @Test
+   public void testTooFewCpus() {
+      Assert.assertThrows(RuntimeException.class, () -> new MeasurementSlots(3, SlotIsolation.TASKSET, 4));
+      Assert.assertThrows(RuntimeException.class, () -> new MeasurementSlots(3, SlotIsolation.CGROUP, 5));
+
+      MeasurementSlots slots = new MeasurementSlots(2, SlotIsolation.TASKSET, 5);
+      Assert.assertEquals("0", slots.getCpuList(0, 0));
+      Assert.assertEquals("3", slots.getCpuList(1, 1));
+
+      MeasurementSlots notIsolated = new MeasurementSlots(3, SlotIsolation.NONE, 4);
+      Assert.assertEquals(0, notIsolated.getCommandPrefix(2, 1).length);
+   }
+
+   @Test
+   public void testCommandPrefix() {
+      EnvironmentVariables env = new EnvironmentVariables();
+
+      MeasurementSlots taskset = new MeasurementSlots(1, SlotIsolation.TASKSET, 4);
+      Assert.assertArrayEquals(new String[] { "taskset", "-c", "2-3" }, taskset.getSlotEnvironment(env, 0, 1).getCommandPrefix());
+
+      MeasurementSlots cgroup = new MeasurementSlots(1, SlotIsolation.CGROUP, 4);
+      Assert.assertEquals("AllowedCPUs=0-1", cgroup.getCommandPrefix(0, 0)[5]);
+
+      MeasurementSlots none = new MeasurementSlots(2, SlotIsolation.NONE, 4);
+      Assert.assertEquals(0, none.getSlotEnvironment(env, 1, 1).getCommandPrefix().length);
+      Assert.assertEquals(0, env.getCommandPrefix().length);
+   }
+}
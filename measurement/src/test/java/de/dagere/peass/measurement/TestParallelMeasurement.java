@@ -19,6 +19,7 @@ import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.measurement.analysis.TestDependencyTester;
 import de.dagere.peass.measurement.dependencyprocessors.DependencyTester;
 import de.dagere.peass.measurement.dependencyprocessors.ParallelExecutionRunnable;
+import de.dagere.peass.measurement.dependencyprocessors.ProjectClonePool;
 import de.dagere.peass.measurement.rca.helper.VCSTestUtils;
 import de.dagere.peass.vcs.GitUtils;
 import de.dagere.peass.vcs.VersionControlSystem;
@@ -50,6 +51,32 @@ public class TestParallelMeasurement {
       }
    }
 
+   @Test
+   public void testTestSlotSequential() throws Exception {
+      try (MockedStatic<VersionControlSystem> mockedVCS = Mockito.mockStatic(VersionControlSystem.class);
+            MockedStatic<ExecutorCreator> mockedExecutor = Mockito.mockStatic(ExecutorCreator.class);
+            MockedStatic<GitUtils> gitUtils = Mockito.mockStatic(GitUtils.class)) {
+         VCSTestUtils.mockGetVCS(mockedVCS);
+         VCSTestUtils.mockGoToTagEmpty(gitUtils);
+
+         final PeassFolders folders = new PeassFolders(folder.getRoot());
+         final MeasurementConfig configuration = new MeasurementConfig(4, "2", "1");
+         configuration.setMeasurementStrategy(MeasurementStrategy.SEQUENTIAL);
+         configuration.setTestSlots(2);
+
+         MavenTestExecutorMocker.mockExecutor(mockedExecutor, folders, configuration);
+
+         final DependencyTester tester = new DependencyTester(folders, configuration, new EnvironmentVariables(), CommitByNameComparator.INSTANCE);
+         final ProjectClonePool clonePool = Mockito.spy(new ProjectClonePool(folders, null));
+         tester.setTestSlot(clonePool, 1);
+         tester.evaluate(TestDependencyTester.EXAMPLE_TESTCASE);
+
+         TestDependencyTester.checkResult(folders);
+         Mockito.verify(clonePool, Mockito.times(4)).getClone("2", 1);
+         Mockito.verify(clonePool, Mockito.never()).getClone("2", 0);
+      }
+   }
+
    /**
     * Creates a tester that does not use Threads; this is necessary since mockito inline does not allow static mocks in Threads
     * @param folders
@@ -0,0 +1,34 @@
+package de.dagere.peass.measurement;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.dependencyprocessors.ProjectClonePool;
+import de.dagere.peass.vcs.GitUtils;
+
+public class TestProjectClonePool {
+
+   @Test
+   public void testCloneIsReused() {
+      try (MockedStatic<GitUtils> gitUtils = Mockito.mockStatic(GitUtils.class)) {
+         PeassFolders folders = Mockito.mock(PeassFolders.class);
+         PeassFolders cloneFolders = Mockito.mock(PeassFolders.class);
+         Mockito.when(cloneFolders.getProjectFolder()).thenReturn(new File("target/parallel_000001"));
+         Mockito.when(folders.getTempFolder(Mockito.anyString(), Mockito.any())).thenReturn(cloneFolders);
+
+         ProjectClonePool pool = new ProjectClonePool(folders, null);
+         for (int vm = 0; vm < 3; vm++) {
+            Assert.assertSame(cloneFolders, pool.getClone("000001"));
+         }
+
+         Mockito.verify(folders, Mockito.times(1)).getTempFolder("parallel_000001", null);
+         gitUtils.verify(() -> GitUtils.goToCommit(Mockito.eq("000001"), Mockito.any()), Mockito.times(1));
+         gitUtils.verify(() -> GitUtils.resetChanges(Mockito.any()), Mockito.times(2));
+      }
+   }
+}
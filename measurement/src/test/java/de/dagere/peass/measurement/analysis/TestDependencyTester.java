@@ -55,6 +55,30 @@ public class TestDependencyTester {
       
    }
 
+   @Test
+   public void testFilesAsyncOrganization() throws Exception {
+      try (MockedStatic<VersionControlSystem> mockedVCS = Mockito.mockStatic(VersionControlSystem.class);
+            MockedStatic<ExecutorCreator> mockedExecutor = Mockito.mockStatic(ExecutorCreator.class);
+            MockedStatic<GitUtils> utils = Mockito.mockStatic(GitUtils.class)) {
+         VCSTestUtils.mockGetVCS(mockedVCS);
+
+         final PeassFolders folders = new PeassFolders(folder.getRoot());
+         final MeasurementConfig configuration = new MeasurementConfig(4, "2", "1");
+         configuration.setMeasurementStrategy(MeasurementStrategy.SEQUENTIAL);
+         configuration.setOrganizeResultsAsync(true);
+
+         VCSTestUtils.mockExecutor(mockedExecutor, folders, configuration);
+
+         final DependencyTester tester = new DependencyTester(folders, configuration, new EnvironmentVariables(), CommitByNameComparator.INSTANCE);
+
+         tester.evaluate(EXAMPLE_TESTCASE);
+
+         checkResult(folders);
+         Assert.assertEquals(0, folders.getResultStagingFolder().listFiles().length);
+         Assert.assertNull(tester.getAsyncResultOrganizer());
+      }
+   }
+
    public static void checkResult(final PeassFolders folders)  {
       final File expectedSummaryResultFile = folders.getSummaryFile(EXAMPLE_TESTCASE);
       Assert.assertTrue(expectedSummaryResultFile + " should exist", expectedSummaryResultFile.exists());
@@ -0,0 +1,83 @@
+package de.dagere.peass.measurement.cleaning;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.kopeme.datastorage.JSONDataLoader;
+import de.dagere.kopeme.kopemedata.Kopemedata;
+import de.dagere.kopeme.kopemedata.VMResultChunk;
+import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
+import de.dagere.peass.measurement.dataloading.BinaryResultFile;
+
+public class TestCleanDataWriter {
+
+   private static final File CLEAN_FOLDER = new File("target/test/cleanWriter");
+
+   private final TestMethodCall testcase = new TestMethodCall("de.dagere.peass.ExampleTest", "test");
+   private final File measurementFile = new File(CLEAN_FOLDER, "ExampleTest_test.json");
+
+   @BeforeEach
+   public void init() throws IOException {
+      FileUtils.deleteDirectory(CLEAN_FOLDER);
+      CLEAN_FOLDER.mkdirs();
+   }
+
+   @Test
+   public void testChunksAreWrittenOnFlush() {
+      CleanDataWriter writer = new CleanDataWriter(CLEAN_FOLDER);
+      writer.addChunk(testcase, createChunk(1));
+      writer.addChunk(testcase, createChunk(2));
+
+      Assert.assertFalse(measurementFile.exists());
+
+      writer.flush();
+
+      Assert.assertEquals(2, getChunkCount());
+   }
+
+   @Test
+   public void testChunksAreAppendedAfterFlush() {
+      CleanDataWriter writer = new CleanDataWriter(CLEAN_FOLDER);
+      writer.addChunk(testcase, createChunk(1));
+      writer.flush();
+
+      writer.addChunk(testcase, createChunk(2));
+      writer.flush();
+
+      Assert.assertEquals(2, getChunkCount());
+      Kopemedata data = JSONDataLoader.loadData(measurementFile);
+      Assert.assertEquals("de.dagere.peass.ExampleTest", data.getClazz());
+      Assert.assertEquals(2, data.getFirstMethodResult().getDatacollectorResults().get(0).getChunks().get(1).getChunkStartTime());
+   }
+
+   @Test
+   public void testBinaryFilesKeepFormat() {
+      CleanDataWriter writer = new CleanDataWriter(CLEAN_FOLDER);
+      writer.addChunk(testcase, createChunk(1));
+      writer.flush();
+      Assert.assertEquals(1, BinaryResultFile.convertToBinary(CLEAN_FOLDER));
+
+      writer.addChunk(testcase, createChunk(2));
+      writer.flush();
+
+      Assert.assertFalse(measurementFile.exists());
+      Kopemedata data = BinaryResultFile.read(new File(CLEAN_FOLDER, "ExampleTest_test" + BinaryResultFile.EXTENSION));
+      Assert.assertEquals(2, data.getFirstMethodResult().getDatacollectorResults().get(0).getChunks().size());
+   }
+
+   private int getChunkCount() {
+      Kopemedata data = JSONDataLoader.loadData(measurementFile);
+      return data.getFirstMethodResult().getDatacollectorResults().get(0).getChunks().size();
+   }
+
+   private VMResultChunk createChunk(final long chunkStartTime) {
+      VMResultChunk chunk = new VMResultChunk();
+      chunk.setChunkStartTime(chunkStartTime);
+      return chunk;
+   }
+}
@@ -0,0 +1,81 @@
+package de.dagere.peass.measurement.dataloading;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.kopeme.datastorage.JSONDataLoader;
+import de.dagere.kopeme.kopemedata.Kopemedata;
+import de.dagere.kopeme.kopemedata.MeasuredValue;
+import de.dagere.kopeme.kopemedata.VMResult;
+import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
+import de.dagere.peass.measurement.statistics.data.EvaluationPair;
+import de.dagere.peass.measurement.statistics.data.TestData;
+
+public class TestBinaryResultFile {
+
+   private static final String COMMIT = "a12a0b7f4c162794fca0e7e3fcc6ea3b3a2cbc2b";
+   private static final String COMMIT_OLD = "49f75e8877c2e9b7cf6b56087121a35fdd73ff8b";
+
+   private static final File SOURCE_FOLDER = new File("src/test/resources/cleaning/measurementsFull/measurements");
+   private static final File MEASUREMENTS_FOLDER = new File("target/test/binaryResults/measurements");
+
+   @BeforeEach
+   public void init() throws IOException {
+      FileUtils.deleteDirectory(MEASUREMENTS_FOLDER);
+      FileUtils.copyDirectory(SOURCE_FOLDER, MEASUREMENTS_FOLDER);
+   }
+
+   @Test
+   public void testRoundTrip() {
+      File jsonFile = getFirstFile(MEASUREMENTS_FOLDER, "json");
+      Kopemedata original = JSONDataLoader.loadData(jsonFile);
+
+      Assert.assertEquals(20, BinaryResultFile.convertToBinary(MEASUREMENTS_FOLDER));
+      Assert.assertEquals(0, FileUtils.listFiles(MEASUREMENTS_FOLDER, new String[] { "json" }, true).size());
+
+      Assert.assertEquals(20, BinaryResultFile.convertToJson(MEASUREMENTS_FOLDER));
+      Kopemedata converted = JSONDataLoader.loadData(jsonFile);
+
+      VMResult originalResult = original.getFirstResult();
+      VMResult convertedResult = converted.getFirstResult();
+      Assert.assertEquals(original.getClazz(), converted.getClazz());
+      Assert.assertEquals(originalResult.getValue(), convertedResult.getValue(), 0.0001);
+      Assert.assertEquals(originalResult.getIterations(), convertedResult.getIterations());
+      Assert.assertEquals(originalResult.getFulldata().getValues().size(), convertedResult.getFulldata().getValues().size());
+      for (int i = 0; i < originalResult.getFulldata().getValues().size(); i++) {
+         MeasuredValue originalValue = originalResult.getFulldata().getValues().get(i);
+         MeasuredValue convertedValue = convertedResult.getFulldata().getValues().get(i);
+         Assert.assertEquals(originalValue.getStartTime(), convertedValue.getStartTime());
+         Assert.assertEquals(originalValue.getValue(), convertedValue.getValue());
+      }
+   }
+
+   @Test
+   public void testBinaryDataAreRead() {
+      BinaryResultFile.convertToBinary(MEASUREMENTS_FOLDER);
+
+      CommitComparatorInstance comparator = new CommitComparatorInstance(Arrays.asList(new String[] { COMMIT_OLD, COMMIT }));
+      Map<String, TestData> data = DataReader.readClassFolder(new File(MEASUREMENTS_FOLDER, "de.dagere.peass.ExampleTest"), comparator);
+
+      Assert.assertEquals(2, data.size());
+      for (TestData testData : data.values()) {
+         EvaluationPair pair = testData.getMeasurements().get(COMMIT);
+         Assert.assertEquals(5, pair.getCurrent().size());
+         Assert.assertEquals(5, pair.getPrevius().size());
+         Assert.assertFalse(pair.getCurrent().get(0).getFulldata().getValues().isEmpty());
+      }
+   }
+
+   private File getFirstFile(final File folder, final String extension) {
+      Collection<File> files = FileUtils.listFiles(folder, new String[] { extension }, true);
+      return files.iterator().next();
+   }
+}
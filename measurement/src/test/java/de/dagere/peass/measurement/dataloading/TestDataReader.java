@@ -0,0 +1,45 @@
+package de.dagere.peass.measurement.dataloading;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
+import de.dagere.peass.measurement.statistics.data.EvaluationPair;
+import de.dagere.peass.measurement.statistics.data.TestData;
+
+public class TestDataReader {
+
+   private static final String COMMIT = "a12a0b7f4c162794fca0e7e3fcc6ea3b3a2cbc2b";
+   private static final String COMMIT_OLD = "49f75e8877c2e9b7cf6b56087121a35fdd73ff8b";
+
+   @Test
+   public void testAllDataAreRead() throws InterruptedException {
+      CommitComparatorInstance comparator = new CommitComparatorInstance(Arrays.asList(new String[] { COMMIT_OLD, COMMIT }));
+      File measurementsFolder = new File("src/test/resources/cleaning/measurementsFull/measurements");
+
+      LinkedBlockingQueue<TestData> queue = DataReader.createQueue();
+      Thread readerThread = DataReader.startReadVersionDataMap(measurementsFolder, queue, comparator);
+
+      List<TestData> read = new LinkedList<>();
+      TestData data = queue.take();
+      while (data != DataReader.POISON_PILL) {
+         read.add(data);
+         data = queue.take();
+      }
+      readerThread.join();
+
+      Assert.assertEquals(2, read.size());
+      for (TestData testData : read) {
+         EvaluationPair pair = testData.getMeasurements().get(COMMIT);
+         Assert.assertEquals(COMMIT_OLD, pair.getPreviousCommit());
+         Assert.assertEquals(5, pair.getCurrent().size());
+         Assert.assertEquals(5, pair.getPrevius().size());
+      }
+   }
+}
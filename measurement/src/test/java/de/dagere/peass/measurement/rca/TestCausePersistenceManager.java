@@ -17,6 +17,7 @@ import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
 import de.dagere.peass.measurement.rca.helper.TestConstants;
 import de.dagere.peass.measurement.rca.helper.TreeBuilder;
+import de.dagere.peass.measurement.rca.serialization.MeasuredNode;
 import de.dagere.peass.utils.Constants;
 
 public class TestCausePersistenceManager {
@@ -57,6 +58,42 @@ public class TestCausePersistenceManager {
       Assert.assertEquals(3, data.getNodes().getValues().getValues().size());
    }
 
+   @Test
+   public void testJournalReplay() throws IOException {
+      final MeasurementConfig config = new MeasurementConfig(3, "000001", "000001~1");
+      final CauseSearchFolders folders = new CauseSearchFolders(TestConstants.CURRENT_FOLDER);
+      final CausePersistenceManager manager = new CausePersistenceManager(TestConstants.SIMPLE_CAUSE_CONFIG, config, folders);
+
+      final TreeBuilder builder = new TreeBuilder(config, false);
+      builder.buildMeasurements(builder.getRoot(), builder.getA(), builder.getB(), builder.getC());
+      manager.addMeasurement(builder.getRoot());
+      manager.writeTreeState();
+      manager.addMeasurement(builder.getA());
+      manager.addMeasurement(builder.getC());
+      manager.writeTreeState();
+      manager.addMeasurement(builder.getB());
+      manager.writeTreeState();
+
+      final File resultFolder = new File(folders.getRcaTreeFolder(), "000001" + File.separator + "Test");
+      final CauseSearchData data = Constants.OBJECTMAPPER.readValue(new File(resultFolder, "test.json"), CauseSearchData.class);
+      final CauseSearchData dataDetails = Constants.OBJECTMAPPER.readValue(new File(resultFolder, "details" + File.separator + "test.json"), CauseSearchData.class);
+      Assert.assertEquals(0, data.getNodes().getChilds().size());
+
+      final int replayed = CauseSearchJournal.replay(new File(resultFolder, "details" + File.separator + "test.journal"), data, dataDetails);
+
+      Assert.assertEquals(3, replayed);
+      Assert.assertEquals(2, data.getNodes().getChilds().size());
+      Assert.assertEquals("public void ClassB.methodB()", data.getNodes().getChilds().get(0).getChilds().get(0).getKiekerPattern());
+      Assert.assertNull(data.getNodes().getChilds().get(0).getChilds().get(0).getValues());
+      final MeasuredNode detailB = dataDetails.getNodes().getChilds().get(0).getChilds().get(0);
+      Assert.assertEquals("public void ClassB.methodB()", detailB.getKiekerPattern());
+      Assert.assertEquals(3, detailB.getValues().getValues().size());
+      Assert.assertEquals("public void ClassC.methodC()", dataDetails.getNodes().getChilds().get(1).getKiekerPattern());
+
+      manager.compact();
+      Assert.assertFalse(new File(resultFolder, "details" + File.separator + "test.journal").exists());
+   }
+
    private void testConfig(final CauseSearchFolders folders, final MeasurementConfig config)
          throws IOException, JsonGenerationException, JsonMappingException, JsonParseException {
       writeData(folders, config, true);
@@ -6,6 +6,7 @@ import org.junit.Test;
 
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.data.CauseSearchData;
 import de.dagere.peass.measurement.rca.treeanalysis.TreeUtil;
 
 public class TreeUtilTest {
@@ -160,6 +161,66 @@ public class TreeUtilTest {
       Assert.assertEquals(parent1.getChildren().get(1).getOtherKiekerPattern(), parent2.getChildren().get(0).getKiekerPattern());
    }
    
+   @Test
+   public void testWideNodeAddition() {
+      for (int i = 0; i < 300; i++) {
+         parent1.appendChild("ClassA#method" + i, "public void ClassA.method" + i + "()", null);
+         if (i == 5) {
+            parent2.appendChild("ClassA#added", "public void ClassA.added()", null);
+         }
+         parent2.appendChild("ClassA#method" + i, "public void ClassA.method" + i + "()", null);
+      }
+      
+      int matched = TreeUtil.findChildMapping(parent1, parent2);
+      
+      Assert.assertEquals(300, matched);
+      Assert.assertEquals(parent1.getChildren().get(4).getOtherKiekerPattern(), parent2.getChildren().get(4).getKiekerPattern());
+      Assert.assertEquals(parent1.getChildren().get(5).getOtherKiekerPattern(), parent2.getChildren().get(6).getKiekerPattern());
+      Assert.assertEquals(parent1.getChildren().get(299).getOtherKiekerPattern(), parent2.getChildren().get(300).getKiekerPattern());
+      Assert.assertEquals(CauseSearchData.ADDED, parent2.getChildren().get(5).getOtherKiekerPattern());
+      Assert.assertEquals(301, parent1.getChildren().size());
+   }
+   
+   @Test
+   public void testWideNodeParameterChange() {
+      for (int i = 0; i < 300; i++) {
+         parent1.appendChild("ClassA#method" + i, "public void ClassA.method" + i + "()", null);
+         if (i != 5) {
+            parent2.appendChild("ClassA#method" + i, "public void ClassA.method" + i + "(int)", null);
+         } else {
+            parent2.appendChild("ClassA#other", "public void ClassA.other(int)", null);
+         }
+      }
+      
+      int matched = TreeUtil.findChildMapping(parent1, parent2);
+      
+      Assert.assertEquals(300, matched);
+      for (CallTreeNode child : parent1.getChildren()) {
+         Assert.assertNotNull(child.getOtherCommitNode());
+      }
+      Assert.assertEquals("public void ClassA.method0(int)", parent1.getChildren().get(0).getOtherKiekerPattern());
+      Assert.assertEquals("public void ClassA.method6(int)", parent1.getChildren().get(6).getOtherKiekerPattern());
+      Assert.assertEquals("public void ClassA.method299(int)", parent1.getChildren().get(299).getOtherKiekerPattern());
+      Assert.assertEquals("public void ClassA.other(int)", parent1.getChildren().get(5).getOtherKiekerPattern());
+   }
+   
+   @Test
+   public void testWideNodeMovedCalls() {
+      for (int i = 0; i < 300; i++) {
+         parent1.appendChild("ClassA#method" + i, "public void ClassA.method" + i + "()", null);
+      }
+      for (int i = 10; i < 310; i++) {
+         parent2.appendChild("ClassA#method" + (i % 300), "public void ClassA.method" + (i % 300) + "(int)", null);
+      }
+
+      int matched = TreeUtil.findChildMapping(parent1, parent2);
+
+      Assert.assertEquals(300, matched);
+      for (CallTreeNode child : parent1.getChildren()) {
+         Assert.assertEquals(child.getKiekerPattern().replace("()", "(int)"), child.getOtherKiekerPattern());
+      }
+   }
+   
    private void createBasicTree() {
       parent1.appendChild("ClassA#methodA1", "public void ClassA.methodA1()", null);
       parent1.appendChild("ClassA#methodA2", "public void ClassA.methodA2()", null);
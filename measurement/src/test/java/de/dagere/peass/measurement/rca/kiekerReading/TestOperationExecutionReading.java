@@ -4,7 +4,7 @@ import java.io.File;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 
@@ -43,7 +43,7 @@ public class TestOperationExecutionReading {
       for (CallTreeNode node : includedNodes) {
          if (!node.getCall().equals(CauseSearchData.ADDED)) {
             node.createStatistics(ChangedTreeBuilder.COMMIT0);
-            SummaryStatistics nodeStatistic = node.getStatistics(ChangedTreeBuilder.COMMIT0);
+            StatisticalSummary nodeStatistic = node.getStatistics(ChangedTreeBuilder.COMMIT0);
             Assert.assertEquals("Node " + node.getCall() + " did not have correct call count", 1, nodeStatistic.getN());
          }
       }
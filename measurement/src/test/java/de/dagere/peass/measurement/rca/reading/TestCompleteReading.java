@@ -2,7 +2,9 @@ package de.dagere.peass.measurement.rca.reading;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
@@ -53,6 +55,34 @@ public class TestCompleteReading {
       checkResults(includedNodes);
    }
    
+   @Test
+   public void testEqualNodesKeepOwnValues() throws AnalysisConfigurationException, JsonParseException, JsonMappingException, IOException {
+      final File kiekerTraceFolder = getKiekerTraceFolder();
+
+      writeFakeMeasurements(kiekerTraceFolder, true);
+
+      final CallTreeNode otherRoot = new CallTreeNode("parent()", "public void A.parent()", null, new MeasurementConfig(3, "0", "1"));
+      final CallTreeNode child = root.appendChild("A.child1()", "public void A.child1()", null);
+      final CallTreeNode equalChild = otherRoot.appendChild("A.child1()", "public void A.child1()", null);
+      Assert.assertEquals(child, equalChild);
+
+      final Set<CallTreeNode> includedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+      includedNodes.add(child);
+      includedNodes.add(equalChild);
+      for (final CallTreeNode node : includedNodes) {
+         node.initCommitData();
+         node.setOtherKiekerPattern(node.getKiekerPattern());
+      }
+
+      executeReading(kiekerTraceFolder, includedNodes);
+
+      for (final CallTreeNode node : includedNodes) {
+         node.createStatistics("0");
+         Assert.assertEquals(1, node.getStatistics("0").getN());
+         Assert.assertEquals(100, node.getCallCount("0"));
+      }
+   }
+
    private void checkResults(final Set<CallTreeNode> includedNodes) {
       for (final CallTreeNode node : includedNodes) {
          node.createStatistics("0");
@@ -3,7 +3,10 @@ package de.dagere.peass.measurement.rca.strategytest;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.math3.stat.inference.TTest;
@@ -16,6 +19,7 @@ import org.mockito.Mockito;
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.dependency.analysis.data.ChangedEntity;
 import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
+import de.dagere.peass.dependencyprocessors.CommitByNameComparator;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.measurement.rca.CauseSearcherConfig;
@@ -177,6 +181,59 @@ public class LevelCauseSearcherTest {
       
    }
    
+   @Test
+   public void testSpeculativeLevels() throws IOException, XmlPullParserException, InterruptedException, AnalysisConfigurationException {
+      buildRoots();
+
+      CauseSearcherConfig config = new CauseSearcherConfig(new TestMethodCall("Test", "test"),
+            false, 0.1,
+            false, true, RCAStrategy.LEVELWISE, 1);
+      config.setSpeculativeLevels(true);
+
+      final CauseTester measurer = Mockito.mock(CauseTester.class);
+      final CauseTester speculativeMeasurer = Mockito.mock(CauseTester.class);
+      CauseTesterMockUtil.mockMeasurement(speculativeMeasurer, builderPredecessor);
+      Mockito.when(measurer.createSpeculativeTester()).thenReturn(speculativeMeasurer);
+
+      final List<Consumer<List<CallTreeNode>>> listeners = new LinkedList<>();
+      Mockito.doAnswer(invocation -> {
+         listeners.add(invocation.getArgument(0));
+         return null;
+      }).when(measurer).setEarlyDifferenceListener(Mockito.any());
+      Mockito.doAnswer(invocation -> {
+         List<CallTreeNode> nodes = invocation.getArgument(0);
+         builderPredecessor.buildMeasurements(nodes.toArray(new CallTreeNode[0]));
+         Consumer<List<CallTreeNode>> listener = listeners.get(listeners.size() - 1);
+         if (listener != null && nodes.contains(root1)) {
+            listener.accept(Arrays.asList(root1));
+         }
+         return null;
+      }).when(measurer).measureVersion(Mockito.any());
+
+      final CauseSearcher searcher = new LevelCauseSearcher(treeReader, config, measurer, measurementConfig,
+            new CauseSearchFolders(folder), new EnvironmentVariables());
+      changes = searcher.search();
+
+      StrategyTestUtil.checkChanges(changes);
+      Mockito.verify(measurer).prepareSpeculation();
+      Mockito.verify(speculativeMeasurer).measureVersion(Mockito.argThat(nodes -> nodes.contains(builderPredecessor.getC())));
+      Mockito.verify(measurer, Mockito.never()).measureVersion(Mockito.argThat(nodes -> nodes.contains(builderPredecessor.getC())));
+      Mockito.verify(speculativeMeasurer).setLevelId(1);
+      Mockito.verify(measurer).setLevelId(2);
+   }
+
+   @Test
+   public void testSpeculativeLevelsRequireIsolation() {
+      CauseSearcherConfig config = new CauseSearcherConfig(new TestMethodCall("Test", "test"),
+            false, 0.1,
+            false, true, RCAStrategy.LEVELWISE, 1);
+      config.setSpeculativeLevels(true);
+
+      final CauseTester measurer = new CauseTester(new CauseSearchFolders(folder), measurementConfig, config, new EnvironmentVariables(), CommitByNameComparator.INSTANCE);
+
+      Assert.assertThrows(RuntimeException.class, () -> measurer.prepareSpeculation());
+   }
+
    private void searchChanges(final CauseSearcherConfig config) throws IOException, XmlPullParserException, InterruptedException, AnalysisConfigurationException {
       final CauseTester measurer = Mockito.mock(CauseTester.class);
       CauseTesterMockUtil.mockMeasurement(measurer, builderPredecessor);
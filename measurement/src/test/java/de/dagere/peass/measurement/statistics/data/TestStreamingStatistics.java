@@ -0,0 +1,52 @@
+package de.dagere.peass.measurement.statistics.data;
+
+import java.util.Random;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+public class TestStreamingStatistics {
+
+   @Test
+   public void testEqualToSummaryStatistics() {
+      SummaryStatistics expected = new SummaryStatistics();
+      StreamingStatistics statistics = new StreamingStatistics();
+      Random random = new Random(0);
+      for (int i = 0; i < 1000; i++) {
+         long value = 1000 + random.nextInt(500);
+         expected.addValue(value);
+         statistics.addValue(value);
+      }
+
+      checkEqual(expected, statistics);
+   }
+
+   @Test
+   public void testEmptyAndSingle() {
+      StreamingStatistics statistics = new StreamingStatistics();
+      Assert.assertEquals(0, statistics.getN());
+      Assert.assertTrue(Double.isNaN(statistics.getMean()));
+      Assert.assertTrue(Double.isNaN(statistics.getVariance()));
+
+      statistics.addValue(5L);
+      Assert.assertEquals(5.0, statistics.getMean(), 0.0);
+      Assert.assertEquals(0.0, statistics.getVariance(), 0.0);
+      Assert.assertEquals(5.0, statistics.getMin(), 0.0);
+      Assert.assertEquals(5.0, statistics.getMax(), 0.0);
+
+      statistics.clear();
+      Assert.assertEquals(0, statistics.getN());
+   }
+
+   private void checkEqual(final StatisticalSummary expected, final StatisticalSummary statistics) {
+      Assert.assertEquals(expected.getN(), statistics.getN());
+      Assert.assertEquals(expected.getMean(), statistics.getMean(), 1E-9);
+      Assert.assertEquals(expected.getVariance(), statistics.getVariance(), 1E-6);
+      Assert.assertEquals(expected.getStandardDeviation(), statistics.getStandardDeviation(), 1E-9);
+      Assert.assertEquals(expected.getMin(), statistics.getMin(), 0.0);
+      Assert.assertEquals(expected.getMax(), statistics.getMax(), 0.0);
+      Assert.assertEquals(expected.getSum(), statistics.getSum(), 1E-6);
+   }
+}
@@ -0,0 +1,116 @@
+package de.dagere.peass.benchmark;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.dagere.peass.dependency.analysis.data.CalledMethods;
+import de.dagere.peass.dependency.analysis.data.ChangeTestMapping;
+import de.dagere.peass.dependency.analysis.data.ChangedEntity;
+import de.dagere.peass.dependency.analysis.data.TestDependencies;
+import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
+import de.dagere.peass.dependency.changesreading.ClazzChangeData;
+
+/**
+ * Compares the index-based {@link TestDependencies#getChangeTestMap(Map)} to the previous implementation, which looped over all tests and all changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChangeTestMapBenchmark {
+
+   @Param({ "40000" })
+   private int tests;
+
+   @Param({ "5000" })
+   private int classes;
+
+   @Param({ "20", "300" })
+   private int changedClasses;
+
+   private static final int CLASSES_PER_TEST = 30;
+   private static final int METHODS_PER_CLASS = 5;
+
+   private final TestDependencies dependencies = new TestDependencies();
+   private final Map<ChangedEntity, ClazzChangeData> changes = new HashMap<>();
+
+   @Setup
+   public void setup() {
+      Random random = new Random(0);
+      for (int testIndex = 0; testIndex < tests; testIndex++) {
+         TestMethodCall test = new TestMethodCall("de.test.Test" + (testIndex / 10), "test" + (testIndex % 10), "");
+         Map<ChangedEntity, Set<String>> calledClasses = new HashMap<>();
+         for (int call = 0; call < CLASSES_PER_TEST; call++) {
+            Set<String> methods = new HashSet<>();
+            methods.add("method" + random.nextInt(METHODS_PER_CLASS));
+            calledClasses.put(new ChangedEntity(getClazzName(random.nextInt(classes)), ""), methods);
+         }
+         dependencies.setDependencies(test, calledClasses);
+      }
+
+      for (int change = 0; change < changedClasses; change++) {
+         ChangedEntity changedClazz = new ChangedEntity(getClazzName(random.nextInt(classes)), "");
+         boolean onlyMethodChange = random.nextBoolean();
+         ClazzChangeData changeData = new ClazzChangeData(changedClazz, onlyMethodChange);
+         changeData.addChange(changedClazz.getSimpleClazzName(), "method" + random.nextInt(METHODS_PER_CLASS));
+         changes.put(changedClazz, changeData);
+      }
+   }
+
+   private String getClazzName(final int index) {
+      return "de.code.Clazz" + index;
+   }
+
+   @Benchmark
+   public ChangeTestMapping indexed() {
+      return dependencies.getChangeTestMap(changes);
+   }
+
+   @Benchmark
+   public ChangeTestMapping fullLoop() {
+      final ChangeTestMapping changeTestMap = new ChangeTestMapping();
+      for (final Entry<TestMethodCall, CalledMethods> dependencyEntry : dependencies.getDependencyMap().entrySet()) {
+         final TestMethodCall currentTestcase = dependencyEntry.getKey();
+         final CalledMethods currentTestDependencies = dependencyEntry.getValue();
+         for (ClazzChangeData changedEntry : changes.values()) {
+            for (ChangedEntity change : changedEntry.getChanges()) {
+               final ChangedEntity changedClass = change.onlyClazz();
+               final Set<ChangedEntity> calledClasses = currentTestDependencies.getCalledClasses();
+               if (calledClasses.contains(changedClass)) {
+                  if (!changedEntry.isOnlyMethodChange()) {
+                     changeTestMap.addChangeEntry(change, currentTestcase);
+                     changeTestMap.addChangeEntry(change.onlyClazz(), currentTestcase);
+                  } else {
+                     String method = change.getMethod() + change.getParameterString();
+                     final Set<String> calledMethodsInChangeClass = currentTestDependencies.getCalledMethods().get(changedClass);
+                     if (calledMethodsInChangeClass.contains(method)) {
+                        final ChangedEntity classWithMethod = new ChangedEntity(changedClass.getClazz(), changedClass.getModule(), method);
+                        changeTestMap.addChangeEntry(classWithMethod, currentTestcase);
+                     }
+                  }
+               }
+            }
+         }
+      }
+      return changeTestMap;
+   }
+}
@@ -0,0 +1,136 @@
+package de.dagere.peass.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.dagere.peass.dependency.analysis.data.ChangedEntity;
+import de.dagere.peass.dependency.analysis.testData.TestMethodCall;
+import de.dagere.peass.dependency.traces.coverage.CoverageBasedSelector;
+import de.dagere.peass.dependency.traces.coverage.CoverageSelectionCommit;
+import de.dagere.peass.dependency.traces.coverage.TraceCallSummary;
+
+/**
+ * Compares the index-based {@link CoverageBasedSelector#selectBasedOnCoverage(List, Set)} to the previous implementation, which recomputed the call sum of every
+ * remaining test in every selection step. Half of the changes are class changes, half of them are method changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoverageSelectionBenchmark {
+
+   @Param({ "10000" })
+   private int tests;
+
+   @Param({ "5000" })
+   private int classes;
+
+   @Param({ "20", "200" })
+   private int changes;
+
+   private static final int CALLED_METHODS_PER_TEST = 200;
+   private static final int METHODS_PER_CLASS = 10;
+
+   private final List<TraceCallSummary> summaries = new ArrayList<>();
+   private final Set<ChangedEntity> changedEntities = new HashSet<>();
+
+   @Setup
+   public void setup() {
+      Random random = new Random(0);
+      for (int testIndex = 0; testIndex < tests; testIndex++) {
+         TraceCallSummary summary = new TraceCallSummary();
+         summary.setTestcase(new TestMethodCall("de.test.Test" + (testIndex / 10), "test" + (testIndex % 10), ""));
+         for (int call = 0; call < CALLED_METHODS_PER_TEST; call++) {
+            summary.getCallCounts().put(getClazzName(random.nextInt(classes)) + ChangedEntity.METHOD_SEPARATOR + "method" + random.nextInt(METHODS_PER_CLASS),
+                  1 + random.nextInt(100));
+         }
+         summaries.add(summary);
+      }
+
+      for (int change = 0; change < changes; change++) {
+         String method = change % 2 == 0 ? null : "method" + random.nextInt(METHODS_PER_CLASS);
+         changedEntities.add(new ChangedEntity(getClazzName(random.nextInt(classes)), "", method));
+      }
+   }
+
+   private String getClazzName(final int index) {
+      return "de.code.Clazz" + index;
+   }
+
+   @Benchmark
+   public CoverageSelectionCommit indexed() {
+      return CoverageBasedSelector.selectBasedOnCoverage(summaries, changedEntities);
+   }
+
+   @Benchmark
+   public List<TraceCallSummary> fullScan() {
+      List<TraceCallSummary> remaining = new ArrayList<>(summaries);
+      Set<ChangedEntity> remainingChanges = new HashSet<>(changedEntities);
+      List<TraceCallSummary> selected = new ArrayList<>();
+      boolean changed = true;
+      while (!remaining.isEmpty() && !remainingChanges.isEmpty() && changed) {
+         changed = false;
+         TraceCallSummary best = null;
+         int bestScore = 0;
+         for (TraceCallSummary candidate : remaining) {
+            int score = getCallSum(candidate, remainingChanges);
+            if (score > bestScore) {
+               best = candidate;
+               bestScore = score;
+            }
+         }
+         if (best != null) {
+            selected.add(best);
+            final TestMethodCall selectedTest = best.getTestcase();
+            remaining.removeIf(summary -> summary.getTestcase().equals(selectedTest));
+            for (Iterator<ChangedEntity> iterator = remainingChanges.iterator(); iterator.hasNext();) {
+               Set<ChangedEntity> change = new HashSet<>();
+               change.add(iterator.next());
+               if (getCallSum(best, change) > 0) {
+                  iterator.remove();
+                  changed = true;
+               }
+            }
+         }
+      }
+      return selected;
+   }
+
+   private int getCallSum(final TraceCallSummary summary, final Set<ChangedEntity> changes) {
+      int callSum = 0;
+      for (ChangedEntity change : changes) {
+         String signature = change.toString();
+         if (change.getMethod() != null) {
+            Integer calls = summary.getCallCounts().get(signature);
+            callSum += calls != null ? calls : 0;
+         } else {
+            for (Map.Entry<String, Integer> callCount : summary.getCallCounts().entrySet()) {
+               if (callCount.getKey().startsWith(signature + ChangedEntity.METHOD_SEPARATOR)) {
+                  callSum += callCount.getValue();
+               }
+            }
+         }
+      }
+      return callSum;
+   }
+}
@@ -0,0 +1,142 @@
+package de.dagere.peass.benchmark;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.kieker.KiekerPatternConverter;
+import de.dagere.peass.measurement.rca.kiekerReading.KiekerDurationReader;
+
+/**
+ * Measures reading the durations of a Kieker trace folder with DurationRecords (as written by the reduced RCA instrumentation) into the measured
+ * {@link CallTreeNode}s. If no trace folder is given, a trace with the given count of records and signatures is generated. Given trace folders need to be
+ * written in the ASCII format, since the measured signatures are read from them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DurationReadingBenchmark {
+
+   private static final String COMMIT = "1";
+   private static final String DURATION_RECORD_ID = "$1";
+
+   @Param({ "" })
+   private String traceFolder;
+
+   @Param({ "1000000" })
+   private int records;
+
+   @Param({ "200" })
+   private int signatures;
+
+   private File readFolder;
+   private File generatedFolder;
+   private final Set<CallTreeNode> measuredNodes = new LinkedHashSet<>();
+
+   @Setup
+   public void setup() throws IOException {
+      if (traceFolder.isEmpty()) {
+         generatedFolder = Files.createTempDirectory("durationReading").toFile();
+         readFolder = generatedFolder;
+         writeTrace(new File(generatedFolder, "kieker-benchmark"));
+      } else {
+         readFolder = new File(traceFolder);
+      }
+      buildNodes(readSignatures(readFolder));
+   }
+
+   @TearDown
+   public void cleanup() throws IOException {
+      if (generatedFolder != null) {
+         FileUtils.deleteDirectory(generatedFolder);
+      }
+   }
+
+   @Benchmark
+   public Set<CallTreeNode> readDurations() {
+      KiekerDurationReader.executeReducedDurationStage(readFolder, measuredNodes, COMMIT);
+      return measuredNodes;
+   }
+
+   private void writeTrace(final File folder) throws IOException {
+      folder.mkdirs();
+      try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(folder, "kieker.map")))) {
+         writer.write("$0=kieker.common.record.misc.KiekerMetadataRecord\n");
+         writer.write(DURATION_RECORD_ID + "=de.dagere.kopeme.kieker.record.DurationRecord\n");
+      }
+      List<String> generatedSignatures = new ArrayList<>();
+      for (int i = 0; i < signatures; i++) {
+         generatedSignatures.add(i % 10 == 0 ? "public de.dagere.peass.C" + i + ".<init>(int)" : "public int de.dagere.peass.C" + (i / 10) + ".method" + i + "(int,java.lang.String)");
+      }
+      Random random = new Random(0);
+      try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(folder, "kieker-benchmark-001.dat")))) {
+         writer.write("$0;1633343269290086913;1.15-SNAPSHOT;KIEKER-KoPeMe;benchmark;1;false;0;NANOSECONDS;0\n");
+         long time = 1633343269366708634L;
+         for (int i = 0; i < records; i++) {
+            String signature = generatedSignatures.get(random.nextInt(signatures));
+            long duration = 1000 + random.nextInt(10000);
+            writer.write(DURATION_RECORD_ID + ";" + time + ";" + signature + ";" + time + ";" + (time + duration) + "\n");
+            time += duration;
+         }
+      }
+   }
+
+   private Set<String> readSignatures(final File folder) throws IOException {
+      Set<String> kiekerPatterns = new LinkedHashSet<>();
+      for (File datFile : FileUtils.listFiles(folder, new String[] { "dat" }, true)) {
+         try (BufferedReader reader = new BufferedReader(new FileReader(datFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+               String[] parts = line.split(";");
+               if (parts.length == 5 && !parts[0].equals("$0")) {
+                  kiekerPatterns.add(KiekerPatternConverter.addNewIfRequired(parts[2]));
+               }
+            }
+         }
+      }
+      return kiekerPatterns;
+   }
+
+   private void buildNodes(final Set<String> kiekerPatterns) {
+      MeasurementConfig config = new MeasurementConfig(1, COMMIT, "0");
+      CallTreeNode root = null;
+      for (String kiekerPattern : kiekerPatterns) {
+         String call = kiekerPattern.substring(kiekerPattern.lastIndexOf(' ') + 1, kiekerPattern.lastIndexOf('('));
+         CallTreeNode node = root == null ? new CallTreeNode(call, kiekerPattern, kiekerPattern, config) : root.appendChild(call, kiekerPattern, kiekerPattern);
+         if (root == null) {
+            root = node;
+         }
+         node.initCommitData();
+         measuredNodes.add(node);
+      }
+   }
+}
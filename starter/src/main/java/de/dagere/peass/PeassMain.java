@@ -3,6 +3,7 @@ package de.dagere.peass;
 import java.util.concurrent.Callable;
 
 import de.dagere.peass.measurement.cleaning.CleanStarter;
+import de.dagere.peass.measurement.dataloading.ConvertResultsStarter;
 import de.dagere.peass.measurement.utils.CreateScriptStarter;
 import de.dagere.peass.visualization.VisualizeRCAStarter;
 import picocli.CommandLine;
@@ -12,6 +13,7 @@ import picocli.CommandLine.Command;
       MeasureStarter.class,
       GetChangesStarter.class, 
       CleanStarter.class, 
+      ConvertResultsStarter.class, 
       IsChangeStarter.class, 
       SearchCauseStarter.class, 
       CreateScriptStarter.class, 